@@ -24,6 +24,7 @@ import org.bson.BsonType;
 import org.bson.BsonValue;
 import org.bson.BsonWriter;
 import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.internal.BsonSizes;
 import org.bson.types.ObjectId;
 
 import java.util.ArrayList;
@@ -38,7 +39,7 @@ import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
  *
  * @since 3.0
  */
-public class BsonDocumentCodec implements CollectibleCodec<BsonDocument> {
+public class BsonDocumentCodec implements CollectibleCodec<BsonDocument>, SizeEstimatingEncoder<BsonDocument> {
     private static final String ID_FIELD_NAME = "_id";
     private static final CodecRegistry DEFAULT_REGISTRY = fromProviders(new BsonValueCodecProvider());
 
@@ -118,6 +119,19 @@ public class BsonDocumentCodec implements CollectibleCodec<BsonDocument> {
         writer.writeEndDocument();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The size is exact, unless the document contains a {@code BsonDocumentWrapper} that hasn't been unwrapped, in which case it
+     * can't be computed.</p>
+     *
+     * @since 3.9
+     */
+    @Override
+    public int getEncodedSizeUpperBound(final BsonDocument value, final EncoderContext encoderContext) {
+        return BsonSizes.getDocumentSize(value);
+    }
+
     private void beforeFields(final BsonWriter bsonWriter, final EncoderContext encoderContext, final BsonDocument value) {
         if (encoderContext.isEncodingCollectibleDocument() && value.containsKey(ID_FIELD_NAME)) {
             bsonWriter.writeName(ID_FIELD_NAME);
@@ -27,7 +27,7 @@ import org.bson.BsonWriter;
  * @since 3.0
  */
 @SuppressWarnings("rawtypes")
-public class BsonDocumentWrapperCodec implements Codec<BsonDocumentWrapper> {
+public class BsonDocumentWrapperCodec implements Codec<BsonDocumentWrapper>, SizeEstimatingEncoder<BsonDocumentWrapper> {
 
     private final Codec<BsonDocument> bsonDocumentCodec;
 
@@ -64,6 +64,28 @@ public class BsonDocumentWrapperCodec implements Codec<BsonDocumentWrapper> {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The bound is computed by the codec for unwrapped documents if the wrapper has been unwrapped, and otherwise by the wrapped
+     * document's encoder, if it's a {@link SizeEstimatingEncoder}.</p>
+     *
+     * @since 3.9
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int getEncodedSizeUpperBound(final BsonDocumentWrapper value, final EncoderContext encoderContext) {
+        if (value.isUnwrapped()) {
+            return bsonDocumentCodec instanceof SizeEstimatingEncoder
+                    ? ((SizeEstimatingEncoder<BsonDocument>) bsonDocumentCodec).getEncodedSizeUpperBound(value, encoderContext)
+                    : -1;
+        }
+        Encoder encoder = value.getEncoder();
+        return encoder instanceof SizeEstimatingEncoder
+                ? ((SizeEstimatingEncoder) encoder).getEncodedSizeUpperBound(value.getWrappedDocument(), encoderContext)
+                : -1;
+    }
+
     @Override
     public Class<BsonDocumentWrapper> getEncoderClass() {
         return BsonDocumentWrapper.class;
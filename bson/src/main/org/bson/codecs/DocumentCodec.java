@@ -42,7 +42,7 @@ import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
  * @see org.bson.Document
  * @since 3.0
  */
-public class DocumentCodec implements CollectibleCodec<Document> {
+public class DocumentCodec implements CollectibleCodec<Document>, ReusableDecoder<Document> {
 
     private static final String ID_FIELD_NAME = "_id";
     private static final CodecRegistry DEFAULT_REGISTRY = fromProviders(asList(new ValueCodecProvider(),
@@ -143,8 +143,27 @@ public class DocumentCodec implements CollectibleCodec<Document> {
 
     @Override
     public Document decode(final BsonReader reader, final DecoderContext decoderContext) {
-        Document document = new Document();
+        return decodeInto(reader, decoderContext, new Document());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The given document is cleared before it's decoded into, so that only the fields of the value being decoded remain.  The values
+     * of its fields are new instances.</p>
+     *
+     * @since 3.9
+     */
+    @Override
+    public Document decode(final BsonReader reader, final DecoderContext decoderContext, final Document reuse) {
+        if (reuse == null) {
+            return decode(reader, decoderContext);
+        }
+        reuse.clear();
+        return decodeInto(reader, decoderContext, reuse);
+    }
 
+    private Document decodeInto(final BsonReader reader, final DecoderContext decoderContext, final Document document) {
         reader.readStartDocument();
         while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
             String fieldName = reader.readName();
@@ -30,7 +30,7 @@ import org.bson.io.ByteBufferBsonInput;
  *
  * @since 3.0
  */
-public class RawBsonDocumentCodec implements Codec<RawBsonDocument> {
+public class RawBsonDocumentCodec implements Codec<RawBsonDocument>, SizeEstimatingEncoder<RawBsonDocument> {
 
     /**
      * Constructs a new instance.
@@ -48,6 +48,18 @@ public class RawBsonDocumentCodec implements Codec<RawBsonDocument> {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The size is exact.</p>
+     *
+     * @since 3.9
+     */
+    @Override
+    public int getEncodedSizeUpperBound(final RawBsonDocument value, final EncoderContext encoderContext) {
+        return value.getByteBuffer().remaining();
+    }
+
     @Override
     public RawBsonDocument decode(final BsonReader reader, final DecoderContext decoderContext) {
         BasicOutputBuffer buffer = new BasicOutputBuffer(0);
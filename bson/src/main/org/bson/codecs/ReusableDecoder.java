@@ -0,0 +1,40 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs;
+
+import org.bson.BsonReader;
+
+/**
+ * A decoder that can decode into an instance that it returned before, rather than creating a new one, so that a long sequence of values
+ * can be read with a single mutable instance.
+ *
+ * @param <T> the type to decode into
+ * @since 3.9
+ */
+public interface ReusableDecoder<T> extends Decoder<T> {
+    /**
+     * Decodes a BSON value from the given reader, reusing the given instance if possible.  The instance is reused by replacing its
+     * whole state with that of the value being decoded, and is then returned.  A new instance is returned instead if the given one is
+     * null or can't be reused, for example because it's a different type than the value being decoded.
+     *
+     * @param reader         the BSON reader
+     * @param decoderContext the decoder context
+     * @param reuse          the instance to decode into, which may be null
+     * @return the given instance, or a new instance if it couldn't be reused
+     */
+    T decode(BsonReader reader, DecoderContext decoderContext, T reuse);
+}
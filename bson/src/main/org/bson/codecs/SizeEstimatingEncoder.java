@@ -0,0 +1,37 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs;
+
+/**
+ * An encoder that can bound the size of the BSON document that it encodes a value as without encoding it, so that a caller can plan
+ * how to lay out values, such as how many fit in a message or how large a buffer to allocate, before encoding them.
+ *
+ * @param <T> the type that the instance can encode
+ * @since 3.9
+ */
+public interface SizeEstimatingEncoder<T> extends Encoder<T> {
+    /**
+     * Gets an upper bound on the size in bytes of the BSON document that encoding the value would write, without encoding it.  The bound
+     * is exact when the encoded form of the value is known, as it is for a {@code RawBsonDocument} or a {@code BsonDocument}, and is
+     * otherwise as close as can be computed cheaply.
+     *
+     * @param value          the value to encode
+     * @param encoderContext the encoder context
+     * @return the upper bound, or a negative number if no bound can be computed without encoding the value
+     */
+    int getEncodedSizeUpperBound(T value, EncoderContext encoderContext);
+}
@@ -33,8 +33,17 @@ final class AutomaticPojoCodec<T> extends PojoCodec<T> {
 
     @Override
     public T decode(final BsonReader reader, final DecoderContext decoderContext) {
+        return decode(reader, decoderContext, true);
+    }
+
+    @Override
+    T decodeUntracked(final BsonReader reader, final DecoderContext decoderContext) {
+        return decode(reader, decoderContext, false);
+    }
+
+    private T decode(final BsonReader reader, final DecoderContext decoderContext, final boolean tracked) {
         try {
-            return pojoCodec.decode(reader, decoderContext);
+            return tracked ? pojoCodec.decode(reader, decoderContext) : pojoCodec.decodeUntracked(reader, decoderContext);
         } catch (CodecConfigurationException e) {
             throw new CodecConfigurationException(
                     format("An exception occurred when decoding using the AutomaticPojoCodec.%n"
@@ -57,6 +66,11 @@ final class AutomaticPojoCodec<T> extends PojoCodec<T> {
         }
     }
 
+    @Override
+    public int getEncodedSizeUpperBound(final T value, final EncoderContext encoderContext) {
+        return pojoCodec.getEncodedSizeUpperBound(value, encoderContext);
+    }
+
     @Override
     public Class<T> getEncoderClass() {
         return pojoCodec.getEncoderClass();
@@ -46,7 +46,7 @@ final class EnumPropertyCodecProvider implements PropertyCodecProvider {
         return null;
     }
 
-    private static class EnumCodec<T extends Enum<T>> implements Codec<T> {
+    static class EnumCodec<T extends Enum<T>> implements Codec<T> {
         private final Class<T> clazz;
 
         EnumCodec(final Class<T> clazz) {
@@ -32,9 +32,7 @@ final class FallbackPropertyCodecProvider implements PropertyCodecProvider {
     @Override
     public <S> Codec<S> get(final TypeWithTypeParameters<S> type, final PropertyCodecRegistry propertyCodecRegistry) {
         Class<S> clazz = type.getType();
-        if (clazz == pojoCodec.getEncoderClass()) {
-            return (Codec<S>) pojoCodec;
-        }
-        return codecRegistry.get(type.getType());
+        Codec<S> codec = clazz == pojoCodec.getEncoderClass() ? (Codec<S>) pojoCodec : codecRegistry.get(clazz);
+        return codec instanceof PojoCodec ? NestedPojoCodec.nested((PojoCodec<S>) codec) : codec;
     }
 }
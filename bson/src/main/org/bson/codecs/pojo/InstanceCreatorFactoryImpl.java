@@ -27,4 +27,9 @@ final class InstanceCreatorFactoryImpl<T> implements InstanceCreatorFactory<T> {
     public InstanceCreator<T> create() {
         return new InstanceCreatorImpl<T>(creatorExecutable);
     }
+
+    // true if instances are created before any property is set, so that they can also be populated by setting their properties
+    boolean createsInstancesWithoutProperties() {
+        return creatorExecutable.getProperties().isEmpty();
+    }
 }
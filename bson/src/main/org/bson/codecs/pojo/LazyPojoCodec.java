@@ -47,6 +47,11 @@ class LazyPojoCodec<T> extends PojoCodec<T> {
         getPojoCodec().encode(writer, value, encoderContext);
     }
 
+    @Override
+    public int getEncodedSizeUpperBound(final T value, final EncoderContext encoderContext) {
+        return getPojoCodec().getEncodedSizeUpperBound(value, encoderContext);
+    }
+
     @Override
     public Class<T> getEncoderClass() {
         return classModel.getType();
@@ -54,10 +59,10 @@ class LazyPojoCodec<T> extends PojoCodec<T> {
 
     @Override
     public T decode(final BsonReader reader, final DecoderContext decoderContext) {
-        return getPojoCodec().decode(reader, decoderContext);
+        return getPojoCodec().decodeUntracked(reader, decoderContext);
     }
 
-    private Codec<T> getPojoCodec() {
+    private PojoCodec<T> getPojoCodec() {
         if (pojoCodec == null) {
             pojoCodec = new PojoCodecImpl<T>(classModel, registry, propertyCodecRegistry, discriminatorLookup, codecCache, true);
         }
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs.pojo;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * The codec for POJOs that are nested in another POJO, which decodes them without tracking them for changes.
+ */
+final class NestedPojoCodec<T> extends PojoCodec<T> {
+    private final PojoCodec<T> pojoCodec;
+
+    private NestedPojoCodec(final PojoCodec<T> pojoCodec) {
+        this.pojoCodec = pojoCodec;
+    }
+
+    static <T> PojoCodec<T> nested(final PojoCodec<T> pojoCodec) {
+        return pojoCodec instanceof NestedPojoCodec || pojoCodec instanceof LazyPojoCodec ? pojoCodec : new NestedPojoCodec<T>(pojoCodec);
+    }
+
+    @Override
+    public T decode(final BsonReader reader, final DecoderContext decoderContext) {
+        return pojoCodec.decodeUntracked(reader, decoderContext);
+    }
+
+    @Override
+    T decodeUntracked(final BsonReader reader, final DecoderContext decoderContext) {
+        return pojoCodec.decodeUntracked(reader, decoderContext);
+    }
+
+    @Override
+    public void encode(final BsonWriter writer, final T value, final EncoderContext encoderContext) {
+        pojoCodec.encode(writer, value, encoderContext);
+    }
+
+    @Override
+    public int getEncodedSizeUpperBound(final T value, final EncoderContext encoderContext) {
+        return pojoCodec.getEncodedSizeUpperBound(value, encoderContext);
+    }
+
+    @Override
+    public Class<T> getEncoderClass() {
+        return pojoCodec.getEncoderClass();
+    }
+
+    @Override
+    ClassModel<T> getClassModel() {
+        return pojoCodec.getClassModel();
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs.pojo;
+
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.Encoder;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.bson.assertions.Assertions.isTrueArgument;
+import static org.bson.assertions.Assertions.notNull;
+
+/**
+ * Tracks the changes made to POJOs after they were decoded, so that they can be saved with an update of just the properties that
+ * changed, rather than by replacing the whole document.
+ *
+ * <p>A tracker is enabled by passing it to {@link PojoCodecProvider.Builder#changeTracker(PojoChangeTracker)}.  Each POJO with an id
+ * property that's then decoded by the provider's codecs is tracked: the document that it encodes to is kept, as BSON bytes, until the
+ * POJO is no longer referenced.  {@link #getUpdate(Object)} then encodes the POJO again and compares the two documents, so tracking
+ * costs an extra encode when a POJO is decoded and the memory of its encoded form while it's held.</p>
+ *
+ * <p>Only the POJOs at the top level are tracked, not those nested in them, and POJOs that are decoded into a reused instance aren't
+ * tracked.</p>
+ *
+ * <p>Instances of this class are thread safe.</p>
+ *
+ * @since 3.9
+ */
+public final class PojoChangeTracker {
+    private static final BsonDocumentCodec BSON_DOCUMENT_CODEC = new BsonDocumentCodec();
+
+    // POJOs are tracked by identity, and weakly, so that tracking doesn't keep them alive; all guarded by this
+    private final Map<IdentityKey, Snapshot<?>> snapshots = new HashMap<IdentityKey, Snapshot<?>>();
+    private final ReferenceQueue<Object> collectedKeys = new ReferenceQueue<Object>();
+
+    /**
+     * Construct an instance.
+     */
+    public PojoChangeTracker() {
+    }
+
+    /**
+     * Gets whether the POJO is tracked.
+     *
+     * @param pojo the POJO
+     * @return true if the POJO is tracked
+     */
+    public boolean isTracked(final Object pojo) {
+        return getSnapshot(notNull("pojo", pojo)) != null;
+    }
+
+    /**
+     * Gets the update that would change the document that the POJO was decoded from, or last saved as, into the document that it
+     * encodes to now.  Properties that changed are set with {@code $set}, and properties that are no longer encoded are removed with
+     * {@code $unset}.  Properties that are embedded documents are compared property by property, and only the properties of them that
+     * changed are set or removed, using dotted field names.  Arrays are set as a whole if any of their elements changed.
+     *
+     * @param pojo the POJO, which must be tracked
+     * @return the update, which is empty if the POJO hasn't changed
+     * @throws IllegalArgumentException if the POJO isn't tracked
+     * @see #markSaved(Object)
+     */
+    public BsonDocument getUpdate(final Object pojo) {
+        Snapshot<?> snapshot = getSnapshot(notNull("pojo", pojo));
+        isTrueArgument("pojo is tracked", snapshot != null);
+        BsonDocument previous = snapshot.document.decode(BSON_DOCUMENT_CODEC);
+        BsonDocument current = snapshot.encodeToDocument(pojo);
+
+        BsonDocument set = new BsonDocument();
+        BsonDocument unset = new BsonDocument();
+        addChanges("", previous, current, set, unset);
+        BsonDocument update = new BsonDocument();
+        if (!set.isEmpty()) {
+            update.put("$set", set);
+        }
+        if (!unset.isEmpty()) {
+            update.put("$unset", unset);
+        }
+        return update;
+    }
+
+    /**
+     * Records that the POJO has been saved, so that later updates are computed from its current state.
+     *
+     * @param pojo the POJO, which must be tracked
+     * @throws IllegalArgumentException if the POJO isn't tracked
+     */
+    public void markSaved(final Object pojo) {
+        Snapshot<?> snapshot = getSnapshot(notNull("pojo", pojo));
+        isTrueArgument("pojo is tracked", snapshot != null);
+        put(pojo, snapshot.takeNext(pojo));
+    }
+
+    /**
+     * Stops tracking the POJO.  Untracking a POJO that isn't tracked has no effect.
+     *
+     * @param pojo the POJO
+     */
+    public void untrack(final Object pojo) {
+        notNull("pojo", pojo);
+        synchronized (this) {
+            expungeCollectedKeys();
+            snapshots.remove(new IdentityKey(pojo, null));
+        }
+    }
+
+    <T> void track(final T pojo, final Encoder<T> encoder) {
+        put(pojo, Snapshot.take(pojo, encoder));
+    }
+
+    private synchronized void put(final Object pojo, final Snapshot<?> snapshot) {
+        expungeCollectedKeys();
+        snapshots.put(new IdentityKey(pojo, collectedKeys), snapshot);
+    }
+
+    private synchronized Snapshot<?> getSnapshot(final Object pojo) {
+        expungeCollectedKeys();
+        return snapshots.get(new IdentityKey(pojo, null));
+    }
+
+    private void expungeCollectedKeys() {
+        for (Object key = collectedKeys.poll(); key != null; key = collectedKeys.poll()) {
+            snapshots.remove(key);
+        }
+    }
+
+    private static void addChanges(final String prefix, final BsonDocument previous, final BsonDocument current, final BsonDocument set,
+                                   final BsonDocument unset) {
+        for (Map.Entry<String, BsonValue> entry : current.entrySet()) {
+            String path = prefix + entry.getKey();
+            BsonValue previousValue = previous.get(entry.getKey());
+            BsonValue currentValue = entry.getValue();
+            if (currentValue.equals(previousValue)) {
+                continue;
+            }
+            if (previousValue != null && previousValue.isDocument() && currentValue.isDocument()
+                    && hasPathKeys(previousValue.asDocument()) && hasPathKeys(currentValue.asDocument())) {
+                addChanges(path + ".", previousValue.asDocument(), currentValue.asDocument(), set, unset);
+            } else {
+                set.put(path, currentValue);
+            }
+        }
+        for (String key : previous.keySet()) {
+            if (!current.containsKey(key)) {
+                unset.put(prefix + key, new BsonString(""));
+            }
+        }
+    }
+
+    // an embedded document can only be updated field by field if all its field names can be used in a dotted field name
+    private static boolean hasPathKeys(final BsonDocument document) {
+        for (String key : document.keySet()) {
+            if (key.isEmpty() || key.indexOf('.') >= 0 || key.startsWith("$")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Snapshot<T> {
+        private final Encoder<T> encoder;
+        private final RawBsonDocument document;
+
+        static <T> Snapshot<T> take(final T pojo, final Encoder<T> encoder) {
+            BasicOutputBuffer buffer = new BasicOutputBuffer();
+            encoder.encode(new BsonBinaryWriter(buffer), pojo, EncoderContext.builder().build());
+            return new Snapshot<T>(encoder, new RawBsonDocument(buffer.toByteArray()));
+        }
+
+        private Snapshot(final Encoder<T> encoder, final RawBsonDocument document) {
+            this.encoder = encoder;
+            this.document = document;
+        }
+
+        @SuppressWarnings("unchecked")
+        Snapshot<T> takeNext(final Object pojo) {
+            return take((T) pojo, encoder);
+        }
+
+        @SuppressWarnings("unchecked")
+        BsonDocument encodeToDocument(final Object pojo) {
+            BsonDocument document = new BsonDocument();
+            encoder.encode(new BsonDocumentWriter(document), (T) pojo, EncoderContext.builder().build());
+            return document;
+        }
+    }
+
+    private static final class IdentityKey extends WeakReference<Object> {
+        private final int hashCode;
+
+        IdentityKey(final Object referent, final ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.hashCode = System.identityHashCode(referent);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof IdentityKey)) {
+                return false;
+            }
+            Object referent = get();
+            return referent != null && referent == ((IdentityKey) o).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -16,9 +16,23 @@
 
 package org.bson.codecs.pojo;
 
+import org.bson.BsonReader;
 import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.SizeEstimatingEncoder;
 
-abstract class PojoCodec<T> implements Codec<T> {
+abstract class PojoCodec<T> implements Codec<T>, SizeEstimatingEncoder<T> {
 
     abstract ClassModel<T> getClassModel();
+
+    /**
+     * Decodes a POJO without tracking it for changes, as POJOs that are nested in another one or decoded into a reused instance are.
+     *
+     * @param reader         the BSON reader
+     * @param decoderContext the decoder context
+     * @return the POJO
+     */
+    T decodeUntracked(final BsonReader reader, final DecoderContext decoderContext) {
+        return decode(reader, decoderContext);
+    }
 }
@@ -20,13 +20,24 @@ import org.bson.BsonReader;
 import org.bson.BsonReaderMark;
 import org.bson.BsonType;
 import org.bson.BsonWriter;
+import org.bson.codecs.BooleanCodec;
 import org.bson.codecs.Codec;
+import org.bson.codecs.DateCodec;
+import org.bson.codecs.Decimal128Codec;
 import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DoubleCodec;
 import org.bson.codecs.EncoderContext;
+import org.bson.codecs.IntegerCodec;
+import org.bson.codecs.LongCodec;
+import org.bson.codecs.ObjectIdCodec;
+import org.bson.codecs.ReusableDecoder;
+import org.bson.codecs.SizeEstimatingEncoder;
+import org.bson.codecs.StringCodec;
 import org.bson.codecs.configuration.CodecConfigurationException;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.diagnostics.Logger;
 import org.bson.diagnostics.Loggers;
+import org.bson.internal.BsonSizes;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -40,7 +51,7 @@ import static org.bson.codecs.configuration.CodecRegistries.fromCodecs;
 import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
 
 
-final class PojoCodecImpl<T> extends PojoCodec<T> {
+final class PojoCodecImpl<T> extends PojoCodec<T> implements ReusableDecoder<T> {
     private static final Logger LOGGER = Loggers.getLogger("PojoCodec");
     private final ClassModel<T> classModel;
     private final CodecRegistry registry;
@@ -48,15 +59,22 @@ final class PojoCodecImpl<T> extends PojoCodec<T> {
     private final DiscriminatorLookup discriminatorLookup;
     private final ConcurrentMap<ClassModel<?>, Codec<?>> codecCache;
     private final boolean specialized;
+    // captured on first use, since that creates an instance of the class; null if instances of the class can't be reused
+    private volatile PropertyDefaults<T> propertyDefaults;
+    private volatile boolean propertyDefaultsCaptured;
+    // null unless the instances that are decoded are tracked, which they only are if they have an id
+    private final PojoChangeTracker changeTracker;
 
     PojoCodecImpl(final ClassModel<T> classModel, final CodecRegistry codecRegistry,
-                  final List<PropertyCodecProvider> propertyCodecProviders, final DiscriminatorLookup discriminatorLookup) {
+                  final List<PropertyCodecProvider> propertyCodecProviders, final DiscriminatorLookup discriminatorLookup,
+                  final PojoChangeTracker changeTracker) {
         this.classModel = classModel;
         this.registry = fromRegistries(fromCodecs(this), codecRegistry);
         this.discriminatorLookup = discriminatorLookup;
         this.codecCache = new ConcurrentHashMap<ClassModel<?>, Codec<?>>();
         this.propertyCodecRegistry = new PropertyCodecRegistryImpl(this, registry, propertyCodecProviders);
         this.specialized = shouldSpecialize(classModel);
+        this.changeTracker = classModel.getIdPropertyModel() != null ? changeTracker : null;
         specialize();
     }
 
@@ -69,6 +87,7 @@ final class PojoCodecImpl<T> extends PojoCodec<T> {
         this.codecCache = codecCache;
         this.propertyCodecRegistry = propertyCodecRegistry;
         this.specialized = specialized;
+        this.changeTracker = null;
         specialize();
     }
 
@@ -116,8 +135,45 @@ final class PojoCodecImpl<T> extends PojoCodec<T> {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The bound is the sum of the bounds of the properties that would be encoded, so no bound can be computed if any of them has a
+     * value whose size isn't known without encoding it, such as a collection or a map, or if the value is of a subclass that's encoded
+     * by another codec.</p>
+     */
+    @Override
+    public int getEncodedSizeUpperBound(final T value, final EncoderContext encoderContext) {
+        if (!specialized || !areEquivalentTypes(value.getClass(), classModel.getType())) {
+            return -1;
+        }
+        long size = 4 + 1;
+        if (classModel.useDiscriminator()) {
+            size += BsonSizes.getElementHeaderSize(classModel.getDiscriminatorKey())
+                    + BsonSizes.getStringSize(classModel.getDiscriminator());
+        }
+        for (PropertyModel<?> propertyModel : classModel.getPropertyModels()) {
+            int propertySize = getPropertySizeUpperBound(value, encoderContext, propertyModel);
+            if (propertySize < 0) {
+                return -1;
+            }
+            size += propertySize;
+        }
+        return size > Integer.MAX_VALUE ? -1 : (int) size;
+    }
+
     @Override
     public T decode(final BsonReader reader, final DecoderContext decoderContext) {
+        return decode(reader, decoderContext, true);
+    }
+
+    @Override
+    T decodeUntracked(final BsonReader reader, final DecoderContext decoderContext) {
+        return decode(reader, decoderContext, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T decode(final BsonReader reader, final DecoderContext decoderContext, final boolean tracked) {
         if (decoderContext.hasCheckedDiscriminator()) {
             if (!specialized) {
                 throw new CodecConfigurationException(format("%s contains generic types that have not been specialised.%n"
@@ -125,13 +181,79 @@ final class PojoCodecImpl<T> extends PojoCodec<T> {
             }
             InstanceCreator<T> instanceCreator = classModel.getInstanceCreator();
             decodeProperties(reader, decoderContext, instanceCreator);
-            return instanceCreator.getInstance();
+            return tracked ? track(instanceCreator.getInstance()) : instanceCreator.getInstance();
         } else {
-            return getCodecFromDocument(reader, classModel.useDiscriminator(), classModel.getDiscriminatorKey(), registry,
-                    discriminatorLookup, this).decode(reader, DecoderContext.builder().checkedDiscriminator(true).build());
+            Codec<T> codec = getCodecFromDocument(reader, classModel.useDiscriminator(), classModel.getDiscriminatorKey(), registry,
+                    discriminatorLookup, this);
+            DecoderContext checkedDecoderContext = DecoderContext.builder().checkedDiscriminator(true).build();
+            if (!tracked && codec instanceof PojoCodec) {
+                return ((PojoCodec<T>) codec).decodeUntracked(reader, checkedDecoderContext);
+            }
+            return codec.decode(reader, checkedDecoderContext);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>An instance can only be reused if it's of exactly the class being decoded, and that class is created with a constructor or
+     * factory method that takes no properties.  Properties that are missing from the value being decoded are reset to the values that a
+     * newly created instance has.</p>
+     *
+     * <p>The instances that are decoded this way, whether into the reused instance or not, aren't tracked for changes.</p>
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T decode(final BsonReader reader, final DecoderContext decoderContext, final T reuse) {
+        if (decoderContext.hasCheckedDiscriminator()) {
+            final PropertyDefaults<T> defaults = specialized && reuse != null && reuse.getClass().equals(classModel.getType())
+                    ? getPropertyDefaults() : null;
+            if (defaults == null) {
+                return decode(reader, decoderContext, false);
+            }
+            final boolean[] setProperties = defaults.newSetProperties();
+            decodeProperties(reader, decoderContext, new InstanceCreator<T>() {
+                @Override
+                public <S> void set(final S value, final PropertyModel<S> propertyModel) {
+                    propertyModel.getPropertyAccessor().set(reuse, value);
+                    defaults.markSet(propertyModel, setProperties);
+                }
+
+                @Override
+                public T getInstance() {
+                    return reuse;
+                }
+            });
+            defaults.resetUnset(reuse, setProperties);
+            return reuse;
+        } else {
+            Codec<T> codec = getCodecFromDocument(reader, classModel.useDiscriminator(), classModel.getDiscriminatorKey(), registry,
+                    discriminatorLookup, this);
+            DecoderContext checkedDecoderContext = DecoderContext.builder().checkedDiscriminator(true).build();
+            if (codec instanceof ReusableDecoder) {
+                return ((ReusableDecoder<T>) codec).decode(reader, checkedDecoderContext, reuse);
+            } else if (codec instanceof PojoCodec) {
+                return ((PojoCodec<T>) codec).decodeUntracked(reader, checkedDecoderContext);
+            }
+            return codec.decode(reader, checkedDecoderContext);
+        }
+    }
+
+    private PropertyDefaults<T> getPropertyDefaults() {
+        if (!propertyDefaultsCaptured) {
+            propertyDefaults = PropertyDefaults.create(classModel);
+            propertyDefaultsCaptured = true;
+        }
+        return propertyDefaults;
+    }
+
+    private T track(final T instance) {
+        if (changeTracker != null) {
+            changeTracker.track(instance, this);
+        }
+        return instance;
+    }
+
     @Override
     public Class<T> getEncoderClass() {
         return classModel.getType();
@@ -162,6 +284,40 @@ final class PojoCodecImpl<T> extends PojoCodec<T> {
         }
     }
 
+    private <S> int getPropertySizeUpperBound(final T instance, final EncoderContext encoderContext, final PropertyModel<S> propertyModel) {
+        if (!propertyModel.isReadable()) {
+            return 0;
+        }
+        S propertyValue = propertyModel.getPropertyAccessor().get(instance);
+        if (!propertyModel.shouldSerialize(propertyValue)) {
+            return 0;
+        }
+        int valueSize = propertyValue == null ? 0 : getValueSizeUpperBound(propertyModel.getCachedCodec(), propertyValue, encoderContext);
+        return valueSize < 0 ? -1 : BsonSizes.getElementHeaderSize(propertyModel.getReadName()) + valueSize;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S> int getValueSizeUpperBound(final Codec<S> codec, final S value, final EncoderContext encoderContext) {
+        if (codec instanceof SizeEstimatingEncoder) {
+            return ((SizeEstimatingEncoder<S>) codec).getEncodedSizeUpperBound(value, encoderContext);
+        } else if (codec instanceof StringCodec) {
+            return BsonSizes.getStringSize((String) value);
+        } else if (codec instanceof EnumPropertyCodecProvider.EnumCodec) {
+            return BsonSizes.getStringSize(((Enum<?>) value).name());
+        } else if (codec instanceof BooleanCodec) {
+            return 1;
+        } else if (codec instanceof IntegerCodec) {
+            return 4;
+        } else if (codec instanceof LongCodec || codec instanceof DoubleCodec || codec instanceof DateCodec) {
+            return 8;
+        } else if (codec instanceof ObjectIdCodec) {
+            return 12;
+        } else if (codec instanceof Decimal128Codec) {
+            return 16;
+        }
+        return -1;
+    }
+
     @SuppressWarnings("unchecked")
     private void decodeProperties(final BsonReader reader, final DecoderContext decoderContext, final InstanceCreator<T> instanceCreator) {
         reader.readStartDocument();
@@ -230,7 +386,7 @@ final class PojoCodecImpl<T> extends PojoCodec<T> {
             PojoCodec<S> pojoCodec = (PojoCodec<S>) codec;
             ClassModel<S> specialized = getSpecializedClassModel(pojoCodec.getClassModel(), propertyModel);
             if (codecCache.containsKey(specialized)) {
-                codec = (Codec<S>) codecCache.get(specialized);
+                codec = NestedPojoCodec.nested((PojoCodec<S>) codecCache.get(specialized));
             } else {
                 codec = new LazyPojoCodec<S>(specialized, registry, propertyCodecRegistry, discriminatorLookup, codecCache);
             }
@@ -46,15 +46,18 @@ public final class PojoCodecProvider implements CodecProvider {
     private final List<Convention> conventions;
     private final DiscriminatorLookup discriminatorLookup;
     private final List<PropertyCodecProvider> propertyCodecProviders;
+    private final PojoChangeTracker changeTracker;
 
     private PojoCodecProvider(final boolean automatic, final Map<Class<?>, ClassModel<?>> classModels, final Set<String> packages,
-                              final List<Convention> conventions, final List<PropertyCodecProvider> propertyCodecProviders) {
+                              final List<Convention> conventions, final List<PropertyCodecProvider> propertyCodecProviders,
+                              final PojoChangeTracker changeTracker) {
         this.automatic = automatic;
         this.classModels = classModels;
         this.packages = packages;
         this.conventions = conventions;
         this.discriminatorLookup = new DiscriminatorLookup(classModels, packages);
         this.propertyCodecProviders = propertyCodecProviders;
+        this.changeTracker = changeTracker;
     }
 
     /**
@@ -76,7 +79,7 @@ public final class PojoCodecProvider implements CodecProvider {
     private <T> PojoCodec<T> getPojoCodec(final Class<T> clazz, final CodecRegistry registry) {
         ClassModel<T> classModel = (ClassModel<T>) classModels.get(clazz);
         if (classModel != null) {
-            return new PojoCodecImpl<T>(classModel, registry, propertyCodecProviders, discriminatorLookup);
+            return new PojoCodecImpl<T>(classModel, registry, propertyCodecProviders, discriminatorLookup, changeTracker);
         } else if (automatic || (clazz.getPackage() != null && packages.contains(clazz.getPackage().getName()))) {
             try {
                 classModel = createClassModel(clazz, conventions);
@@ -84,7 +87,8 @@ public final class PojoCodecProvider implements CodecProvider {
                     return null;
                 }
                 discriminatorLookup.addClassModel(classModel);
-                return new AutomaticPojoCodec<T>(new PojoCodecImpl<T>(classModel, registry, propertyCodecProviders, discriminatorLookup));
+                return new AutomaticPojoCodec<T>(new PojoCodecImpl<T>(classModel, registry, propertyCodecProviders, discriminatorLookup,
+                        changeTracker));
             } catch (Exception e) {
                 LOGGER.warn(format("Cannot use '%s' with the PojoCodec.", clazz.getSimpleName()), e);
                 return null;
@@ -103,6 +107,7 @@ public final class PojoCodecProvider implements CodecProvider {
         private List<Convention> conventions = null;
         private final List<PropertyCodecProvider> propertyCodecProviders = new ArrayList<PropertyCodecProvider>();
         private boolean automatic;
+        private PojoChangeTracker changeTracker;
 
         /**
          * Creates the PojoCodecProvider with the classes or packages that configured and registered.
@@ -119,7 +124,7 @@ public final class PojoCodecProvider implements CodecProvider {
                     register(createClassModel(clazz, immutableConventions));
                 }
             }
-            return new PojoCodecProvider(automatic, classModels, packages, immutableConventions, propertyCodecProviders);
+            return new PojoCodecProvider(automatic, classModels, packages, immutableConventions, propertyCodecProviders, changeTracker);
         }
 
         /**
@@ -136,6 +141,21 @@ public final class PojoCodecProvider implements CodecProvider {
             return this;
         }
 
+        /**
+         * Sets the tracker of the changes made to decoded POJOs.  If set, each POJO with an id property that's decoded by the provider's
+         * codecs is tracked, so that it can be saved with an update of just the properties that changed.  By default changes aren't
+         * tracked.
+         *
+         * @param changeTracker the change tracker, which may be null
+         * @return this
+         * @see PojoChangeTracker#getUpdate(Object)
+         * @since 3.9
+         */
+        public Builder changeTracker(final PojoChangeTracker changeTracker) {
+            this.changeTracker = changeTracker;
+            return this;
+        }
+
         /**
          * Sets the conventions to use when creating {@code ClassModels} from classes or packages.
          *
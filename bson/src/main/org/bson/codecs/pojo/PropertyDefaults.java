@@ -0,0 +1,145 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs.pojo;
+
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The values that the writable properties of a newly created instance have, which the properties that are missing from a document are
+ * reset to when the document is decoded into an existing instance.
+ *
+ * <p>The values are captured once, from an instance made by the class's {@link InstanceCreator}.  Values that can't change, such as
+ * null, strings and boxed primitives, are shared.  Any other value, such as an initially empty list, is taken from another newly created
+ * instance whenever it's needed, so that no two instances ever share it.</p>
+ */
+final class PropertyDefaults<T> {
+    private final ClassModel<T> classModel;
+    private final List<PropertyModel<?>> propertyModels;
+    private final Map<PropertyModel<?>, Integer> propertyIndexes;
+    private final Object[] values;
+    private final boolean[] shared;
+
+    /**
+     * Captures the default values of the properties of the class.
+     *
+     * @param classModel the class model
+     * @param <T> the type of the class
+     * @return the defaults, or null if instances of the class can't be reused, either because they're created from the values of their
+     * properties, or because the value a new instance has for each writable property can't be determined
+     */
+    static <T> PropertyDefaults<T> create(final ClassModel<T> classModel) {
+        InstanceCreatorFactory<T> instanceCreatorFactory = classModel.getInstanceCreatorFactory();
+        if (!(instanceCreatorFactory instanceof InstanceCreatorFactoryImpl)
+                || !((InstanceCreatorFactoryImpl<T>) instanceCreatorFactory).createsInstancesWithoutProperties()) {
+            return null;
+        }
+        List<PropertyModel<?>> propertyModels = new ArrayList<PropertyModel<?>>();
+        for (PropertyModel<?> propertyModel : classModel.getPropertyModels()) {
+            if (propertyModel.isWritable()) {
+                if (!propertyModel.isReadable()) {
+                    return null;
+                }
+                propertyModels.add(propertyModel);
+            }
+        }
+        Object[] values = new Object[propertyModels.size()];
+        try {
+            T template = classModel.getInstanceCreator().getInstance();
+            for (int i = 0; i < values.length; i++) {
+                values[i] = propertyModels.get(i).getPropertyAccessor().get(template);
+            }
+        } catch (RuntimeException e) {
+            return null;
+        }
+        return new PropertyDefaults<T>(classModel, propertyModels, values);
+    }
+
+    private PropertyDefaults(final ClassModel<T> classModel, final List<PropertyModel<?>> propertyModels, final Object[] values) {
+        this.classModel = classModel;
+        this.propertyModels = propertyModels;
+        this.propertyIndexes = new IdentityHashMap<PropertyModel<?>, Integer>();
+        this.values = values;
+        this.shared = new boolean[values.length];
+        for (int i = 0; i < values.length; i++) {
+            propertyIndexes.put(propertyModels.get(i), i);
+            shared[i] = isImmutable(values[i]);
+        }
+    }
+
+    /**
+     * @return a new array to mark the properties that are set while decoding a document into an existing instance
+     */
+    boolean[] newSetProperties() {
+        return new boolean[values.length];
+    }
+
+    void markSet(final PropertyModel<?> propertyModel, final boolean[] setProperties) {
+        Integer index = propertyIndexes.get(propertyModel);
+        if (index != null) {
+            setProperties[index] = true;
+        }
+    }
+
+    /**
+     * Resets the properties of the instance that weren't set to the values that a new instance has.
+     *
+     * @param instance the instance
+     * @param setProperties the properties that were set, as marked by {@link #markSet(PropertyModel, boolean[])}
+     */
+    void resetUnset(final T instance, final boolean[] setProperties) {
+        T freshInstance = null;
+        for (int i = 0; i < values.length; i++) {
+            if (setProperties[i]) {
+                continue;
+            }
+            if (shared[i]) {
+                setValue(propertyModels.get(i), instance, values[i]);
+            } else {
+                if (freshInstance == null) {
+                    freshInstance = classModel.getInstanceCreator().getInstance();
+                }
+                copyValue(propertyModels.get(i), freshInstance, instance);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S> void setValue(final PropertyModel<S> propertyModel, final Object instance, final Object value) {
+        propertyModel.getPropertyAccessor().set(instance, (S) value);
+    }
+
+    private static <S> void copyValue(final PropertyModel<S> propertyModel, final Object from, final Object to) {
+        PropertyAccessor<S> propertyAccessor = propertyModel.getPropertyAccessor();
+        propertyAccessor.set(to, propertyAccessor.get(from));
+    }
+
+    private static boolean isImmutable(final Object value) {
+        return value == null || value instanceof String || value instanceof Boolean || value instanceof Character
+                || value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long
+                || value instanceof Float || value instanceof Double || value instanceof BigInteger || value instanceof BigDecimal
+                || value instanceof Enum || value instanceof ObjectId || value instanceof Decimal128 || value instanceof UUID;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.internal;
+
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWrapper;
+import org.bson.BsonJavaScriptWithScope;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+
+import java.util.Map;
+
+/**
+ * Computes the sizes of BSON values as they would be encoded, without encoding them.
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time.</p>
+ */
+public final class BsonSizes {
+    /**
+     * The value returned when a size can't be computed without encoding.
+     */
+    public static final int UNKNOWN = -1;
+
+    /**
+     * Gets the encoded size of a document.
+     *
+     * @param document the document
+     * @return the size in bytes, or {@link #UNKNOWN} if the document contains a {@code BsonDocumentWrapper} that hasn't been unwrapped
+     */
+    public static int getDocumentSize(final BsonDocument document) {
+        if (document instanceof RawBsonDocument) {
+            return ((RawBsonDocument) document).getByteBuffer().remaining();
+        } else if (document instanceof BsonDocumentWrapper && !((BsonDocumentWrapper<?>) document).isUnwrapped()) {
+            return UNKNOWN;
+        }
+        int size = 4 + 1;  // length and terminating null
+        for (Map.Entry<String, BsonValue> entry : document.entrySet()) {
+            int valueSize = getValueSize(entry.getValue());
+            if (valueSize == UNKNOWN) {
+                return UNKNOWN;
+            }
+            size += getElementHeaderSize(entry.getKey()) + valueSize;
+        }
+        return size;
+    }
+
+    /**
+     * Gets the size of the header of an element, which is the type and the name.
+     *
+     * @param name the name of the element
+     * @return the size in bytes
+     */
+    public static int getElementHeaderSize(final String name) {
+        return 1 + getCStringSize(name);
+    }
+
+    /**
+     * Gets the encoded size of a BSON string, which is the length, the UTF-8 bytes and the terminating null.
+     *
+     * @param value the string
+     * @return the size in bytes
+     */
+    public static int getStringSize(final String value) {
+        return 4 + getCStringSize(value);
+    }
+
+    /**
+     * Gets the number of bytes in the UTF-8 encoding of a string.
+     *
+     * @param value the string
+     * @return the number of bytes
+     */
+    public static int getUtf8Length(final String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static int getValueSize(final BsonValue value) {
+        switch (value.getBsonType()) {
+            case DOCUMENT:
+                return getDocumentSize(value.asDocument());
+            case ARRAY:
+                return getArraySize(value.asArray());
+            case DOUBLE:
+            case DATE_TIME:
+            case TIMESTAMP:
+            case INT64:
+                return 8;
+            case INT32:
+                return 4;
+            case DECIMAL128:
+                return 16;
+            case OBJECT_ID:
+                return 12;
+            case BOOLEAN:
+                return 1;
+            case STRING:
+                return getStringSize(value.asString().getValue());
+            case SYMBOL:
+                return getStringSize(value.asSymbol().getSymbol());
+            case JAVASCRIPT:
+                return getStringSize(value.asJavaScript().getCode());
+            case JAVASCRIPT_WITH_SCOPE:
+                BsonJavaScriptWithScope javaScriptWithScope = value.asJavaScriptWithScope();
+                int scopeSize = getDocumentSize(javaScriptWithScope.getScope());
+                return scopeSize == UNKNOWN ? UNKNOWN : 4 + getStringSize(javaScriptWithScope.getCode()) + scopeSize;
+            case BINARY:
+                BsonBinary binary = value.asBinary();
+                int binarySize = 4 + 1 + binary.getData().length;
+                return binary.getType() == BsonBinarySubType.OLD_BINARY.getValue() ? binarySize + 4 : binarySize;
+            case REGULAR_EXPRESSION:
+                BsonRegularExpression regularExpression = value.asRegularExpression();
+                return getCStringSize(regularExpression.getPattern()) + getCStringSize(regularExpression.getOptions());
+            case DB_POINTER:
+                return getStringSize(value.asDBPointer().getNamespace()) + 12;
+            case NULL:
+            case UNDEFINED:
+            case MIN_KEY:
+            case MAX_KEY:
+                return 0;
+            default:
+                return UNKNOWN;
+        }
+    }
+
+    private static int getArraySize(final BsonArray array) {
+        int size = 4 + 1;
+        for (int i = 0; i < array.size(); i++) {
+            int valueSize = getValueSize(array.get(i));
+            if (valueSize == UNKNOWN) {
+                return UNKNOWN;
+            }
+            size += 1 + getIndexNameSize(i) + valueSize;
+        }
+        return size;
+    }
+
+    private static int getIndexNameSize(final int index) {
+        int digits = 1;
+        for (int remaining = index; remaining >= 10; remaining /= 10) {
+            digits++;
+        }
+        return digits + 1;
+    }
+
+    private static int getCStringSize(final String value) {
+        return getUtf8Length(value) + 1;
+    }
+
+    private BsonSizes() {
+    }
+}
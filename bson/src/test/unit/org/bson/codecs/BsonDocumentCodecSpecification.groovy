@@ -24,6 +24,7 @@ import org.bson.BsonBoolean
 import org.bson.BsonDateTime
 import org.bson.BsonDecimal128
 import org.bson.BsonDocument
+import org.bson.BsonDocumentWrapper
 import org.bson.BsonDocumentWriter
 import org.bson.BsonDouble
 import org.bson.BsonElement
@@ -41,6 +42,7 @@ import org.bson.BsonSymbol
 import org.bson.BsonTimestamp
 import org.bson.BsonUndefined
 import org.bson.ByteBufNIO
+import org.bson.Document
 import org.bson.RawBsonDocument
 import org.bson.io.BasicOutputBuffer
 import org.bson.io.ByteBufferBsonInput
@@ -171,6 +173,50 @@ class BsonDocumentCodecSpecification extends Specification {
         encodedDocument == docWithNestedRawDoc
     }
 
+    def 'should get the exact encoded size of a document without encoding it'() {
+        given:
+        def doc = new BsonDocument(
+                [
+                        new BsonElement('null', new BsonNull()),
+                        new BsonElement('int32', new BsonInt32(42)),
+                        new BsonElement('int64', new BsonInt64(52L)),
+                        new BsonElement('decimal128', new BsonDecimal128(Decimal128.parse('1.0'))),
+                        new BsonElement('boolean', new BsonBoolean(true)),
+                        new BsonElement('date', new BsonDateTime(new Date().getTime())),
+                        new BsonElement('double', new BsonDouble(62.0)),
+                        new BsonElement('string', new BsonString('the fox \u00e9\u20ac\ud83d\ude00')),
+                        new BsonElement('minKey', new BsonMinKey()),
+                        new BsonElement('maxKey', new BsonMaxKey()),
+                        new BsonElement('javaScript', new BsonJavaScript('int i = 0;')),
+                        new BsonElement('objectId', new BsonObjectId(new ObjectId())),
+                        new BsonElement('codeWithScope', new BsonJavaScriptWithScope('int x = y', new BsonDocument('y', new BsonInt32(1)))),
+                        new BsonElement('regex', new BsonRegularExpression('^test.*regex.*xyz$', 'i')),
+                        new BsonElement('symbol', new BsonSymbol('ruby stuff')),
+                        new BsonElement('timestamp', new BsonTimestamp(0x12345678, 5)),
+                        new BsonElement('undefined', new BsonUndefined()),
+                        new BsonElement('binary', new BsonBinary((byte) 80, [5, 4, 3, 2, 1] as byte[])),
+                        new BsonElement('oldBinary', new BsonBinary((byte) 2, [5, 4, 3, 2, 1] as byte[])),
+                        new BsonElement('array', new BsonArray((0..11).collect { new BsonInt32(it) })),
+                        new BsonElement('document', new BsonDocument('a', new BsonInt32(1))),
+                        new BsonElement('raw', new RawBsonDocument(new BsonDocument('b', BsonBoolean.TRUE), new BsonDocumentCodec()))
+                ])
+
+        when:
+        def writer = new BsonBinaryWriter(new BasicOutputBuffer())
+        new BsonDocumentCodec().encode(writer, doc, EncoderContext.builder().build())
+
+        then:
+        new BsonDocumentCodec().getEncodedSizeUpperBound(doc, EncoderContext.builder().build()) == writer.bsonOutput.position
+    }
+
+    def 'should not estimate the size of a document containing a wrapped document'() {
+        given:
+        def doc = new BsonDocument('wrapped', new BsonDocumentWrapper(new Document('a', 1), new DocumentCodec()))
+
+        expect:
+        new BsonDocumentCodec().getEncodedSizeUpperBound(doc, EncoderContext.builder().build()) < 0
+    }
+
     def 'should determine if document has an id'() {
         expect:
         !new BsonDocumentCodec().documentHasId(new BsonDocument());
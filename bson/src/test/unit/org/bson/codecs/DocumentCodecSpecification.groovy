@@ -198,6 +198,25 @@ class DocumentCodecSpecification extends Specification {
         doc['_id'] == 5
     }
 
+    def 'should decode into the given document, replacing its fields'() {
+        given:
+        def codec = new DocumentCodec()
+        def reuse = new Document('a', 1).append('b', 2)
+
+        when:
+        def doc = codec.decode(new BsonDocumentReader(BsonDocument.parse('{b: 3, c: 4}')), DecoderContext.builder().build(), reuse)
+
+        then:
+        doc.is(reuse)
+        doc == new Document('b', 3).append('c', 4)
+
+        when:
+        doc = codec.decode(new BsonDocumentReader(BsonDocument.parse('{d: 5}')), DecoderContext.builder().build(), null)
+
+        then:
+        doc == new Document('d', 5)
+    }
+
 
     def 'should generate id if absent'() {
         given:
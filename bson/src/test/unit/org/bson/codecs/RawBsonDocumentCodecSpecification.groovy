@@ -51,6 +51,11 @@ class RawBsonDocumentCodecSpecification extends Specification {
         document == new BsonDocument([new BsonElement('b1', BsonBoolean.TRUE), new BsonElement('b2', BsonBoolean.FALSE)])
     }
 
+    def 'should get the exact encoded size'() {
+        expect:
+        codec.getEncodedSizeUpperBound(new RawBsonDocument(documentBytes), EncoderContext.builder().build()) == documentBytes.length
+    }
+
     def 'should decode'() {
         given:
         def reader = new BsonBinaryReader(new ByteBufferBsonInput(new ByteBufNIO(ByteBuffer.wrap(documentBytes))))
@@ -16,6 +16,9 @@
 
 package org.bson.codecs.pojo;
 
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
 import org.bson.BsonReader;
 import org.bson.BsonWriter;
 import org.bson.Document;
@@ -34,7 +37,9 @@ import org.bson.codecs.pojo.entities.ConstructorNotPublicModel;
 import org.bson.codecs.pojo.entities.ConventionModel;
 import org.bson.codecs.pojo.entities.ConverterModel;
 import org.bson.codecs.pojo.entities.CustomPropertyCodecOptionalModel;
+import org.bson.codecs.pojo.entities.DefaultValuesModel;
 import org.bson.codecs.pojo.entities.GenericTreeModel;
+import org.bson.codecs.pojo.entities.IdTreeModel;
 import org.bson.codecs.pojo.entities.InvalidCollectionModel;
 import org.bson.codecs.pojo.entities.InvalidGetterAndSetterModel;
 import org.bson.codecs.pojo.entities.InvalidMapModel;
@@ -81,6 +86,10 @@ import static org.bson.codecs.pojo.Conventions.DEFAULT_CONVENTIONS;
 import static org.bson.codecs.pojo.Conventions.NO_CONVENTIONS;
 import static org.bson.codecs.pojo.Conventions.SET_PRIVATE_FIELDS_CONVENTION;
 import static org.bson.codecs.pojo.Conventions.USE_GETTERS_FOR_SETTERS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public final class PojoCustomTest extends PojoTestCase {
@@ -131,6 +140,141 @@ public final class PojoCustomTest extends PojoTestCase {
                         + "'getterAndSetterIgnored': 'getterAndSetter'}", decoded);
     }
 
+    @Test
+    public void testDecodingIntoReusedInstance() {
+        PojoCodecImpl<SimpleModel> codec = getCodec(SimpleModel.class);
+        SimpleModel reuse = new SimpleModel(1, "one");
+
+        SimpleModel decoded = codec.decode(new BsonDocumentReader(BsonDocument.parse("{'integerField': 2, 'stringField': 'two'}")),
+                DecoderContext.builder().build(), reuse);
+        assertSame(reuse, decoded);
+        assertEquals(new SimpleModel(2, "two"), decoded);
+
+        decoded = codec.decode(new BsonDocumentReader(BsonDocument.parse("{'integerField': 3}")), DecoderContext.builder().build(), reuse);
+        assertSame(reuse, decoded);
+        assertEquals(new SimpleModel(3, null), decoded);
+    }
+
+    @Test
+    public void testDecodingIntoReusedInstanceResetsMissingPropertiesToTheirDefaults() {
+        PojoCodecImpl<DefaultValuesModel> codec = getCodec(DefaultValuesModel.class);
+        DefaultValuesModel reuse = new DefaultValuesModel(1, "one", new ArrayList<String>(asList("a", "b")));
+
+        DefaultValuesModel decoded = codec.decode(new BsonDocumentReader(BsonDocument.parse("{'listField': ['c']}")),
+                DecoderContext.builder().build(), reuse);
+        assertSame(reuse, decoded);
+        assertEquals(new DefaultValuesModel(5, "default", asList("c")), decoded);
+
+        decoded = codec.decode(new BsonDocumentReader(BsonDocument.parse("{'intField': 2}")), DecoderContext.builder().build(), reuse);
+        assertSame(reuse, decoded);
+        assertEquals(new DefaultValuesModel(2, "default", new ArrayList<String>()), decoded);
+
+        DefaultValuesModel other = codec.decode(new BsonDocumentReader(BsonDocument.parse("{'intField': 3}")),
+                DecoderContext.builder().build(), new DefaultValuesModel());
+        assertNotSame(reuse.getListField(), other.getListField());
+        reuse.getListField().add("d");
+        assertEquals(new ArrayList<String>(), other.getListField());
+    }
+
+    @Test
+    public void testInstancesCreatedFromPropertiesAreNotReused() {
+        PojoCodecImpl<CreatorConstructorPrimitivesModel> codec = getCodec(CreatorConstructorPrimitivesModel.class);
+        CreatorConstructorPrimitivesModel reuse = new CreatorConstructorPrimitivesModel(1, "one", 1L);
+
+        CreatorConstructorPrimitivesModel decoded = codec.decode(new BsonDocumentReader(
+                BsonDocument.parse("{'intField': 2, 'stringField': 'two', 'longField': {$numberLong: '2'}}")),
+                DecoderContext.builder().build(), reuse);
+        assertNotSame(reuse, decoded);
+        assertEquals(new CreatorConstructorPrimitivesModel(2, "two", 2L), decoded);
+    }
+
+    @Test
+    public void testEncodedSizeUpperBound() {
+        ClassModel<SimpleModel> classModel = ClassModel.builder(SimpleModel.class).enableDiscriminator(true).build();
+        PojoCodecImpl<SimpleModel> simpleCodec = getCodec(PojoCodecProvider.builder().register(classModel), SimpleModel.class);
+        SimpleModel simpleModel = new SimpleModel(42, "\u00e9\u20ac\ud83d\ude00");
+        assertEquals(encode(simpleCodec, simpleModel).getPosition(),
+                simpleCodec.getEncodedSizeUpperBound(simpleModel, EncoderContext.builder().build()));
+
+        PojoCodecImpl<SimpleEnumModel> enumCodec = getCodec(SimpleEnumModel.class);
+        SimpleEnumModel enumModel = new SimpleEnumModel(SimpleEnum.BRAVO);
+        assertEquals(encode(enumCodec, enumModel).getPosition(), enumCodec.getEncodedSizeUpperBound(enumModel,
+                EncoderContext.builder().build()));
+
+        PojoCodecImpl<SimpleNestedPojoModel> nestedCodec = getCodec(getPojoCodecProviderBuilder(SimpleNestedPojoModel.class,
+                SimpleModel.class), SimpleNestedPojoModel.class);
+        SimpleNestedPojoModel nestedModel = getSimpleNestedPojoModel();
+        assertEquals(encode(nestedCodec, nestedModel).getPosition(), nestedCodec.getEncodedSizeUpperBound(nestedModel,
+                EncoderContext.builder().build()));
+    }
+
+    @Test
+    public void testEncodedSizeUpperBoundIsUnknownForCollections() {
+        PojoCodecImpl<ConcreteCollectionsModel> codec = getCodec(ConcreteCollectionsModel.class);
+        assertTrue(codec.getEncodedSizeUpperBound(getConcreteCollectionsModel(), EncoderContext.builder().build()) < 0);
+    }
+
+    @Test
+    public void testChangeTracking() {
+        PojoChangeTracker changeTracker = new PojoChangeTracker();
+        PojoCodecImpl<ConventionModel> codec = getCodec(getPojoCodecProviderBuilder(ConventionModel.class, SimpleModel.class)
+                .changeTracker(changeTracker), ConventionModel.class);
+        BsonDocument document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), getConventionModel(), EncoderContext.builder().build());
+
+        ConventionModel model = codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+        assertTrue(changeTracker.isTracked(model));
+        assertEquals(new BsonDocument(), changeTracker.getUpdate(model));
+
+        model.setMyIntField(11);
+        model.getChild().getSimpleModel().setStringField("changed");
+        assertEquals(BsonDocument.parse("{$set: {myIntField: 11, 'child.model.stringField': 'changed'}}"),
+                changeTracker.getUpdate(model));
+
+        changeTracker.markSaved(model);
+        assertEquals(new BsonDocument(), changeTracker.getUpdate(model));
+
+        model.getChild().setSimpleModel(null);
+        assertEquals(BsonDocument.parse("{$unset: {'child.model': ''}}"), changeTracker.getUpdate(model));
+
+        changeTracker.untrack(model);
+        assertFalse(changeTracker.isTracked(model));
+    }
+
+    @Test
+    public void testChangeTrackingOnlyTracksTopLevelInstances() {
+        PojoChangeTracker changeTracker = new PojoChangeTracker();
+        PojoCodecImpl<IdTreeModel> codec = getCodec(getPojoCodecProviderBuilder(IdTreeModel.class).changeTracker(changeTracker),
+                IdTreeModel.class);
+        BsonDocument document = BsonDocument.parse("{_id: 'root', child: {_id: 'child'}, children: [{_id: 'first'}, {_id: 'second'}]}");
+
+        IdTreeModel model = codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+        assertTrue(changeTracker.isTracked(model));
+        assertFalse(changeTracker.isTracked(model.getChild()));
+        assertFalse(changeTracker.isTracked(model.getChildren().get(0)));
+        assertFalse(changeTracker.isTracked(model.getChildren().get(1)));
+
+        IdTreeModel reuse = new IdTreeModel();
+        assertSame(reuse, codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build(), reuse));
+        assertFalse(changeTracker.isTracked(reuse));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testChangeTrackingRequiresTrackedInstance() {
+        new PojoChangeTracker().getUpdate(getConventionModel());
+    }
+
+    @Test
+    public void testChangeTrackingIgnoresInstancesWithoutId() {
+        PojoChangeTracker changeTracker = new PojoChangeTracker();
+        PojoCodecImpl<SimpleModel> codec = getCodec(getPojoCodecProviderBuilder(SimpleModel.class).changeTracker(changeTracker),
+                SimpleModel.class);
+
+        SimpleModel model = codec.decode(new BsonDocumentReader(BsonDocument.parse("{'integerField': 2, 'stringField': 'two'}")),
+                DecoderContext.builder().build());
+        assertFalse(changeTracker.isTracked(model));
+    }
+
     @Test
     public void testConventionsEmpty() {
         ClassModelBuilder<ConventionModel> classModel = ClassModel.builder(ConventionModel.class).conventions(NO_CONVENTIONS);
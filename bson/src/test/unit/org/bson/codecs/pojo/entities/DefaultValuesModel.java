@@ -0,0 +1,100 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs.pojo.entities;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class DefaultValuesModel {
+    private int intField = 5;
+    private String stringField = "default";
+    private List<String> listField = new ArrayList<String>();
+
+    public DefaultValuesModel() {
+    }
+
+    public DefaultValuesModel(final int intField, final String stringField, final List<String> listField) {
+        this.intField = intField;
+        this.stringField = stringField;
+        this.listField = listField;
+    }
+
+    public int getIntField() {
+        return intField;
+    }
+
+    public void setIntField(final int intField) {
+        this.intField = intField;
+    }
+
+    public String getStringField() {
+        return stringField;
+    }
+
+    public void setStringField(final String stringField) {
+        this.stringField = stringField;
+    }
+
+    public List<String> getListField() {
+        return listField;
+    }
+
+    public void setListField(final List<String> listField) {
+        this.listField = listField;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        DefaultValuesModel that = (DefaultValuesModel) o;
+
+        if (getIntField() != that.getIntField()) {
+            return false;
+        }
+        if (getStringField() != null ? !getStringField().equals(that.getStringField()) : that.getStringField() != null) {
+            return false;
+        }
+        if (getListField() != null ? !getListField().equals(that.getListField()) : that.getListField() != null) {
+            return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = getIntField();
+        result = 31 * result + (getStringField() != null ? getStringField().hashCode() : 0);
+        result = 31 * result + (getListField() != null ? getListField().hashCode() : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultValuesModel{"
+                + "intField=" + intField
+                + ", stringField='" + stringField + "'"
+                + ", listField=" + listField
+                + "}";
+    }
+}
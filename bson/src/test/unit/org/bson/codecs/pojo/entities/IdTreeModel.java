@@ -0,0 +1,99 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs.pojo.entities;
+
+import java.util.List;
+
+public final class IdTreeModel {
+    private String id;
+    private IdTreeModel child;
+    private List<IdTreeModel> children;
+
+    public IdTreeModel() {
+    }
+
+    public IdTreeModel(final String id, final IdTreeModel child, final List<IdTreeModel> children) {
+        this.id = id;
+        this.child = child;
+        this.children = children;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(final String id) {
+        this.id = id;
+    }
+
+    public IdTreeModel getChild() {
+        return child;
+    }
+
+    public void setChild(final IdTreeModel child) {
+        this.child = child;
+    }
+
+    public List<IdTreeModel> getChildren() {
+        return children;
+    }
+
+    public void setChildren(final List<IdTreeModel> children) {
+        this.children = children;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        IdTreeModel that = (IdTreeModel) o;
+
+        if (getId() != null ? !getId().equals(that.getId()) : that.getId() != null) {
+            return false;
+        }
+        if (getChild() != null ? !getChild().equals(that.getChild()) : that.getChild() != null) {
+            return false;
+        }
+        if (getChildren() != null ? !getChildren().equals(that.getChildren()) : that.getChildren() != null) {
+            return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = getId() != null ? getId().hashCode() : 0;
+        result = 31 * result + (getChild() != null ? getChild().hashCode() : 0);
+        result = 31 * result + (getChildren() != null ? getChildren().hashCode() : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "IdTreeModel{"
+                + "id='" + id + "'"
+                + ", child=" + child
+                + ", children=" + children
+                + "}";
+    }
+}
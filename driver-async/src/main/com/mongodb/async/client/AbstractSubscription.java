@@ -105,6 +105,15 @@ abstract class AbstractSubscription<TResult> implements Subscription {
         return requested;
     }
 
+    /**
+     * Gets the requested demand that is not already met by results waiting in the queue.
+     *
+     * @return the requested demand less the number of queued results, which is never negative
+     */
+    synchronized long getUnqueuedRequested() {
+        return requested == Long.MAX_VALUE ? requested : Math.max(0, requested - resultsQueue.size());
+    }
+
     void addToQueue(@Nullable final TResult result) {
         if (result != null) {
             resultsQueue.add(result);
@@ -27,10 +27,12 @@ import com.mongodb.client.model.FindOptions;
 import com.mongodb.internal.operation.AsyncOperations;
 import com.mongodb.lang.Nullable;
 import com.mongodb.operation.AsyncReadOperation;
+import com.mongodb.operation.CursorBufferBudget;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 import static com.mongodb.assertions.Assertions.notNull;
@@ -123,6 +125,30 @@ class FindIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResult> im
         return this;
     }
 
+    @Override
+    public FindIterable<TResult> maxBufferedBytes(@Nullable final Integer maxBufferedBytes) {
+        findOptions.maxBufferedBytes(maxBufferedBytes);
+        return this;
+    }
+
+    @Override
+    public FindIterable<TResult> bufferBudget(@Nullable final CursorBufferBudget bufferBudget) {
+        findOptions.bufferBudget(bufferBudget);
+        return this;
+    }
+
+    @Override
+    public FindIterable<TResult> decodePool(@Nullable final ForkJoinPool decodePool) {
+        findOptions.decodePool(decodePool);
+        return this;
+    }
+
+    @Override
+    public FindIterable<TResult> reuseResults(final boolean reuseResults) {
+        findOptions.reuseResults(reuseResults);
+        return this;
+    }
+
     @Override
     public FindIterable<TResult> oplogReplay(final boolean oplogReplay) {
         findOptions.oplogReplay(oplogReplay);
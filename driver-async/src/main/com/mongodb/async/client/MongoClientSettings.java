@@ -33,6 +33,7 @@ import com.mongodb.connection.SslSettings;
 import com.mongodb.connection.StreamFactoryFactory;
 import com.mongodb.event.CommandListener;
 import com.mongodb.lang.Nullable;
+import com.mongodb.operation.CursorBufferBudget;
 import org.bson.codecs.configuration.CodecRegistry;
 
 import java.util.ArrayList;
@@ -534,6 +535,19 @@ public final class MongoClientSettings {
         return wrapped.getReadConcern();
     }
 
+    /**
+     * Gets the budget shared by all the cursors of finds through this client for the results that they've fetched but not yet
+     * returned.
+     *
+     * @return the cursor buffer budget, which may be null
+     * @see com.mongodb.MongoClientSettings#getCursorBufferBudget()
+     * @since 3.9
+     */
+    @Nullable
+    public CursorBufferBudget getCursorBufferBudget() {
+        return wrapped.getCursorBufferBudget();
+    }
+
     /**
      * The codec registry to use.  By default, a {@code MongoClient} will be able to encode and decode instances of {@code
      * Document}.
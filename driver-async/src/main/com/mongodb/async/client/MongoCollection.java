@@ -791,6 +791,23 @@ public interface MongoCollection<TDocument> {
     void bulkWrite(ClientSession clientSession, List<? extends WriteModel<? extends TDocument>> requests, BulkWriteOptions options,
                    SingleResultCallback<BulkWriteResult> callback);
 
+    /**
+     * Executes a mix of inserts, updates, replaces, and deletes published by an observable, which may publish any number of them.  They're
+     * requested and executed in parts of at most {@link BulkWriteOptions#getMaxBufferedWrites()} writes, the next part only being
+     * requested once the previous one has been executed, so only one part is held in memory at a time.  The results of all the parts are
+     * combined as if they'd been a single bulk write.  If the writes are ordered, the subscription is cancelled after a part that has a
+     * write error.
+     *
+     * <p>Note: Supports retryable writes on MongoDB server versions 3.6 or higher when the retryWrites setting is enabled.  The
+     * eligibility for retryable write support is determined separately for each part.</p>
+     * @param requests the observable publishing the writes to execute
+     * @param options  the options to apply to the bulk write operation
+     * @param callback the callback passed the result of the bulk write, or the error published by the observable
+     * @since 3.9
+     */
+    void bulkWrite(Observable<? extends WriteModel<? extends TDocument>> requests, BulkWriteOptions options,
+                   SingleResultCallback<BulkWriteResult> callback);
+
     /**
      * Inserts the provided document. If the document is missing an identifier, the driver should generate one.
      *
@@ -907,6 +924,23 @@ public interface MongoCollection<TDocument> {
     void insertMany(ClientSession clientSession, List<? extends TDocument> documents, InsertManyOptions options,
                     SingleResultCallback<Void> callback);
 
+    /**
+     * Inserts documents published by an observable, which may publish any number of them.  They're requested and inserted in parts of at
+     * most {@link InsertManyOptions#getMaxBufferedDocuments()} documents, the next part only being requested once the previous one has
+     * been inserted, so only one part is held in memory at a time.  If the documents are inserted in order, the subscription is cancelled
+     * after a part that has a write error.
+     *
+     * <p>Note: Supports retryable writes on MongoDB server versions 3.6 or higher when the retryWrites setting is enabled.</p>
+     * @param documents the observable publishing the documents to insert
+     * @param options   the options to apply to the operation
+     * @param callback  the callback that is completed once the insert has completed
+     * @throws com.mongodb.MongoBulkWriteException if there's an exception in the bulk write operation, with the indexes of any write
+     *                                             errors counted from the first document published
+     * @throws com.mongodb.MongoException          if the write failed due some other failure, or the observable published an error
+     * @since 3.9
+     */
+    void insertMany(Observable<? extends TDocument> documents, InsertManyOptions options, SingleResultCallback<Void> callback);
+
     /**
      * Removes at most one document from the collection that matches the given filter.  If no documents match, the collection is not
      * modified.
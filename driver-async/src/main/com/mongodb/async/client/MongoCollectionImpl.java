@@ -54,6 +54,7 @@ import com.mongodb.internal.operation.AsyncOperations;
 import com.mongodb.internal.operation.IndexHelper;
 import com.mongodb.lang.Nullable;
 import com.mongodb.operation.AsyncWriteOperation;
+import com.mongodb.operation.CursorBufferBudget;
 import org.bson.BsonDocument;
 import org.bson.BsonValue;
 import org.bson.Document;
@@ -82,10 +83,18 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
     private final ReadConcern readConcern;
     private final OperationExecutor executor;
     private final AsyncOperations<TDocument> operations;
+    private final CursorBufferBudget cursorBufferBudget;
 
     MongoCollectionImpl(final MongoNamespace namespace, final Class<TDocument> documentClass, final CodecRegistry codecRegistry,
                         final ReadPreference readPreference, final WriteConcern writeConcern, final boolean retryWrites,
                         final ReadConcern readConcern, final OperationExecutor executor) {
+        this(namespace, documentClass, codecRegistry, readPreference, writeConcern, retryWrites, readConcern, executor, null);
+    }
+
+    MongoCollectionImpl(final MongoNamespace namespace, final Class<TDocument> documentClass, final CodecRegistry codecRegistry,
+                        final ReadPreference readPreference, final WriteConcern writeConcern, final boolean retryWrites,
+                        final ReadConcern readConcern, final OperationExecutor executor,
+                        @Nullable final CursorBufferBudget cursorBufferBudget) {
         this.namespace = notNull("namespace", namespace);
         this.documentClass = notNull("documentClass", documentClass);
         this.codecRegistry = notNull("codecRegistry", codecRegistry);
@@ -94,6 +103,7 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
         this.retryWrites = retryWrites;
         this.readConcern = notNull("readConcern", readConcern);
         this.executor = notNull("executor", executor);
+        this.cursorBufferBudget = cursorBufferBudget;
         this.operations = new AsyncOperations<TDocument>(namespace, documentClass, readPreference, codecRegistry, writeConcern,
                 retryWrites);
 
@@ -132,31 +142,31 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
     @Override
     public <NewTDocument> MongoCollection<NewTDocument> withDocumentClass(final Class<NewTDocument> newDocumentClass) {
         return new MongoCollectionImpl<NewTDocument>(namespace, newDocumentClass, codecRegistry, readPreference, writeConcern, retryWrites,
-                readConcern, executor);
+                readConcern, executor, cursorBufferBudget);
     }
 
     @Override
     public MongoCollection<TDocument> withCodecRegistry(final CodecRegistry codecRegistry) {
         return new MongoCollectionImpl<TDocument>(namespace, documentClass, codecRegistry, readPreference, writeConcern, retryWrites,
-                readConcern, executor);
+                readConcern, executor, cursorBufferBudget);
     }
 
     @Override
     public MongoCollection<TDocument> withReadPreference(final ReadPreference readPreference) {
         return new MongoCollectionImpl<TDocument>(namespace, documentClass, codecRegistry, readPreference, writeConcern, retryWrites,
-                readConcern, executor);
+                readConcern, executor, cursorBufferBudget);
     }
 
     @Override
     public MongoCollection<TDocument> withWriteConcern(final WriteConcern writeConcern) {
         return new MongoCollectionImpl<TDocument>(namespace, documentClass, codecRegistry, readPreference, writeConcern, retryWrites,
-                readConcern, executor);
+                readConcern, executor, cursorBufferBudget);
     }
 
     @Override
     public MongoCollection<TDocument> withReadConcern(final ReadConcern readConcern) {
         return new MongoCollectionImpl<TDocument>(namespace, documentClass, codecRegistry, readPreference, writeConcern, retryWrites,
-                readConcern, executor);
+                readConcern, executor, cursorBufferBudget);
     }
 
     @Override
@@ -317,7 +327,7 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
     private <TResult> FindIterable<TResult> createFindIterable(@Nullable final ClientSession clientSession, final Bson filter,
                                                                final Class<TResult> resultClass) {
         return new FindIterableImpl<TDocument, TResult>(clientSession, namespace, documentClass, resultClass, codecRegistry,
-                readPreference, readConcern, executor, filter);
+                readPreference, readConcern, executor, filter).bufferBudget(cursorBufferBudget);
     }
 
     @Override
@@ -454,6 +464,20 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
         executeBulkWrite(clientSession, requests, options, callback);
     }
 
+    @Override
+    public void bulkWrite(final Observable<? extends WriteModel<? extends TDocument>> requests, final BulkWriteOptions options,
+                          final SingleResultCallback<BulkWriteResult> callback) {
+        notNull("requests", requests);
+        notNull("options", options);
+        requests.subscribe(new ObservableBulkWriter<WriteModel<? extends TDocument>>(options.isOrdered(), writeConcern,
+                options.getMaxBufferedWrites(), new ObservableBulkWriter.PartWriter<WriteModel<? extends TDocument>>() {
+            @Override
+            public void write(final List<WriteModel<? extends TDocument>> part, final SingleResultCallback<BulkWriteResult> callback) {
+                executeBulkWrite(null, part, options, callback);
+            }
+        }, callback));
+    }
+
     @SuppressWarnings("unchecked")
     private void executeBulkWrite(@Nullable final ClientSession clientSession,
                                   final List<? extends WriteModel<? extends TDocument>> requests,
@@ -519,6 +543,26 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
         executeInsertMany(clientSession, documents, options, callback);
     }
 
+    @Override
+    public void insertMany(final Observable<? extends TDocument> documents, final InsertManyOptions options,
+                           final SingleResultCallback<Void> callback) {
+        notNull("documents", documents);
+        notNull("options", options);
+        notNull("callback", callback);
+        documents.subscribe(new ObservableBulkWriter<TDocument>(options.isOrdered(), writeConcern, options.getMaxBufferedDocuments(),
+                new ObservableBulkWriter.PartWriter<TDocument>() {
+                    @Override
+                    public void write(final List<TDocument> part, final SingleResultCallback<BulkWriteResult> callback) {
+                        executor.execute(operations.insertMany(part, options), readConcern, null, callback);
+                    }
+                }, new SingleResultCallback<BulkWriteResult>() {
+                    @Override
+                    public void onResult(final BulkWriteResult result, final Throwable t) {
+                        callback.onResult(null, t);
+                    }
+                }));
+    }
+
     private void executeInsertMany(@Nullable final ClientSession clientSession, final List<? extends TDocument> documents,
                                    final InsertManyOptions options, final SingleResultCallback<Void> callback) {
         executor.execute(operations.insertMany(documents, options), readConcern, clientSession,
@@ -32,6 +32,7 @@ import com.mongodb.lang.Nullable;
 import com.mongodb.operation.CommandReadOperation;
 import com.mongodb.operation.CreateCollectionOperation;
 import com.mongodb.operation.CreateViewOperation;
+import com.mongodb.operation.CursorBufferBudget;
 import com.mongodb.operation.DropDatabaseOperation;
 import org.bson.BsonDocument;
 import org.bson.Document;
@@ -53,10 +54,17 @@ class MongoDatabaseImpl implements MongoDatabase {
     private final boolean retryWrites;
     private final ReadConcern readConcern;
     private final OperationExecutor executor;
+    private final CursorBufferBudget cursorBufferBudget;
 
     MongoDatabaseImpl(final String name, final CodecRegistry codecRegistry, final ReadPreference readPreference,
                       final WriteConcern writeConcern, final boolean retryWrites, final ReadConcern readConcern,
                       final OperationExecutor executor) {
+        this(name, codecRegistry, readPreference, writeConcern, retryWrites, readConcern, executor, null);
+    }
+
+    MongoDatabaseImpl(final String name, final CodecRegistry codecRegistry, final ReadPreference readPreference,
+                      final WriteConcern writeConcern, final boolean retryWrites, final ReadConcern readConcern,
+                      final OperationExecutor executor, @Nullable final CursorBufferBudget cursorBufferBudget) {
         checkDatabaseNameValidity(name);
         this.name = notNull("name", name);
         this.codecRegistry = notNull("codecRegistry", codecRegistry);
@@ -65,6 +73,7 @@ class MongoDatabaseImpl implements MongoDatabase {
         this.retryWrites = retryWrites;
         this.readConcern = notNull("readConcern", readConcern);
         this.executor = notNull("executor", executor);
+        this.cursorBufferBudget = cursorBufferBudget;
     }
 
     @Override
@@ -94,22 +103,26 @@ class MongoDatabaseImpl implements MongoDatabase {
 
     @Override
     public MongoDatabase withCodecRegistry(final CodecRegistry codecRegistry) {
-        return new MongoDatabaseImpl(name, codecRegistry, readPreference, writeConcern, retryWrites, readConcern, executor);
+        return new MongoDatabaseImpl(name, codecRegistry, readPreference, writeConcern, retryWrites, readConcern, executor,
+                cursorBufferBudget);
     }
 
     @Override
     public MongoDatabase withReadPreference(final ReadPreference readPreference) {
-        return new MongoDatabaseImpl(name, codecRegistry, readPreference, writeConcern, retryWrites, readConcern, executor);
+        return new MongoDatabaseImpl(name, codecRegistry, readPreference, writeConcern, retryWrites, readConcern, executor,
+                cursorBufferBudget);
     }
 
     @Override
     public MongoDatabase withWriteConcern(final WriteConcern writeConcern) {
-        return new MongoDatabaseImpl(name, codecRegistry, readPreference, writeConcern, retryWrites, readConcern, executor);
+        return new MongoDatabaseImpl(name, codecRegistry, readPreference, writeConcern, retryWrites, readConcern, executor,
+                cursorBufferBudget);
     }
 
     @Override
     public MongoDatabase withReadConcern(final ReadConcern readConcern) {
-        return new MongoDatabaseImpl(name, codecRegistry, readPreference, writeConcern, retryWrites, readConcern, executor);
+        return new MongoDatabaseImpl(name, codecRegistry, readPreference, writeConcern, retryWrites, readConcern, executor,
+                cursorBufferBudget);
     }
 
     @Override
@@ -169,7 +182,7 @@ class MongoDatabaseImpl implements MongoDatabase {
     @Override
     public <TDocument> MongoCollection<TDocument> getCollection(final String collectionName, final Class<TDocument> documentClass) {
         return new MongoCollectionImpl<TDocument>(new MongoNamespace(name, collectionName), documentClass, codecRegistry, readPreference,
-                                                  writeConcern, retryWrites, readConcern, executor);
+                                                  writeConcern, retryWrites, readConcern, executor, cursorBufferBudget);
     }
 
     @Override
@@ -98,6 +98,11 @@ final class MongoIterableSubscription<TResult> extends AbstractSubscription<TRes
                                 completed = true;
                             }
                         }
+                        // Rather than waiting for the observer to work through this batch before asking for the next one, request
+                        // it now if the outstanding demand isn't already met by the queued results
+                        if (result != null && getUnqueuedRequested() > 0) {
+                            requestMoreData();
+                        }
                         tryProcessResultsQueue();
                     }
                 }
@@ -108,8 +113,9 @@ final class MongoIterableSubscription<TResult> extends AbstractSubscription<TRes
     /**
      * Returns the batchSize to be used with the cursor.
      *
-     * <p>If the batch size has been set on the MongoIterable that is used, otherwise the requested demand is used. When using requested
-     * demand, values less than 2 would close the cursor so that is the minimum batchSize and `Integer.MAX_VALUE` is the maximum.</p>
+     * <p>If the batch size has been set on the MongoIterable that is used, otherwise the requested demand that is not already met by
+     * queued results is used. When using requested demand, values less than 2 would close the cursor so that is the minimum batchSize
+     * and `Integer.MAX_VALUE` is the maximum.</p>
      *
      * @return the batchSize to use
      */
@@ -118,7 +124,7 @@ final class MongoIterableSubscription<TResult> extends AbstractSubscription<TRes
         if (batchSize != null) {
             return batchSize;
         }
-        long requested = getRequested();
+        long requested = getUnqueuedRequested();
         if (requested <= 1) {
             return 2;
         } else if (requested < Integer.MAX_VALUE) {
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.async.client;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.WriteConcern;
+import com.mongodb.async.SingleResultCallback;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.internal.operation.SplitBulkWriteCombiner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * Writes the requests published by an {@link Observable} as a sequence of bulk writes of at most {@code maxBuffered} requests each, so
+ * that no more than that many are held in memory.  The next requests are only requested once the previous bulk write has completed, and
+ * the callback is passed the result of all the bulk writes combined, as if they'd been a single bulk write.
+ *
+ * @param <T> the type of the requests
+ */
+final class ObservableBulkWriter<T> implements Observer<T> {
+    private final int maxBuffered;
+    private final PartWriter<T> partWriter;
+    private final SingleResultCallback<BulkWriteResult> callback;
+    // all guarded by this
+    private final SplitBulkWriteCombiner combiner;
+    private Subscription subscription;
+    private List<T> buffer = new ArrayList<T>();
+    private int nextIndex;
+    private boolean writing;
+    private boolean upstreamDone;
+    private Throwable upstreamError;
+    private boolean finished;
+
+    /**
+     * Writes a part of the requests as a single bulk write.
+     *
+     * @param <T> the type of the requests
+     */
+    interface PartWriter<T> {
+        void write(List<T> part, SingleResultCallback<BulkWriteResult> callback);
+    }
+
+    ObservableBulkWriter(final boolean ordered, final WriteConcern writeConcern, final int maxBuffered, final PartWriter<T> partWriter,
+                         final SingleResultCallback<BulkWriteResult> callback) {
+        isTrueArgument("maxBuffered > 0", maxBuffered > 0);
+        this.combiner = new SplitBulkWriteCombiner(ordered, writeConcern);
+        this.maxBuffered = maxBuffered;
+        this.partWriter = notNull("partWriter", partWriter);
+        this.callback = notNull("callback", callback);
+    }
+
+    @Override
+    public void onSubscribe(final Subscription subscription) {
+        synchronized (this) {
+            this.subscription = subscription;
+        }
+        subscription.request(maxBuffered);
+    }
+
+    @Override
+    public void onNext(final T request) {
+        List<T> part;
+        int startIndex;
+        synchronized (this) {
+            if (finished) {
+                return;
+            }
+            buffer.add(request);
+            if (buffer.size() < maxBuffered) {
+                return;
+            }
+            startIndex = nextIndex;
+            part = takeBuffer();
+        }
+        write(part, startIndex);
+    }
+
+    @Override
+    public void onError(final Throwable e) {
+        synchronized (this) {
+            upstreamDone = true;
+            upstreamError = e;
+            if (writing || finished) {
+                return;
+            }
+            finished = true;
+        }
+        callback.onResult(null, e);
+    }
+
+    @Override
+    public void onComplete() {
+        List<T> part = null;
+        int startIndex;
+        synchronized (this) {
+            upstreamDone = true;
+            if (writing || finished) {
+                return;
+            }
+            startIndex = nextIndex;
+            if (buffer.isEmpty()) {
+                finished = true;
+            } else {
+                part = takeBuffer();
+            }
+        }
+        if (part != null) {
+            write(part, startIndex);
+        } else {
+            complete();
+        }
+    }
+
+    private List<T> takeBuffer() {
+        List<T> part = buffer;
+        buffer = new ArrayList<T>();
+        nextIndex += part.size();
+        writing = true;
+        return part;
+    }
+
+    private void write(final List<T> part, final int startIndex) {
+        try {
+            partWriter.write(part, new SingleResultCallback<BulkWriteResult>() {
+                @Override
+                public void onResult(final BulkWriteResult result, final Throwable t) {
+                    onPartWritten(startIndex, part.size(), result, t);
+                }
+            });
+        } catch (Throwable t) {
+            onPartWritten(startIndex, part.size(), null, t);
+        }
+    }
+
+    private void onPartWritten(final int startIndex, final int count, final BulkWriteResult result, final Throwable t) {
+        Throwable failure = null;
+        boolean stop;
+        boolean unsubscribe;
+        boolean done;
+        List<T> part = null;
+        int nextStartIndex;
+        synchronized (this) {
+            writing = false;
+            if (t instanceof MongoBulkWriteException) {
+                combiner.addError((MongoBulkWriteException) t, startIndex, count);
+            } else if (t != null) {
+                failure = t;
+            } else {
+                combiner.addResult(result, startIndex, count);
+            }
+            if (failure == null && upstreamError != null) {
+                failure = upstreamError;
+            }
+            stop = failure != null || combiner.shouldStop();
+            nextStartIndex = nextIndex;
+            if (!stop && upstreamDone && !buffer.isEmpty()) {
+                part = takeBuffer();
+            }
+            unsubscribe = stop && !upstreamDone;
+            done = stop || (upstreamDone && part == null);
+            finished = done;
+        }
+
+        if (unsubscribe) {
+            subscription.unsubscribe();
+        }
+        if (failure != null) {
+            callback.onResult(null, failure);
+        } else if (part != null) {
+            write(part, nextStartIndex);
+        } else if (done) {
+            complete();
+        } else {
+            subscription.request(maxBuffered);
+        }
+    }
+
+    private void complete() {
+        BulkWriteResult result;
+        try {
+            synchronized (this) {
+                result = combiner.getResult();
+            }
+        } catch (MongoBulkWriteException e) {
+            callback.onResult(null, e);
+            return;
+        }
+        callback.onResult(result, null);
+    }
+}
@@ -191,7 +191,8 @@ final class GridFSBucketImpl implements GridFSBucket {
         Integer chunkSizeBytes = options.getChunkSizeBytes();
         int chunkSize = chunkSizeBytes == null ? this.chunkSizeBytes : chunkSizeBytes;
         return new GridFSUploadStreamImpl(clientSession, filesCollection, chunksCollection, id, filename, chunkSize, disableMD5,
-                options.getMetadata(), new GridFSIndexCheckImpl(clientSession, filesCollection, chunksCollection));
+                options.getMetadata(), new GridFSIndexCheckImpl(clientSession, filesCollection, chunksCollection),
+                options.getChunksPerBatch(), options.getMaxBatchesInFlight());
     }
 
     @Override
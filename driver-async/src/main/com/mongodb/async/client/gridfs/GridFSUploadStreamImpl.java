@@ -33,7 +33,9 @@ import org.bson.types.ObjectId;
 import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 import static com.mongodb.assertions.Assertions.notNull;
 import static com.mongodb.internal.HexUtils.toHex;
@@ -51,6 +53,8 @@ final class GridFSUploadStreamImpl implements GridFSUploadStream {
     private final MessageDigest md5;
     private final boolean disableMD5;
     private final GridFSIndexCheck indexCheck;
+    private final int chunksPerBatch;
+    private final int maxBatchesInFlight;
     private final Object closeAndWritingLock = new Object();
 
 
@@ -58,9 +62,14 @@ final class GridFSUploadStreamImpl implements GridFSUploadStream {
     private boolean checkedIndexes;
     private boolean writing;
     private boolean closed;
+    private int batchesInFlight;
+    private Throwable batchFailure;
+    private int waiterMaxBatchesInFlight;
+    private SingleResultCallback<Void> waiter;
     /* protected by `closeAndWritingLock` */
 
     /* accessed only when writing */
+    private List<Document> batch = new ArrayList<Document>();
     private byte[] buffer;
     private long lengthInBytes;
     private int bufferOffset;
@@ -71,6 +80,13 @@ final class GridFSUploadStreamImpl implements GridFSUploadStream {
                            final MongoCollection<Document> chunksCollection, final BsonValue fileId, final String filename,
                            final int chunkSizeBytes, final boolean disableMD5, @Nullable final Document metadata,
                            final GridFSIndexCheck indexCheck) {
+        this(clientSession, filesCollection, chunksCollection, fileId, filename, chunkSizeBytes, disableMD5, metadata, indexCheck, 1, 0);
+    }
+
+    GridFSUploadStreamImpl(@Nullable final ClientSession clientSession, final MongoCollection<GridFSFile> filesCollection,
+                           final MongoCollection<Document> chunksCollection, final BsonValue fileId, final String filename,
+                           final int chunkSizeBytes, final boolean disableMD5, @Nullable final Document metadata,
+                           final GridFSIndexCheck indexCheck, final int chunksPerBatch, final int maxBatchesInFlight) {
         this.clientSession = clientSession;
         this.filesCollection = notNull("files collection", filesCollection);
         this.chunksCollection = notNull("chunks collection", chunksCollection);
@@ -80,6 +96,9 @@ final class GridFSUploadStreamImpl implements GridFSUploadStream {
         this.metadata = metadata;
         this.indexCheck = indexCheck;
         this.disableMD5 = disableMD5;
+        this.chunksPerBatch = chunksPerBatch;
+        // a session can't be used concurrently, so the chunks of an upload in a session are always inserted one batch at a time
+        this.maxBatchesInFlight = clientSession == null ? maxBatchesInFlight : 0;
         md5 = createMD5Digest();
         chunkIndex = 0;
         bufferOffset = 0;
@@ -107,7 +126,7 @@ final class GridFSUploadStreamImpl implements GridFSUploadStream {
             return;
         }
 
-        SingleResultCallback<DeleteResult> deleteCallback = new SingleResultCallback<DeleteResult>() {
+        final SingleResultCallback<DeleteResult> deleteCallback = new SingleResultCallback<DeleteResult>() {
             @Override
             public void onResult(final DeleteResult result, final Throwable t) {
                 releaseWritingLock();
@@ -115,11 +134,17 @@ final class GridFSUploadStreamImpl implements GridFSUploadStream {
             }
         };
 
-        if (clientSession != null) {
-            chunksCollection.deleteMany(clientSession, new Document("files_id", fileId), deleteCallback);
-        } else {
-            chunksCollection.deleteMany(new Document("files_id", fileId), deleteCallback);
-        }
+        // the chunks of batches still in flight must be inserted before they can be deleted, and their failures no longer matter
+        awaitBatchesInFlight(0, new SingleResultCallback<Void>() {
+            @Override
+            public void onResult(final Void result, final Throwable t) {
+                if (clientSession != null) {
+                    chunksCollection.deleteMany(clientSession, new Document("files_id", fileId), deleteCallback);
+                } else {
+                    chunksCollection.deleteMany(new Document("files_id", fileId), deleteCallback);
+                }
+            }
+        });
     }
 
     @Override
@@ -171,7 +196,7 @@ final class GridFSUploadStreamImpl implements GridFSUploadStream {
             callbackIsWritingException(errHandlingCallback);
             return;
         }
-        writeChunk(new SingleResultCallback<Void>() {
+        final SingleResultCallback<Void> chunksInsertedCallback = new SingleResultCallback<Void>() {
             @Override
             public void onResult(final Void result, final Throwable t) {
                 if (t != null) {
@@ -197,6 +222,25 @@ final class GridFSUploadStreamImpl implements GridFSUploadStream {
                     }
                 }
             }
+        };
+        writeChunk(new SingleResultCallback<Void>() {
+            @Override
+            public void onResult(final Void result, final Throwable t) {
+                if (t != null) {
+                    chunksInsertedCallback.onResult(null, t);
+                } else {
+                    writeBatch(new SingleResultCallback<Void>() {
+                        @Override
+                        public void onResult(final Void result, final Throwable t) {
+                            if (t != null) {
+                                chunksInsertedCallback.onResult(null, t);
+                            } else {
+                                awaitBatchesInFlight(0, chunksInsertedCallback);
+                            }
+                        }
+                    });
+                }
+            }
         });
     }
 
@@ -255,27 +299,101 @@ final class GridFSUploadStreamImpl implements GridFSUploadStream {
             callback.onResult(null, new MongoGridFSException("No MD5 message digest available. "
                     + "Use `GridFSBucket.withDisableMD5(true)` to disable creating a MD5 hash."));
         } else if (bufferOffset > 0) {
-            Document insertDocument = new Document("files_id", fileId).append("n", chunkIndex).append("data", getData());
-            SingleResultCallback<Void> insertCallback = new SingleResultCallback<Void>() {
-                @Override
-                public void onResult(final Void result, final Throwable t) {
-                    if (t != null) {
-                        callback.onResult(null, t);
-                    } else {
-                        updateMD5();
-                        chunkIndex++;
-                        bufferOffset = 0;
-                        callback.onResult(null, null);
-                    }
+            // the digest is updated as each chunk is filled, while earlier batches may still be being inserted
+            batch.add(new Document("files_id", fileId).append("n", chunkIndex).append("data", getData()));
+            updateMD5();
+            chunkIndex++;
+            bufferOffset = 0;
+            // a chunk's buffer can only be reused once the chunk has been inserted
+            if (chunksPerBatch > 1 || maxBatchesInFlight > 0) {
+                buffer = new byte[chunkSizeBytes];
+            }
+            if (batch.size() == chunksPerBatch) {
+                writeBatch(callback);
+            } else {
+                callback.onResult(null, null);
+            }
+        } else {
+            callback.onResult(null, null);
+        }
+    }
+
+    private void writeBatch(final SingleResultCallback<Void> callback) {
+        if (batch.isEmpty()) {
+            callback.onResult(null, null);
+            return;
+        }
+        final List<Document> chunks = batch;
+        batch = new ArrayList<Document>();
+        if (maxBatchesInFlight == 0) {
+            insertChunks(chunks, callback);
+            return;
+        }
+        awaitBatchesInFlight(maxBatchesInFlight - 1, new SingleResultCallback<Void>() {
+            @Override
+            public void onResult(final Void result, final Throwable t) {
+                if (t != null) {
+                    callback.onResult(null, t);
+                    return;
                 }
-            };
+                synchronized (closeAndWritingLock) {
+                    batchesInFlight++;
+                }
+                insertChunks(chunks, new SingleResultCallback<Void>() {
+                    @Override
+                    public void onResult(final Void result, final Throwable t) {
+                        onBatchInserted(t);
+                    }
+                });
+                callback.onResult(null, null);
+            }
+        });
+    }
+
+    private void insertChunks(final List<Document> chunks, final SingleResultCallback<Void> callback) {
+        if (chunks.size() == 1) {
             if (clientSession != null) {
-                chunksCollection.insertOne(clientSession, insertDocument, insertCallback);
+                chunksCollection.insertOne(clientSession, chunks.get(0), callback);
             } else {
-                chunksCollection.insertOne(insertDocument, insertCallback);
+                chunksCollection.insertOne(chunks.get(0), callback);
             }
+        } else if (clientSession != null) {
+            chunksCollection.insertMany(clientSession, chunks, callback);
         } else {
-            callback.onResult(null, null);
+            chunksCollection.insertMany(chunks, callback);
+        }
+    }
+
+    // calls back once no more than the given number of batches are in flight, with the first failure of any batch
+    private void awaitBatchesInFlight(final int maxRemaining, final SingleResultCallback<Void> callback) {
+        Throwable failure;
+        synchronized (closeAndWritingLock) {
+            if (batchesInFlight > maxRemaining) {
+                waiterMaxBatchesInFlight = maxRemaining;
+                waiter = callback;
+                return;
+            }
+            failure = batchFailure;
+        }
+        callback.onResult(null, failure);
+    }
+
+    private void onBatchInserted(final Throwable t) {
+        SingleResultCallback<Void> callback = null;
+        Throwable failure;
+        synchronized (closeAndWritingLock) {
+            batchesInFlight--;
+            if (batchFailure == null) {
+                batchFailure = t;
+            }
+            failure = batchFailure;
+            if (waiter != null && batchesInFlight <= waiterMaxBatchesInFlight) {
+                callback = waiter;
+                waiter = null;
+            }
+        }
+        if (callback != null) {
+            callback.onResult(null, failure);
         }
     }
 
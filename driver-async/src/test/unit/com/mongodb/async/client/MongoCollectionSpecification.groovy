@@ -67,6 +67,7 @@ import com.mongodb.client.result.UpdateResult
 import com.mongodb.client.test.Worker
 import com.mongodb.operation.CountOperation
 import com.mongodb.operation.CreateIndexesOperation
+import com.mongodb.operation.CursorBufferBudget
 import com.mongodb.operation.DropCollectionOperation
 import com.mongodb.operation.DropIndexOperation
 import com.mongodb.operation.FindAndDeleteOperation
@@ -378,6 +379,21 @@ class MongoCollectionSpecification extends Specification {
         session << [null, Stub(ClientSession)]
     }
 
+    def 'should share the cursor buffer budget with every FindIterable'() {
+        given:
+        def bufferBudget = new CursorBufferBudget(1024)
+        def executor = new TestOperationExecutor([])
+        def collection = new MongoCollectionImpl(namespace, Document, codecRegistry, readPreference, ACKNOWLEDGED,
+                true, readConcern, executor, bufferBudget)
+
+        when:
+        def findIterable = collection.withReadPreference(primary()).find()
+
+        then:
+        expect findIterable, isTheSameAs(new FindIterableImpl(null, namespace, Document, Document, codecRegistry,
+                primary(), readConcern, executor, new BsonDocument()).bufferBudget(bufferBudget))
+    }
+
     def 'should create AggregateIterable correctly'() {
         given:
         def executor = new TestOperationExecutor([])
@@ -30,6 +30,7 @@ import com.mongodb.client.model.ValidationOptions
 import com.mongodb.operation.CommandReadOperation
 import com.mongodb.operation.CreateCollectionOperation
 import com.mongodb.operation.CreateViewOperation
+import com.mongodb.operation.CursorBufferBudget
 import com.mongodb.operation.DropDatabaseOperation
 import org.bson.BsonBoolean
 import org.bson.BsonDocument
@@ -365,6 +366,22 @@ class MongoDatabaseSpecification extends Specification {
         expect collection, isTheSameAs(expectedCollection)
     }
 
+    def 'should pass the cursor buffer budget to getCollection'() {
+        given:
+        def bufferBudget = new CursorBufferBudget(1024)
+        def database = new MongoDatabaseImpl('databaseName', codecRegistry, secondary(), WriteConcern.MAJORITY, true,
+                ReadConcern.MAJORITY, new TestOperationExecutor([]), bufferBudget)
+        def expectedCollection = new MongoCollectionImpl<Document>(new MongoNamespace('databaseName', 'collectionName'), Document,
+                codecRegistry, secondary(), WriteConcern.MAJORITY, true, ReadConcern.MAJORITY, new TestOperationExecutor([]),
+                bufferBudget)
+
+        when:
+        def collection = database.withWriteConcern(WriteConcern.MAJORITY).getCollection('collectionName')
+
+        then:
+        expect collection, isTheSameAs(expectedCollection)
+    }
+
     def 'should validate the client session correctly'() {
         given:
         def database = new MongoDatabaseImpl(name, codecRegistry, readPreference,  writeConcern,
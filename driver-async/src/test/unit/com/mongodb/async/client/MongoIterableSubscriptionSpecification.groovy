@@ -72,6 +72,57 @@ class MongoIterableSubscriptionSpecification extends Specification {
         observer.assertTerminalEvent()
     }
 
+    def 'should request the next batch before delivering the current one while demand is outstanding'() {
+        given:
+        def events = []
+        def callbacks = []
+        def cursor = Mock(AsyncBatchCursor) {
+            next(_) >> {
+                events.add('next')
+                callbacks.add(it[0])
+            }
+        }
+        def subscription = null
+        def observer = new Observer<Integer>() {
+            @Override
+            void onSubscribe(final Subscription s) {
+                subscription = s
+            }
+
+            @Override
+            void onNext(final Integer result) {
+                events.add(result)
+            }
+
+            @Override
+            void onError(final Throwable e) {
+                events.add(e)
+            }
+
+            @Override
+            void onComplete() {
+                events.add('complete')
+            }
+        }
+        observe(getMongoIterable(cursor)).subscribe(observer)
+
+        when:
+        subscription.request(3)
+        callbacks.remove(0).onResult([1, 2], null)
+
+        then:
+        1 * cursor.setBatchSize(3)
+        1 * cursor.setBatchSize(2)
+        events == ['next', 'next', 1, 2]
+
+        when:
+        callbacks.remove(0).onResult([3, 4], null)
+
+        then:
+        0 * cursor.setBatchSize(_)
+        events == ['next', 'next', 1, 2, 3]
+    }
+
     def 'should call onComplete after cursor has completed and all onNext values requested'() {
         given:
         def mongoIterable = getMongoIterable()
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.async.client
+
+import com.mongodb.MongoBulkWriteException
+import com.mongodb.MongoException
+import com.mongodb.ServerAddress
+import com.mongodb.WriteConcern
+import com.mongodb.async.FutureResultCallback
+import com.mongodb.async.SingleResultCallback
+import com.mongodb.bulk.BulkWriteError
+import com.mongodb.bulk.BulkWriteResult
+import org.bson.BsonDocument
+import spock.lang.Specification
+
+import static com.mongodb.bulk.WriteRequest.Type.INSERT
+
+class ObservableBulkWriterSpecification extends Specification {
+
+    def 'should write each full buffer and request more only once it has been written'() {
+        given:
+        def subscription = Mock(Subscription)
+        def parts = []
+        def partCallbacks = []
+        def partWriter = { List part, SingleResultCallback callback ->
+            parts.add(new ArrayList(part))
+            partCallbacks.add(callback)
+        } as ObservableBulkWriter.PartWriter
+        def callback = new FutureResultCallback<BulkWriteResult>()
+        def writer = new ObservableBulkWriter<Integer>(true, WriteConcern.ACKNOWLEDGED, 2, partWriter, callback)
+
+        when:
+        writer.onSubscribe(subscription)
+
+        then:
+        1 * subscription.request(2)
+
+        when:
+        writer.onNext(1)
+        writer.onNext(2)
+
+        then:
+        parts == [[1, 2]]
+        0 * subscription.request(_)
+
+        when:
+        partCallbacks[0].onResult(BulkWriteResult.acknowledged(INSERT, 2, []), null)
+
+        then:
+        1 * subscription.request(2)
+
+        when:
+        writer.onNext(3)
+        writer.onComplete()
+        partCallbacks[1].onResult(BulkWriteResult.acknowledged(INSERT, 1, []), null)
+
+        then:
+        parts == [[1, 2], [3]]
+        callback.get() == BulkWriteResult.acknowledged(INSERT, 3, [])
+    }
+
+    def 'should stop after a part of ordered writes has a write error'() {
+        given:
+        def subscription = Mock(Subscription)
+        def partWriter = { List part, SingleResultCallback callback ->
+            callback.onResult(null, new MongoBulkWriteException(BulkWriteResult.acknowledged(INSERT, 0, []),
+                    [new BulkWriteError(11000, 'duplicate key', new BsonDocument(), 0)], null, new ServerAddress()))
+        } as ObservableBulkWriter.PartWriter
+        def callback = new FutureResultCallback<BulkWriteResult>()
+        def writer = new ObservableBulkWriter<Integer>(true, WriteConcern.ACKNOWLEDGED, 1, partWriter, callback)
+        writer.onSubscribe(subscription)
+
+        when:
+        writer.onNext(1)
+
+        then:
+        1 * subscription.unsubscribe()
+        0 * subscription.request(_)
+
+        when:
+        callback.get()
+
+        then:
+        def e = thrown(MongoBulkWriteException)
+        e.writeErrors*.index == [0]
+    }
+
+    def 'should pass the error of the observable to the callback once the current part has been written'() {
+        given:
+        def partCallback = null
+        def partWriter = { List part, SingleResultCallback callback -> partCallback = callback } as ObservableBulkWriter.PartWriter
+        def callback = new FutureResultCallback<BulkWriteResult>()
+        def writer = new ObservableBulkWriter<Integer>(false, WriteConcern.ACKNOWLEDGED, 1, partWriter, callback)
+        def error = new MongoException('failed')
+        writer.onSubscribe(Stub(Subscription))
+
+        when:
+        writer.onNext(1)
+        writer.onError(error)
+
+        then:
+        !callback.isDone()
+
+        when:
+        partCallback.onResult(BulkWriteResult.acknowledged(INSERT, 1, []), null)
+        callback.get()
+
+        then:
+        def e = thrown(MongoException)
+        e.is(error)
+    }
+}
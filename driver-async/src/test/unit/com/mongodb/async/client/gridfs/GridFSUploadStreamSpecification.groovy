@@ -187,6 +187,78 @@ class GridFSUploadStreamSpecification extends Specification {
         clientSession << [null, Stub(ClientSession)]
     }
 
+    def 'should insert chunks in batches'() {
+        given:
+        def filesCollection = Mock(MongoCollection)
+        def chunksCollection = Mock(MongoCollection)
+        def uploadStream = new GridFSUploadStreamImpl(null, filesCollection, chunksCollection, fileId, filename, 2,
+                disableMD5, metadata, NOOP_INDEXCHECK, 2, 0)
+
+        when:
+        uploadStream.write(ByteBuffer.wrap('abcde' as byte[]), Stub(SingleResultCallback))
+        def futureResult = new FutureResultCallback()
+        uploadStream.close(futureResult)
+        futureResult.get()
+
+        then:
+        1 * chunksCollection.insertMany({ List<Document> chunks -> chunks*.get('n') == [0, 1] }, _) >> { it.last().onResult(null, null) }
+        1 * chunksCollection.insertOne({ Document chunk -> chunk.get('n') == 2 }, _) >> { it.last().onResult(null, null) }
+        1 * filesCollection.insertOne(_, _) >> { it.last().onResult(null, null) }
+    }
+
+    def 'should write more of the file while batches are inserted'() {
+        given:
+        def filesCollection = Mock(MongoCollection)
+        def chunksCollection = Mock(MongoCollection)
+        def insertCallbacks = []
+        def uploadStream = new GridFSUploadStreamImpl(null, filesCollection, chunksCollection, fileId, filename, 2,
+                disableMD5, metadata, NOOP_INDEXCHECK, 2, 1)
+
+        when:
+        def writeResult = new FutureResultCallback()
+        uploadStream.write(ByteBuffer.wrap('abcd' as byte[]), writeResult)
+
+        then:
+        1 * chunksCollection.insertMany(_, _) >> { insertCallbacks << it.last() }
+        writeResult.get() == 4
+
+        when:
+        def closeResult = new FutureResultCallback()
+        uploadStream.close(closeResult)
+
+        then:
+        0 * filesCollection.insertOne(*_)
+        !closeResult.isDone()
+
+        when:
+        insertCallbacks[0].onResult(null, null)
+        closeResult.get()
+
+        then:
+        1 * filesCollection.insertOne(_, _) >> { it.last().onResult(null, null) }
+    }
+
+    def 'should propagate the failure of a batch inserted in the background when closing'() {
+        given:
+        def filesCollection = Mock(MongoCollection)
+        def chunksCollection = Mock(MongoCollection)
+        def insertException = new MongoException('Insert failure')
+        def uploadStream = new GridFSUploadStreamImpl(null, filesCollection, chunksCollection, fileId, filename, 2,
+                disableMD5, metadata, NOOP_INDEXCHECK, 1, 1)
+
+        when:
+        uploadStream.write(ByteBuffer.wrap('ab' as byte[]), Stub(SingleResultCallback))
+        def futureResult = new FutureResultCallback()
+        uploadStream.close(futureResult)
+        futureResult.get()
+
+        then:
+        1 * chunksCollection.insertOne(_, _) >> { it.last().onResult(null, insertException) }
+        0 * filesCollection.insertOne(*_)
+        def exception = thrown(MongoException)
+        exception == insertException
+    }
+
     def 'should delete any chunks when calling abort'() {
         given:
         def chunksCollection = Mock(MongoCollection)
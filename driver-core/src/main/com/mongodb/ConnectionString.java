@@ -232,6 +232,7 @@ public class ConnectionString {
 
     private final MongoCredential credential;
     private final List<String> hosts;
+    private final String srvHost;
     private final String database;
     private final String collection;
     private final String connectionString;
@@ -323,6 +324,7 @@ public class ConnectionString {
         // Validate the hosts
         List<String> unresolvedHosts = unmodifiableList(parseHosts(asList(hostIdentifier.split(",")), isSRVProtocol));
         this.hosts = isSRVProtocol ? resolveHostFromSrvRecords(unresolvedHosts.get(0)) : unresolvedHosts;
+        this.srvHost = isSRVProtocol ? unresolvedHosts.get(0) : null;
 
         // Process the authDB section
         String nsPart;
@@ -974,6 +976,17 @@ public class ConnectionString {
         return hosts;
     }
 
+    /**
+     * Gets the host name whose SRV records were resolved to the list of hosts, if this connection string uses the mongodb+srv protocol.
+     *
+     * @return the SRV host name, or null if this connection string uses the mongodb protocol
+     * @since 3.9
+     */
+    @Nullable
+    public String getSrvHost() {
+        return srvHost;
+    }
+
     /**
      * Gets the database name
      *
@@ -28,6 +28,7 @@ import com.mongodb.connection.SslSettings;
 import com.mongodb.connection.StreamFactoryFactory;
 import com.mongodb.event.CommandListener;
 import com.mongodb.lang.Nullable;
+import com.mongodb.operation.CursorBufferBudget;
 import org.bson.codecs.BsonValueCodecProvider;
 import org.bson.codecs.DocumentCodecProvider;
 import org.bson.codecs.IterableCodecProvider;
@@ -84,6 +85,7 @@ public final class MongoClientSettings {
     private final SslSettings sslSettings;
     private final String applicationName;
     private final List<MongoCompressor> compressorList;
+    private final CursorBufferBudget cursorBufferBudget;
 
     /**
      * Gets the default codec registry.  It includes the following providers:
@@ -148,6 +150,7 @@ public final class MongoClientSettings {
         private MongoCredential credential;
         private String applicationName;
         private List<MongoCompressor> compressorList = Collections.emptyList();
+        private CursorBufferBudget cursorBufferBudget;
 
         private Builder() {
         }
@@ -162,6 +165,7 @@ public final class MongoClientSettings {
             writeConcern = settings.getWriteConcern();
             retryWrites = settings.getRetryWrites();
             readConcern = settings.getReadConcern();
+            cursorBufferBudget = settings.getCursorBufferBudget();
             credential = settings.getCredential();
             streamFactoryFactory = settings.getStreamFactoryFactory();
             clusterSettingsBuilder.applySettings(settings.getClusterSettings());
@@ -302,6 +306,20 @@ public final class MongoClientSettings {
             return this;
         }
 
+        /**
+         * Sets the budget shared by all the cursors of finds through this client for the results that they've fetched but not yet
+         * returned.
+         *
+         * @param cursorBufferBudget the cursor buffer budget, which may be null
+         * @return this
+         * @see #getCursorBufferBudget()
+         * @since 3.9
+         */
+        public Builder cursorBufferBudget(@Nullable final CursorBufferBudget cursorBufferBudget) {
+            this.cursorBufferBudget = cursorBufferBudget;
+            return this;
+        }
+
         /**
          * Sets the read concern.
          *
@@ -461,6 +479,20 @@ public final class MongoClientSettings {
         return retryWrites;
     }
 
+    /**
+     * Gets the budget shared by all the cursors of finds through this client for the results that they've fetched but not yet
+     * returned.  When a cursor's share of the budget runs low it asks for smaller batches, and it doesn't prefetch while none is left.
+     *
+     * <p>Default is null, in which case cursors are only limited by their own settings.</p>
+     *
+     * @return the cursor buffer budget, which may be null
+     * @since 3.9
+     */
+    @Nullable
+    public CursorBufferBudget getCursorBufferBudget() {
+        return cursorBufferBudget;
+    }
+
     /**
      * The read concern to use.
      *
@@ -598,6 +630,7 @@ public final class MongoClientSettings {
         writeConcern = builder.writeConcern;
         retryWrites = builder.retryWrites;
         readConcern = builder.readConcern;
+        cursorBufferBudget = builder.cursorBufferBudget;
         credential = builder.credential;
         streamFactoryFactory = builder.streamFactoryFactory;
         codecRegistry = builder.codecRegistry;
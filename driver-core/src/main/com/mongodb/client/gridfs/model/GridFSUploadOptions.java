@@ -19,6 +19,8 @@ package com.mongodb.client.gridfs.model;
 import com.mongodb.lang.Nullable;
 import org.bson.Document;
 
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+
 /**
  * GridFS upload options
  *
@@ -29,6 +31,8 @@ import org.bson.Document;
 public final class GridFSUploadOptions {
     private Integer chunkSizeBytes;
     private Document metadata;
+    private int chunksPerBatch = 1;
+    private int maxBatchesInFlight;
 
     /**
      * Construct a new instance.
@@ -80,4 +84,58 @@ public final class GridFSUploadOptions {
         return this;
     }
 
+    /**
+     * Gets the number of chunks that are inserted together, with a single {@code insertMany}.
+     *
+     * <p>Default is 1, so each chunk is inserted on its own.</p>
+     *
+     * @return the number of chunks per batch
+     * @since 3.9
+     */
+    public int getChunksPerBatch() {
+        return chunksPerBatch;
+    }
+
+    /**
+     * Sets the number of chunks that are inserted together, with a single {@code insertMany}.  The chunks of a batch are held in memory
+     * until the batch is full or the upload is closed.
+     *
+     * @param chunksPerBatch the number of chunks per batch, which must be greater than 0
+     * @return this
+     * @since 3.9
+     */
+    public GridFSUploadOptions chunksPerBatch(final int chunksPerBatch) {
+        isTrueArgument("chunksPerBatch > 0", chunksPerBatch > 0);
+        this.chunksPerBatch = chunksPerBatch;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of batches of chunks that are inserted in the background while more of the file is written.
+     *
+     * <p>Default is 0, so each batch is inserted before the write that filled it returns.</p>
+     *
+     * @return the maximum number of batches in flight
+     * @since 3.9
+     */
+    public int getMaxBatchesInFlight() {
+        return maxBatchesInFlight;
+    }
+
+    /**
+     * Sets the maximum number of batches of chunks that are inserted in the background while more of the file is written.  A write
+     * that fills a batch when this many are already being inserted waits for the oldest of them to complete, so at most
+     * {@code chunksPerBatch * (maxBatchesInFlight + 1)} chunks are held in memory.  Batches are always inserted one at a time when
+     * the upload is part of a session, as a session can't be used concurrently.
+     *
+     * @param maxBatchesInFlight the maximum number of batches in flight, which must not be negative
+     * @return this
+     * @since 3.9
+     */
+    public GridFSUploadOptions maxBatchesInFlight(final int maxBatchesInFlight) {
+        isTrueArgument("maxBatchesInFlight >= 0", maxBatchesInFlight >= 0);
+        this.maxBatchesInFlight = maxBatchesInFlight;
+        return this;
+    }
+
 }
@@ -18,6 +18,8 @@ package com.mongodb.client.model;
 
 import com.mongodb.lang.Nullable;
 
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+
 /**
  * The options to apply to a bulk write.
  *
@@ -26,6 +28,8 @@ import com.mongodb.lang.Nullable;
 public final class BulkWriteOptions {
     private boolean ordered = true;
     private Boolean bypassDocumentValidation;
+    private int parallelism = 1;
+    private int maxBufferedWrites = 1000;
 
     /**
      * If true, then when a write fails, return without performing the remaining
@@ -76,11 +80,68 @@ public final class BulkWriteOptions {
         return this;
     }
 
+    /**
+     * Gets the maximum number of connections on which unordered writes are sent at the same time.  The default is 1.
+     *
+     * @return the parallelism
+     * @see #parallelism(int)
+     * @since 3.9
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the maximum number of connections on which unordered writes are sent at the same time.  If greater than 1, and the writes
+     * are neither ordered nor in an explicit session, they're divided into that many contiguous parts, which are executed concurrently
+     * as separate bulk writes, each with its own connection from the pool.  Their results are combined into one, with the indexes of
+     * upserts and write errors referring to the original list of requests.
+     *
+     * <p>This is ignored by the asynchronous driver.</p>
+     *
+     * @param parallelism the parallelism, which must be greater than 0
+     * @return this
+     * @since 3.9
+     */
+    public BulkWriteOptions parallelism(final int parallelism) {
+        isTrueArgument("parallelism > 0", parallelism > 0);
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of writes that are read from an iterator or observable before they're sent.  The default is 1000.
+     *
+     * @return the maximum number of buffered writes
+     * @see #maxBufferedWrites(int)
+     * @since 3.9
+     */
+    public int getMaxBufferedWrites() {
+        return maxBufferedWrites;
+    }
+
+    /**
+     * Sets the maximum number of writes that are read from an iterator or observable before they're sent.  The writes are read lazily and
+     * sent in parts of at most this many, each split into batches as usual, so only the writes of one part are held in memory at a
+     * time.  It's not used when the writes are given as a list.
+     *
+     * @param maxBufferedWrites the maximum number of buffered writes, which must be greater than 0
+     * @return this
+     * @since 3.9
+     */
+    public BulkWriteOptions maxBufferedWrites(final int maxBufferedWrites) {
+        isTrueArgument("maxBufferedWrites > 0", maxBufferedWrites > 0);
+        this.maxBufferedWrites = maxBufferedWrites;
+        return this;
+    }
+
     @Override
     public String toString() {
         return "BulkWriteOptions{"
                 + "ordered=" + ordered
                 + ", bypassDocumentValidation=" + bypassDocumentValidation
+                + ", parallelism=" + parallelism
+                + ", maxBufferedWrites=" + maxBufferedWrites
                 + '}';
     }
 }
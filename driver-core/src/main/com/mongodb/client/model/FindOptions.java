@@ -18,8 +18,10 @@ package com.mongodb.client.model;
 
 import com.mongodb.CursorType;
 import com.mongodb.lang.Nullable;
+import com.mongodb.operation.CursorBufferBudget;
 import org.bson.conversions.Bson;
 
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 import static com.mongodb.assertions.Assertions.isTrueArgument;
@@ -54,6 +56,12 @@ public final class FindOptions {
     private boolean returnKey;
     private boolean showRecordId;
     private boolean snapshot;
+    private Double prefetchThreshold;
+    private Integer maxBufferedBytes;
+    private CursorBufferBudget bufferBudget;
+    private ForkJoinPool decodePool;
+    private boolean killCursorsInBackground;
+    private boolean reuseResults;
 
     /**
      * Construct a new instance.
@@ -86,6 +94,12 @@ public final class FindOptions {
         returnKey = from.returnKey;
         showRecordId = from.showRecordId;
         snapshot = from.snapshot;
+        prefetchThreshold = from.prefetchThreshold;
+        maxBufferedBytes = from.maxBufferedBytes;
+        bufferBudget = from.bufferBudget;
+        decodePool = from.decodePool;
+        killCursorsInBackground = from.killCursorsInBackground;
+        reuseResults = from.reuseResults;
     }
 
     /**
@@ -604,6 +618,166 @@ public final class FindOptions {
         return this;
     }
 
+    /**
+     * Gets the fraction of each batch after which the next batch is requested in the background, or null if the next batch is only
+     * requested once the current one is used up.  The default is null.
+     *
+     * @return the prefetch threshold, which may be null
+     * @since 3.9
+     */
+    @Nullable
+    public Double getPrefetchThreshold() {
+        return prefetchThreshold;
+    }
+
+    /**
+     * Sets the fraction of each batch after which the next batch is requested in the background, so that applications that do
+     * significant work per document don't wait a round trip for each batch.  A value of 0 requests the next batch as soon as the current
+     * one is returned.  Tailable cursors never prefetch.
+     *
+     * @param prefetchThreshold the prefetch threshold, between 0 and 1, or null to disable prefetching
+     * @return this
+     * @since 3.9
+     */
+    public FindOptions prefetchThreshold(@Nullable final Double prefetchThreshold) {
+        isTrueArgument("prefetchThreshold is between 0 and 1",
+                prefetchThreshold == null || (prefetchThreshold >= 0 && prefetchThreshold <= 1));
+        this.prefetchThreshold = prefetchThreshold;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of bytes of documents that the cursor keeps buffered, or null if the batch size doesn't adapt.  The
+     * default is null.
+     *
+     * @return the maximum number of buffered bytes, which may be null
+     * @since 3.9
+     */
+    @Nullable
+    public Integer getMaxBufferedBytes() {
+        return maxBufferedBytes;
+    }
+
+    /**
+     * Sets the maximum number of bytes of documents that the cursor keeps buffered, which enables adaptive batch sizing.  The batch size
+     * of each getMore then adapts to the average size of the documents and the rate at which they're consumed, such that no batch
+     * exceeds half of this many bytes.  A batch size that has been set is still used, unless its batches would exceed that limit.
+     *
+     * @param maxBufferedBytes the maximum number of buffered bytes, or null to disable adaptive batch sizing
+     * @return this
+     * @since 3.9
+     */
+    public FindOptions maxBufferedBytes(@Nullable final Integer maxBufferedBytes) {
+        isTrueArgument("maxBufferedBytes > 0", maxBufferedBytes == null || maxBufferedBytes > 0);
+        this.maxBufferedBytes = maxBufferedBytes;
+        return this;
+    }
+
+    /**
+     * Gets the byte budget that the cursor shares with other cursors, or null if it has none.  The default is null, unless the client
+     * has a cursor buffer budget, in which case it's that one.
+     *
+     * @return the buffer budget, which may be null
+     * @since 3.9
+     */
+    @Nullable
+    public CursorBufferBudget getBufferBudget() {
+        return bufferBudget;
+    }
+
+    /**
+     * Sets the byte budget that the cursor shares with other cursors, which enables adaptive batch sizing.  The batches returned by
+     * getMores are counted against the budget while the cursor holds them, and the batch size of each getMore adapts so that no batch
+     * exceeds half of the bytes left in the budget.  This applies as well as any limit set with {@link #maxBufferedBytes(Integer)}.
+     *
+     * @param bufferBudget the buffer budget, or null if the cursor doesn't share one
+     * @return this
+     * @since 3.9
+     */
+    public FindOptions bufferBudget(@Nullable final CursorBufferBudget bufferBudget) {
+        this.bufferBudget = bufferBudget;
+        return this;
+    }
+
+    /**
+     * Gets the pool on which the documents of each batch after the first are decoded in parallel, or null if they're decoded one at a
+     * time as the cursor reaches them.  The default is null.
+     *
+     * @return the decode pool, which may be null
+     * @since 3.9
+     */
+    @Nullable
+    public ForkJoinPool getDecodePool() {
+        return decodePool;
+    }
+
+    /**
+     * Sets the pool on which the documents of each batch after the first are decoded in parallel, as soon as the batch arrives, while
+     * keeping their order.  This pays off for large batches of documents that are expensive to decode, such as complex POJOs.  Batches
+     * too small to be worth splitting are still decoded one document at a time.
+     *
+     * @param decodePool the decode pool, or null to decode documents one at a time
+     * @return this
+     * @since 3.9
+     */
+    public FindOptions decodePool(@Nullable final ForkJoinPool decodePool) {
+        this.decodePool = decodePool;
+        return this;
+    }
+
+    /**
+     * Gets whether a cursor closed before it's exhausted is killed in the background, rather than before close returns.  The default is
+     * false.
+     *
+     * @return true if cursors are killed in the background
+     * @since 3.9
+     */
+    public boolean isKillCursorsInBackground() {
+        return killCursorsInBackground;
+    }
+
+    /**
+     * Sets whether a cursor closed before it's exhausted is killed in the background, rather than before close returns.  Cursors killed
+     * in the background are queued for a short time, and then killed with a single command per server and namespace.  A cursor in a
+     * transaction is always killed before close returns.  Closing an asynchronous cursor never waits for it to be killed, so this
+     * has no effect on them.
+     *
+     * @param killCursorsInBackground true if cursors should be killed in the background
+     * @return this
+     * @since 3.9
+     */
+    public FindOptions killCursorsInBackground(final boolean killCursorsInBackground) {
+        this.killCursorsInBackground = killCursorsInBackground;
+        return this;
+    }
+
+    /**
+     * Gets whether each cursor decodes all of its results into a single instance.  The default is false.
+     *
+     * @return true if results are reused
+     * @since 3.9
+     */
+    public boolean isReuseResults() {
+        return reuseResults;
+    }
+
+    /**
+     * Sets whether each cursor decodes all of its results into a single instance, rather than allocating a new one per document, so that
+     * long scans create next to no garbage.  Each result is then only valid until the next one is read from the cursor, so results must
+     * not be kept or collected.  Documents are decoded one at a time as the cursor reaches them, so any decode pool is ignored.
+     *
+     * <p>Results are only reused if their codec is a {@link org.bson.codecs.ReusableDecoder}, such as the codecs for {@code Document}
+     * and for POJOs, and if the server is at least version 3.2.  Otherwise, they're decoded as usual.</p>
+     *
+     * @param reuseResults true if results should be reused
+     * @return this
+     * @since 3.9
+     */
+    public FindOptions reuseResults(final boolean reuseResults) {
+        this.reuseResults = reuseResults;
+        return this;
+    }
+
     @Override
     public String toString() {
         return "FindOptions{"
@@ -628,6 +802,12 @@ public final class FindOptions {
                 + ", returnKey=" + returnKey
                 + ", showRecordId=" + showRecordId
                 + ", snapshot=" + snapshot
+                + ", prefetchThreshold=" + prefetchThreshold
+                + ", maxBufferedBytes=" + maxBufferedBytes
+                + ", bufferBudget=" + bufferBudget
+                + ", decodePool=" + decodePool
+                + ", killCursorsInBackground=" + killCursorsInBackground
+                + ", reuseResults=" + reuseResults
                 + "}";
     }
 }
@@ -18,6 +18,8 @@ package com.mongodb.client.model;
 
 import com.mongodb.lang.Nullable;
 
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+
 /**
  * The options to apply to an operation that inserts multiple documents into a collection.
  *
@@ -28,6 +30,8 @@ import com.mongodb.lang.Nullable;
 public final class InsertManyOptions {
     private boolean ordered = true;
     private Boolean bypassDocumentValidation;
+    private int parallelism = 1;
+    private int maxBufferedDocuments = 1000;
 
     /**
      * Gets whether the documents should be inserted in the order provided, stopping on the first failed insertion. The default is true.
@@ -75,11 +79,68 @@ public final class InsertManyOptions {
         return this;
     }
 
+    /**
+     * Gets the maximum number of connections on which unordered insertions are sent at the same time.  The default is 1.
+     *
+     * @return the parallelism
+     * @see #parallelism(int)
+     * @since 3.9
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the maximum number of connections on which unordered insertions are sent at the same time.  If greater than 1, and the
+     * documents are neither inserted in order nor in an explicit session, they're divided into that many contiguous parts, which are
+     * inserted concurrently as separate operations, each with its own connection from the pool.  Write errors are reported with the
+     * indexes of the documents in the original list.
+     *
+     * <p>This is ignored by the asynchronous driver.</p>
+     *
+     * @param parallelism the parallelism, which must be greater than 0
+     * @return this
+     * @since 3.9
+     */
+    public InsertManyOptions parallelism(final int parallelism) {
+        isTrueArgument("parallelism > 0", parallelism > 0);
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of documents that are read from an iterator or observable before they're sent.  The default is 1000.
+     *
+     * @return the maximum number of buffered documents
+     * @see #maxBufferedDocuments(int)
+     * @since 3.9
+     */
+    public int getMaxBufferedDocuments() {
+        return maxBufferedDocuments;
+    }
+
+    /**
+     * Sets the maximum number of documents that are read from an iterator or observable before they're sent.  The documents are read
+     * lazily and sent in parts of at most this many, each split into batches as usual, so only the documents of one part are held in
+     * memory at a time.  It's not used when the documents are given as a list.
+     *
+     * @param maxBufferedDocuments the maximum number of buffered documents, which must be greater than 0
+     * @return this
+     * @since 3.9
+     */
+    public InsertManyOptions maxBufferedDocuments(final int maxBufferedDocuments) {
+        isTrueArgument("maxBufferedDocuments > 0", maxBufferedDocuments > 0);
+        this.maxBufferedDocuments = maxBufferedDocuments;
+        return this;
+    }
+
     @Override
     public String toString() {
         return "InsertManyOptions{"
                 + "ordered=" + ordered
                 + ", bypassDocumentValidation=" + bypassDocumentValidation
+                + ", parallelism=" + parallelism
+                + ", maxBufferedDocuments=" + maxBufferedDocuments
                 + '}';
     }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client.model;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * The options to apply to a partitioned find, which splits the documents matching a filter into ranges of the values of a field so that
+ * the ranges can be read concurrently.
+ *
+ * <p>The split points are chosen from a random sample of the matching documents, taken with the {@code $sample} aggregation stage, so
+ * the partitions are only approximately equal in size.  The more samples are taken per partition the more even the partitions, at the
+ * cost of a larger sample.</p>
+ *
+ * @since 3.9
+ * @mongodb.driver.manual reference/operator/aggregation/sample/ $sample
+ * @mongodb.server.release 3.2
+ */
+public class PartitionedFindOptions {
+    private int partitions = Runtime.getRuntime().availableProcessors();
+    private String partitionField = "_id";
+    private int samplesPerPartition = 10;
+
+    /**
+     * Gets the number of partitions to split the documents into.  The default is the number of available processors.
+     *
+     * @return the number of partitions
+     */
+    public int getPartitions() {
+        return partitions;
+    }
+
+    /**
+     * Sets the number of partitions to split the documents into.  Fewer partitions may be returned if the sample doesn't contain enough
+     * distinct values of the partition field.
+     *
+     * @param partitions the number of partitions, which must be greater than 0
+     * @return this
+     */
+    public PartitionedFindOptions partitions(final int partitions) {
+        isTrueArgument("partitions > 0", partitions > 0);
+        this.partitions = partitions;
+        return this;
+    }
+
+    /**
+     * Gets the name of the field whose values the documents are partitioned by.  The default is {@code _id}.
+     *
+     * @return the partition field
+     */
+    public String getPartitionField() {
+        return partitionField;
+    }
+
+    /**
+     * Sets the name of the field whose values the documents are partitioned by.  The field should be indexed, so that each partition can
+     * be read with a range scan of the index, and must not hold arrays.  It should also hold values of a single BSON type, such as the
+     * usual ObjectId of {@code _id}: since query comparisons don't match values of different types, every document in which the field is
+     * missing or of another type than the split points ends up in the first partition.
+     *
+     * @param partitionField the partition field, which may use dot notation
+     * @return this
+     */
+    public PartitionedFindOptions partitionField(final String partitionField) {
+        this.partitionField = notNull("partitionField", partitionField);
+        return this;
+    }
+
+    /**
+     * Gets the number of documents sampled per partition in order to choose the split points.  The default is 10.
+     *
+     * @return the number of samples per partition
+     */
+    public int getSamplesPerPartition() {
+        return samplesPerPartition;
+    }
+
+    /**
+     * Sets the number of documents sampled per partition in order to choose the split points.
+     *
+     * @param samplesPerPartition the number of samples per partition, which must be greater than 0
+     * @return this
+     */
+    public PartitionedFindOptions samplesPerPartition(final int samplesPerPartition) {
+        isTrueArgument("samplesPerPartition > 0", samplesPerPartition > 0);
+        this.samplesPerPartition = samplesPerPartition;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "PartitionedFindOptions{"
+                + "partitions=" + partitions
+                + ", partitionField='" + partitionField + "'"
+                + ", samplesPerPartition=" + samplesPerPartition
+                + '}';
+    }
+}
@@ -26,10 +26,9 @@ import com.mongodb.bulk.WriteConcernError;
 import com.mongodb.internal.connection.IndexMap;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
-import java.util.TreeSet;
 
 import static com.mongodb.assertions.Assertions.notNull;
 import static java.util.Arrays.asList;
@@ -46,18 +45,25 @@ public class BulkWriteBatchCombiner {
     private int matchedCount;
     private int deletedCount;
     private Integer modifiedCount = 0;
-    private final Set<BulkWriteUpsert> writeUpserts = new TreeSet<BulkWriteUpsert>(new Comparator<BulkWriteUpsert>() {
+    private static final Comparator<BulkWriteUpsert> UPSERT_INDEX_COMPARATOR = new Comparator<BulkWriteUpsert>() {
         @Override
         public int compare(final BulkWriteUpsert o1, final BulkWriteUpsert o2) {
             return (o1.getIndex() < o2.getIndex()) ? -1 : ((o1.getIndex() == o2.getIndex()) ? 0 : 1);
         }
-    });
-    private final Set<BulkWriteError> writeErrors = new TreeSet<BulkWriteError>(new Comparator<BulkWriteError>() {
+    };
+    private static final Comparator<BulkWriteError> ERROR_INDEX_COMPARATOR = new Comparator<BulkWriteError>() {
         @Override
         public int compare(final BulkWriteError o1, final BulkWriteError o2) {
             return (o1.getIndex() < o2.getIndex()) ? -1 : ((o1.getIndex() == o2.getIndex()) ? 0 : 1);
         }
-    });
+    };
+
+    // Upserts and write errors are appended as they're merged, which is almost always in order of index, and are only sorted, keeping
+    // the first of any with the same index, if they weren't
+    private final List<BulkWriteUpsert> writeUpserts = new ArrayList<BulkWriteUpsert>();
+    private boolean writeUpsertsSorted = true;
+    private final List<BulkWriteError> writeErrors = new ArrayList<BulkWriteError>();
+    private boolean writeErrorsSorted = true;
     private final List<WriteConcernError> writeConcernErrors = new ArrayList<WriteConcernError>();
 
     /**
@@ -170,6 +176,10 @@ public class BulkWriteBatchCombiner {
      * @return the bulk write exception, or null if there were no errors
      */
     public MongoBulkWriteException getError() {
+        if (!writeErrorsSorted) {
+            sortByIndex(writeErrors, ERROR_INDEX_COMPARATOR);
+            writeErrorsSorted = true;
+        }
         return hasErrors() ? new MongoBulkWriteException(createResult(),
                                                     new ArrayList<BulkWriteError>(writeErrors),
                                                     writeConcernErrors.isEmpty() ? null
@@ -189,14 +199,21 @@ public class BulkWriteBatchCombiner {
 
     private void mergeWriteErrors(final List<BulkWriteError> newWriteErrors, final IndexMap indexMap) {
         for (BulkWriteError cur : newWriteErrors) {
-            this.writeErrors.add(new BulkWriteError(cur.getCode(), cur.getMessage(), cur.getDetails(), indexMap.map(cur.getIndex())
-            ));
+            int index = indexMap.map(cur.getIndex());
+            if (!writeErrors.isEmpty() && index <= writeErrors.get(writeErrors.size() - 1).getIndex()) {
+                writeErrorsSorted = false;
+            }
+            writeErrors.add(new BulkWriteError(cur.getCode(), cur.getMessage(), cur.getDetails(), index));
         }
     }
 
     private void mergeUpserts(final List<BulkWriteUpsert> upserts, final IndexMap indexMap) {
         for (BulkWriteUpsert bulkWriteUpsert : upserts) {
-            writeUpserts.add(new BulkWriteUpsert(indexMap.map(bulkWriteUpsert.getIndex()), bulkWriteUpsert.getId()));
+            int index = indexMap.map(bulkWriteUpsert.getIndex());
+            if (!writeUpserts.isEmpty() && index <= writeUpserts.get(writeUpserts.size() - 1).getIndex()) {
+                writeUpsertsSorted = false;
+            }
+            writeUpserts.add(new BulkWriteUpsert(index, bulkWriteUpsert.getId()));
         }
     }
 
@@ -207,12 +224,28 @@ public class BulkWriteBatchCombiner {
     }
 
     private BulkWriteResult createResult() {
+        if (!writeUpsertsSorted) {
+            sortByIndex(writeUpserts, UPSERT_INDEX_COMPARATOR);
+            writeUpsertsSorted = true;
+        }
         return writeConcern.isAcknowledged()
                ? BulkWriteResult.acknowledged(insertedCount, matchedCount, deletedCount, modifiedCount,
                                               new ArrayList<BulkWriteUpsert>(writeUpserts))
                : BulkWriteResult.unacknowledged();
     }
 
+    // the sort is stable, so the first of any items with the same index is kept
+    private static <T> void sortByIndex(final List<T> items, final Comparator<T> indexComparator) {
+        Collections.sort(items, indexComparator);
+        int size = 0;
+        for (int i = 0; i < items.size(); i++) {
+            if (size == 0 || indexComparator.compare(items.get(size - 1), items.get(i)) != 0) {
+                items.set(size++, items.get(i));
+            }
+        }
+        items.subList(size, items.size()).clear();
+    }
+
     private boolean hasWriteErrors() {
         return !writeErrors.isEmpty();
     }
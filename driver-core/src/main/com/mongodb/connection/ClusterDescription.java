@@ -29,6 +29,8 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static com.mongodb.assertions.Assertions.notNull;
 import static java.lang.String.format;
@@ -45,6 +47,7 @@ public class ClusterDescription {
     private final List<ServerDescription> serverDescriptions;
     private final ClusterSettings clusterSettings;
     private final ServerSettings serverSettings;
+    private volatile ServerIndex serverIndex;
 
     /**
      * Creates a new ClusterDescription.
@@ -205,12 +208,7 @@ public class ClusterDescription {
      */
     public Integer getLogicalSessionTimeoutMinutes() {
         Integer retVal = null;
-        for (ServerDescription cur : getServersByPredicate(new Predicate() {
-            @Override
-            public boolean apply(final ServerDescription serverDescription) {
-                return serverDescription.isPrimary() || serverDescription.isSecondary();
-            }
-        })) {
+        for (ServerDescription cur : getServerIndex().anyPrimaryOrSecondary) {
             if (cur.getLogicalSessionTimeoutMinutes() == null) {
                 return null;
             }
@@ -275,11 +273,7 @@ public class ClusterDescription {
      */
     @Deprecated
     public List<ServerDescription> getPrimaries() {
-        return getServersByPredicate(new Predicate() {
-            public boolean apply(final ServerDescription serverDescription) {
-                return serverDescription.isPrimary();
-            }
-        });
+        return new ArrayList<ServerDescription>(getServerIndex().primaries);
     }
 
     /**
@@ -290,11 +284,7 @@ public class ClusterDescription {
      */
     @Deprecated
     public List<ServerDescription> getSecondaries() {
-        return getServersByPredicate(new Predicate() {
-            public boolean apply(final ServerDescription serverDescription) {
-                return serverDescription.isSecondary();
-            }
-        });
+        return new ArrayList<ServerDescription>(getServerIndex().secondaries);
     }
 
     /**
@@ -306,11 +296,7 @@ public class ClusterDescription {
      */
     @Deprecated
     public List<ServerDescription> getSecondaries(final TagSet tagSet) {
-        return getServersByPredicate(new Predicate() {
-            public boolean apply(final ServerDescription serverDescription) {
-                return serverDescription.isSecondary() && serverDescription.hasTags(tagSet);
-            }
-        });
+        return new ArrayList<ServerDescription>(getServerIndex().getSecondaries(tagSet));
     }
 
     /**
@@ -321,11 +307,7 @@ public class ClusterDescription {
      */
     @Deprecated
     public List<ServerDescription> getAny() {
-        return getServersByPredicate(new Predicate() {
-            public boolean apply(final ServerDescription serverDescription) {
-                return serverDescription.isOk();
-            }
-        });
+        return new ArrayList<ServerDescription>(getServerIndex().any);
     }
 
     /**
@@ -336,11 +318,7 @@ public class ClusterDescription {
      */
     @Deprecated
     public List<ServerDescription> getAnyPrimaryOrSecondary() {
-        return getServersByPredicate(new Predicate() {
-            public boolean apply(final ServerDescription serverDescription) {
-                return serverDescription.isPrimary() || serverDescription.isSecondary();
-            }
-        });
+        return new ArrayList<ServerDescription>(getServerIndex().anyPrimaryOrSecondary);
     }
 
     /**
@@ -352,11 +330,7 @@ public class ClusterDescription {
      */
     @Deprecated
     public List<ServerDescription> getAnyPrimaryOrSecondary(final TagSet tagSet) {
-        return getServersByPredicate(new Predicate() {
-            public boolean apply(final ServerDescription serverDescription) {
-                return (serverDescription.isPrimary() || serverDescription.isSecondary()) && serverDescription.hasTags(tagSet);
-            }
-        });
+        return new ArrayList<ServerDescription>(getServerIndex().getAnyPrimaryOrSecondary(tagSet));
     }
 
     @Override
@@ -423,7 +397,8 @@ public class ClusterDescription {
         boolean apply(ServerDescription serverDescription);
     }
 
-    private List<ServerDescription> getServersByPredicate(final Predicate predicate) {
+    private static List<ServerDescription> getServersByPredicate(final List<ServerDescription> serverDescriptions,
+                                                                 final Predicate predicate) {
         List<ServerDescription> membersByTag = new ArrayList<ServerDescription>();
 
         for (final ServerDescription cur : serverDescriptions) {
@@ -434,4 +409,76 @@ public class ClusterDescription {
 
         return membersByTag;
     }
+
+    // Built on first use, since the intermediate descriptions created during composite server selection rarely need all of it.  Two
+    // threads racing to build it each produce an identical index, so no locking is needed.
+    private ServerIndex getServerIndex() {
+        ServerIndex localServerIndex = serverIndex;
+        if (localServerIndex == null) {
+            localServerIndex = new ServerIndex(serverDescriptions);
+            serverIndex = localServerIndex;
+        }
+        return localServerIndex;
+    }
+
+    /**
+     * The servers of this description, indexed by the roles that server selection filters on.  Lists filtered by tag set are computed
+     * on demand and then kept for the lifetime of the description.  The lists are shared, so the public getters return copies of them,
+     * which callers are free to modify.
+     */
+    private static final class ServerIndex {
+        private final List<ServerDescription> primaries;
+        private final List<ServerDescription> secondaries;
+        private final List<ServerDescription> any;
+        private final List<ServerDescription> anyPrimaryOrSecondary;
+        private final ConcurrentMap<TagSet, List<ServerDescription>> secondariesByTagSet =
+                new ConcurrentHashMap<TagSet, List<ServerDescription>>();
+        private final ConcurrentMap<TagSet, List<ServerDescription>> anyPrimaryOrSecondaryByTagSet =
+                new ConcurrentHashMap<TagSet, List<ServerDescription>>();
+
+        ServerIndex(final List<ServerDescription> serverDescriptions) {
+            List<ServerDescription> primaries = new ArrayList<ServerDescription>();
+            List<ServerDescription> secondaries = new ArrayList<ServerDescription>();
+            List<ServerDescription> any = new ArrayList<ServerDescription>();
+            List<ServerDescription> anyPrimaryOrSecondary = new ArrayList<ServerDescription>();
+            for (ServerDescription cur : serverDescriptions) {
+                if (cur.isOk()) {
+                    any.add(cur);
+                }
+                if (cur.isPrimary()) {
+                    primaries.add(cur);
+                    anyPrimaryOrSecondary.add(cur);
+                } else if (cur.isSecondary()) {
+                    secondaries.add(cur);
+                    anyPrimaryOrSecondary.add(cur);
+                }
+            }
+            this.primaries = Collections.unmodifiableList(primaries);
+            this.secondaries = Collections.unmodifiableList(secondaries);
+            this.any = Collections.unmodifiableList(any);
+            this.anyPrimaryOrSecondary = Collections.unmodifiableList(anyPrimaryOrSecondary);
+        }
+
+        List<ServerDescription> getSecondaries(final TagSet tagSet) {
+            return getByTagSet(secondariesByTagSet, secondaries, tagSet);
+        }
+
+        List<ServerDescription> getAnyPrimaryOrSecondary(final TagSet tagSet) {
+            return getByTagSet(anyPrimaryOrSecondaryByTagSet, anyPrimaryOrSecondary, tagSet);
+        }
+
+        private static List<ServerDescription> getByTagSet(final ConcurrentMap<TagSet, List<ServerDescription>> cache,
+                                                           final List<ServerDescription> servers, final TagSet tagSet) {
+            List<ServerDescription> serversWithTags = cache.get(tagSet);
+            if (serversWithTags == null) {
+                serversWithTags = Collections.unmodifiableList(getServersByPredicate(servers, new Predicate() {
+                    public boolean apply(final ServerDescription serverDescription) {
+                        return serverDescription.hasTags(tagSet);
+                    }
+                }));
+                cache.putIfAbsent(tagSet, serversWithTags);
+            }
+            return serversWithTags;
+        }
+    }
 }
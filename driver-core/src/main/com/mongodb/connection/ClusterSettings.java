@@ -21,6 +21,7 @@ import com.mongodb.ServerAddress;
 import com.mongodb.annotations.Immutable;
 import com.mongodb.annotations.NotThreadSafe;
 import com.mongodb.event.ClusterListener;
+import com.mongodb.lang.Nullable;
 import com.mongodb.selector.CompositeServerSelector;
 import com.mongodb.selector.LatencyMinimizingServerSelector;
 import com.mongodb.selector.ServerSelector;
@@ -47,6 +48,7 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 @Immutable
 public final class ClusterSettings {
     private final List<ServerAddress> hosts;
+    private final String srvHost;
     private final ClusterConnectionMode mode;
     private final ClusterType requiredClusterType;
     private final String requiredReplicaSetName;
@@ -83,6 +85,7 @@ public final class ClusterSettings {
     @NotThreadSafe
     public static final class Builder {
         private List<ServerAddress> hosts = singletonList(new ServerAddress());
+        private String srvHost;
         private ClusterConnectionMode mode;
         private ClusterType requiredClusterType = ClusterType.UNKNOWN;
         private String requiredReplicaSetName;
@@ -109,6 +112,7 @@ public final class ClusterSettings {
             notNull("clusterSettings", clusterSettings);
             description = clusterSettings.description;
             hosts = clusterSettings.hosts;
+            srvHost = clusterSettings.srvHost;
             mode = clusterSettings.mode;
             requiredReplicaSetName = clusterSettings.requiredReplicaSetName;
             requiredClusterType = clusterSettings.requiredClusterType;
@@ -151,6 +155,19 @@ public final class ClusterSettings {
             return this;
         }
 
+        /**
+         * Sets the host name whose SRV records supplied the hosts.  When connected to a sharded cluster, the SRV records of this host
+         * are polled in the background, and mongos routers added to or removed from them are added to or removed from the cluster.
+         *
+         * @param srvHost the SRV host name, which may be null
+         * @return this
+         * @since 3.9
+         */
+        public Builder srvHost(@Nullable final String srvHost) {
+            this.srvHost = srvHost;
+            return this;
+        }
+
         /**
          * Sets the mode for this cluster.
          *
@@ -271,6 +288,7 @@ public final class ClusterSettings {
                 }
                 mode(ClusterConnectionMode.MULTIPLE).hosts(seedList);
             }
+            srvHost(connectionString.getSrvHost());
             requiredReplicaSetName(connectionString.getRequiredReplicaSetName());
 
             Integer maxConnectionPoolSize = connectionString.getMaxConnectionPoolSize();
@@ -336,6 +354,17 @@ public final class ClusterSettings {
         return hosts;
     }
 
+    /**
+     * Gets the host name whose SRV records supplied the hosts, if any.
+     *
+     * @return the SRV host name, or null if the hosts were not resolved from SRV records
+     * @since 3.9
+     */
+    @Nullable
+    public String getSrvHost() {
+        return srvHost;
+    }
+
     /**
      * Gets the mode.
      *
@@ -476,6 +505,9 @@ public final class ClusterSettings {
         if (!hosts.equals(that.hosts)) {
             return false;
         }
+        if (srvHost != null ? !srvHost.equals(that.srvHost) : that.srvHost != null) {
+            return false;
+        }
         if (mode != that.mode) {
             return false;
         }
@@ -499,6 +531,7 @@ public final class ClusterSettings {
     @Override
     public int hashCode() {
         int result = hosts.hashCode();
+        result = 31 * result + (srvHost != null ? srvHost.hashCode() : 0);
         result = 31 * result + mode.hashCode();
         result = 31 * result + requiredClusterType.hashCode();
         result = 31 * result + (requiredReplicaSetName != null ? requiredReplicaSetName.hashCode() : 0);
@@ -515,6 +548,7 @@ public final class ClusterSettings {
     public String toString() {
         return "{"
                + "hosts=" + hosts
+               + ", srvHost=" + srvHost
                + ", mode=" + mode
                + ", requiredClusterType=" + requiredClusterType
                + ", requiredReplicaSetName='" + requiredReplicaSetName + '\''
@@ -564,6 +598,7 @@ public final class ClusterSettings {
 
         description = builder.description;
         hosts = builder.hosts;
+        srvHost = builder.srvHost;
         mode = builder.mode != null ? builder.mode : hosts.size() == 1 ? ClusterConnectionMode.SINGLE : ClusterConnectionMode.MULTIPLE;
         requiredReplicaSetName = builder.requiredReplicaSetName;
         requiredClusterType = builder.requiredClusterType;
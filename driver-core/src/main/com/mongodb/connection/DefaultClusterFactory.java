@@ -175,13 +175,43 @@ public final class DefaultClusterFactory implements ClusterFactory {
                                  final CommandListener commandListener, final String applicationName,
                                  final MongoDriverInformation mongoDriverInformation,
                                  final List<MongoCompressor> compressorList) {
+        return createCluster(clusterSettings, serverSettings, connectionPoolSettings, streamFactory, heartbeatStreamFactory, credentialList,
+                commandListener, applicationName, mongoDriverInformation, compressorList, SocketSettings.builder().build());
+    }
+
+    /**
+     * Creates a cluster with the given settings.  The cluster mode will be based on the mode from the settings.
+     *
+     * @param clusterSettings         the cluster settings
+     * @param serverSettings          the server settings
+     * @param connectionPoolSettings  the connection pool settings
+     * @param streamFactory           the stream factory
+     * @param heartbeatStreamFactory  the heartbeat stream factory
+     * @param credentialList          the credential list
+     * @param commandListener         an optional listener for command-related events
+     * @param applicationName         an optional application name to associate with connections to the servers in this cluster
+     * @param mongoDriverInformation  the optional driver information associate with connections to the servers in this cluster
+     * @param compressorList          the list of compressors to request, in priority order
+     * @param heartbeatSocketSettings the socket settings of the heartbeat stream factory, which bound how long a heartbeat sent from the
+     *                                {@link ServerSettings#isSharedHeartbeatExecutorEnabled() shared executor} may take
+     * @return the cluster
+     *
+     * @since 3.9
+     */
+    public Cluster createCluster(final ClusterSettings clusterSettings, final ServerSettings serverSettings,
+                                 final ConnectionPoolSettings connectionPoolSettings, final StreamFactory streamFactory,
+                                 final StreamFactory heartbeatStreamFactory, final List<MongoCredential> credentialList,
+                                 final CommandListener commandListener, final String applicationName,
+                                 final MongoDriverInformation mongoDriverInformation,
+                                 final List<MongoCompressor> compressorList, final SocketSettings heartbeatSocketSettings) {
 
         ClusterId clusterId = new ClusterId(clusterSettings.getDescription());
 
 
         ClusterableServerFactory serverFactory = new DefaultClusterableServerFactory(clusterId, clusterSettings, serverSettings,
                 connectionPoolSettings, streamFactory, heartbeatStreamFactory, credentialList, commandListener, applicationName,
-                mongoDriverInformation != null ? mongoDriverInformation : MongoDriverInformation.builder().build(), compressorList);
+                mongoDriverInformation != null ? mongoDriverInformation : MongoDriverInformation.builder().build(), compressorList,
+                heartbeatSocketSettings);
 
         if (clusterSettings.getMode() == ClusterConnectionMode.SINGLE) {
             return new SingleServerCluster(clusterId, clusterSettings, serverFactory);
@@ -38,6 +38,8 @@ import static java.util.Collections.unmodifiableList;
 public class ServerSettings {
     private final long heartbeatFrequencyMS;
     private final long minHeartbeatFrequencyMS;
+    private final boolean sharedHeartbeatExecutorEnabled;
+    private final boolean adaptiveHeartbeatFrequencyEnabled;
     private final List<ServerListener> serverListeners;
     private final List<ServerMonitorListener> serverMonitorListeners;
 
@@ -68,6 +70,8 @@ public class ServerSettings {
     public static final class Builder {
         private long heartbeatFrequencyMS = 10000;
         private long minHeartbeatFrequencyMS = 500;
+        private boolean sharedHeartbeatExecutorEnabled;
+        private boolean adaptiveHeartbeatFrequencyEnabled;
         private List<ServerListener> serverListeners = new ArrayList<ServerListener>();
         private List<ServerMonitorListener> serverMonitorListeners = new ArrayList<ServerMonitorListener>();
 
@@ -87,6 +91,8 @@ public class ServerSettings {
             notNull("serverSettings", serverSettings);
             heartbeatFrequencyMS = serverSettings.heartbeatFrequencyMS;
             minHeartbeatFrequencyMS = serverSettings.minHeartbeatFrequencyMS;
+            sharedHeartbeatExecutorEnabled = serverSettings.sharedHeartbeatExecutorEnabled;
+            adaptiveHeartbeatFrequencyEnabled = serverSettings.adaptiveHeartbeatFrequencyEnabled;
             serverListeners = new ArrayList<ServerListener>(serverSettings.serverListeners);
             serverMonitorListeners = new ArrayList<ServerMonitorListener>(serverSettings.serverMonitorListeners);
             return this;
@@ -117,6 +123,45 @@ public class ServerSettings {
             return this;
         }
 
+        /**
+         * Sets whether servers are monitored from a small executor shared by all clients instead of from a dedicated thread per server.
+         *
+         * <p>When enabled, heartbeats are sent asynchronously, so the heartbeat stream factory must support asynchronous operations (as
+         * the async driver's stream factories do).  Servers whose heartbeat stream factory only supports blocking I/O continue to be
+         * monitored from a dedicated thread.  The default value is false.</p>
+         *
+         * <p>Each heartbeat, including opening its connection and the connection's handshake, times out after the connect timeout plus
+         * the read timeout of the heartbeat socket settings, as it effectively does on a dedicated thread, rather than after the heartbeat
+         * frequency.  If either timeout is zero (infinite), the heartbeat is bounded only by the heartbeat stream's own timeouts.</p>
+         *
+         * @param sharedHeartbeatExecutorEnabled true if heartbeats should run on the shared executor
+         * @return this
+         * @since 3.9
+         */
+        public Builder sharedHeartbeatExecutorEnabled(final boolean sharedHeartbeatExecutorEnabled) {
+            this.sharedHeartbeatExecutorEnabled = sharedHeartbeatExecutorEnabled;
+            return this;
+        }
+
+        /**
+         * Sets whether the time between heartbeats adapts to the stability of each server.
+         *
+         * <p>When enabled, a server whose description has just changed, or which has just started failing, is re-checked back to back
+         * at the minimum heartbeat frequency for a few heartbeats, while a server that has stayed healthy and unchanged for a long time
+         * is checked progressively less often than the heartbeat frequency, up to four times less often.  Secondaries are never
+         * checked less often than the heartbeat frequency, which the {@code maxStalenessSeconds} read preference option relies on.
+         * Requests for an immediate check of every server, made by operations waiting on server selection, are also sent at most
+         * once per minimum heartbeat frequency.  The default value is false.</p>
+         *
+         * @param adaptiveHeartbeatFrequencyEnabled true if the heartbeat frequency should adapt to the stability of each server
+         * @return this
+         * @since 3.9
+         */
+        public Builder adaptiveHeartbeatFrequencyEnabled(final boolean adaptiveHeartbeatFrequencyEnabled) {
+            this.adaptiveHeartbeatFrequencyEnabled = adaptiveHeartbeatFrequencyEnabled;
+            return this;
+        }
+
         /**
          * Add a server listener.
          *
@@ -189,6 +234,28 @@ public class ServerSettings {
         return timeUnit.convert(minHeartbeatFrequencyMS, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Gets whether servers are monitored from a small executor shared by all clients instead of from a dedicated thread per server.
+     * The default value is false.
+     *
+     * @return true if heartbeats run on the shared executor
+     * @since 3.9
+     */
+    public boolean isSharedHeartbeatExecutorEnabled() {
+        return sharedHeartbeatExecutorEnabled;
+    }
+
+    /**
+     * Gets whether the time between heartbeats adapts to the stability of each server.  The default value is false.
+     *
+     * @return true if the heartbeat frequency adapts to the stability of each server
+     * @see Builder#adaptiveHeartbeatFrequencyEnabled(boolean)
+     * @since 3.9
+     */
+    public boolean isAdaptiveHeartbeatFrequencyEnabled() {
+        return adaptiveHeartbeatFrequencyEnabled;
+    }
+
     /**
      * Gets the server listeners.  The default value is an empty list.
      *
@@ -226,6 +293,12 @@ public class ServerSettings {
         if (minHeartbeatFrequencyMS != that.minHeartbeatFrequencyMS) {
             return false;
         }
+        if (sharedHeartbeatExecutorEnabled != that.sharedHeartbeatExecutorEnabled) {
+            return false;
+        }
+        if (adaptiveHeartbeatFrequencyEnabled != that.adaptiveHeartbeatFrequencyEnabled) {
+            return false;
+        }
 
         if (!serverListeners.equals(that.serverListeners)) {
             return false;
@@ -241,6 +314,8 @@ public class ServerSettings {
     public int hashCode() {
         int result = (int) (heartbeatFrequencyMS ^ (heartbeatFrequencyMS >>> 32));
         result = 31 * result + (int) (minHeartbeatFrequencyMS ^ (minHeartbeatFrequencyMS >>> 32));
+        result = 31 * result + (sharedHeartbeatExecutorEnabled ? 1 : 0);
+        result = 31 * result + (adaptiveHeartbeatFrequencyEnabled ? 1 : 0);
         result = 31 * result + serverListeners.hashCode();
         result = 31 * result + serverMonitorListeners.hashCode();
         return result;
@@ -251,6 +326,8 @@ public class ServerSettings {
         return "ServerSettings{"
                + "heartbeatFrequencyMS=" + heartbeatFrequencyMS
                + ", minHeartbeatFrequencyMS=" + minHeartbeatFrequencyMS
+               + ", sharedHeartbeatExecutorEnabled=" + sharedHeartbeatExecutorEnabled
+               + ", adaptiveHeartbeatFrequencyEnabled=" + adaptiveHeartbeatFrequencyEnabled
                + ", serverListeners='" + serverListeners + '\''
                + ", serverMonitorListeners='" + serverMonitorListeners + '\''
                + '}';
@@ -259,6 +336,8 @@ public class ServerSettings {
     ServerSettings(final Builder builder) {
         heartbeatFrequencyMS = builder.heartbeatFrequencyMS;
         minHeartbeatFrequencyMS = builder.minHeartbeatFrequencyMS;
+        sharedHeartbeatExecutorEnabled = builder.sharedHeartbeatExecutorEnabled;
+        adaptiveHeartbeatFrequencyEnabled = builder.adaptiveHeartbeatFrequencyEnabled;
         serverListeners = unmodifiableList(builder.serverListeners);
         serverMonitorListeners = unmodifiableList(builder.serverMonitorListeners);
     }
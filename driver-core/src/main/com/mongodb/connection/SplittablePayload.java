@@ -16,8 +16,18 @@
 
 package com.mongodb.connection;
 
+import org.bson.BsonBinaryWriter;
 import org.bson.BsonDocument;
-
+import org.bson.FieldNameValidator;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonValueCodecProvider;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.SizeEstimatingEncoder;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.io.BasicOutputBuffer;
+
+import java.util.Arrays;
 import java.util.List;
 
 import static com.mongodb.assertions.Assertions.isTrue;
@@ -25,6 +35,7 @@ import static com.mongodb.assertions.Assertions.notNull;
 import static com.mongodb.connection.SplittablePayload.Type.INSERT;
 import static com.mongodb.connection.SplittablePayload.Type.REPLACE;
 import static com.mongodb.connection.SplittablePayload.Type.UPDATE;
+import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
 
 /**
  * A Splittable payload for write commands.
@@ -41,8 +52,14 @@ import static com.mongodb.connection.SplittablePayload.Type.UPDATE;
  * @since 3.6
  */
 public final class SplittablePayload {
+    private static final CodecRegistry REGISTRY = fromProviders(new BsonValueCodecProvider());
+
     private final Type payloadType;
     private final List<BsonDocument> payload;
+    // shared with the splits of this payload, starting at encodedDocumentsOffset.  The entries of a split are cleared once the next
+    // split is taken from it, since its documents have then been sent
+    private final RawBsonDocument[] encodedDocuments;
+    private final int encodedDocumentsOffset;
     private int position = 0;
 
     /**
@@ -77,8 +94,15 @@ public final class SplittablePayload {
      * @param payload the payload
      */
     public SplittablePayload(final Type payloadType, final List<BsonDocument> payload) {
+        this(payloadType, payload, new RawBsonDocument[notNull("payload", payload).size()], 0);
+    }
+
+    private SplittablePayload(final Type payloadType, final List<BsonDocument> payload, final RawBsonDocument[] encodedDocuments,
+                              final int encodedDocumentsOffset) {
         this.payloadType = notNull("batchType", payloadType);
         this.payload = notNull("payload", payload);
+        this.encodedDocuments = encodedDocuments;
+        this.encodedDocumentsOffset = encodedDocumentsOffset;
     }
 
     /**
@@ -108,6 +132,41 @@ public final class SplittablePayload {
         return payload;
     }
 
+    /**
+     * Gets the document at the given index of the payload encoded as BSON.  Each document is encoded the first time that it's requested,
+     * from this payload or any of its splits, and the encoded bytes are then reused, so that a document is encoded only once however many
+     * times it's sent, whether because it didn't fit in the message with the documents before it or because the command is retried.  If
+     * the document's codec is a {@link SizeEstimatingEncoder}, the document is encoded into a buffer of the estimated size.
+     *
+     * @param index              the index of the document in the payload
+     * @param fieldNameValidator the field name validator to apply when the document is encoded
+     * @return the encoded document
+     * @since 3.9
+     */
+    @SuppressWarnings("unchecked")
+    public RawBsonDocument getEncodedDocument(final int index, final FieldNameValidator fieldNameValidator) {
+        RawBsonDocument encodedDocument = encodedDocuments[encodedDocumentsOffset + index];
+        if (encodedDocument == null) {
+            BsonDocument document = payload.get(index);
+            if (document instanceof RawBsonDocument) {
+                encodedDocument = (RawBsonDocument) document;
+            } else {
+                Codec<BsonDocument> codec = getCodec(document);
+                EncoderContext encoderContext = EncoderContext.builder().build();
+                int sizeUpperBound = codec instanceof SizeEstimatingEncoder
+                        ? ((SizeEstimatingEncoder<BsonDocument>) codec).getEncodedSizeUpperBound(document, encoderContext)
+                        : -1;
+                BasicOutputBuffer buffer = sizeUpperBound > 0 ? new BasicOutputBuffer(sizeUpperBound) : new BasicOutputBuffer();
+                codec.encode(new BsonBinaryWriter(buffer, fieldNameValidator), document, encoderContext);
+                // an exact estimate leaves the buffer full, so it can be used as is rather than copied
+                encodedDocument = buffer.getPosition() == buffer.getInternalBuffer().length
+                        ? new RawBsonDocument(buffer.getInternalBuffer()) : new RawBsonDocument(buffer.toByteArray());
+            }
+            encodedDocuments[encodedDocumentsOffset + index] = encodedDocument;
+        }
+        return encodedDocument;
+    }
+
     /**
      * @return the current position in the payload
      */
@@ -131,12 +190,16 @@ public final class SplittablePayload {
     }
 
     /**
+     * Gets the next split.  The encoded documents before the current position are released, so that a bulk write doesn't keep every
+     * document that it has sent in memory until it completes.
+     *
      * @return a new SplittablePayload containing only the values after the current position.
      */
     public SplittablePayload getNextSplit() {
         isTrue("hasAnotherSplit", hasAnotherSplit());
+        Arrays.fill(encodedDocuments, encodedDocumentsOffset, encodedDocumentsOffset + position, null);
         List<BsonDocument> nextPayLoad = payload.subList(position, payload.size());
-        return new SplittablePayload(payloadType, nextPayLoad);
+        return new SplittablePayload(payloadType, nextPayLoad, encodedDocuments, encodedDocumentsOffset + position);
     }
 
     /**
@@ -145,4 +208,9 @@ public final class SplittablePayload {
     public boolean isEmpty() {
         return payload.isEmpty();
     }
+
+    @SuppressWarnings("unchecked")
+    private static Codec<BsonDocument> getCodec(final BsonDocument document) {
+        return (Codec<BsonDocument>) REGISTRY.get(document.getClass());
+    }
 }
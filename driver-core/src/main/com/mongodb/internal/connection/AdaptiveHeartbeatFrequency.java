@@ -0,0 +1,86 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.annotations.NotThreadSafe;
+import com.mongodb.connection.ServerDescription;
+import com.mongodb.connection.ServerSettings;
+
+import static com.mongodb.assertions.Assertions.notNull;
+import static com.mongodb.connection.ServerType.REPLICA_SET_SECONDARY;
+import static com.mongodb.internal.connection.DefaultServerMonitor.shouldLogStageChange;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Computes how long a server monitor should wait before its next heartbeat.
+ *
+ * <p>Unless adaptive heartbeats are enabled in the server settings this is always the configured heartbeat frequency.  Otherwise, after
+ * any change in the server's description (including a new error) the next {@link #FAST_CHECKS_AFTER_CHANGE} checks run at the minimum
+ * heartbeat frequency, so that elections and failovers are noticed quickly, while a server that has been healthy and unchanged for a
+ * long time is checked progressively less often, up to {@link #MAX_STABLE_SLOWDOWN_FACTOR} times the configured heartbeat frequency.
+ * Secondaries never back off, as the staleness estimate used for {@code maxStalenessSeconds} adds the configured heartbeat frequency to
+ * the time since their last heartbeat.</p>
+ */
+@NotThreadSafe
+final class AdaptiveHeartbeatFrequency {
+    static final int FAST_CHECKS_AFTER_CHANGE = 5;
+    static final int STABLE_CHECKS_PER_SLOWDOWN_STEP = 6;
+    static final int MAX_STABLE_SLOWDOWN_FACTOR = 4;
+
+    private final ServerSettings serverSettings;
+    private int fastChecksRemaining;
+    private int stableChecks;
+
+    AdaptiveHeartbeatFrequency(final ServerSettings serverSettings) {
+        this.serverSettings = notNull("serverSettings", serverSettings);
+    }
+
+    /**
+     * Records the outcome of a heartbeat and returns the time to wait before the next one.
+     *
+     * @param previous the server description before the heartbeat
+     * @param current  the server description after the heartbeat
+     * @return the time to wait in nanoseconds
+     */
+    long nextIntervalNanos(final ServerDescription previous, final ServerDescription current) {
+        long heartbeatFrequencyNanos = serverSettings.getHeartbeatFrequency(NANOSECONDS);
+        if (!serverSettings.isAdaptiveHeartbeatFrequencyEnabled()) {
+            return heartbeatFrequencyNanos;
+        }
+
+        if (shouldLogStageChange(previous, current)) {
+            fastChecksRemaining = FAST_CHECKS_AFTER_CHANGE;
+            stableChecks = 0;
+        }
+
+        if (fastChecksRemaining > 0) {
+            fastChecksRemaining--;
+            return serverSettings.getMinHeartbeatFrequency(NANOSECONDS);
+        }
+
+        // only back off from servers that are reachable: an unreachable one should be noticed as soon as it comes back.  Secondaries keep
+        // the configured frequency, as max staleness selection assumes that is how stale their last heartbeat can be
+        if (!current.isOk() || current.getType() == REPLICA_SET_SECONDARY) {
+            stableChecks = 0;
+            return heartbeatFrequencyNanos;
+        }
+
+        stableChecks++;
+        int slowdownFactor = Math.min(MAX_STABLE_SLOWDOWN_FACTOR, 1 + stableChecks / STABLE_CHECKS_PER_SLOWDOWN_STEP);
+        return heartbeatFrequencyNanos * slowdownFactor;
+    }
+}
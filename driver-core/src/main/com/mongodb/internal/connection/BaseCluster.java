@@ -75,10 +75,12 @@ abstract class BaseCluster implements Cluster {
     private final Deque<ServerSelectionRequest> waitQueue = new ConcurrentLinkedDeque<ServerSelectionRequest>();
     private final AtomicInteger waitQueueSize = new AtomicInteger(0);
     private final ClusterClock clusterClock = new ClusterClock();
+    private final AtomicReference<Long> lastConnectRequestNanos = new AtomicReference<Long>();
     private Thread waitQueueHandler;
 
     private volatile boolean isClosed;
     private volatile ClusterDescription description;
+    private volatile ServerSelectionCache serverSelectionCache;
 
     BaseCluster(final ClusterId clusterId, final ClusterSettings settings, final ClusterableServerFactory serverFactory) {
         this.clusterId = notNull("clusterId", clusterId);
@@ -125,7 +127,7 @@ abstract class BaseCluster implements Cluster {
                     selectionFailureLogged = true;
                 }
 
-                connect();
+                requestConnect();
 
                 currentPhase.await(Math.min(maxWaitTimeNanos - (curTimeNanos - startTimeNanos), getMinWaitTimeNanos()), NANOSECONDS);
 
@@ -194,7 +196,7 @@ abstract class BaseCluster implements Cluster {
                     selectionFailureLogged = true;
                 }
 
-                connect();
+                requestConnect();
 
                 currentPhase.await(Math.min(maxWaitTimeNanos - (curTimeNanos - startTimeNanos), getMinWaitTimeNanos()), NANOSECONDS);
 
@@ -223,6 +225,24 @@ abstract class BaseCluster implements Cluster {
 
     protected abstract void connect();
 
+    /**
+     * Asks every server monitor for an immediate check.  With adaptive heartbeats enabled, the request is dropped if another thread has
+     * already made one within the minimum heartbeat frequency.  When many operations are waiting on server selection at once they would
+     * otherwise each fan out to all the monitors, none of which will check any sooner than that anyway.  Monitors remember a request
+     * that arrives while they are mid-check, so dropping the duplicates loses nothing.
+     */
+    private void requestConnect() {
+        if (!serverFactory.getSettings().isAdaptiveHeartbeatFrequencyEnabled()) {
+            connect();
+            return;
+        }
+        long now = System.nanoTime();
+        Long last = lastConnectRequestNanos.get();
+        if ((last == null || now - last >= getMinWaitTimeNanos()) && lastConnectRequestNanos.compareAndSet(last, now)) {
+            connect();
+        }
+    }
+
     @Override
     public void close() {
         if (!isClosed()) {
@@ -331,14 +351,27 @@ abstract class BaseCluster implements Cluster {
 
 
     private Server selectRandomServer(final ServerSelector serverSelector, final ClusterDescription clusterDescription) {
-        List<ServerDescription> serverDescriptions = serverSelector.select(clusterDescription);
+        List<ServerDescription> serverDescriptions = getServerSelectionCache(clusterDescription).select(serverSelector);
         if (!serverDescriptions.isEmpty()) {
-            return getRandomServer(new ArrayList<ServerDescription>(serverDescriptions));
+            return getRandomServer(serverDescriptions);
         } else {
             return null;
         }
     }
 
+    // selections are only remembered for the current description, which is what nearly every caller passes
+    private ServerSelectionCache getServerSelectionCache(final ClusterDescription clusterDescription) {
+        ServerSelectionCache cache = serverSelectionCache;
+        if (cache != null && cache.getClusterDescription() == clusterDescription) {
+            return cache;
+        }
+        cache = new ServerSelectionCache(clusterDescription);
+        if (clusterDescription == description) {
+            serverSelectionCache = cache;
+        }
+        return cache;
+    }
+
     private ServerSelector getCompositeServerSelector(final ServerSelector serverSelector) {
         if (settings.getServerSelector() == null) {
             return serverSelector;
@@ -348,7 +381,14 @@ abstract class BaseCluster implements Cluster {
     }
 
     // gets a random server that still exists in the cluster.  Returns null if there are none.
-    private ClusterableServer getRandomServer(final List<ServerDescription> serverDescriptions) {
+    private ClusterableServer getRandomServer(final List<ServerDescription> selectedServerDescriptions) {
+        // the selected list may be shared, so only copy it in the rare case of a server having been removed since it was selected
+        ClusterableServer selectedServer = getServer(selectedServerDescriptions.get(getRandom().nextInt(selectedServerDescriptions.size()))
+                                                             .getAddress());
+        if (selectedServer != null) {
+            return selectedServer;
+        }
+        List<ServerDescription> serverDescriptions = new ArrayList<ServerDescription>(selectedServerDescriptions);
         while (!serverDescriptions.isEmpty()) {
             int serverPos = getRandom().nextInt(serverDescriptions.size());
             ClusterableServer server = getServer(serverDescriptions.get(serverPos).getAddress());
@@ -489,7 +529,7 @@ abstract class BaseCluster implements Cluster {
 
                 // if there are any waiters that were not satisfied, connect
                 if (waitTimeNanos < Long.MAX_VALUE) {
-                    connect();
+                    requestConnect();
                 }
 
                 try {
@@ -22,6 +22,8 @@ import org.bson.BsonElement;
 import org.bson.BsonMaximumSizeExceededException;
 import org.bson.BsonValue;
 import org.bson.BsonWriter;
+import org.bson.FieldNameValidator;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.BsonValueCodecProvider;
 import org.bson.codecs.Codec;
 import org.bson.codecs.EncoderContext;
@@ -46,17 +48,32 @@ final class BsonWriterHelper {
     }
 
     static void writePayloadArray(final BsonWriter writer, final BsonOutput bsonOutput, final MessageSettings settings,
-                                  final int messageStartPosition, final SplittablePayload payload) {
+                                  final int messageStartPosition, final SplittablePayload payload,
+                                  final FieldNameValidator payloadFieldNameValidator) {
         writer.writeStartArray(payload.getPayloadName());
-        writePayload(writer, bsonOutput, getDocumentMessageSettings(settings), messageStartPosition, payload);
+        writePayload(writer, bsonOutput, getDocumentMessageSettings(settings), messageStartPosition, payload, payloadFieldNameValidator);
         writer.writeEndArray();
     }
 
+    // Each document is encoded once, by the payload, and its bytes are copied into the message, so a document that's sent again in a
+    // later split or a retry isn't encoded again.  The copy is still checked after it's written, as an array element is larger than
+    // the document by its element header.
     static void writePayload(final BsonWriter writer, final BsonOutput bsonOutput, final MessageSettings settings,
-                             final int messageStartPosition, final SplittablePayload payload) {
+                             final int messageStartPosition, final SplittablePayload payload,
+                             final FieldNameValidator payloadFieldNameValidator) {
         MessageSettings payloadSettings = getPayloadMessageSettings(payload.getPayloadType(), settings);
         for (int i = 0; i < payload.getPayload().size(); i++) {
-            if (writeDocument(writer, bsonOutput, payloadSettings, payload.getPayload().get(i), messageStartPosition, i + 1)) {
+            // the limits are checked before each document is encoded and copied, so that a document that doesn't fit in this split
+            // is neither encoded before it's needed nor copied into the message only to be truncated
+            if (i + 1 > payloadSettings.getMaxBatchCount()) {
+                break;
+            }
+            RawBsonDocument document = payload.getEncodedDocument(i, payloadFieldNameValidator);
+            int documentSize = document.getByteBuffer().remaining();
+            if (exceedsLimits(payloadSettings, bsonOutput.getPosition() + documentSize - messageStartPosition, documentSize, i + 1)) {
+                break;
+            }
+            if (writeDocument(writer, bsonOutput, payloadSettings, document, messageStartPosition, i + 1)) {
                 payload.setPosition(i + 1);
             } else {
                 break;
@@ -49,8 +49,15 @@ public final class CommandHelper {
 
     static void executeCommandAsync(final String database, final BsonDocument command, final InternalConnection internalConnection,
                                     final SingleResultCallback<BsonDocument> callback) {
+        executeCommandAsync(database, command, null, internalConnection, callback);
+    }
+
+    static void executeCommandAsync(final String database, final BsonDocument command, final ClusterClock clusterClock,
+                                    final InternalConnection internalConnection, final SingleResultCallback<BsonDocument> callback) {
+        SessionContext sessionContext = clusterClock == null ? NoOpSessionContext.INSTANCE
+                : new ClusterClockAdvancingSessionContext(NoOpSessionContext.INSTANCE, clusterClock);
         internalConnection.sendAndReceiveAsync(getCommandMessage(database, command, internalConnection), new BsonDocumentCodec(),
-                NoOpSessionContext.INSTANCE, new SingleResultCallback<BsonDocument>() {
+                sessionContext, new SingleResultCallback<BsonDocument>() {
                     @Override
                     public void onResult(final BsonDocument result, final Throwable t) {
                         if (t != null) {
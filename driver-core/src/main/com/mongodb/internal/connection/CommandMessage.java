@@ -141,7 +141,7 @@ public final class CommandMessage extends RequestMessage {
                 bsonOutput.writeInt32(0);         // size
                 bsonOutput.writeCString(payload.getPayloadName());
                 writePayload(new BsonBinaryWriter(bsonOutput, payloadFieldNameValidator), bsonOutput, getSettings(),
-                        messageStartPosition, payload);
+                        messageStartPosition, payload, payloadFieldNameValidator);
 
                 int payloadBsonOutputLength = bsonOutput.getPosition() - payloadBsonOutputStartPosition;
                 bsonOutput.writeInt32(payloadBsonOutputStartPosition, payloadBsonOutputLength);
@@ -174,7 +174,8 @@ public final class CommandMessage extends RequestMessage {
 
     private void addDocumentWithPayload(final BsonOutput bsonOutput, final int messageStartPosition) {
         BsonBinaryWriter bsonBinaryWriter = new BsonBinaryWriter(bsonOutput, getPayloadArrayFieldNameValidator());
-        BsonWriter bsonWriter = new SplittablePayloadBsonWriter(bsonBinaryWriter, bsonOutput, messageStartPosition, getSettings(), payload);
+        BsonWriter bsonWriter = new SplittablePayloadBsonWriter(bsonBinaryWriter, bsonOutput, messageStartPosition, getSettings(), payload,
+                payloadFieldNameValidator);
         BsonDocument commandToEncode = getCommandToEncode();
         getCodec(commandToEncode).encode(bsonWriter, commandToEncode, EncoderContext.builder().build());
     }
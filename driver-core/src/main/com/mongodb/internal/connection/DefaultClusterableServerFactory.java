@@ -25,6 +25,8 @@ import com.mongodb.connection.ClusterSettings;
 import com.mongodb.connection.ConnectionPoolSettings;
 import com.mongodb.connection.ServerId;
 import com.mongodb.connection.ServerSettings;
+import com.mongodb.connection.SocketSettings;
+import com.mongodb.connection.SocketStreamFactory;
 import com.mongodb.connection.StreamFactory;
 import com.mongodb.event.CommandListener;
 import com.mongodb.event.ServerListener;
@@ -32,6 +34,8 @@ import com.mongodb.event.ServerListener;
 import java.util.Collections;
 import java.util.List;
 
+import static com.mongodb.assertions.Assertions.notNull;
+
 public class DefaultClusterableServerFactory implements ClusterableServerFactory {
     private final ClusterId clusterId;
     private final ClusterSettings clusterSettings;
@@ -40,6 +44,7 @@ public class DefaultClusterableServerFactory implements ClusterableServerFactory
     private final StreamFactory streamFactory;
     private final List<MongoCredentialWithCache> credentialList;
     private final StreamFactory heartbeatStreamFactory;
+    private final SocketSettings heartbeatSocketSettings;
     private final CommandListener commandListener;
     private final String applicationName;
     private final MongoDriverInformation mongoDriverInformation;
@@ -51,6 +56,16 @@ public class DefaultClusterableServerFactory implements ClusterableServerFactory
                                            final List<MongoCredential> credentialList, final CommandListener commandListener,
                                            final String applicationName, final MongoDriverInformation mongoDriverInformation,
                                            final List<MongoCompressor> compressorList) {
+        this(clusterId, clusterSettings, serverSettings, connectionPoolSettings, streamFactory, heartbeatStreamFactory, credentialList,
+                commandListener, applicationName, mongoDriverInformation, compressorList, SocketSettings.builder().build());
+    }
+
+    public DefaultClusterableServerFactory(final ClusterId clusterId, final ClusterSettings clusterSettings,
+                                           final ServerSettings serverSettings, final ConnectionPoolSettings connectionPoolSettings,
+                                           final StreamFactory streamFactory, final StreamFactory heartbeatStreamFactory,
+                                           final List<MongoCredential> credentialList, final CommandListener commandListener,
+                                           final String applicationName, final MongoDriverInformation mongoDriverInformation,
+                                           final List<MongoCompressor> compressorList, final SocketSettings heartbeatSocketSettings) {
         this.clusterId = clusterId;
         this.clusterSettings = clusterSettings;
         this.serverSettings = serverSettings;
@@ -58,6 +73,7 @@ public class DefaultClusterableServerFactory implements ClusterableServerFactory
         this.streamFactory = streamFactory;
         this.credentialList = MongoCredentialWithCache.wrapCredentialList(credentialList);
         this.heartbeatStreamFactory = heartbeatStreamFactory;
+        this.heartbeatSocketSettings = notNull("heartbeatSocketSettings", heartbeatSocketSettings);
         this.commandListener = commandListener;
         this.applicationName = applicationName;
         this.mongoDriverInformation = mongoDriverInformation;
@@ -75,12 +91,18 @@ public class DefaultClusterableServerFactory implements ClusterableServerFactory
         ServerMonitorFactory serverMonitorFactory =
             new DefaultServerMonitorFactory(new ServerId(clusterId, serverAddress), serverSettings, clusterClock,
                     new InternalStreamConnectionFactory(heartbeatStreamFactory, Collections.<MongoCredentialWithCache>emptyList(),
-                            applicationName, mongoDriverInformation, Collections.<MongoCompressor>emptyList(), null), connectionPool);
+                            applicationName, mongoDriverInformation, Collections.<MongoCompressor>emptyList(), null), connectionPool,
+                    useSharedHeartbeatExecutor(), heartbeatSocketSettings);
 
         return new DefaultServer(new ServerId(clusterId, serverAddress), clusterSettings.getMode(), connectionPool,
                 new DefaultConnectionFactory(), serverMonitorFactory, serverListener, commandListener, clusterClock);
     }
 
+    // blocking socket streams can't be driven from the shared executor, so servers reached through them keep a dedicated monitor thread
+    private boolean useSharedHeartbeatExecutor() {
+        return serverSettings.isSharedHeartbeatExecutorEnabled() && !(heartbeatStreamFactory instanceof SocketStreamFactory);
+    }
+
     @Override
     public ServerSettings getSettings() {
         return serverSettings;
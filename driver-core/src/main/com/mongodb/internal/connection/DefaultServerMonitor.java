@@ -60,6 +60,7 @@ class DefaultServerMonitor implements ServerMonitor {
     private final Thread monitorThread;
     private final Lock lock = new ReentrantLock();
     private final Condition condition = lock.newCondition();
+    private boolean checkRequested; // guarded by lock
     private volatile boolean isClosed;
 
     DefaultServerMonitor(final ServerId serverId, final ServerSettings serverSettings,
@@ -87,6 +88,8 @@ class DefaultServerMonitor implements ServerMonitor {
     public void connect() {
         lock.lock();
         try {
+            // remembered so that a request arriving while a check is in progress is not lost
+            checkRequested = true;
             condition.signal();
         } finally {
             lock.unlock();
@@ -101,6 +104,7 @@ class DefaultServerMonitor implements ServerMonitor {
 
     class ServerMonitorRunnable implements Runnable {
         private final ExponentiallyWeightedMovingAverage averageRoundTripTime = new ExponentiallyWeightedMovingAverage(0.2);
+        private final AdaptiveHeartbeatFrequency heartbeatFrequency = new AdaptiveHeartbeatFrequency(serverSettings);
 
         @Override
         @SuppressWarnings("unchecked")
@@ -154,7 +158,7 @@ class DefaultServerMonitor implements ServerMonitor {
                         } catch (Throwable t) {
                             LOGGER.warn("Exception in monitor thread during notification of server description state change", t);
                         }
-                        waitForNext();
+                        waitForNext(heartbeatFrequency.nextIntervalNanos(previousServerDescription, currentServerDescription));
                     }
                 }
             } finally {
@@ -205,11 +209,11 @@ class DefaultServerMonitor implements ServerMonitor {
             }
         }
 
-        private void waitForNext() {
+        private void waitForNext(final long intervalNanos) {
             try {
-                long timeRemaining = waitForSignalOrTimeout();
+                long timeRemaining = waitForSignalOrTimeout(intervalNanos);
                 if (timeRemaining > 0) {
-                    long timeWaiting = serverSettings.getHeartbeatFrequency(NANOSECONDS) - timeRemaining;
+                    long timeWaiting = intervalNanos - timeRemaining;
                     long minimumNanosToWait = serverSettings.getMinHeartbeatFrequency(NANOSECONDS);
                     if (timeWaiting < minimumNanosToWait) {
                         long millisToSleep = MILLISECONDS.convert(minimumNanosToWait - timeWaiting, NANOSECONDS);
@@ -223,10 +227,12 @@ class DefaultServerMonitor implements ServerMonitor {
             }
         }
 
-        private long waitForSignalOrTimeout() throws InterruptedException {
+        private long waitForSignalOrTimeout(final long intervalNanos) throws InterruptedException {
             lock.lock();
             try {
-                return condition.awaitNanos(serverSettings.getHeartbeatFrequency(NANOSECONDS));
+                long timeRemaining = checkRequested ? intervalNanos : condition.awaitNanos(intervalNanos);
+                checkRequested = false;
+                return timeRemaining;
             } finally {
                 lock.unlock();
             }
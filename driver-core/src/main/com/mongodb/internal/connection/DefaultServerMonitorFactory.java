@@ -19,6 +19,7 @@ package com.mongodb.internal.connection;
 import com.mongodb.connection.ServerDescription;
 import com.mongodb.connection.ServerId;
 import com.mongodb.connection.ServerSettings;
+import com.mongodb.connection.SocketSettings;
 
 import static com.mongodb.assertions.Assertions.notNull;
 
@@ -28,19 +29,34 @@ class DefaultServerMonitorFactory implements ServerMonitorFactory {
     private final ClusterClock clusterClock;
     private final InternalConnectionFactory internalConnectionFactory;
     private final ConnectionPool connectionPool;
+    private final boolean useSharedHeartbeatExecutor;
+    private final SocketSettings heartbeatSocketSettings;
 
     DefaultServerMonitorFactory(final ServerId serverId, final ServerSettings settings,
                                 final ClusterClock clusterClock, final InternalConnectionFactory internalConnectionFactory,
                                 final ConnectionPool connectionPool) {
+        this(serverId, settings, clusterClock, internalConnectionFactory, connectionPool, false, SocketSettings.builder().build());
+    }
+
+    DefaultServerMonitorFactory(final ServerId serverId, final ServerSettings settings,
+                                final ClusterClock clusterClock, final InternalConnectionFactory internalConnectionFactory,
+                                final ConnectionPool connectionPool, final boolean useSharedHeartbeatExecutor,
+                                final SocketSettings heartbeatSocketSettings) {
         this.serverId = notNull("serverId", serverId);
         this.settings = notNull("settings", settings);
         this.clusterClock = notNull("clusterClock", clusterClock);
         this.internalConnectionFactory = notNull("internalConnectionFactory", internalConnectionFactory);
         this.connectionPool = notNull("connectionPool", connectionPool);
+        this.useSharedHeartbeatExecutor = useSharedHeartbeatExecutor;
+        this.heartbeatSocketSettings = notNull("heartbeatSocketSettings", heartbeatSocketSettings);
     }
 
     @Override
     public ServerMonitor create(final ChangeListener<ServerDescription> serverStateListener) {
+        if (useSharedHeartbeatExecutor) {
+            return new SharedExecutorServerMonitor(serverId, settings, heartbeatSocketSettings, clusterClock, serverStateListener,
+                    internalConnectionFactory, connectionPool, SharedHeartbeatExecutor.getExecutor());
+        }
         return new DefaultServerMonitor(serverId, settings, clusterClock, serverStateListener, internalConnectionFactory, connectionPool);
     }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.diagnostics.logging.Logger;
+import com.mongodb.diagnostics.logging.Loggers;
+import com.mongodb.internal.dns.DnsResolver;
+import com.mongodb.internal.thread.DaemonThreadFactory;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import static com.mongodb.assertions.Assertions.notNull;
+import static com.mongodb.internal.connection.ServerAddressHelper.createServerAddress;
+import static java.lang.String.format;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Periodically re-resolves the SRV records of a cluster's SRV host, and notifies a listener whenever the set of hosts changes.  A failed
+ * lookup is logged and otherwise ignored, so a DNS outage never removes servers from the cluster.
+ */
+@ThreadSafe
+final class DnsSrvRecordMonitor {
+    static final long DEFAULT_RESCAN_FREQUENCY_MS = 60000;
+
+    private static final Logger LOGGER = Loggers.getLogger("cluster");
+
+    /**
+     * Resolves the SRV records of a host.
+     */
+    interface SrvRecordResolver {
+        List<String> resolve(String srvHost);
+    }
+
+    private static final SrvRecordResolver DNS_SRV_RECORD_RESOLVER = new SrvRecordResolver() {
+        @Override
+        public List<String> resolve(final String srvHost) {
+            return DnsResolver.refreshHostFromSrvRecords(srvHost);
+        }
+    };
+
+    private final String srvHost;
+    private final long rescanFrequencyMS;
+    private final SrvRecordResolver resolver;
+    private final ChangeListener<Set<ServerAddress>> hostsListener;
+    private final ScheduledExecutorService executor;
+
+    // only accessed by the executor's single thread
+    private Set<ServerAddress> currentHosts;
+
+    DnsSrvRecordMonitor(final ClusterId clusterId, final String srvHost, final Set<ServerAddress> initialHosts,
+                        final ChangeListener<Set<ServerAddress>> hostsListener) {
+        this(clusterId, srvHost, initialHosts, DEFAULT_RESCAN_FREQUENCY_MS, DNS_SRV_RECORD_RESOLVER, hostsListener);
+    }
+
+    DnsSrvRecordMonitor(final ClusterId clusterId, final String srvHost, final Set<ServerAddress> initialHosts,
+                        final long rescanFrequencyMS, final SrvRecordResolver resolver,
+                        final ChangeListener<Set<ServerAddress>> hostsListener) {
+        this.srvHost = notNull("srvHost", srvHost);
+        this.currentHosts = unmodifiableSet(new LinkedHashSet<ServerAddress>(notNull("initialHosts", initialHosts)));
+        this.rescanFrequencyMS = rescanFrequencyMS;
+        this.resolver = notNull("resolver", resolver);
+        this.hostsListener = notNull("hostsListener", hostsListener);
+        this.executor = new ScheduledThreadPoolExecutor(1, new DaemonThreadFactory("cluster-srv-" + clusterId.getValue()));
+    }
+
+    void start() {
+        executor.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                rescan();
+            }
+        }, rescanFrequencyMS, rescanFrequencyMS, MILLISECONDS);
+    }
+
+    void close() {
+        executor.shutdownNow();
+    }
+
+    void rescan() {
+        Set<ServerAddress> resolvedHosts;
+        try {
+            resolvedHosts = new LinkedHashSet<ServerAddress>();
+            for (String host : resolver.resolve(srvHost)) {
+                resolvedHosts.add(createServerAddress(host));
+            }
+        } catch (Throwable t) {
+            LOGGER.warn(format("Exception while rescanning the SRV records of host %s", srvHost), t);
+            return;
+        }
+
+        // an empty answer is more likely to be a misbehaving DNS server than a cluster without any mongos
+        if (resolvedHosts.isEmpty() || resolvedHosts.equals(currentHosts)) {
+            return;
+        }
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info(format("SRV records of host %s changed from %s to %s", srvHost, currentHosts, resolvedHosts));
+        }
+        Set<ServerAddress> previousHosts = currentHosts;
+        currentHosts = unmodifiableSet(resolvedHosts);
+        try {
+            hostsListener.stateChanged(new ChangeEvent<Set<ServerAddress>>(previousHosts, currentHosts));
+        } catch (Throwable t) {
+            LOGGER.warn("Exception in SRV record monitor during notification of host change", t);
+        }
+    }
+}
@@ -18,14 +18,13 @@ package com.mongodb.internal.connection;
 
 import com.mongodb.MongoInternalException;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 import static com.mongodb.assertions.Assertions.isTrueArgument;
 
 /**
  * <p>Efficiently maps each integer in a set to another integer in a set, useful for merging bulk write errors when a bulk write must be
- * split into multiple batches. Has the ability to switch from a range-based to a hash-based map depending on the mappings that have
+ * split into multiple batches. Has the ability to switch from a range-based to an array-based map depending on the mappings that have
  * been added.</p>
  *
  * <p>This class should not be considered a part of the public API.</p>
@@ -69,28 +68,37 @@ public abstract class IndexMap {
      */
     public abstract int map(int index);
 
-    private static class HashBased extends IndexMap {
-        private final Map<Integer, Integer> indexMap = new HashMap<Integer, Integer>();
+    // Indexes are positions in a batch, so they're dense and an array indexed by them is smaller than a map, and doesn't box them
+    private static class ArrayBased extends IndexMap {
+        private static final int UNMAPPED = -1;
+        private int[] originalIndexes;
 
-        HashBased(final int startIndex, final int count) {
-            for (int i = startIndex; i < startIndex + count; i++) {
-                indexMap.put(i - startIndex, i);
+        ArrayBased(final int startIndex, final int count) {
+            originalIndexes = new int[Math.max(count * 2, 16)];
+            Arrays.fill(originalIndexes, count, originalIndexes.length, UNMAPPED);
+            for (int i = 0; i < count; i++) {
+                originalIndexes[i] = startIndex + i;
             }
         }
 
         @Override
         public IndexMap add(final int index, final int originalIndex) {
-            indexMap.put(index, originalIndex);
+            isTrueArgument("index", index >= 0);
+            if (index >= originalIndexes.length) {
+                int previousLength = originalIndexes.length;
+                originalIndexes = Arrays.copyOf(originalIndexes, Math.max(previousLength * 2, index + 1));
+                Arrays.fill(originalIndexes, previousLength, originalIndexes.length, UNMAPPED);
+            }
+            originalIndexes[index] = originalIndex;
             return this;
         }
 
         @Override
         public int map(final int index) {
-            Integer originalIndex = indexMap.get(index);
-            if (originalIndex == null) {
+            if (index < 0 || index >= originalIndexes.length || originalIndexes[index] == UNMAPPED) {
                 throw new MongoInternalException("no mapping found for index " + index);
             }
-            return originalIndex;
+            return originalIndexes[index];
         }
     }
 
@@ -118,9 +126,9 @@ public abstract class IndexMap {
                 count += 1;
                 return this;
             } else {
-                IndexMap hashBasedMap = new HashBased(startIndex, count);
-                hashBasedMap.add(index, originalIndex);
-                return hashBasedMap;
+                IndexMap arrayBasedMap = new ArrayBased(startIndex, count);
+                arrayBasedMap.add(index, originalIndex);
+                return arrayBasedMap;
             }
         }
 
@@ -34,6 +34,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -41,23 +42,29 @@ import java.util.concurrent.ConcurrentMap;
 
 import static com.mongodb.assertions.Assertions.isTrue;
 import static com.mongodb.connection.ClusterConnectionMode.MULTIPLE;
+import static com.mongodb.connection.ClusterType.SHARDED;
 import static com.mongodb.connection.ClusterType.UNKNOWN;
 import static com.mongodb.connection.ServerConnectionState.CONNECTING;
 import static com.mongodb.connection.ServerType.REPLICA_SET_GHOST;
 import static com.mongodb.connection.ServerType.SHARD_ROUTER;
 import static com.mongodb.connection.ServerType.STANDALONE;
+import static com.mongodb.internal.connection.DefaultServerMonitor.shouldLogStageChange;
 import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 /**
  * This class needs to be final because we are leaking a reference to "this" from the constructor
  */
 public final class MultiServerCluster extends BaseCluster {
     private static final Logger LOGGER = Loggers.getLogger("cluster");
+    // round trip time changes smaller than this fraction of the local threshold don't change which servers are eligible
+    private static final int ROUND_TRIP_TIME_TOLERANCE_DIVISOR = 10;
 
     private ClusterType clusterType;
     private String replicaSetName;
     private ObjectId maxElectionId;
     private Integer maxSetVersion;
+    private final DnsSrvRecordMonitor dnsSrvRecordMonitor;
 
     private final ConcurrentMap<ServerAddress, ServerTuple> addressToServerTupleMap =
     new ConcurrentHashMap<ServerAddress, ServerTuple>();
@@ -95,6 +102,14 @@ public final class MultiServerCluster extends BaseCluster {
         fireChangeEvent(new ClusterDescriptionChangedEvent(clusterId, newDescription,
                 new ClusterDescription(settings.getMode(), ClusterType.UNKNOWN, Collections.<ServerDescription>emptyList(),
                                               settings, serverFactory.getSettings())));
+
+        if (settings.getSrvHost() != null) {
+            dnsSrvRecordMonitor = new DnsSrvRecordMonitor(clusterId, settings.getSrvHost(),
+                    new LinkedHashSet<ServerAddress>(settings.getHosts()), new SrvHostsChangeListener());
+            dnsSrvRecordMonitor.start();
+        } else {
+            dnsSrvRecordMonitor = null;
+        }
     }
 
     @Override
@@ -108,6 +123,9 @@ public final class MultiServerCluster extends BaseCluster {
     public void close() {
         synchronized (this) {
             if (!isClosed()) {
+                if (dnsSrvRecordMonitor != null) {
+                    dnsSrvRecordMonitor.close();
+                }
                 for (final ServerTuple serverTuple : addressToServerTupleMap.values()) {
                     serverTuple.server.close();
                 }
@@ -135,6 +153,49 @@ public final class MultiServerCluster extends BaseCluster {
         }
     }
 
+    private final class SrvHostsChangeListener implements ChangeListener<Set<ServerAddress>> {
+        @Override
+        public void stateChanged(final ChangeEvent<Set<ServerAddress>> event) {
+            onSrvHostsChanged(event.getNewValue());
+        }
+    }
+
+    // Only the mongos routers of a sharded cluster are discovered through DNS: replica set members are discovered from isMaster
+    // responses, which always take precedence over the seed list
+    void onSrvHostsChanged(final Set<ServerAddress> hosts) {
+        ClusterDescription oldClusterDescription;
+        ClusterDescription newClusterDescription;
+        synchronized (this) {
+            if (isClosed() || (clusterType != SHARDED && clusterType != UNKNOWN)) {
+                return;
+            }
+
+            boolean changed = false;
+            for (ServerAddress host : hosts) {
+                if (!addressToServerTupleMap.containsKey(host)) {
+                    addServer(host);
+                    changed = true;
+                }
+            }
+            for (ServerAddress address : new ArrayList<ServerAddress>(addressToServerTupleMap.keySet())) {
+                if (!hosts.contains(address)) {
+                    if (LOGGER.isInfoEnabled()) {
+                        LOGGER.info(format("Server %s is no longer in the SRV records.  Removing it from client view of cluster.",
+                                           address));
+                    }
+                    removeServer(address);
+                    changed = true;
+                }
+            }
+            if (!changed) {
+                return;
+            }
+            oldClusterDescription = getCurrentDescription();
+            newClusterDescription = updateDescription();
+        }
+        fireChangeEvent(new ClusterDescriptionChangedEvent(getClusterId(), newClusterDescription, oldClusterDescription));
+    }
+
     private void onChange(final ServerDescriptionChangedEvent event) {
         ClusterDescription oldClusterDescription = null;
         ClusterDescription newClusterDescription = null;
@@ -160,6 +221,14 @@ public final class MultiServerCluster extends BaseCluster {
                 return;
             }
 
+            if (!isSelectionRelevantChange(serverTuple.description, newDescription)) {
+                if (LOGGER.isTraceEnabled()) {
+                    LOGGER.trace(format("Ignoring description changed event for server %s that does not affect server selection",
+                                        newDescription.getAddress()));
+                }
+                return;
+            }
+
             if (event.getNewDescription().isOk()) {
                 if (clusterType == UNKNOWN && newDescription.getType() != REPLICA_SET_GHOST) {
                     clusterType = newDescription.getClusterType();
@@ -334,6 +403,35 @@ public final class MultiServerCluster extends BaseCluster {
         }
     }
 
+    /**
+     * Returns whether the new description of a server differs from the one in the current cluster description in a way that could
+     * affect server selection or topology discovery.  Most heartbeats of a stable mongos only refresh its last update time and nudge its
+     * average round trip time, and for a cluster with hundreds of them building a new cluster description and waking every waiting
+     * selector for each of those is wasted work.
+     */
+    private boolean isSelectionRelevantChange(final ServerDescription current, final ServerDescription updated) {
+        // Replica set discovery depends on more than the reporting member's own description (e.g. whether a primary is currently
+        // known), and max staleness is computed from each member's last update time, so every replica set heartbeat is processed.
+        if (clusterType != SHARDED) {
+            return true;
+        }
+        if (shouldLogStageChange(current, updated)) {
+            return true;
+        }
+        if (current.getMaxDocumentSize() != updated.getMaxDocumentSize()
+                || current.getMinWireVersion() != updated.getMinWireVersion()
+                || current.getMaxWireVersion() != updated.getMaxWireVersion()) {
+            return true;
+        }
+        if (current.getLogicalSessionTimeoutMinutes() != null
+                ? !current.getLogicalSessionTimeoutMinutes().equals(updated.getLogicalSessionTimeoutMinutes())
+                : updated.getLogicalSessionTimeoutMinutes() != null) {
+            return true;
+        }
+        long roundTripTimeToleranceNanos = getSettings().getLocalThreshold(NANOSECONDS) / ROUND_TRIP_TIME_TOLERANCE_DIVISOR;
+        return Math.abs(current.getRoundTripTimeNanos() - updated.getRoundTripTimeNanos()) > roundTripTimeToleranceNanos;
+    }
+
     private ServerDescription getConnectingServerDescription(final ServerAddress serverAddress) {
         return ServerDescription.builder().state(CONNECTING).address(serverAddress).build();
     }
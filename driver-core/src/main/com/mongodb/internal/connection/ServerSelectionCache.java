@@ -0,0 +1,98 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.connection.ClusterDescription;
+import com.mongodb.connection.ServerDescription;
+import com.mongodb.selector.CompositeServerSelector;
+import com.mongodb.selector.LatencyMinimizingServerSelector;
+import com.mongodb.selector.ReadPreferenceServerSelector;
+import com.mongodb.selector.ServerAddressSelector;
+import com.mongodb.selector.ServerSelector;
+import com.mongodb.selector.WritableServerSelector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.mongodb.assertions.Assertions.notNull;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Remembers the servers that each of the driver's own selectors chose from a single cluster description.  Since a cluster description
+ * is immutable, a cache is never invalidated: the cluster replaces it with a new one whenever its description changes.
+ *
+ * <p>Only selectors whose choice is known to depend on nothing but the cluster description are cached, and they are keyed by equality
+ * rather than identity, since a new selector is usually created for each operation.  Application-provided selectors are always
+ * evaluated.</p>
+ */
+@ThreadSafe
+final class ServerSelectionCache {
+    static final int MAX_ENTRIES = 64;
+
+    private final ClusterDescription clusterDescription;
+    private final ConcurrentMap<ServerSelector, List<ServerDescription>> selectedServers =
+            new ConcurrentHashMap<ServerSelector, List<ServerDescription>>();
+
+    ServerSelectionCache(final ClusterDescription clusterDescription) {
+        this.clusterDescription = notNull("clusterDescription", clusterDescription);
+    }
+
+    ClusterDescription getClusterDescription() {
+        return clusterDescription;
+    }
+
+    /**
+     * Selects servers from the cluster description of this cache.
+     *
+     * @param serverSelector the selector
+     * @return the selected servers, which must not be modified
+     */
+    List<ServerDescription> select(final ServerSelector serverSelector) {
+        if (!isCacheable(serverSelector)) {
+            return serverSelector.select(clusterDescription);
+        }
+        List<ServerDescription> servers = selectedServers.get(serverSelector);
+        if (servers == null) {
+            servers = unmodifiableList(new ArrayList<ServerDescription>(serverSelector.select(clusterDescription)));
+            // a handful of read preferences account for nearly all selections, so there's no need for anything cleverer than a cap
+            if (selectedServers.size() < MAX_ENTRIES) {
+                selectedServers.putIfAbsent(serverSelector, servers);
+            }
+        }
+        return servers;
+    }
+
+    // exact class checks, since a subclass may override select
+    static boolean isCacheable(final ServerSelector serverSelector) {
+        if (serverSelector instanceof CompositeServerSelector) {
+            for (ServerSelector cur : ((CompositeServerSelector) serverSelector).getServerSelectors()) {
+                if (!isCacheable(cur)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        Class<?> selectorClass = serverSelector.getClass();
+        return selectorClass == ReadPreferenceServerSelector.class
+                || selectorClass == WritableServerSelector.class
+                || selectorClass == LatencyMinimizingServerSelector.class
+                || selectorClass == ServerAddressSelector.class;
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.MongoSocketException;
+import com.mongodb.MongoSocketReadTimeoutException;
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.async.SingleResultCallback;
+import com.mongodb.connection.ServerDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.connection.ServerSettings;
+import com.mongodb.connection.SocketSettings;
+import com.mongodb.diagnostics.logging.Logger;
+import com.mongodb.diagnostics.logging.Loggers;
+import com.mongodb.event.ServerHeartbeatFailedEvent;
+import com.mongodb.event.ServerHeartbeatStartedEvent;
+import com.mongodb.event.ServerHeartbeatSucceededEvent;
+import com.mongodb.event.ServerMonitorListener;
+import com.mongodb.lang.Nullable;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.mongodb.assertions.Assertions.notNull;
+import static com.mongodb.connection.ServerConnectionState.CONNECTING;
+import static com.mongodb.connection.ServerType.UNKNOWN;
+import static com.mongodb.internal.connection.CommandHelper.executeCommandAsync;
+import static com.mongodb.internal.connection.DefaultServerMonitor.shouldLogStageChange;
+import static com.mongodb.internal.connection.DescriptionHelper.createServerDescription;
+import static com.mongodb.internal.event.EventListenerHelper.getServerMonitorListener;
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * A server monitor that, rather than blocking a dedicated thread, sends non-blocking isMaster commands from a small executor shared by
+ * all monitors in the process.  Heartbeat scheduling and heartbeat timeouts are both handled by that executor.
+ *
+ * <p>A heartbeat times out after the connect timeout plus the read timeout of the heartbeat socket settings, which covers opening the
+ * connection, its handshake and the isMaster command, as the dedicated monitor's blocking stream does.  If either timeout is infinite,
+ * no timeout is scheduled and the heartbeat is left to the stream's own timeouts.</p>
+ */
+@ThreadSafe
+class SharedExecutorServerMonitor implements ServerMonitor {
+
+    private static final Logger LOGGER = Loggers.getLogger("cluster");
+
+    private final ServerId serverId;
+    private final ServerMonitorListener serverMonitorListener;
+    private final ClusterClock clusterClock;
+    private final ChangeListener<ServerDescription> serverStateListener;
+    private final InternalConnectionFactory internalConnectionFactory;
+    private final ConnectionPool connectionPool;
+    private final ServerSettings serverSettings;
+    private final long heartbeatTimeoutNanos;
+    private final ScheduledExecutorService executor;
+    private final ExponentiallyWeightedMovingAverage averageRoundTripTime = new ExponentiallyWeightedMovingAverage(0.2);
+    private final AdaptiveHeartbeatFrequency heartbeatFrequency;
+
+    // all guarded by this
+    private ServerDescription currentServerDescription;
+    private InternalConnection connection;
+    private ScheduledFuture<?> scheduledCheck;
+    private boolean checkInProgress;
+    private boolean checkRequested;
+    private long lastCheckCompletedNanos;
+
+    private volatile boolean isClosed;
+
+    SharedExecutorServerMonitor(final ServerId serverId, final ServerSettings serverSettings, final SocketSettings heartbeatSocketSettings,
+                                final ClusterClock clusterClock, final ChangeListener<ServerDescription> serverStateListener,
+                                final InternalConnectionFactory internalConnectionFactory, final ConnectionPool connectionPool,
+                                final ScheduledExecutorService executor) {
+        this.serverSettings = notNull("serverSettings", serverSettings);
+        this.heartbeatTimeoutNanos = getHeartbeatTimeoutNanos(notNull("heartbeatSocketSettings", heartbeatSocketSettings));
+        this.serverId = notNull("serverId", serverId);
+        this.serverMonitorListener = getServerMonitorListener(serverSettings);
+        this.clusterClock = notNull("clusterClock", clusterClock);
+        this.serverStateListener = serverStateListener;
+        this.internalConnectionFactory = notNull("internalConnectionFactory", internalConnectionFactory);
+        this.connectionPool = connectionPool;
+        this.executor = notNull("executor", executor);
+        this.heartbeatFrequency = new AdaptiveHeartbeatFrequency(serverSettings);
+        this.currentServerDescription = getConnectingServerDescription(null);
+    }
+
+    @Override
+    public synchronized void start() {
+        scheduleCheck(0);
+    }
+
+    @Override
+    public synchronized void connect() {
+        if (isClosed) {
+            return;
+        }
+        if (checkInProgress) {
+            checkRequested = true;
+            return;
+        }
+        long nanosSinceLastCheck = System.nanoTime() - lastCheckCompletedNanos;
+        long delayNanos = Math.max(0, serverSettings.getMinHeartbeatFrequency(NANOSECONDS) - nanosSinceLastCheck);
+        if (scheduledCheck == null || scheduledCheck.getDelay(NANOSECONDS) > delayNanos) {
+            if (scheduledCheck != null) {
+                scheduledCheck.cancel(false);
+            }
+            scheduleCheck(delayNanos);
+        }
+    }
+
+    @Override
+    public void close() {
+        InternalConnection connectionToClose;
+        synchronized (this) {
+            isClosed = true;
+            if (scheduledCheck != null) {
+                scheduledCheck.cancel(false);
+                scheduledCheck = null;
+            }
+            connectionToClose = connection;
+            connection = null;
+        }
+        if (connectionToClose != null) {
+            connectionToClose.close();
+        }
+    }
+
+    // must be called while holding the lock
+    private void scheduleCheck(final long delayNanos) {
+        if (isClosed) {
+            return;
+        }
+        scheduledCheck = executor.schedule(new Runnable() {
+            @Override
+            public void run() {
+                check();
+            }
+        }, delayNanos, NANOSECONDS);
+    }
+
+    private void check() {
+        InternalConnection checkConnection;
+        synchronized (this) {
+            if (isClosed || checkInProgress) {
+                return;
+            }
+            checkInProgress = true;
+            scheduledCheck = null;
+            checkConnection = connection;
+        }
+        if (checkConnection == null) {
+            new HeartbeatCheck(internalConnectionFactory.create(serverId), false).start();
+        } else {
+            new HeartbeatCheck(checkConnection, true).start();
+        }
+    }
+
+    private void onCheckCompleted(@Nullable final InternalConnection checkConnection,
+                                  final ServerDescription newServerDescription) {
+        // completion is usually signalled on an I/O thread, so hand listener notification over to the shared executor
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                notifyCheckCompleted(checkConnection, newServerDescription);
+            }
+        });
+    }
+
+    private void notifyCheckCompleted(@Nullable final InternalConnection checkConnection,
+                                      final ServerDescription newServerDescription) {
+        ServerDescription previousServerDescription;
+        synchronized (this) {
+            if (isClosed) {
+                if (checkConnection != null) {
+                    checkConnection.close();
+                }
+                return;
+            }
+            connection = checkConnection;
+            previousServerDescription = currentServerDescription;
+            currentServerDescription = newServerDescription;
+        }
+
+        try {
+            logStateChange(previousServerDescription, newServerDescription);
+            serverStateListener.stateChanged(new ChangeEvent<ServerDescription>(previousServerDescription, newServerDescription));
+        } catch (Throwable t) {
+            LOGGER.warn("Exception in server monitor during notification of server description state change", t);
+        }
+
+        synchronized (this) {
+            long intervalNanos = heartbeatFrequency.nextIntervalNanos(previousServerDescription, newServerDescription);
+            if (checkRequested) {
+                intervalNanos = Math.min(intervalNanos, serverSettings.getMinHeartbeatFrequency(NANOSECONDS));
+                checkRequested = false;
+            }
+            checkInProgress = false;
+            lastCheckCompletedNanos = System.nanoTime();
+            scheduleCheck(intervalNanos);
+        }
+    }
+
+    private static long getHeartbeatTimeoutNanos(final SocketSettings heartbeatSocketSettings) {
+        long connectTimeoutMillis = heartbeatSocketSettings.getConnectTimeout(MILLISECONDS);
+        long readTimeoutMillis = heartbeatSocketSettings.getReadTimeout(MILLISECONDS);
+        return connectTimeoutMillis == 0 || readTimeoutMillis == 0 ? 0 : MILLISECONDS.toNanos(connectTimeoutMillis + readTimeoutMillis);
+    }
+
+    private ServerDescription getConnectingServerDescription(final Throwable exception) {
+        return ServerDescription.builder().type(UNKNOWN).state(CONNECTING).address(serverId.getAddress()).exception(exception).build();
+    }
+
+    private void logStateChange(final ServerDescription previousServerDescription,
+                                final ServerDescription currentServerDescription) {
+        if (shouldLogStageChange(previousServerDescription, currentServerDescription)) {
+            if (currentServerDescription.getException() != null) {
+                LOGGER.info(format("Exception in server monitor while connecting to server %s", serverId.getAddress()),
+                            currentServerDescription.getException());
+            } else {
+                LOGGER.info(format("Server monitor successfully connected to server with description %s", currentServerDescription));
+            }
+        }
+    }
+
+    /**
+     * A single attempt to open (if necessary) a connection and run isMaster on it.  Completion races with the heartbeat timeout, so the
+     * first of the two to arrive wins and the other is ignored.
+     */
+    private final class HeartbeatCheck {
+        private final InternalConnection checkConnection;
+        private final boolean isExistingConnection;
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private volatile ScheduledFuture<?> timeout;
+        private volatile boolean heartbeatStarted;
+        private volatile long start;
+
+        HeartbeatCheck(final InternalConnection checkConnection, final boolean isExistingConnection) {
+            this.checkConnection = checkConnection;
+            this.isExistingConnection = isExistingConnection;
+        }
+
+        void start() {
+            if (heartbeatTimeoutNanos > 0) {
+                timeout = executor.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        complete(null, new MongoSocketReadTimeoutException(format("Timed out waiting for heartbeat from server %s",
+                                serverId.getAddress()), serverId.getAddress(), null));
+                    }
+                }, heartbeatTimeoutNanos, NANOSECONDS);
+            }
+
+            if (isExistingConnection) {
+                sendIsMaster();
+            } else {
+                try {
+                    checkConnection.openAsync(new SingleResultCallback<Void>() {
+                        @Override
+                        public void onResult(final Void result, final Throwable t) {
+                            if (t != null) {
+                                complete(null, t);
+                            } else {
+                                sendIsMaster();
+                            }
+                        }
+                    });
+                } catch (Throwable t) {
+                    complete(null, t);
+                }
+            }
+        }
+
+        private void sendIsMaster() {
+            if (completed.get()) {
+                return;
+            }
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(format("Checking status of %s", serverId.getAddress()));
+            }
+            serverMonitorListener.serverHearbeatStarted(new ServerHeartbeatStartedEvent(checkConnection.getDescription().getConnectionId()));
+            heartbeatStarted = true;
+            start = System.nanoTime();
+            try {
+                executeCommandAsync("admin", new BsonDocument("ismaster", new BsonInt32(1)), clusterClock, checkConnection,
+                        new SingleResultCallback<BsonDocument>() {
+                            @Override
+                            public void onResult(final BsonDocument isMasterResult, final Throwable t) {
+                                complete(isMasterResult, t);
+                            }
+                        });
+            } catch (Throwable t) {
+                complete(null, t);
+            }
+        }
+
+        private void complete(final BsonDocument isMasterResult, final Throwable t) {
+            if (!completed.compareAndSet(false, true)) {
+                return;
+            }
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+
+            if (t == null) {
+                long elapsedTimeNanos = System.nanoTime() - start;
+                averageRoundTripTime.addSample(elapsedTimeNanos);
+                serverMonitorListener.serverHeartbeatSucceeded(new ServerHeartbeatSucceededEvent(
+                        checkConnection.getDescription().getConnectionId(), isMasterResult, elapsedTimeNanos));
+                onCheckCompleted(checkConnection, createServerDescription(serverId.getAddress(), isMasterResult,
+                        checkConnection.getDescription().getServerVersion(), averageRoundTripTime.getAverage()));
+                return;
+            }
+
+            if (heartbeatStarted) {
+                serverMonitorListener.serverHeartbeatFailed(new ServerHeartbeatFailedEvent(
+                        checkConnection.getDescription().getConnectionId(), System.nanoTime() - start, t));
+            }
+            checkConnection.close();
+
+            if (isExistingConnection && t instanceof MongoSocketException && !isClosed) {
+                // as with the dedicated monitor thread, a socket error on an established connection invalidates the pool and
+                // is retried once on a fresh connection before the server is reported as unreachable
+                connectionPool.invalidate();
+                new HeartbeatCheck(internalConnectionFactory.create(serverId), false).start();
+            } else {
+                averageRoundTripTime.reset();
+                onCheckCompleted(null, getConnectingServerDescription(t));
+            }
+        }
+    }
+}
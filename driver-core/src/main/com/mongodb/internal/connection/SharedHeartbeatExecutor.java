@@ -0,0 +1,47 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.internal.thread.DaemonThreadFactory;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+/**
+ * Holds the process-wide executor on which all {@link SharedExecutorServerMonitor} instances schedule their heartbeats and heartbeat
+ * timeouts.  The executor only ever runs short, non-blocking tasks, so a handful of daemon threads is enough regardless of the number of
+ * clients or servers being monitored.
+ */
+final class SharedHeartbeatExecutor {
+    private static final int POOL_SIZE = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    private static ScheduledExecutorService executor;
+
+    static synchronized ScheduledExecutorService getExecutor() {
+        if (executor == null) {
+            ScheduledThreadPoolExecutor newExecutor = new ScheduledThreadPoolExecutor(POOL_SIZE,
+                    new DaemonThreadFactory("cluster-heartbeat"));
+            // most timeouts are cancelled long before they expire, so don't let them accumulate in the work queue
+            newExecutor.setRemoveOnCancelPolicy(true);
+            executor = newExecutor;
+        }
+        return executor;
+    }
+
+    private SharedHeartbeatExecutor() {
+    }
+}
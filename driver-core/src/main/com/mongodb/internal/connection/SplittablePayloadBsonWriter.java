@@ -19,6 +19,7 @@ package com.mongodb.internal.connection;
 import com.mongodb.connection.SplittablePayload;
 import org.bson.BsonBinaryWriter;
 import org.bson.BsonWriter;
+import org.bson.FieldNameValidator;
 import org.bson.io.BsonOutput;
 
 import static com.mongodb.internal.connection.BsonWriterHelper.writePayloadArray;
@@ -27,17 +28,20 @@ class SplittablePayloadBsonWriter extends LevelCountingBsonWriter {
     private final BsonWriter writer;
     private final BsonOutput bsonOutput;
     private final SplittablePayload payload;
+    private final FieldNameValidator payloadFieldNameValidator;
     private final MessageSettings settings;
     private final int messageStartPosition;
 
     SplittablePayloadBsonWriter(final BsonBinaryWriter writer, final BsonOutput bsonOutput, final int messageStartPosition,
-                                final MessageSettings settings, final SplittablePayload payload) {
+                                final MessageSettings settings, final SplittablePayload payload,
+                                final FieldNameValidator payloadFieldNameValidator) {
         super(writer);
         this.writer = writer;
         this.bsonOutput = bsonOutput;
         this.messageStartPosition = messageStartPosition;
         this.settings = settings;
         this.payload = payload;
+        this.payloadFieldNameValidator = payloadFieldNameValidator;
     }
 
     @Override
@@ -48,7 +52,7 @@ class SplittablePayloadBsonWriter extends LevelCountingBsonWriter {
     @Override
     public void writeEndDocument() {
         if (getCurrentLevel() == 0 && payload.getPayload().size() > 0) {
-            writePayloadArray(writer, bsonOutput, settings, messageStartPosition, payload);
+            writePayloadArray(writer, bsonOutput, settings, messageStartPosition, payload, payloadFieldNameValidator);
         }
         super.writeEndDocument();
     }
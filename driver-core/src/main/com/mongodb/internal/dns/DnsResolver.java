@@ -31,6 +31,7 @@ import java.util.List;
 
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
 
 /**
  * Utility class for resolving SRV and TXT records.
@@ -38,6 +39,12 @@ import static java.util.Arrays.asList;
  * <p>This class should not be considered a part of the public API.</p>
  */
 public final class DnsResolver {
+    // JNDI doesn't expose the TTL of the records it resolves, so successful lookups are instead cached for the same period at which a
+    // sharded cluster polls its SRV records.  Failed lookups are never cached.
+    static final long RECORD_CACHE_TTL_MS = 60000;
+
+    private static final ExpiringCache<List<String>> SRV_RECORD_CACHE = new ExpiringCache<List<String>>(RECORD_CACHE_TTL_MS);
+    private static final ExpiringCache<String> TXT_RECORD_CACHE = new ExpiringCache<String>(RECORD_CACHE_TTL_MS);
 
     // The format of SRV record is
     // priority weight port target.
@@ -48,6 +55,26 @@ public final class DnsResolver {
     // It's required that the srvHost has at least three parts (e.g. foo.bar.baz) and that all of the resolved hosts have a parent
     // domain equal to the domain of the srvHost.
     public static List<String> resolveHostFromSrvRecords(final String srvHost) {
+        List<String> hosts = SRV_RECORD_CACHE.get(srvHost);
+        if (hosts == null) {
+            hosts = refreshHostFromSrvRecords(srvHost);
+        }
+        return hosts;
+    }
+
+    /**
+     * Looks up the SRV records of the given host, bypassing and then replacing any cached result.
+     *
+     * @param srvHost the SRV host name
+     * @return the resolved hosts, as host:port strings
+     */
+    public static List<String> refreshHostFromSrvRecords(final String srvHost) {
+        List<String> hosts = unmodifiableList(lookupHostFromSrvRecords(srvHost));
+        SRV_RECORD_CACHE.put(srvHost, hosts);
+        return hosts;
+    }
+
+    private static List<String> lookupHostFromSrvRecords(final String srvHost) {
         if (srvHost.split("\\.").length < 3) {
             throw new IllegalArgumentException(format("An SRV host name '%s' was provided that does not contain at least three parts. "
                     + "It must contain a hostname, domain name and a top level domain.", srvHost));
@@ -100,6 +127,15 @@ public final class DnsResolver {
     // We require each to be one or more query parameters for a MongoDB connection string.
     // Here we concatenate TXT records together with a '&' separator as required by connection strings
     public static String resolveAdditionalQueryParametersFromTxtRecords(final String host) {
+        String additionalQueryParameters = TXT_RECORD_CACHE.get(host);
+        if (additionalQueryParameters == null) {
+            additionalQueryParameters = lookupAdditionalQueryParametersFromTxtRecords(host);
+            TXT_RECORD_CACHE.put(host, additionalQueryParameters);
+        }
+        return additionalQueryParameters;
+    }
+
+    private static String lookupAdditionalQueryParametersFromTxtRecords(final String host) {
         String additionalQueryParameters = "";
         InitialDirContext dirContext = createDnsDirContext();
         try {
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.dns;
+
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.lang.Nullable;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * A cache of DNS lookup results, keyed by host name, whose entries expire a fixed time after they were added.
+ *
+ * @param <T> the type of the cached lookup result
+ */
+@ThreadSafe
+final class ExpiringCache<T> {
+    private final long timeToLiveNanos;
+    private final ConcurrentMap<String, Entry<T>> entries = new ConcurrentHashMap<String, Entry<T>>();
+
+    ExpiringCache(final long timeToLiveMS) {
+        this.timeToLiveNanos = MILLISECONDS.toNanos(timeToLiveMS);
+    }
+
+    @Nullable
+    T get(final String host) {
+        Entry<T> entry = entries.get(host);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.addedNanos >= timeToLiveNanos) {
+            entries.remove(host, entry);
+            return null;
+        }
+        return entry.value;
+    }
+
+    void put(final String host, final T value) {
+        entries.put(host, new Entry<T>(value, System.nanoTime()));
+    }
+
+    private static final class Entry<T> {
+        private final T value;
+        private final long addedNanos;
+
+        Entry(final T value, final long addedNanos) {
+            this.value = value;
+            this.addedNanos = addedNanos;
+        }
+    }
+}
@@ -149,6 +149,12 @@ final class Operations<TDocument> {
                 .sort(toBsonDocumentOrNull(options.getSort()))
                 .cursorType(options.getCursorType())
                 .noCursorTimeout(options.isNoCursorTimeout())
+                .prefetchThreshold(options.getPrefetchThreshold())
+                .maxBufferedBytes(options.getMaxBufferedBytes())
+                .bufferBudget(options.getBufferBudget())
+                .decodePool(options.getDecodePool())
+                .killCursorsInBackground(options.isKillCursorsInBackground())
+                .reuseResults(options.isReuseResults())
                 .oplogReplay(options.isOplogReplay())
                 .partial(options.isPartial())
                 .slaveOk(readPreference.isSlaveOk())
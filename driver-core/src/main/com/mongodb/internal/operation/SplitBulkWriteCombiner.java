@@ -0,0 +1,135 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.operation;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.WriteConcern;
+import com.mongodb.annotations.NotThreadSafe;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.connection.BulkWriteBatchCombiner;
+import com.mongodb.internal.connection.IndexMap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * Combines the outcomes of a bulk write that was executed as several bulk writes, each over a contiguous part of its requests, into the
+ * outcome of a single bulk write, with the indexes of upserts and write errors referring to the whole list of requests.
+ *
+ * <p>This class is NOT part of the public API. It may change at any time without notification.</p>
+ */
+@NotThreadSafe
+public final class SplitBulkWriteCombiner {
+    private final boolean ordered;
+    private final WriteConcern writeConcern;
+    private final List<Part> parts = new ArrayList<Part>();
+    private ServerAddress serverAddress;
+
+    /**
+     * Construct an instance.
+     *
+     * @param ordered      whether the bulk write is ordered
+     * @param writeConcern the write concern of the bulk write
+     */
+    public SplitBulkWriteCombiner(final boolean ordered, final WriteConcern writeConcern) {
+        this.ordered = ordered;
+        this.writeConcern = notNull("writeConcern", writeConcern);
+    }
+
+    /**
+     * Adds the result of a part.
+     *
+     * @param result     the result
+     * @param startIndex the index of the first request of the part
+     * @param count      the number of requests in the part
+     */
+    public void addResult(final BulkWriteResult result, final int startIndex, final int count) {
+        parts.add(new Part(notNull("result", result), null, startIndex, count));
+    }
+
+    /**
+     * Adds the write errors, and the result of the writes that succeeded, of a part.
+     *
+     * @param exception  the exception
+     * @param startIndex the index of the first request of the part
+     * @param count      the number of requests in the part
+     */
+    public void addError(final MongoBulkWriteException exception, final int startIndex, final int count) {
+        parts.add(new Part(null, notNull("exception", exception), startIndex, count));
+        if (serverAddress == null) {
+            serverAddress = exception.getServerAddress();
+        }
+    }
+
+    /**
+     * Gets whether no more parts should be executed, which is when the bulk write is ordered and a part has write errors.
+     *
+     * @return true if no more parts should be executed
+     */
+    public boolean shouldStop() {
+        if (!ordered) {
+            return false;
+        }
+        for (Part part : parts) {
+            if (part.exception != null && !part.exception.getWriteErrors().isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the combined result.
+     *
+     * @return the result
+     * @throws MongoBulkWriteException if any part had write errors or a write concern error
+     */
+    public BulkWriteResult getResult() {
+        if (!writeConcern.isAcknowledged()) {
+            return BulkWriteResult.unacknowledged();
+        }
+        // the server address is only reported with errors, which carry their own
+        BulkWriteBatchCombiner combiner = new BulkWriteBatchCombiner(serverAddress != null ? serverAddress : new ServerAddress(), ordered,
+                writeConcern);
+        for (Part part : parts) {
+            IndexMap indexMap = IndexMap.create(part.startIndex, part.count);
+            if (part.exception != null) {
+                combiner.addErrorResult(part.exception, indexMap);
+            } else {
+                combiner.addResult(part.result, indexMap);
+            }
+        }
+        return combiner.getResult();
+    }
+
+    private static final class Part {
+        private final BulkWriteResult result;
+        private final MongoBulkWriteException exception;
+        private final int startIndex;
+        private final int count;
+
+        Part(final BulkWriteResult result, final MongoBulkWriteException exception, final int startIndex, final int count) {
+            this.result = result;
+            this.exception = exception;
+            this.startIndex = startIndex;
+            this.count = count;
+        }
+    }
+}
@@ -42,6 +42,7 @@ import com.mongodb.client.model.WriteModel;
 import com.mongodb.operation.BatchCursor;
 import com.mongodb.operation.MapReduceBatchCursor;
 import com.mongodb.operation.MapReduceStatistics;
+import com.mongodb.operation.MixedBulkWriteOperation;
 import com.mongodb.operation.ReadOperation;
 import com.mongodb.operation.WriteOperation;
 import org.bson.codecs.configuration.CodecRegistry;
@@ -168,14 +169,13 @@ public final class SyncOperations<TDocument> {
         return operations.updateMany(filter, update, updateOptions);
     }
 
-    public WriteOperation<BulkWriteResult> insertMany(final List<? extends TDocument> documents,
-                                                      final InsertManyOptions options) {
+    public MixedBulkWriteOperation insertMany(final List<? extends TDocument> documents, final InsertManyOptions options) {
         return operations.insertMany(documents, options);
     }
 
     @SuppressWarnings("unchecked")
-    public WriteOperation<BulkWriteResult> bulkWrite(final List<? extends WriteModel<? extends TDocument>> requests,
-                                                     final BulkWriteOptions options) {
+    public MixedBulkWriteOperation bulkWrite(final List<? extends WriteModel<? extends TDocument>> requests,
+                                             final BulkWriteOptions options) {
         return operations.bulkWrite(requests, options);
     }
 
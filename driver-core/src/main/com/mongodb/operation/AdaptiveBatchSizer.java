@@ -0,0 +1,188 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.operation;
+
+import com.mongodb.annotations.ThreadSafe;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonReader;
+import org.bson.codecs.Decoder;
+import org.bson.codecs.DecoderContext;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * Chooses the batch size of each getMore of a cursor from the observed size of its documents, the time a getMore takes, and the rate at
+ * which the application consumes documents.
+ *
+ * <p>The aim is a batch that takes the application about {@link #CONSUMPTION_TO_ROUND_TRIP_RATIO} times as long to work through as the
+ * round trip that fetched it, so that round trips are a small part of the total time, but no bigger than that, so that a slow consumer
+ * doesn't hold more documents in memory than it needs.  Since a cursor may hold one batch while it receives (or prefetches) the next,
+ * no batch is allowed to exceed half of the maximum number of bytes the cursor may keep buffered.</p>
+ *
+ * <p>If the cursor shares a {@link CursorBufferBudget} with other cursors, no batch is allowed to exceed half of the bytes still available
+ * in it either, so that cursors fetching at the same time don't together overshoot it by much.</p>
+ *
+ * <p>A batch size set explicitly by the application is kept, but limited to the byte budgets.</p>
+ *
+ * <p>Documents are measured as they are decoded, so only cursors whose documents are decoded from a {@link BsonBinaryReader} adapt.
+ * Measurements may be recorded from any thread, since replies may be decoded on an I/O thread or while prefetching.</p>
+ */
+@ThreadSafe
+final class AdaptiveBatchSizer {
+    static final int CONSUMPTION_TO_ROUND_TRIP_RATIO = 10;
+    // the size of the server's default first batch, used until there are documents to measure, since the first batch is decoded
+    // before the cursor exists
+    static final int INITIAL_BATCH_SIZE = 101;
+    // a batch size of 1 would close the cursor
+    static final int MIN_BATCH_SIZE = 2;
+    private static final double ALPHA = 0.2;
+
+    private final long maxBatchBytes;
+    private final CursorBufferBudget bufferBudget;
+    private final AtomicLong decodedBytes = new AtomicLong();
+    private final AtomicLong decodedDocuments = new AtomicLong();
+
+    // all guarded by this
+    private double averageDocumentBytes = -1;
+    private double averageRoundTripNanos = -1;
+    private double averageConsumerNanosPerDocument = -1;
+    private long batchReturnedNanos;
+    private int batchReturnedSize;
+    private long getMoreStartNanos;
+
+    AdaptiveBatchSizer(final int maxBufferedBytes) {
+        this(maxBufferedBytes, null);
+    }
+
+    /**
+     * Construct an instance limited by the cursor's own byte budget, by a budget shared with other cursors, or by both.
+     *
+     * @param maxBufferedBytes the maximum number of bytes the cursor may keep buffered, or null if only the shared budget applies
+     * @param bufferBudget     the budget shared with other cursors, or null if only the cursor's own budget applies
+     */
+    AdaptiveBatchSizer(final Integer maxBufferedBytes, final CursorBufferBudget bufferBudget) {
+        isTrueArgument("maxBufferedBytes != null || bufferBudget != null", maxBufferedBytes != null || bufferBudget != null);
+        isTrueArgument("maxBufferedBytes > 0", maxBufferedBytes == null || maxBufferedBytes > 0);
+        this.maxBatchBytes = maxBufferedBytes != null ? Math.max(1, maxBufferedBytes / 2) : Long.MAX_VALUE;
+        this.bufferBudget = bufferBudget;
+    }
+
+    /**
+     * Wraps the decoder of the cursor so that the size of each document is recorded as it's decoded.
+     *
+     * @param decoder the decoder
+     * @param <T> the document type
+     * @return the measuring decoder
+     */
+    <T> Decoder<T> measuring(final Decoder<T> decoder) {
+        notNull("decoder", decoder);
+        return new Decoder<T>() {
+            @Override
+            public T decode(final BsonReader reader, final DecoderContext decoderContext) {
+                if (!(reader instanceof BsonBinaryReader)) {
+                    return decoder.decode(reader, decoderContext);
+                }
+                int start = ((BsonBinaryReader) reader).getBsonInput().getPosition();
+                T document = decoder.decode(reader, decoderContext);
+                decodedBytes.addAndGet(((BsonBinaryReader) reader).getBsonInput().getPosition() - start);
+                decodedDocuments.incrementAndGet();
+                return document;
+            }
+        };
+    }
+
+    /**
+     * Records that a getMore is about to be sent.
+     */
+    synchronized void getMoreStarted() {
+        getMoreStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Records that the reply to a getMore has been decoded.
+     */
+    synchronized void getMoreCompleted() {
+        averageRoundTripNanos = average(averageRoundTripNanos, System.nanoTime() - getMoreStartNanos);
+        recordDecodedDocuments();
+    }
+
+    /**
+     * Records that a batch has been handed to the application.
+     *
+     * @param size the number of documents in the batch
+     */
+    synchronized void batchReturned(final int size) {
+        batchReturnedNanos = System.nanoTime();
+        batchReturnedSize = size;
+    }
+
+    /**
+     * Records that the application has finished with the last batch it was given and wants another.
+     */
+    synchronized void batchRequested() {
+        if (batchReturnedSize > 0) {
+            averageConsumerNanosPerDocument = average(averageConsumerNanosPerDocument,
+                    (double) (System.nanoTime() - batchReturnedNanos) / batchReturnedSize);
+            batchReturnedSize = 0;
+        }
+    }
+
+    /**
+     * Gets the batch size for the next getMore.
+     *
+     * @param batchSize the batch size set by the application, or 0 if none was set
+     * @return the batch size to request
+     */
+    synchronized int getBatchSize(final int batchSize) {
+        if (batchSize < 0) {
+            return batchSize;
+        }
+        if (averageDocumentBytes <= 0) {
+            return batchSize != 0 ? batchSize : INITIAL_BATCH_SIZE;
+        }
+        long maxDocuments = Math.max(MIN_BATCH_SIZE, (long) (getMaxBatchBytes() / averageDocumentBytes));
+        if (batchSize != 0) {
+            return (int) Math.min(batchSize, maxDocuments);
+        }
+        long documents = maxDocuments;
+        if (averageConsumerNanosPerDocument > 0 && averageRoundTripNanos > 0) {
+            long documentsForRoundTrip = (long) Math.ceil(CONSUMPTION_TO_ROUND_TRIP_RATIO * averageRoundTripNanos
+                                                                  / averageConsumerNanosPerDocument);
+            documents = Math.min(maxDocuments, Math.max(MIN_BATCH_SIZE, documentsForRoundTrip));
+        }
+        return (int) Math.min(Integer.MAX_VALUE, documents);
+    }
+
+    private long getMaxBatchBytes() {
+        return bufferBudget != null ? Math.min(maxBatchBytes, bufferBudget.getAvailableBytes() / 2) : maxBatchBytes;
+    }
+
+    private void recordDecodedDocuments() {
+        long documents = decodedDocuments.getAndSet(0);
+        long bytes = decodedBytes.getAndSet(0);
+        if (documents > 0) {
+            averageDocumentBytes = average(averageDocumentBytes, (double) bytes / documents);
+        }
+    }
+
+    private static double average(final double average, final double sample) {
+        return average < 0 ? sample : ALPHA * sample + (1 - ALPHA) * average;
+    }
+}
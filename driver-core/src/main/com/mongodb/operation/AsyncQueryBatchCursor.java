@@ -37,8 +37,10 @@ import org.bson.codecs.BsonDocumentCodec;
 import org.bson.codecs.Decoder;
 
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static com.mongodb.assertions.Assertions.isTrue;
@@ -46,8 +48,10 @@ import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
 import static com.mongodb.internal.async.ErrorHandlingResultCallback.errorHandlingCallback;
 import static com.mongodb.operation.CursorHelper.getNumberToReturn;
+import static com.mongodb.operation.LazyDecodingBatch.getRawBytes;
 import static com.mongodb.operation.OperationHelper.LOGGER;
-import static com.mongodb.operation.OperationHelper.getMoreCursorDocumentToQueryResult;
+import static com.mongodb.operation.OperationHelper.RAW_GET_MORE_RESULT_CODEC;
+import static com.mongodb.operation.OperationHelper.getMoreCursorDocumentToLazyQueryResult;
 import static com.mongodb.internal.operation.ServerVersionHelper.serverIsAtLeastVersionThreeDotTwo;
 import static com.mongodb.operation.QueryHelper.translateCommandException;
 import static java.lang.String.format;
@@ -61,6 +65,11 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
     private final Decoder<T> decoder;
     private final long maxTimeMS;
     private final AsyncConnectionSource connectionSource;
+    private final AdaptiveBatchSizer batchSizer;
+    private final CursorBufferBudget bufferBudget;
+    // the bytes counted against the buffer budget for the batch last passed to a callback
+    private final AtomicLong currentBatchBytes = new AtomicLong();
+    private final ForkJoinPool decodePool;
     private final AtomicBoolean isClosed = new AtomicBoolean();
     private final AtomicReference<ServerCursor> cursor;
     private volatile QueryResult<T> firstBatch;
@@ -69,13 +78,33 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
 
     AsyncQueryBatchCursor(final QueryResult<T> firstBatch, final int limit, final int batchSize, final long maxTimeMS,
                           final Decoder<T> decoder, final AsyncConnectionSource connectionSource, final AsyncConnection connection) {
+        this(firstBatch, limit, batchSize, maxTimeMS, null, null, null, decoder, connectionSource, connection);
+    }
+
+    /**
+     * Construct an instance that, if {@code maxBufferedBytes} is not null, adapts the batch size of each getMore to the size of the
+     * documents and the rate at which they are consumed, without ever exceeding half of that many bytes.
+     *
+     * <p>If {@code bufferBudget} is not null, each batch returned by a getMore is counted against it until the next batch is asked for
+     * or the cursor is closed, and the batch size of each getMore also adapts to the bytes left in it.</p>
+     *
+     * <p>If {@code decodePool} is not null, the documents of each batch returned by a getMore are decoded in parallel on that pool
+     * before the batch is passed on, rather than one at a time as they're read.</p>
+     */
+    AsyncQueryBatchCursor(final QueryResult<T> firstBatch, final int limit, final int batchSize, final long maxTimeMS,
+                          final Integer maxBufferedBytes, final CursorBufferBudget bufferBudget, final ForkJoinPool decodePool,
+                          final Decoder<T> decoder, final AsyncConnectionSource connectionSource, final AsyncConnection connection) {
         isTrueArgument("maxTimeMS >= 0", maxTimeMS >= 0);
         this.maxTimeMS = maxTimeMS;
         this.namespace = firstBatch.getNamespace();
         this.firstBatch = firstBatch;
         this.limit = limit;
         this.batchSize = batchSize;
-        this.decoder = decoder;
+        this.batchSizer = maxBufferedBytes != null || bufferBudget != null ? new AdaptiveBatchSizer(maxBufferedBytes, bufferBudget)
+                                                                            : null;
+        this.bufferBudget = bufferBudget;
+        this.decodePool = decodePool;
+        this.decoder = batchSizer != null ? batchSizer.measuring(decoder) : decoder;
         this.cursor = new AtomicReference<ServerCursor>(firstBatch.getCursor());
         this.connectionSource = notNull("connectionSource", connectionSource);
         this.count.addAndGet(firstBatch.getResults().size());
@@ -91,6 +120,7 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
     @Override
     public void close() {
         if (!isClosed.getAndSet(true)) {
+            releaseBufferedBytes(currentBatchBytes.getAndSet(0));
             killCursorOnClose();
         }
     }
@@ -123,6 +153,10 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
     }
 
     private void next(final SingleResultCallback<List<T>> callback, final boolean tryNext) {
+        if (batchSizer != null) {
+            batchSizer.batchRequested();
+        }
+        releaseBufferedBytes(currentBatchBytes.getAndSet(0));
         if (isClosed()) {
             callback.onResult(null, new MongoException(format("%s called after the cursor was closed.",
                     tryNext ? "tryNext()" : "next()")));
@@ -133,6 +167,9 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
                 results = null;
             }
             firstBatch = null;
+            if (batchSizer != null && results != null) {
+                batchSizer.batchReturned(results.size());
+            }
             callback.onResult(results, null);
         } else {
             ServerCursor localCursor = getServerCursor();
@@ -164,13 +201,16 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
 
     private void getMore(final AsyncConnection connection, final ServerCursor cursor, final SingleResultCallback<List<T>> callback,
                          final boolean tryNext) {
+        if (batchSizer != null) {
+            batchSizer.getMoreStarted();
+        }
         if (serverIsAtLeastVersionThreeDotTwo(connection.getDescription())) {
             connection.commandAsync(namespace.getDatabaseName(), asGetMoreCommandDocument(cursor.getId()), NO_OP_FIELD_NAME_VALIDATOR,
-                    ReadPreference.primary(), CommandResultDocumentCodec.create(decoder, "nextBatch"),
+                    ReadPreference.primary(), RAW_GET_MORE_RESULT_CODEC,
                     connectionSource.getSessionContext(), new CommandResultSingleResultCallback(connection, cursor, callback, tryNext));
 
         } else {
-            connection.getMoreAsync(namespace, cursor.getId(), getNumberToReturn(limit, batchSize, count.get()),
+            connection.getMoreAsync(namespace, cursor.getId(), getNumberToReturn(limit, getBatchSizeForGetMore(), count.get()),
                                     decoder, new QueryResultSingleResultCallback(connection, callback, tryNext));
         }
     }
@@ -179,7 +219,7 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
         BsonDocument document = new BsonDocument("getMore", new BsonInt64(cursorId))
                 .append("collection", new BsonString(namespace.getCollectionName()));
 
-        int batchSizeForGetMoreCommand = Math.abs(getNumberToReturn(limit, this.batchSize, count.get()));
+        int batchSizeForGetMoreCommand = Math.abs(getNumberToReturn(limit, getBatchSizeForGetMore(), count.get()));
         if (batchSizeForGetMoreCommand != 0) {
             document.append("batchSize", new BsonInt32(batchSizeForGetMoreCommand));
         }
@@ -189,6 +229,16 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
         return document;
     }
 
+    private int getBatchSizeForGetMore() {
+        return batchSizer != null ? batchSizer.getBatchSize(batchSize) : batchSize;
+    }
+
+    private void releaseBufferedBytes(final long bytes) {
+        if (bufferBudget != null) {
+            bufferBudget.release(bytes);
+        }
+    }
+
     private void killCursorOnClose() {
         final ServerCursor localCursor = getServerCursor();
         if (localCursor != null) {
@@ -252,6 +302,9 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
         }
 
         cursor.getAndSet(result.getCursor());
+        if (batchSizer != null) {
+            batchSizer.getMoreCompleted();
+        }
         if (!tryNext && result.getResults().isEmpty() && result.getCursor() != null) {
             getMore(connection, result.getCursor(), callback, false);
         } else {
@@ -269,6 +322,18 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
             if (result.getResults().isEmpty()) {
                 callback.onResult(null, null);
             } else {
+                if (batchSizer != null) {
+                    batchSizer.batchReturned(result.getResults().size());
+                }
+                if (bufferBudget != null) {
+                    long bytes = getRawBytes(result.getResults());
+                    bufferBudget.acquire(bytes);
+                    currentBatchBytes.set(bytes);
+                    // the cursor may have been closed since the check above, without releasing this batch
+                    if (isClosed()) {
+                        releaseBufferedBytes(currentBatchBytes.getAndSet(0));
+                    }
+                }
                 callback.onResult(result.getResults(), null);
             }
         }
@@ -297,9 +362,24 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
                 connection.release();
                 callback.onResult(null, translatedException);
             } else {
-                QueryResult<T> queryResult = getMoreCursorDocumentToQueryResult(result.getDocument("cursor"),
-                        connection.getDescription().getServerAddress());
-                handleGetMoreQueryResult(connection, callback, queryResult, tryNext);
+                final QueryResult<T> queryResult = getMoreCursorDocumentToLazyQueryResult(result.getDocument("cursor"),
+                        connection.getDescription().getServerAddress(), decoder, null);
+                if (decodePool == null) {
+                    handleGetMoreQueryResult(connection, callback, queryResult, tryNext);
+                    return;
+                }
+                // decode on the pool without waiting, as this may be the thread that completes the connection's reads
+                ((LazyDecodingBatch<T>) queryResult.getResults()).decodeInParallel(decodePool, new SingleResultCallback<Void>() {
+                    @Override
+                    public void onResult(final Void decoded, final Throwable t) {
+                        if (t != null) {
+                            connection.release();
+                            callback.onResult(null, t);
+                        } else {
+                            handleGetMoreQueryResult(connection, callback, queryResult, tryNext);
+                        }
+                    }
+                });
             }
         }
     }
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.operation;
+
+import com.mongodb.MongoNamespace;
+import com.mongodb.ReadPreference;
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.binding.ConnectionSource;
+import com.mongodb.connection.Connection;
+import com.mongodb.connection.ServerId;
+import com.mongodb.diagnostics.logging.Logger;
+import com.mongodb.diagnostics.logging.Loggers;
+import com.mongodb.internal.thread.DaemonThreadFactory;
+import com.mongodb.internal.validator.NoOpFieldNameValidator;
+import com.mongodb.lang.Nullable;
+import com.mongodb.session.SessionContext;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.codecs.BsonDocumentCodec;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import static com.mongodb.assertions.Assertions.notNull;
+import static com.mongodb.internal.operation.ServerVersionHelper.serverIsAtLeastVersionThreeDotTwo;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Kills cursors that were closed before they were exhausted in the background, so that closing them doesn't wait for a connection and
+ * a round trip.  Cursor ids are queued per server, namespace and session, and each queue is sent as a single {@code killCursors}
+ * command, either when the next scheduled flush runs or as soon as it holds {@link #MAX_CURSORS_PER_COMMAND} ids.  The server is
+ * identified by its {@link ServerId}, which includes the cluster, so cursors of different clients, which may have different credentials,
+ * are never killed together.
+ *
+ * <p>Each queued cursor keeps its connection source until it has been killed, and the command is sent with a connection from, and the
+ * session context of, one of them.  The cursors must therefore have no session or an implicit one, which nothing else is using.
+ * Failures are ignored, as when a cursor is killed synchronously: the server eventually times out any cursor left open.</p>
+ */
+@ThreadSafe
+final class BackgroundCursorKiller {
+    static final long FLUSH_DELAY_MS = 100;
+    static final int MAX_CURSORS_PER_COMMAND = 500;
+
+    private static final Logger LOGGER = Loggers.getLogger("operation");
+    private static BackgroundCursorKiller instance;
+
+    private final ScheduledExecutorService executor;
+    // all guarded by this
+    private final Map<QueueKey, List<PendingKill>> queues = new HashMap<QueueKey, List<PendingKill>>();
+    private boolean flushScheduled;
+
+    static synchronized BackgroundCursorKiller getInstance() {
+        if (instance == null) {
+            instance = new BackgroundCursorKiller(new ScheduledThreadPoolExecutor(1, new DaemonThreadFactory("cursor-killer")));
+        }
+        return instance;
+    }
+
+    BackgroundCursorKiller(final ScheduledExecutorService executor) {
+        this.executor = notNull("executor", executor);
+    }
+
+    /**
+     * Queues a cursor to be killed.  The connection source is released once the cursor has been killed, so the caller must retain it
+     * for this killer.
+     *
+     * @param serverId         the id of the server of the cursor
+     * @param namespace        the namespace of the cursor
+     * @param cursorId         the id of the cursor
+     * @param connectionSource the connection source of the cursor, retained for this killer, with no session or an implicit one
+     */
+    void kill(final ServerId serverId, final MongoNamespace namespace, final long cursorId, final ConnectionSource connectionSource) {
+        notNull("serverId", serverId);
+        notNull("namespace", namespace);
+        notNull("connectionSource", connectionSource);
+        SessionContext sessionContext = connectionSource.getSessionContext();
+        final QueueKey key = new QueueKey(serverId, namespace, sessionContext.hasSession() ? sessionContext.getSessionId() : null);
+        List<PendingKill> fullQueue = null;
+        synchronized (this) {
+            List<PendingKill> queue = queues.get(key);
+            if (queue == null) {
+                queue = new ArrayList<PendingKill>();
+                queues.put(key, queue);
+            }
+            queue.add(new PendingKill(cursorId, connectionSource));
+            if (queue.size() >= MAX_CURSORS_PER_COMMAND) {
+                fullQueue = queues.remove(key);
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                executor.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        flush();
+                    }
+                }, FLUSH_DELAY_MS, MILLISECONDS);
+            }
+        }
+        if (fullQueue != null) {
+            final List<PendingKill> queueToKill = fullQueue;
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    killCursors(key.namespace, queueToKill);
+                }
+            });
+        }
+    }
+
+    /**
+     * Kills all the cursors that are queued.
+     */
+    void flush() {
+        Map<QueueKey, List<PendingKill>> queuesToKill;
+        synchronized (this) {
+            flushScheduled = false;
+            queuesToKill = new HashMap<QueueKey, List<PendingKill>>(queues);
+            queues.clear();
+        }
+        for (Map.Entry<QueueKey, List<PendingKill>> entry : queuesToKill.entrySet()) {
+            killCursors(entry.getKey().namespace, entry.getValue());
+        }
+    }
+
+    private void killCursors(final MongoNamespace namespace, final List<PendingKill> queue) {
+        try {
+            List<Long> cursorIds = new ArrayList<Long>(queue.size());
+            for (PendingKill pendingKill : queue) {
+                cursorIds.add(pendingKill.cursorId);
+            }
+            // every cursor of the queue has the same session, if any
+            ConnectionSource connectionSource = queue.get(0).connectionSource;
+            Connection connection = connectionSource.getConnection();
+            try {
+                if (serverIsAtLeastVersionThreeDotTwo(connection.getDescription())) {
+                    connection.command(namespace.getDatabaseName(), asKillCursorsCommandDocument(namespace, cursorIds),
+                            new NoOpFieldNameValidator(), ReadPreference.primary(), new BsonDocumentCodec(),
+                            connectionSource.getSessionContext());
+                } else {
+                    connection.killCursor(namespace, cursorIds);
+                }
+            } finally {
+                connection.release();
+            }
+        } catch (RuntimeException e) {
+            // Ignore exceptions from calling killCursor, as when a cursor is closed synchronously
+            LOGGER.debug("Exception killing cursors in the background", e);
+        } finally {
+            for (PendingKill pendingKill : queue) {
+                pendingKill.connectionSource.release();
+            }
+        }
+    }
+
+    private static BsonDocument asKillCursorsCommandDocument(final MongoNamespace namespace, final List<Long> cursorIds) {
+        BsonArray cursors = new BsonArray();
+        for (long cursorId : cursorIds) {
+            cursors.add(new BsonInt64(cursorId));
+        }
+        return new BsonDocument("killCursors", new BsonString(namespace.getCollectionName())).append("cursors", cursors);
+    }
+
+    private static final class PendingKill {
+        private final long cursorId;
+        private final ConnectionSource connectionSource;
+
+        PendingKill(final long cursorId, final ConnectionSource connectionSource) {
+            this.cursorId = cursorId;
+            this.connectionSource = connectionSource;
+        }
+    }
+
+    private static final class QueueKey {
+        private final ServerId serverId;
+        private final MongoNamespace namespace;
+        private final BsonDocument sessionId;
+
+        QueueKey(final ServerId serverId, final MongoNamespace namespace, @Nullable final BsonDocument sessionId) {
+            this.serverId = serverId;
+            this.namespace = namespace;
+            this.sessionId = sessionId;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            QueueKey that = (QueueKey) o;
+            return serverId.equals(that.serverId) && namespace.equals(that.namespace)
+                    && (sessionId != null ? sessionId.equals(that.sessionId) : that.sessionId == null);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = serverId.hashCode();
+            result = 31 * result + namespace.hashCode();
+            result = 31 * result + (sessionId != null ? sessionId.hashCode() : 0);
+            return result;
+        }
+    }
+}
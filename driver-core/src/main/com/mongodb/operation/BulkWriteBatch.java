@@ -53,8 +53,8 @@ import org.bson.FieldNameValidator;
 import org.bson.codecs.BsonValueCodecProvider;
 import org.bson.codecs.Codec;
 import org.bson.codecs.Decoder;
-import org.bson.codecs.Encoder;
 import org.bson.codecs.EncoderContext;
+import org.bson.codecs.SizeEstimatingEncoder;
 import org.bson.codecs.configuration.CodecRegistry;
 
 import java.util.ArrayList;
@@ -261,6 +261,30 @@ final class BulkWriteBatch {
         }
     }
 
+    /**
+     * Encodes the documents of the next split of the payload ahead of time, up to as many as could fit in one message, so that the
+     * next batch only has to copy their bytes.  It's called once this batch has been encoded, so that the encoding overlaps with its
+     * round trip, and must not be called at the same time as {@link #getNextBatch()}.
+     *
+     * <p>Each document is validated as it would be when encoded for its own batch.  If one fails to encode, it and the rest are left
+     * as they are, so that the failure is reported by the batch that contains it.</p>
+     */
+    public void encodeNextSplit() {
+        if (!payload.hasAnotherSplit()) {
+            return;
+        }
+        FieldNameValidator fieldNameValidator = getFieldNameValidator();
+        int end = Math.min(payload.getPayload().size(), payload.getPosition() + connectionDescription.getMaxBatchCount());
+        long encodedBytes = 0;
+        for (int i = payload.getPosition(); i < end && encodedBytes < connectionDescription.getMaxMessageSize(); i++) {
+            try {
+                encodedBytes += payload.getEncodedDocument(i, fieldNameValidator).getByteBuffer().remaining();
+            } catch (RuntimeException e) {
+                break;
+            }
+        }
+    }
+
     public FieldNameValidator getFieldNameValidator() {
         if (batchType == INSERT) {
             return new CollectibleDocumentFieldNameValidator();
@@ -374,11 +398,26 @@ final class BulkWriteBatch {
         return true;
     }
 
-    static class WriteRequestEncoder implements Encoder<WriteRequest> {
+    static class WriteRequestEncoder implements SizeEstimatingEncoder<WriteRequest> {
 
         WriteRequestEncoder() {
         }
 
+        // only inserts are bounded, as updates and deletes are rarely large enough for an estimate to save anything
+        @Override
+        @SuppressWarnings("unchecked")
+        public int getEncodedSizeUpperBound(final WriteRequest writeRequest, final EncoderContext encoderContext) {
+            if (writeRequest.getType() != INSERT) {
+                return -1;
+            }
+            BsonDocument document = ((InsertRequest) writeRequest).getDocument();
+            Codec<BsonDocument> codec = getCodec(document);
+            return codec instanceof SizeEstimatingEncoder
+                    ? ((SizeEstimatingEncoder<BsonDocument>) codec).getEncodedSizeUpperBound(document,
+                    EncoderContext.builder().isEncodingCollectibleDocument(true).build())
+                    : -1;
+        }
+
         @Override
         @SuppressWarnings("unchecked")
         public void encode(final BsonWriter writer, final WriteRequest writeRequest, final EncoderContext encoderContext) {
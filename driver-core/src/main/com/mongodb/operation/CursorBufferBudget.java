@@ -0,0 +1,93 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.operation;
+
+import com.mongodb.annotations.ThreadSafe;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+
+/**
+ * A limit on the number of bytes of documents that a group of cursors, such as all the cursors of a client, keep buffered between
+ * them.  Cursors that share a budget size each getMore so that no reply takes more than half of the bytes still available, and don't
+ * prefetch while none are available, so the total stays close to the limit however many cursors are open.  It's not a hard limit: a
+ * cursor always asks for enough documents to make progress, and the size of its documents is only known from those already received.
+ *
+ * <p>The bytes counted are those of the batches returned by getMore commands, from when they're received until the cursor moves past
+ * them or is closed, which also makes a budget a measure of how much memory its cursors are using.</p>
+ *
+ * @since 3.9
+ */
+@ThreadSafe
+public final class CursorBufferBudget {
+    private final long maxBufferedBytes;
+    private final AtomicLong bufferedBytes = new AtomicLong();
+
+    /**
+     * Construct a new instance.
+     *
+     * @param maxBufferedBytes the maximum number of bytes that the cursors sharing this budget should keep buffered, which must be
+     *                         greater than 0
+     */
+    public CursorBufferBudget(final long maxBufferedBytes) {
+        isTrueArgument("maxBufferedBytes > 0", maxBufferedBytes > 0);
+        this.maxBufferedBytes = maxBufferedBytes;
+    }
+
+    /**
+     * Gets the maximum number of bytes that the cursors sharing this budget should keep buffered.
+     *
+     * @return the maximum number of buffered bytes
+     */
+    public long getMaxBufferedBytes() {
+        return maxBufferedBytes;
+    }
+
+    /**
+     * Gets the number of bytes that the open cursors sharing this budget currently keep buffered.
+     *
+     * @return the number of buffered bytes
+     */
+    public long getBufferedBytes() {
+        return bufferedBytes.get();
+    }
+
+    long getAvailableBytes() {
+        return Math.max(0, maxBufferedBytes - bufferedBytes.get());
+    }
+
+    void acquire(final long bytes) {
+        if (bytes > 0) {
+            bufferedBytes.addAndGet(bytes);
+        }
+    }
+
+    void release(final long bytes) {
+        if (bytes > 0) {
+            bufferedBytes.addAndGet(-bytes);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CursorBufferBudget{"
+                + "maxBufferedBytes=" + maxBufferedBytes
+                + ", bufferedBytes=" + bufferedBytes.get()
+                + '}';
+    }
+}
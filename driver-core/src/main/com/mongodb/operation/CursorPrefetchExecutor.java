@@ -0,0 +1,46 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.operation;
+
+import com.mongodb.internal.thread.DaemonThreadFactory;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Holds the process-wide executor on which cursors prefetch their next batch.  Each cursor has at most one prefetch in progress, and
+ * idle threads are discarded, so the number of threads follows the number of cursors that are currently prefetching.
+ */
+final class CursorPrefetchExecutor {
+    private static ExecutorService executor;
+
+    static <T> Future<T> submit(final Callable<T> task) {
+        return getExecutor().submit(task);
+    }
+
+    private static synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newCachedThreadPool(new DaemonThreadFactory("cursor-prefetch"));
+        }
+        return executor;
+    }
+
+    private CursorPrefetchExecutor() {
+    }
+}
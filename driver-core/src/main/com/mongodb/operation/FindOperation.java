@@ -47,13 +47,17 @@ import org.bson.BsonInt64;
 import org.bson.BsonString;
 import org.bson.BsonValue;
 import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.Codec;
 import org.bson.codecs.Decoder;
 import org.bson.codecs.DecoderContext;
+import org.bson.codecs.RawBsonDocumentCodec;
+import org.bson.codecs.ReusableDecoder;
 
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 import static com.mongodb.ReadPreference.primary;
@@ -67,6 +71,7 @@ import static com.mongodb.operation.CommandOperationHelper.executeWrappedCommand
 import static com.mongodb.operation.DocumentHelper.putIfNotNullOrEmpty;
 import static com.mongodb.operation.OperationHelper.AsyncCallableWithConnectionAndSource;
 import static com.mongodb.operation.OperationHelper.LOGGER;
+import static com.mongodb.operation.OperationHelper.cursorDocumentToLazyQueryResult;
 import static com.mongodb.operation.OperationHelper.cursorDocumentToQueryResult;
 import static com.mongodb.operation.OperationHelper.releasingCallback;
 import static com.mongodb.internal.operation.ServerVersionHelper.serverIsAtLeastVersionThreeDotTwo;
@@ -82,6 +87,8 @@ import static com.mongodb.operation.OperationReadConcernHelper.appendReadConcern
  */
 public class FindOperation<T> implements AsyncReadOperation<AsyncBatchCursor<T>>, ReadOperation<BatchCursor<T>> {
     private static final String FIRST_BATCH = "firstBatch";
+    private static final Codec<BsonDocument> RAW_FIRST_BATCH_RESULT_CODEC = CommandResultDocumentCodec.create(new RawBsonDocumentCodec(),
+            FIRST_BATCH);
 
     private final MongoNamespace namespace;
     private final Decoder<T> decoder;
@@ -108,6 +115,12 @@ public class FindOperation<T> implements AsyncReadOperation<AsyncBatchCursor<T>>
     private boolean returnKey;
     private boolean showRecordId;
     private boolean snapshot;
+    private Double prefetchThreshold;
+    private Integer maxBufferedBytes;
+    private CursorBufferBudget bufferBudget;
+    private ForkJoinPool decodePool;
+    private boolean killCursorsInBackground;
+    private boolean reuseResults;
 
     /**
      * Construct a new instance.
@@ -690,6 +703,158 @@ public class FindOperation<T> implements AsyncReadOperation<AsyncBatchCursor<T>>
         return this;
     }
 
+    /**
+     * Gets the fraction of each batch after which the next batch is requested in the background, or null if the next batch is only
+     * requested once the current one is used up.
+     *
+     * @return the prefetch threshold, which may be null
+     * @since 3.9
+     */
+    public Double getPrefetchThreshold() {
+        return prefetchThreshold;
+    }
+
+    /**
+     * Sets the fraction of each batch after which the next batch is requested in the background, so that applications that do
+     * significant work per document don't wait a round trip for each batch.  A value of 0 requests the next batch as soon as the current
+     * one is returned.  Tailable cursors never prefetch.
+     *
+     * @param prefetchThreshold the prefetch threshold, between 0 and 1, or null to disable prefetching
+     * @return this
+     * @since 3.9
+     */
+    public FindOperation<T> prefetchThreshold(final Double prefetchThreshold) {
+        isTrueArgument("prefetchThreshold is between 0 and 1",
+                prefetchThreshold == null || (prefetchThreshold >= 0 && prefetchThreshold <= 1));
+        this.prefetchThreshold = prefetchThreshold;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of bytes of documents that the cursor keeps buffered, or null if the batch size doesn't adapt.
+     *
+     * @return the maximum number of buffered bytes, which may be null
+     * @since 3.9
+     */
+    public Integer getMaxBufferedBytes() {
+        return maxBufferedBytes;
+    }
+
+    /**
+     * Sets the maximum number of bytes of documents that the cursor keeps buffered, which enables adaptive batch sizing.  The batch size
+     * of each getMore then adapts to the average size of the documents and the rate at which they're consumed, such that no batch
+     * exceeds half of this many bytes.  A batch size that has been set is still used, unless its batches would exceed that limit.
+     *
+     * @param maxBufferedBytes the maximum number of buffered bytes, or null to disable adaptive batch sizing
+     * @return this
+     * @since 3.9
+     */
+    public FindOperation<T> maxBufferedBytes(final Integer maxBufferedBytes) {
+        isTrueArgument("maxBufferedBytes > 0", maxBufferedBytes == null || maxBufferedBytes > 0);
+        this.maxBufferedBytes = maxBufferedBytes;
+        return this;
+    }
+
+    /**
+     * Gets the byte budget that the cursor shares with other cursors, or null if it has none.
+     *
+     * @return the buffer budget, which may be null
+     * @since 3.9
+     */
+    public CursorBufferBudget getBufferBudget() {
+        return bufferBudget;
+    }
+
+    /**
+     * Sets the byte budget that the cursor shares with other cursors, which enables adaptive batch sizing.  The batches returned by
+     * getMores are counted against the budget while the cursor holds them, and the batch size of each getMore adapts so that no batch
+     * exceeds half of the bytes left in the budget.  This applies as well as any limit set with {@link #maxBufferedBytes(Integer)}.
+     *
+     * @param bufferBudget the buffer budget, or null if the cursor doesn't share one
+     * @return this
+     * @since 3.9
+     */
+    public FindOperation<T> bufferBudget(final CursorBufferBudget bufferBudget) {
+        this.bufferBudget = bufferBudget;
+        return this;
+    }
+
+    /**
+     * Gets the pool on which the documents of each batch after the first are decoded in parallel, or null if they're decoded one at a
+     * time as the cursor reaches them.
+     *
+     * @return the decode pool, which may be null
+     * @since 3.9
+     */
+    public ForkJoinPool getDecodePool() {
+        return decodePool;
+    }
+
+    /**
+     * Sets the pool on which the documents of each batch after the first are decoded in parallel, as soon as the batch arrives, while
+     * keeping their order.  This pays off for large batches of documents that are expensive to decode, such as complex POJOs.  Batches
+     * too small to be worth splitting are still decoded one document at a time.
+     *
+     * @param decodePool the decode pool, or null to decode documents one at a time
+     * @return this
+     * @since 3.9
+     */
+    public FindOperation<T> decodePool(final ForkJoinPool decodePool) {
+        this.decodePool = decodePool;
+        return this;
+    }
+
+    /**
+     * Gets whether a cursor closed before it's exhausted is killed in the background, rather than before close returns.
+     *
+     * @return true if cursors are killed in the background
+     * @since 3.9
+     */
+    public boolean isKillCursorsInBackground() {
+        return killCursorsInBackground;
+    }
+
+    /**
+     * Sets whether a cursor closed before it's exhausted is killed in the background, rather than before close returns.  Cursors killed
+     * in the background are queued for a short time, and then killed with a single command per server and namespace.  A cursor in a
+     * transaction is always killed before close returns.
+     *
+     * @param killCursorsInBackground true if cursors should be killed in the background
+     * @return this
+     * @since 3.9
+     */
+    public FindOperation<T> killCursorsInBackground(final boolean killCursorsInBackground) {
+        this.killCursorsInBackground = killCursorsInBackground;
+        return this;
+    }
+
+    /**
+     * Gets whether each cursor decodes all of its results into a single instance.
+     *
+     * @return true if results are reused
+     * @since 3.9
+     */
+    public boolean isReuseResults() {
+        return reuseResults;
+    }
+
+    /**
+     * Sets whether each cursor decodes all of its results into a single instance, rather than allocating a new one per document, so that
+     * long scans create next to no garbage.  Each result is then only valid until the next one is read from the cursor, so results must
+     * not be kept or collected.  Documents are decoded one at a time as the cursor reaches them, so any decode pool is ignored.
+     *
+     * <p>Results are only reused if the decoder is a {@link ReusableDecoder}, and if the server is at least version 3.2.  Otherwise,
+     * they're decoded as usual.</p>
+     *
+     * @param reuseResults true if results should be reused
+     * @return this
+     * @since 3.9
+     */
+    public FindOperation<T> reuseResults(final boolean reuseResults) {
+        this.reuseResults = reuseResults;
+        return this;
+    }
+
     @Override
     public BatchCursor<T> execute(final ReadBinding binding) {
         return withConnection(binding, new CallableWithConnectionAndSource<BatchCursor<T>>() {
@@ -700,7 +865,7 @@ public class FindOperation<T> implements AsyncReadOperation<AsyncBatchCursor<T>>
                         validateReadConcernAndCollation(connection, binding.getSessionContext().getReadConcern(), collation);
                         return executeWrappedCommandProtocol(binding, namespace.getDatabaseName(),
                                                              wrapInExplainIfNecessary(getCommand(binding.getSessionContext())),
-                                                             CommandResultDocumentCodec.create(decoder, FIRST_BATCH),
+                                                             getFirstBatchResultCodec(),
                                                              connection, transformer(source, connection));
                     } catch (MongoCommandException e) {
                         throw new MongoQueryException(e);
@@ -720,7 +885,9 @@ public class FindOperation<T> implements AsyncReadOperation<AsyncBatchCursor<T>>
                                                                   isPartial(),
                                                                   isOplogReplay(),
                                                                   decoder);
-                    return new QueryBatchCursor<T>(queryResult, limit, batchSize, getMaxTimeForCursor(), decoder, source, connection);
+                    return new QueryBatchCursor<T>(queryResult, limit, batchSize, getMaxTimeForCursor(),
+                                                   getPrefetchThresholdForCursor(), maxBufferedBytes, bufferBudget, decodePool,
+                                                   killCursorsInBackground, decoder, source, connection);
                 }
             }
         });
@@ -748,7 +915,7 @@ public class FindOperation<T> implements AsyncReadOperation<AsyncBatchCursor<T>>
                                         } else {
                                             executeWrappedCommandProtocolAsync(binding, namespace.getDatabaseName(),
                                                     wrapInExplainIfNecessary(getCommand(binding.getSessionContext())),
-                                                    CommandResultDocumentCodec.create(decoder, FIRST_BATCH), connection,
+                                                    getFirstBatchResultCodec(), connection,
                                                     asyncTransformer(source, connection), wrappedCallback);
                                         }
                                     }
@@ -775,8 +942,8 @@ public class FindOperation<T> implements AsyncReadOperation<AsyncBatchCursor<T>>
                                                                 wrappedCallback.onResult(null, t);
                                                             } else {
                                                                 wrappedCallback.onResult(new AsyncQueryBatchCursor<T>(result, limit,
-                                                                        batchSize, getMaxTimeForCursor(), decoder, source, connection),
-                                                                        null);
+                                                                        batchSize, getMaxTimeForCursor(), maxBufferedBytes, bufferBudget,
+                                                                        decodePool, decoder, source, connection), null);
                                                             }
                                                         }
                                                     });
@@ -1086,12 +1253,19 @@ public class FindOperation<T> implements AsyncReadOperation<AsyncBatchCursor<T>>
         return new CommandTransformer<BsonDocument, BatchCursor<T>>() {
             @Override
             public BatchCursor<T> apply(final BsonDocument result, final ServerAddress serverAddress) {
-                QueryResult<T> queryResult = documentToQueryResult(result, serverAddress);
-                return new QueryBatchCursor<T>(queryResult, limit, batchSize, getMaxTimeForCursor(), decoder, source, connection);
+                Decoder<T> cursorDecoder = getCursorDecoder();
+                QueryResult<T> queryResult = documentToQueryResult(result, serverAddress, cursorDecoder);
+                return new QueryBatchCursor<T>(queryResult, limit, batchSize, getMaxTimeForCursor(),
+                                               getPrefetchThresholdForCursor(), maxBufferedBytes, bufferBudget, getDecodePoolForCursor(),
+                                               killCursorsInBackground, cursorDecoder, source, connection);
             }
         };
     }
 
+    private Double getPrefetchThresholdForCursor() {
+        return isTailableCursor() ? null : prefetchThreshold;
+    }
+
     private long getMaxTimeForCursor() {
         return cursorType == CursorType.TailableAwait ? maxAwaitTimeMS : 0;
     }
@@ -1101,17 +1275,40 @@ public class FindOperation<T> implements AsyncReadOperation<AsyncBatchCursor<T>>
         return new CommandTransformer<BsonDocument, AsyncBatchCursor<T>>() {
             @Override
             public AsyncBatchCursor<T> apply(final BsonDocument result, final ServerAddress serverAddress) {
-                QueryResult<T> queryResult = documentToQueryResult(result, serverAddress);
-                return new AsyncQueryBatchCursor<T>(queryResult, limit, batchSize, getMaxTimeForCursor(), decoder, source, connection);
+                Decoder<T> cursorDecoder = getCursorDecoder();
+                QueryResult<T> queryResult = documentToQueryResult(result, serverAddress, cursorDecoder);
+                return new AsyncQueryBatchCursor<T>(queryResult, limit, batchSize, getMaxTimeForCursor(), maxBufferedBytes, bufferBudget,
+                                                    getDecodePoolForCursor(), cursorDecoder, source, connection);
             }
         };
     }
 
-    private QueryResult<T> documentToQueryResult(final BsonDocument result, final ServerAddress serverAddress) {
+    // the first batch of a cursor that reuses its results is kept as raw BSON, since decoding it eagerly would leave every result of the
+    // batch holding the last document
+    private boolean isReusingResults() {
+        return reuseResults && decoder instanceof ReusableDecoder && !isExplain();
+    }
+
+    private Codec<BsonDocument> getFirstBatchResultCodec() {
+        return isReusingResults() ? RAW_FIRST_BATCH_RESULT_CODEC : CommandResultDocumentCodec.create(decoder, FIRST_BATCH);
+    }
+
+    private Decoder<T> getCursorDecoder() {
+        return isReusingResults() ? new ReusingDecoder<T>((ReusableDecoder<T>) decoder) : decoder;
+    }
+
+    private ForkJoinPool getDecodePoolForCursor() {
+        return isReusingResults() ? null : decodePool;
+    }
+
+    private QueryResult<T> documentToQueryResult(final BsonDocument result, final ServerAddress serverAddress,
+                                                 final Decoder<T> cursorDecoder) {
         QueryResult<T> queryResult;
         if (isExplain()) {
             T decodedDocument = decoder.decode(new BsonDocumentReader(result), DecoderContext.builder().build());
             queryResult = new QueryResult<T>(getNamespace(), Collections.singletonList(decodedDocument), 0, serverAddress);
+        } else if (isReusingResults()) {
+            queryResult = cursorDocumentToLazyQueryResult(result.getDocument("cursor"), serverAddress, FIRST_BATCH, cursorDecoder, null);
         } else {
             queryResult = cursorDocumentToQueryResult(result.getDocument("cursor"), serverAddress);
         }
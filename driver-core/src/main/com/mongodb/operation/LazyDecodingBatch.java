@@ -0,0 +1,187 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.operation;
+
+import com.mongodb.annotations.NotThreadSafe;
+import com.mongodb.async.SingleResultCallback;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Decoder;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RecursiveAction;
+
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * A batch of documents that are kept as raw BSON until the application first asks for them, and are then decoded one at a time.  The
+ * raw bytes of each document are let go as soon as it has been decoded, so a batch never holds both forms of all of its documents, and
+ * the documents of a batch that is abandoned part way through, because its cursor was closed, are never decoded at all.
+ *
+ * <p>Elements that aren't raw documents are assumed to have been decoded already and are returned as they are.</p>
+ *
+ * <p>Different documents may be asked for by different threads, as long as each document is only asked for by one of them.</p>
+ *
+ * <p>A large batch can instead be decoded all at once, in parallel, with {@link #decodeInParallel(ForkJoinPool)}, or with {@link
+ * #decodeInParallel(ForkJoinPool, SingleResultCallback)} by callers that mustn't block.</p>
+ *
+ * @param <T> the document type
+ */
+@NotThreadSafe
+final class LazyDecodingBatch<T> extends AbstractList<T> implements RandomAccess {
+    // fewer documents than this are decoded by a single task, so that splitting doesn't cost more than it saves
+    static final int MIN_SLICE_SIZE = 32;
+    // more slices than threads, so that threads that finish early can steal work from those with larger documents
+    private static final int SLICES_PER_THREAD = 4;
+
+    private final Decoder<T> decoder;
+    // each element is either the raw document or, once it has been asked for, the decoded one
+    private final Object[] documents;
+    private final boolean[] decoded;
+    private final long rawBytes;
+
+    LazyDecodingBatch(final List<?> rawDocuments, final Decoder<T> decoder) {
+        this.decoder = notNull("decoder", decoder);
+        this.documents = notNull("rawDocuments", rawDocuments).toArray();
+        this.decoded = new boolean[documents.length];
+        long bytes = 0;
+        for (Object document : documents) {
+            if (document instanceof RawBsonDocument) {
+                bytes += ((RawBsonDocument) document).getByteBuffer().remaining();
+            }
+        }
+        this.rawBytes = bytes;
+    }
+
+    /**
+     * Gets the number of bytes of the raw documents this batch was created with, for those batches that are lists of raw documents.
+     *
+     * @param batch a batch of documents
+     * @return the number of raw bytes of the batch, or 0 if it isn't a lazily decoded batch
+     */
+    static long getRawBytes(final List<?> batch) {
+        return batch instanceof LazyDecodingBatch ? ((LazyDecodingBatch<?>) batch).rawBytes : 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(final int index) {
+        if (index < 0 || index >= documents.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + documents.length);
+        }
+        if (!decoded[index]) {
+            Object document = documents[index];
+            if (document instanceof RawBsonDocument) {
+                documents[index] = ((RawBsonDocument) document).decode(decoder);
+            }
+            decoded[index] = true;
+        }
+        return (T) documents[index];
+    }
+
+    /**
+     * Decodes every document of this batch that hasn't been decoded yet, on the given pool, and returns once they're all decoded.  The
+     * batch is split into contiguous slices that are decoded concurrently, each document into its own position, so the order of the
+     * batch is kept.  Batches too small to be worth splitting are left to be decoded lazily.
+     *
+     * <p>This must not be called concurrently with any other method of the batch.</p>
+     *
+     * @param pool the pool to decode on
+     */
+    void decodeInParallel(final ForkJoinPool pool) {
+        notNull("pool", pool);
+        if (documents.length < 2 * MIN_SLICE_SIZE) {
+            return;
+        }
+        pool.invoke(new DecodeSlice(0, documents.length, getSliceSize(pool)));
+    }
+
+    /**
+     * Decodes every document of this batch that hasn't been decoded yet, on the given pool, as {@link #decodeInParallel(ForkJoinPool)}
+     * does, but without waiting for it.  The callback is completed on a thread of the pool once they're all decoded, or straight away
+     * if the batch is too small to be worth splitting.
+     *
+     * <p>Nothing may use the batch until the callback has been completed.</p>
+     *
+     * @param pool     the pool to decode on
+     * @param callback the callback to complete once the batch is decoded, with the exception thrown by the decoder if any
+     */
+    void decodeInParallel(final ForkJoinPool pool, final SingleResultCallback<Void> callback) {
+        notNull("pool", pool);
+        notNull("callback", callback);
+        if (documents.length < 2 * MIN_SLICE_SIZE) {
+            callback.onResult(null, null);
+            return;
+        }
+        final int sliceSize = getSliceSize(pool);
+        try {
+            pool.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        new DecodeSlice(0, documents.length, sliceSize).invoke();
+                    } catch (Throwable t) {
+                        callback.onResult(null, t);
+                        return;
+                    }
+                    callback.onResult(null, null);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            callback.onResult(null, e);
+        }
+    }
+
+    private int getSliceSize(final ForkJoinPool pool) {
+        return Math.max(MIN_SLICE_SIZE, documents.length / (pool.getParallelism() * SLICES_PER_THREAD));
+    }
+
+    @Override
+    public int size() {
+        return documents.length;
+    }
+
+    private final class DecodeSlice extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int start;
+        private final int end;
+        private final int sliceSize;
+
+        DecodeSlice(final int start, final int end, final int sliceSize) {
+            this.start = start;
+            this.end = end;
+            this.sliceSize = sliceSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= sliceSize) {
+                // each index is written by exactly one task, and joining the tasks publishes the writes to the caller
+                for (int i = start; i < end; i++) {
+                    LazyDecodingBatch.this.get(i);
+                }
+            } else {
+                int middle = (start + end) >>> 1;
+                invokeAll(new DecodeSlice(start, middle, sliceSize), new DecodeSlice(middle, end, sliceSize));
+            }
+        }
+    }
+}
@@ -40,6 +40,7 @@ import org.bson.BsonDocument;
 import org.bson.FieldNameValidator;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
@@ -331,8 +332,14 @@ public class MixedBulkWriteOperation implements AsyncWriteOperation<BulkWriteRes
 
     private void executeBatchesAsync(final AsyncWriteBinding binding, final AsyncConnection connection, final BulkWriteBatch batch,
                                      final boolean retryWrites, final ConnectionReleasingWrappedCallback<BulkWriteResult> callback) {
-        executeCommandAsync(binding, connection, batch, callback, getCommandCallback(binding, connection, batch, retryWrites, false,
-                callback));
+        EncodeAheadCallback encodeAheadCallback = new EncodeAheadCallback(getCommandCallback(binding, connection, batch, retryWrites,
+                false, callback));
+        executeCommandAsync(binding, connection, batch, callback, encodeAheadCallback);
+        try {
+            batch.encodeNextSplit();
+        } finally {
+            encodeAheadCallback.onEncodedAhead();
+        }
     }
 
     private void retryExecuteBatchesAsync(final AsyncWriteBinding binding, final BulkWriteBatch retryBatch,
@@ -501,4 +508,35 @@ public class MixedBulkWriteOperation implements AsyncWriteOperation<BulkWriteRes
             throw MongoException.fromThrowableNonNull(t);
         }
     }
+
+    /**
+     * Holds back the result of a batch until the next split of its payload has been encoded ahead, since the encoding may still be in
+     * progress on the thread that sent the batch when the reply arrives on another.
+     */
+    private static final class EncodeAheadCallback implements SingleResultCallback<BsonDocument> {
+        private final SingleResultCallback<BsonDocument> wrapped;
+        private final AtomicInteger pending = new AtomicInteger(2);
+        // published by pending
+        private BsonDocument result;
+        private Throwable t;
+
+        EncodeAheadCallback(final SingleResultCallback<BsonDocument> wrapped) {
+            this.wrapped = wrapped;
+        }
+
+        @Override
+        public void onResult(final BsonDocument result, final Throwable t) {
+            this.result = result;
+            this.t = t;
+            if (pending.decrementAndGet() == 0) {
+                wrapped.onResult(result, t);
+            }
+        }
+
+        void onEncodedAhead() {
+            if (pending.decrementAndGet() == 0) {
+                wrapped.onResult(result, t);
+            }
+        }
+    }
 }
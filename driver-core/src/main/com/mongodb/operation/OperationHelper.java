@@ -46,13 +46,17 @@ import com.mongodb.connection.ServerVersion;
 import com.mongodb.diagnostics.logging.Logger;
 import com.mongodb.diagnostics.logging.Loggers;
 import com.mongodb.internal.operation.ServerVersionHelper;
+import com.mongodb.lang.Nullable;
 import com.mongodb.session.SessionContext;
 import org.bson.BsonDocument;
 import org.bson.BsonInt64;
+import org.bson.codecs.Codec;
 import org.bson.codecs.Decoder;
+import org.bson.codecs.RawBsonDocumentCodec;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import static com.mongodb.assertions.Assertions.notNull;
 import static com.mongodb.internal.async.ErrorHandlingResultCallback.errorHandlingCallback;
@@ -63,6 +67,9 @@ import static java.util.Collections.singletonList;
 final class OperationHelper {
     public static final Logger LOGGER = Loggers.getLogger("operation");
 
+    // leaves the documents of a getMore batch as raw BSON, for getMoreCursorDocumentToLazyQueryResult
+    static final Codec<BsonDocument> RAW_GET_MORE_RESULT_CODEC = CommandResultDocumentCodec.create(new RawBsonDocumentCodec(), "nextBatch");
+
     interface CallableWithConnection<T> {
         T call(Connection connection);
     }
@@ -314,8 +321,31 @@ final class OperationHelper {
         return cursorDocumentToQueryResult(cursorDocument, serverAddress, "firstBatch");
     }
 
-    static <T> QueryResult<T> getMoreCursorDocumentToQueryResult(final BsonDocument cursorDocument, final ServerAddress serverAddress) {
-        return cursorDocumentToQueryResult(cursorDocument, serverAddress, "nextBatch");
+    /**
+     * Creates the result of a getMore command whose reply was decoded with {@link #RAW_GET_MORE_RESULT_CODEC}, so that each document of
+     * the batch is only decoded when the cursor's consumer reaches it, unless a pool is given on which to decode the whole batch in
+     * parallel before this returns.
+     */
+    static <T> QueryResult<T> getMoreCursorDocumentToLazyQueryResult(final BsonDocument cursorDocument, final ServerAddress serverAddress,
+                                                                     final Decoder<T> decoder, @Nullable final ForkJoinPool decodePool) {
+        return cursorDocumentToLazyQueryResult(cursorDocument, serverAddress, "nextBatch", decoder, decodePool);
+    }
+
+    /**
+     * Creates the result of a cursor command whose batch was decoded as raw BSON, so that each document of the batch is only decoded when
+     * the cursor's consumer reaches it, unless a pool is given on which to decode the whole batch in parallel before this returns.
+     */
+    static <T> QueryResult<T> cursorDocumentToLazyQueryResult(final BsonDocument cursorDocument, final ServerAddress serverAddress,
+                                                              final String fieldNameContainingBatch, final Decoder<T> decoder,
+                                                              @Nullable final ForkJoinPool decodePool) {
+        long cursorId = ((BsonInt64) cursorDocument.get("id")).getValue();
+        MongoNamespace queryResultNamespace = new MongoNamespace(cursorDocument.getString("ns").getValue());
+        List<Object> rawDocuments = BsonDocumentWrapperHelper.toList(cursorDocument, fieldNameContainingBatch);
+        LazyDecodingBatch<T> batch = new LazyDecodingBatch<T>(rawDocuments, decoder);
+        if (decodePool != null) {
+            batch.decodeInParallel(decodePool);
+        }
+        return new QueryResult<T>(queryResultNamespace, batch, cursorId, serverAddress);
     }
 
     private static <T> QueryResult<T> cursorDocumentToQueryResult(final BsonDocument cursorDocument, final ServerAddress serverAddress,
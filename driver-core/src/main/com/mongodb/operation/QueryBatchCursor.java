@@ -18,6 +18,7 @@ package com.mongodb.operation;
 
 import com.mongodb.MongoCommandException;
 import com.mongodb.MongoException;
+import com.mongodb.MongoInterruptedException;
 import com.mongodb.MongoNamespace;
 import com.mongodb.ReadPreference;
 import com.mongodb.ServerAddress;
@@ -25,7 +26,9 @@ import com.mongodb.ServerCursor;
 import com.mongodb.binding.ConnectionSource;
 import com.mongodb.connection.Connection;
 import com.mongodb.connection.QueryResult;
+import com.mongodb.connection.ServerId;
 import com.mongodb.internal.validator.NoOpFieldNameValidator;
+import com.mongodb.session.SessionContext;
 import org.bson.BsonArray;
 import org.bson.BsonDocument;
 import org.bson.BsonInt32;
@@ -35,13 +38,21 @@ import org.bson.FieldNameValidator;
 import org.bson.codecs.BsonDocumentCodec;
 import org.bson.codecs.Decoder;
 
+import java.util.AbstractList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
 import static com.mongodb.operation.CursorHelper.getNumberToReturn;
-import static com.mongodb.operation.OperationHelper.getMoreCursorDocumentToQueryResult;
+import static com.mongodb.operation.LazyDecodingBatch.getRawBytes;
+import static com.mongodb.operation.OperationHelper.RAW_GET_MORE_RESULT_CODEC;
+import static com.mongodb.operation.OperationHelper.getMoreCursorDocumentToLazyQueryResult;
 import static com.mongodb.internal.operation.ServerVersionHelper.serverIsAtLeastVersionThreeDotTwo;
 import static com.mongodb.operation.QueryHelper.translateCommandException;
 import static java.util.Collections.singletonList;
@@ -53,11 +64,21 @@ class QueryBatchCursor<T> implements BatchCursor<T> {
     private final int limit;
     private final Decoder<T> decoder;
     private final long maxTimeMS;
+    private final Double prefetchThreshold;
+    private final AdaptiveBatchSizer batchSizer;
+    private final CursorBufferBudget bufferBudget;
+    private final ForkJoinPool decodePool;
+    private final boolean killCursorsInBackground;
+    private final ServerId serverId;
     private int batchSize;
     private ConnectionSource connectionSource;
     private ServerCursor serverCursor;
     private List<T> nextBatch;
+    // the bytes counted against the buffer budget for the batch last returned by next, and for the next batch
+    private long currentBatchBytes;
+    private long nextBatchBytes;
     private int count;
+    private Future<QueryResult<T>> prefetchedQueryResult;
     private volatile boolean closed;
 
     QueryBatchCursor(final QueryResult<T> firstQueryResult, final int limit, final int batchSize, final Decoder<T> decoder) {
@@ -71,13 +92,48 @@ class QueryBatchCursor<T> implements BatchCursor<T> {
 
     QueryBatchCursor(final QueryResult<T> firstQueryResult, final int limit, final int batchSize, final long maxTimeMS,
                      final Decoder<T> decoder, final ConnectionSource connectionSource, final Connection connection) {
+        this(firstQueryResult, limit, batchSize, maxTimeMS, null, null, null, null, false, decoder, connectionSource, connection);
+    }
+
+    /**
+     * Construct an instance that, if {@code prefetchThreshold} is not null, requests the next batch on a background thread once that
+     * fraction of the current batch has been read, so that it has often arrived by the time the current batch is used up.  Batches are
+     * only read from the lists returned by {@link #next()}, so this cursor must still be used by one thread at a time.  Nothing is
+     * prefetched while the cursor uses an explicit session or is part of a transaction.
+     *
+     * <p>If {@code maxBufferedBytes} is not null, the batch size of each getMore adapts to the size of the documents and the rate at
+     * which they are consumed, without ever exceeding half of that many bytes.</p>
+     *
+     * <p>If {@code bufferBudget} is not null, the batches returned by getMores are counted against it while this cursor holds them, and
+     * the batch size of each getMore also adapts to the bytes left in it.</p>
+     *
+     * <p>If {@code decodePool} is not null, the documents of each batch returned by a getMore are decoded in parallel on that pool as
+     * soon as the batch arrives, rather than one at a time as they're read.</p>
+     *
+     * <p>If {@code killCursorsInBackground} is true, closing the cursor before it's exhausted queues it to be killed in the background,
+     * along with other cursors of the same client, server and session, rather than killing it before returning.  Cursors of an explicit
+     * session or a transaction are still killed before returning.</p>
+     */
+    QueryBatchCursor(final QueryResult<T> firstQueryResult, final int limit, final int batchSize, final long maxTimeMS,
+                     final Double prefetchThreshold, final Integer maxBufferedBytes, final CursorBufferBudget bufferBudget,
+                     final ForkJoinPool decodePool, final boolean killCursorsInBackground, final Decoder<T> decoder,
+                     final ConnectionSource connectionSource, final Connection connection) {
         isTrueArgument("maxTimeMS >= 0", maxTimeMS >= 0);
+        isTrueArgument("prefetchThreshold is between 0 and 1",
+                prefetchThreshold == null || (prefetchThreshold >= 0 && prefetchThreshold <= 1));
         this.maxTimeMS = maxTimeMS;
+        this.prefetchThreshold = prefetchThreshold;
         this.namespace = firstQueryResult.getNamespace();
         this.serverAddress = firstQueryResult.getAddress();
         this.limit = limit;
         this.batchSize = batchSize;
-        this.decoder = notNull("decoder", decoder);
+        this.batchSizer = maxBufferedBytes != null || bufferBudget != null ? new AdaptiveBatchSizer(maxBufferedBytes, bufferBudget)
+                                                                            : null;
+        this.bufferBudget = bufferBudget;
+        this.decodePool = decodePool;
+        this.killCursorsInBackground = killCursorsInBackground;
+        this.serverId = killCursorsInBackground && connection != null ? connection.getDescription().getConnectionId().getServerId() : null;
+        this.decoder = batchSizer != null ? batchSizer.measuring(notNull("decoder", decoder)) : notNull("decoder", decoder);
         if (firstQueryResult.getCursor() != null) {
             notNull("connectionSource", connectionSource);
         }
@@ -136,6 +192,15 @@ class QueryBatchCursor<T> implements BatchCursor<T> {
 
         List<T> retVal = nextBatch;
         nextBatch = null;
+        releaseBufferedBytes(currentBatchBytes);
+        currentBatchBytes = nextBatchBytes;
+        nextBatchBytes = 0;
+        if (batchSizer != null) {
+            batchSizer.batchReturned(retVal.size());
+        }
+        if (prefetchThreshold != null && serverCursor != null && !limitReached() && canRunInBackground()) {
+            return new PrefetchingBatch(retVal);
+        }
         return retVal;
     }
 
@@ -159,8 +224,12 @@ class QueryBatchCursor<T> implements BatchCursor<T> {
         if (!closed) {
             closed = true;
             try {
-                killCursor();
+                awaitPrefetchedBatch();
+                killCursorOnClose();
             } finally {
+                releaseBufferedBytes(currentBatchBytes + nextBatchBytes);
+                currentBatchBytes = 0;
+                nextBatchBytes = 0;
                 if (connectionSource != null) {
                     connectionSource.release();
                 }
@@ -215,24 +284,40 @@ class QueryBatchCursor<T> implements BatchCursor<T> {
     }
 
     private void getMore() {
+        if (batchSizer != null) {
+            batchSizer.batchRequested();
+        }
+        // a getMore is only needed once the application has finished with the batch last returned
+        releaseBufferedBytes(currentBatchBytes);
+        currentBatchBytes = 0;
+        if (prefetchedQueryResult != null) {
+            initFromPrefetchedQueryResult();
+            return;
+        }
         Connection connection = connectionSource.getConnection();
         try {
+            if (batchSizer != null) {
+                batchSizer.getMoreStarted();
+            }
             if (serverIsAtLeastVersionThreeDotTwo(connection.getDescription())) {
                 try {
                     initFromCommandResult(connection.command(namespace.getDatabaseName(),
                                                              asGetMoreCommandDocument(),
                                                              NO_OP_FIELD_NAME_VALIDATOR,
                                                              ReadPreference.primary(),
-                                                             CommandResultDocumentCodec.create(decoder, "nextBatch"),
+                                                             RAW_GET_MORE_RESULT_CODEC,
                                                              connectionSource.getSessionContext()));
                 } catch (MongoCommandException e) {
                     throw translateCommandException(e, serverCursor);
                 }
             } else {
                 QueryResult<T> getMore = connection.getMore(namespace, serverCursor.getId(),
-                        getNumberToReturn(limit, batchSize, count), decoder);
+                        getNumberToReturn(limit, getBatchSizeForGetMore(), count), decoder);
                 initFromQueryResult(getMore);
             }
+            if (batchSizer != null) {
+                batchSizer.getMoreCompleted();
+            }
             if (limitReached()) {
                 killCursor(connection);
             }
@@ -245,11 +330,105 @@ class QueryBatchCursor<T> implements BatchCursor<T> {
         }
     }
 
+    private void prefetch() {
+        if (closed || prefetchedQueryResult != null || serverCursor == null || limitReached() || !canRunInBackground()) {
+            return;
+        }
+        // leave the getMore until the application asks for it, rather than buffer another batch beyond the budget
+        if (bufferBudget != null && bufferBudget.getAvailableBytes() == 0) {
+            return;
+        }
+        // capture the state of the cursor on this thread, so that only the round trip itself runs in the background
+        final ServerCursor getMoreCursor = serverCursor;
+        final BsonDocument getMoreCommandDocument = asGetMoreCommandDocument();
+        final int numberToReturn = getNumberToReturn(limit, getBatchSizeForGetMore(), count);
+        prefetchedQueryResult = CursorPrefetchExecutor.submit(new Callable<QueryResult<T>>() {
+            @Override
+            public QueryResult<T> call() {
+                Connection connection = connectionSource.getConnection();
+                try {
+                    if (batchSizer != null) {
+                        batchSizer.getMoreStarted();
+                    }
+                    QueryResult<T> queryResult = getMore(connection);
+                    if (batchSizer != null) {
+                        batchSizer.getMoreCompleted();
+                    }
+                    return queryResult;
+                } finally {
+                    connection.release();
+                }
+            }
+
+            private QueryResult<T> getMore(final Connection connection) {
+                if (serverIsAtLeastVersionThreeDotTwo(connection.getDescription())) {
+                    try {
+                        BsonDocument result = connection.command(namespace.getDatabaseName(), getMoreCommandDocument,
+                                NO_OP_FIELD_NAME_VALIDATOR, ReadPreference.primary(),
+                                RAW_GET_MORE_RESULT_CODEC, connectionSource.getSessionContext());
+                        return acquireBufferedBytes(getMoreCursorDocumentToLazyQueryResult(result.getDocument("cursor"),
+                                connectionSource.getServerDescription().getAddress(), decoder, decodePool));
+                    } catch (MongoCommandException e) {
+                        throw translateCommandException(e, getMoreCursor);
+                    }
+                } else {
+                    return connection.getMore(namespace, getMoreCursor.getId(), numberToReturn, decoder);
+                }
+            }
+        });
+    }
+
+    // a command on another thread would use the application's session, which it may be using at the same time, so only the cursor's
+    // own implicit session is safe outside a transaction
+    private boolean canRunInBackground() {
+        SessionContext sessionContext = connectionSource.getSessionContext();
+        return !sessionContext.hasSession() || (sessionContext.isImplicitSession() && !sessionContext.hasActiveTransaction());
+    }
+
+    private void initFromPrefetchedQueryResult() {
+        initFromGetMoreResult(awaitPrefetchedQueryResult());
+        if (limitReached()) {
+            killCursor();
+        }
+        if (serverCursor == null) {
+            this.connectionSource.release();
+            this.connectionSource = null;
+        }
+    }
+
+    private QueryResult<T> awaitPrefetchedQueryResult() {
+        try {
+            return prefetchedQueryResult.get();
+        } catch (InterruptedException e) {
+            throw new MongoInterruptedException("Interrupted waiting for the next batch", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new MongoException("Exception getting the next batch", e.getCause());
+        } finally {
+            prefetchedQueryResult = null;
+        }
+    }
+
+    // the connection source mustn't be released while a prefetch is still using it, and the server may have exhausted the cursor
+    private void awaitPrefetchedBatch() {
+        if (prefetchedQueryResult != null) {
+            try {
+                QueryResult<T> queryResult = awaitPrefetchedQueryResult();
+                releaseBufferedBytes(getRawBytes(queryResult.getResults()));
+                serverCursor = queryResult.getCursor();
+            } catch (MongoException e) {
+                // Ignore exceptions from the getMore, as with killCursor
+            }
+        }
+    }
+
     private BsonDocument asGetMoreCommandDocument() {
         BsonDocument document = new BsonDocument("getMore", new BsonInt64(serverCursor.getId()))
                                 .append("collection", new BsonString(namespace.getCollectionName()));
 
-        int batchSizeForGetMoreCommand = Math.abs(getNumberToReturn(limit, this.batchSize, count));
+        int batchSizeForGetMoreCommand = Math.abs(getNumberToReturn(limit, getBatchSizeForGetMore(), count));
         if (batchSizeForGetMoreCommand != 0) {
             document.append("batchSize", new BsonInt32(batchSizeForGetMoreCommand));
         }
@@ -260,6 +439,10 @@ class QueryBatchCursor<T> implements BatchCursor<T> {
         return document;
     }
 
+    private int getBatchSizeForGetMore() {
+        return batchSizer != null ? batchSizer.getBatchSize(batchSize) : batchSize;
+    }
+
     private void initFromQueryResult(final QueryResult<T> queryResult) {
         serverCursor = queryResult.getCursor();
         nextBatch = queryResult.getResults().isEmpty() ? null : queryResult.getResults();
@@ -267,15 +450,46 @@ class QueryBatchCursor<T> implements BatchCursor<T> {
     }
 
     private void initFromCommandResult(final BsonDocument getMoreCommandResultDocument) {
-        QueryResult<T> queryResult = getMoreCursorDocumentToQueryResult(getMoreCommandResultDocument.getDocument("cursor"),
-                                                                        connectionSource.getServerDescription().getAddress());
+        QueryResult<T> queryResult = getMoreCursorDocumentToLazyQueryResult(getMoreCommandResultDocument.getDocument("cursor"),
+                connectionSource.getServerDescription().getAddress(), decoder, decodePool);
+        initFromGetMoreResult(acquireBufferedBytes(queryResult));
+    }
+
+    // the bytes of the result have already been counted against the buffer budget
+    private void initFromGetMoreResult(final QueryResult<T> queryResult) {
         initFromQueryResult(queryResult);
+        nextBatchBytes = bufferBudget != null ? getRawBytes(queryResult.getResults()) : 0;
+    }
+
+    // may be called from the prefetching thread
+    private QueryResult<T> acquireBufferedBytes(final QueryResult<T> queryResult) {
+        if (bufferBudget != null) {
+            bufferBudget.acquire(getRawBytes(queryResult.getResults()));
+        }
+        return queryResult;
+    }
+
+    private void releaseBufferedBytes(final long bytes) {
+        if (bufferBudget != null) {
+            bufferBudget.release(bytes);
+        }
     }
 
     private boolean limitReached() {
         return Math.abs(limit) != 0 && count >= Math.abs(limit);
     }
 
+    // cursors in a transaction are killed synchronously, since the transaction may be committed or aborted as soon as this returns, as
+    // are cursors of an explicit session, which the application may be using at the same time
+    private void killCursorOnClose() {
+        if (killCursorsInBackground && serverId != null && serverCursor != null && canRunInBackground()) {
+            BackgroundCursorKiller.getInstance().kill(serverId, namespace, serverCursor.getId(), connectionSource.retain());
+            serverCursor = null;
+        } else {
+            killCursor();
+        }
+    }
+
     private void killCursor() {
         if (serverCursor != null) {
             try {
@@ -308,4 +522,43 @@ class QueryBatchCursor<T> implements BatchCursor<T> {
         return new BsonDocument("killCursors", new BsonString(namespace.getCollectionName()))
                        .append("cursors", new BsonArray(singletonList(new BsonInt64(serverCursor.getId()))));
     }
+
+    /**
+     * A batch that starts the prefetch of the next batch once the prefetch threshold has been reached.
+     */
+    private final class PrefetchingBatch extends AbstractList<T> implements RandomAccess {
+        private final List<T> batch;
+        private final int prefetchIndex;
+
+        PrefetchingBatch(final List<T> batch) {
+            this.batch = batch;
+            this.prefetchIndex = Math.min(batch.size() - 1, (int) (batch.size() * prefetchThreshold));
+            if (prefetchIndex == 0) {
+                prefetch();
+            }
+        }
+
+        @Override
+        public T get(final int index) {
+            if (index == prefetchIndex) {
+                prefetch();
+            }
+            return batch.get(index);
+        }
+
+        // a range that's taken to be read elsewhere, perhaps by other threads, counts as read, so that only the cursor's thread prefetches
+        @Override
+        public List<T> subList(final int fromIndex, final int toIndex) {
+            List<T> subList = batch.subList(fromIndex, toIndex);
+            if (fromIndex <= prefetchIndex && prefetchIndex < toIndex) {
+                prefetch();
+            }
+            return subList;
+        }
+
+        @Override
+        public int size() {
+            return batch.size();
+        }
+    }
 }
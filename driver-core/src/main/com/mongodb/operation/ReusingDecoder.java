@@ -0,0 +1,47 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.operation;
+
+import com.mongodb.annotations.NotThreadSafe;
+import org.bson.BsonReader;
+import org.bson.codecs.Decoder;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.ReusableDecoder;
+
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * A decoder that decodes every value into the instance it returned for the previous one, if the underlying decoder can reuse it, so a
+ * cursor that decodes its results with it allocates a single result rather than one per document.
+ *
+ * @param <T> the result type
+ */
+@NotThreadSafe
+final class ReusingDecoder<T> implements Decoder<T> {
+    private final ReusableDecoder<T> wrapped;
+    private T previous;
+
+    ReusingDecoder(final ReusableDecoder<T> wrapped) {
+        this.wrapped = notNull("wrapped", wrapped);
+    }
+
+    @Override
+    public T decode(final BsonReader reader, final DecoderContext decoderContext) {
+        previous = wrapped.decode(reader, decoderContext, previous);
+        return previous;
+    }
+}
@@ -69,11 +69,14 @@ public final class CompositeServerSelector implements ServerSelector {
     public List<ServerDescription> select(final ClusterDescription clusterDescription) {
         ClusterDescription curClusterDescription = clusterDescription;
         List<ServerDescription> choices = null;
-        for (ServerSelector cur : serverSelectors) {
-            choices = cur.select(curClusterDescription);
-            curClusterDescription = new ClusterDescription(clusterDescription.getConnectionMode(), clusterDescription.getType(), choices,
-                                                                  clusterDescription.getClusterSettings(),
-                                                                  clusterDescription.getServerSettings());
+        for (int i = 0; i < serverSelectors.size(); i++) {
+            // each selector narrows the choices of the previous one, but the final choices need no description of their own
+            if (i > 0) {
+                curClusterDescription = new ClusterDescription(clusterDescription.getConnectionMode(), clusterDescription.getType(),
+                                                                      choices, clusterDescription.getClusterSettings(),
+                                                                      clusterDescription.getServerSettings());
+            }
+            choices = serverSelectors.get(i).select(curClusterDescription);
         }
 
         return choices;
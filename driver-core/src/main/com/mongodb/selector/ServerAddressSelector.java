@@ -61,6 +61,24 @@ public class ServerAddressSelector implements ServerSelector {
         return Collections.emptyList();
     }
 
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ServerAddressSelector that = (ServerAddressSelector) o;
+        return serverAddress.equals(that.serverAddress);
+    }
+
+    @Override
+    public int hashCode() {
+        return serverAddress.hashCode();
+    }
+
     @Override
     public String toString() {
         return "ServerAddressSelector{"
@@ -32,4 +32,27 @@ class BulkWriteOptionsSpecification extends Specification {
         where:
         ordered << [true, false]
     }
+
+    def 'should set parallelism'() {
+        expect:
+        new BulkWriteOptions().parallelism(4).getParallelism() == 4
+
+        when:
+        new BulkWriteOptions().parallelism(0)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def 'should set maxBufferedWrites'() {
+        expect:
+        new BulkWriteOptions().maxBufferedWrites == 1000
+        new BulkWriteOptions().maxBufferedWrites(10).getMaxBufferedWrites() == 10
+
+        when:
+        new BulkWriteOptions().maxBufferedWrites(0)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
 }
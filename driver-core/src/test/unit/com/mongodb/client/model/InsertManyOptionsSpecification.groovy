@@ -26,6 +26,7 @@ class InsertManyOptionsSpecification extends Specification {
         then:
         options.isOrdered()
         options.getBypassDocumentValidation() == null
+        options.getParallelism() == 1
     }
 
     def 'should set ordered'() {
@@ -43,4 +44,27 @@ class InsertManyOptionsSpecification extends Specification {
         where:
         bypassValidation << [null, true, false]
     }
+
+    def 'should set parallelism'() {
+        expect:
+        new InsertManyOptions().parallelism(4).getParallelism() == 4
+
+        when:
+        new InsertManyOptions().parallelism(0)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def 'should set maxBufferedDocuments'() {
+        expect:
+        new InsertManyOptions().maxBufferedDocuments == 1000
+        new InsertManyOptions().maxBufferedDocuments(10).getMaxBufferedDocuments() == 10
+
+        when:
+        new InsertManyOptions().maxBufferedDocuments(0)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
 }
@@ -158,4 +158,20 @@ class BulkWriteBatchCombinerSpecification extends Specification {
         e.writeErrors == [new BulkWriteError(45, 'wc error', new BsonDocument(), 0),
                           new BulkWriteError(11000, 'dup key', new BsonDocument(), 1)]
     }
+
+    def 'should keep the first error for an index merged more than once'() {
+        given:
+        def combiner = new BulkWriteBatchCombiner(new ServerAddress(), false, ACKNOWLEDGED)
+        combiner.addWriteErrorResult(new BulkWriteError(11000, 'dup key', new BsonDocument(), 0), IndexMap.create(2, 1))
+        combiner.addWriteErrorResult(new BulkWriteError(11000, 'dup key', new BsonDocument(), 0), IndexMap.create(0, 1))
+        combiner.addWriteErrorResult(new BulkWriteError(45, 'other error', new BsonDocument(), 0), IndexMap.create(2, 1))
+
+        when:
+        combiner.getResult()
+
+        then:
+        def e = thrown(MongoBulkWriteException)
+        e.writeErrors == [new BulkWriteError(11000, 'dup key', new BsonDocument(), 0),
+                          new BulkWriteError(11000, 'dup key', new BsonDocument(), 2)]
+    }
 }
@@ -49,6 +49,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 
 public class ClusterDescriptionTest {
@@ -144,6 +145,32 @@ public class ClusterDescriptionTest {
                                                                                                     new Tag("bar", "2")))));
     }
 
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testPrimariesAndSecondaries() {
+        assertEquals(asList(primary), cluster.getPrimaries());
+        assertEquals(asList(secondary, otherSecondary), cluster.getSecondaries());
+        assertEquals(asList(secondary), cluster.getSecondaries(new TagSet(asList(new Tag("baz", "2")))));
+        assertTrue(cluster.getSecondaries(new TagSet(asList(new Tag("baz", "4")))).isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testFilteredServerListsAreModifiableCopies() {
+        TagSet tagSet = new TagSet(asList(new Tag("foo", "1")));
+        List<ServerDescription> secondaries = cluster.getSecondaries(tagSet);
+        assertNotSame(secondaries, cluster.getSecondaries(tagSet));
+        secondaries.clear();
+        assertEquals(cluster.getAnyPrimaryOrSecondary(tagSet), cluster.getAnyPrimaryOrSecondary(new TagSet(asList(new Tag("foo", "1")))));
+        assertFalse(cluster.getSecondaries(tagSet).isEmpty());
+
+        List<ServerDescription> any = cluster.getAny();
+        Collections.reverse(any);
+        assertEquals(any.get(0), cluster.getAny().get(cluster.getAny().size() - 1));
+        cluster.getPrimaries().clear();
+        assertEquals(asList(primary), cluster.getPrimaries());
+    }
+
     @Test
     public void testHasReadableServer() {
         assertTrue(cluster.hasReadableServer(ReadPreference.primary()));
@@ -39,6 +39,7 @@ class ClusterSettingsSpecification extends Specification {
 
         then:
         settings.hosts == [new ServerAddress()]
+        settings.srvHost == null
         settings.mode == ClusterConnectionMode.SINGLE
         settings.requiredClusterType == ClusterType.UNKNOWN
         settings.requiredReplicaSetName == null
@@ -56,6 +57,7 @@ class ClusterSettingsSpecification extends Specification {
         def listenerTwo = Mock(ClusterListener)
         def settings = ClusterSettings.builder()
                                       .hosts(hosts)
+                                      .srvHost('test.example.com')
                                       .mode(ClusterConnectionMode.MULTIPLE)
                                       .description('my cluster')
                                       .requiredClusterType(ClusterType.REPLICA_SET)
@@ -70,6 +72,7 @@ class ClusterSettingsSpecification extends Specification {
 
         then:
         settings.hosts == hosts
+        settings.srvHost == 'test.example.com'
         settings.description == 'my cluster'
         settings.mode == ClusterConnectionMode.MULTIPLE
         settings.requiredClusterType == ClusterType.REPLICA_SET
@@ -330,6 +333,7 @@ class ClusterSettingsSpecification extends Specification {
                        .serverSelectionTimeout(1, TimeUnit.SECONDS)
                        .maxWaitQueueSize(100)
                        .build() != ClusterSettings.builder().hosts(hosts).build()
+        ClusterSettings.builder().hosts(hosts).srvHost('test.example.com').build() != ClusterSettings.builder().hosts(hosts).build()
     }
 
     def 'identical settings should have same hash code'() {
@@ -33,6 +33,8 @@ class ServerSettingsSpecification extends Specification {
         then:
         settings.getHeartbeatFrequency(MILLISECONDS) == 10000
         settings.getMinHeartbeatFrequency(MILLISECONDS) == 500
+        !settings.isSharedHeartbeatExecutorEnabled()
+        !settings.isAdaptiveHeartbeatFrequencyEnabled()
         settings.serverListeners == []
         settings.serverMonitorListeners == []
     }
@@ -48,6 +50,8 @@ class ServerSettingsSpecification extends Specification {
         def settings = ServerSettings.builder()
                 .heartbeatFrequency(4, SECONDS)
                 .minHeartbeatFrequency(1, SECONDS)
+                .sharedHeartbeatExecutorEnabled(true)
+                .adaptiveHeartbeatFrequencyEnabled(true)
                 .addServerListener(serverListenerOne)
                 .addServerListener(serverListenerTwo)
                 .addServerMonitorListener(serverMonitorListenerOne)
@@ -58,6 +62,8 @@ class ServerSettingsSpecification extends Specification {
         then:
         settings.getHeartbeatFrequency(MILLISECONDS) == 4000
         settings.getMinHeartbeatFrequency(MILLISECONDS) == 1000
+        settings.isSharedHeartbeatExecutorEnabled()
+        settings.isAdaptiveHeartbeatFrequencyEnabled()
         settings.serverListeners == [serverListenerOne, serverListenerTwo]
         settings.serverMonitorListeners == [serverMonitorListenerOne, serverMonitorListenerTwo]
     }
@@ -80,6 +86,8 @@ class ServerSettingsSpecification extends Specification {
         def customSettings = ServerSettings.builder()
                 .heartbeatFrequency(4, SECONDS)
                 .minHeartbeatFrequency(1, SECONDS)
+                .sharedHeartbeatExecutorEnabled(true)
+                .adaptiveHeartbeatFrequencyEnabled(true)
                 .addServerListener(serverListenerOne)
                 .addServerMonitorListener(serverMonitorListenerOne)
                 .build()
@@ -144,6 +152,8 @@ class ServerSettingsSpecification extends Specification {
     def 'different settings should not be equal'() {
         expect:
         ServerSettings.builder().heartbeatFrequency(4, SECONDS).build() != ServerSettings.builder().heartbeatFrequency(3, SECONDS).build()
+        ServerSettings.builder().sharedHeartbeatExecutorEnabled(true).build() != ServerSettings.builder().build()
+        ServerSettings.builder().adaptiveHeartbeatFrequencyEnabled(true).build() != ServerSettings.builder().build()
     }
 
     def 'identical settings should have same hash code'() {
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection
+
+import com.mongodb.ServerAddress
+import com.mongodb.connection.ServerDescription
+import com.mongodb.connection.ServerSettings
+import spock.lang.Specification
+
+import static com.mongodb.connection.ServerConnectionState.CONNECTED
+import static com.mongodb.connection.ServerConnectionState.CONNECTING
+import static com.mongodb.connection.ServerType.REPLICA_SET_PRIMARY
+import static com.mongodb.connection.ServerType.REPLICA_SET_SECONDARY
+import static com.mongodb.connection.ServerType.UNKNOWN
+import static com.mongodb.internal.connection.AdaptiveHeartbeatFrequency.FAST_CHECKS_AFTER_CHANGE
+import static com.mongodb.internal.connection.AdaptiveHeartbeatFrequency.MAX_STABLE_SLOWDOWN_FACTOR
+import static com.mongodb.internal.connection.AdaptiveHeartbeatFrequency.STABLE_CHECKS_PER_SLOWDOWN_STEP
+import static java.util.concurrent.TimeUnit.MILLISECONDS
+import static java.util.concurrent.TimeUnit.SECONDS
+
+class AdaptiveHeartbeatFrequencySpecification extends Specification {
+    def primary = ServerDescription.builder().address(new ServerAddress()).state(CONNECTED).type(REPLICA_SET_PRIMARY).build()
+    def secondary = ServerDescription.builder().address(new ServerAddress()).state(CONNECTED).type(REPLICA_SET_SECONDARY).build()
+    def unknown = ServerDescription.builder().address(new ServerAddress()).state(CONNECTING).type(UNKNOWN)
+            .exception(new IOException('down')).build()
+
+    def 'should always use the heartbeat frequency when not adaptive'() {
+        given:
+        def frequency = new AdaptiveHeartbeatFrequency(ServerSettings.builder().heartbeatFrequency(10, SECONDS).build())
+
+        expect:
+        frequency.nextIntervalNanos(secondary, primary) == SECONDS.toNanos(10)
+        frequency.nextIntervalNanos(primary, primary) == SECONDS.toNanos(10)
+        frequency.nextIntervalNanos(primary, unknown) == SECONDS.toNanos(10)
+    }
+
+    def 'should check quickly after a change and then back off for a stable server'() {
+        given:
+        def frequency = new AdaptiveHeartbeatFrequency(ServerSettings.builder().heartbeatFrequency(10, SECONDS)
+                .minHeartbeatFrequency(500, MILLISECONDS).adaptiveHeartbeatFrequencyEnabled(true).build())
+
+        expect:
+        frequency.nextIntervalNanos(secondary, primary) == MILLISECONDS.toNanos(500)
+        (FAST_CHECKS_AFTER_CHANGE - 1).times {
+            assert frequency.nextIntervalNanos(primary, primary) == MILLISECONDS.toNanos(500)
+        }
+        (STABLE_CHECKS_PER_SLOWDOWN_STEP - 1).times {
+            assert frequency.nextIntervalNanos(primary, primary) == SECONDS.toNanos(10)
+        }
+        frequency.nextIntervalNanos(primary, primary) == SECONDS.toNanos(20)
+
+        when:
+        (STABLE_CHECKS_PER_SLOWDOWN_STEP * MAX_STABLE_SLOWDOWN_FACTOR).times { frequency.nextIntervalNanos(primary, primary) }
+
+        then:
+        frequency.nextIntervalNanos(primary, primary) == SECONDS.toNanos(10 * MAX_STABLE_SLOWDOWN_FACTOR)
+        frequency.nextIntervalNanos(primary, secondary) == MILLISECONDS.toNanos(500)
+    }
+
+    def 'should not back off from a secondary'() {
+        given:
+        def frequency = new AdaptiveHeartbeatFrequency(ServerSettings.builder().heartbeatFrequency(10, SECONDS)
+                .minHeartbeatFrequency(500, MILLISECONDS).adaptiveHeartbeatFrequencyEnabled(true).build())
+
+        expect:
+        frequency.nextIntervalNanos(primary, secondary) == MILLISECONDS.toNanos(500)
+
+        when:
+        (FAST_CHECKS_AFTER_CHANGE - 1 + STABLE_CHECKS_PER_SLOWDOWN_STEP * MAX_STABLE_SLOWDOWN_FACTOR).times {
+            frequency.nextIntervalNanos(secondary, secondary)
+        }
+
+        then:
+        frequency.nextIntervalNanos(secondary, secondary) == SECONDS.toNanos(10)
+    }
+
+    def 'should not back off from an unreachable server'() {
+        given:
+        def frequency = new AdaptiveHeartbeatFrequency(ServerSettings.builder().heartbeatFrequency(10, SECONDS)
+                .minHeartbeatFrequency(500, MILLISECONDS).adaptiveHeartbeatFrequencyEnabled(true).build())
+
+        expect:
+        frequency.nextIntervalNanos(primary, unknown) == MILLISECONDS.toNanos(500)
+
+        when:
+        (FAST_CHECKS_AFTER_CHANGE - 1 + STABLE_CHECKS_PER_SLOWDOWN_STEP * 2).times { frequency.nextIntervalNanos(unknown, unknown) }
+
+        then:
+        frequency.nextIntervalNanos(unknown, unknown) == SECONDS.toNanos(10)
+    }
+}
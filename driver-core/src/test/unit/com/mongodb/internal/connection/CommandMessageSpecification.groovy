@@ -30,14 +30,18 @@ import org.bson.BsonArray
 import org.bson.BsonBinary
 import org.bson.BsonBinaryReader
 import org.bson.BsonDocument
+import org.bson.BsonDocumentWrapper
 import org.bson.BsonInt32
 import org.bson.BsonMaximumSizeExceededException
 import org.bson.BsonString
 import org.bson.BsonTimestamp
+import org.bson.BsonWriter
 import org.bson.ByteBuf
 import org.bson.ByteBufNIO
 import org.bson.codecs.BsonDocumentCodec
 import org.bson.codecs.DecoderContext
+import org.bson.codecs.Encoder
+import org.bson.codecs.EncoderContext
 import org.bson.io.BasicOutputBuffer
 import org.bson.io.BsonInput
 import org.bson.io.ByteBufferBsonInput
@@ -322,6 +326,80 @@ class CommandMessageSpecification extends Specification {
         !payload.hasAnotherSplit()
     }
 
+    def 'should encode each payload document only once across splits and retries'() {
+        given:
+        def messageSettings = MessageSettings.builder().maxBatchCount(1).serverVersion(new ServerVersion(3, 6)).build()
+        def insertCommand = new BsonDocument('insert', new BsonString(namespace.collectionName))
+        def encoder = Mock(Encoder)
+        def payload = new SplittablePayload(INSERT, [new BsonDocumentWrapper('a', encoder), new BsonDocumentWrapper('b', encoder)])
+        def sessionContext = Stub(SessionContext) {
+            getReadConcern() >> ReadConcern.DEFAULT
+        }
+        def encodeMessage = { SplittablePayload messagePayload ->
+            new CommandMessage(namespace, insertCommand, fieldNameValidator, ReadPreference.primary(), messageSettings, false,
+                    messagePayload, fieldNameValidator, ClusterConnectionMode.MULTIPLE).encode(new BasicOutputBuffer(), sessionContext)
+        }
+
+        when:
+        encodeMessage(payload)
+        encodeMessage(payload)
+        encodeMessage(payload.getNextSplit())
+
+        then:
+        2 * encoder.encode(_, _, _) >> { BsonWriter writer, String id, EncoderContext context ->
+            writer.writeStartDocument()
+            writer.writeString('_id', id)
+            writer.writeEndDocument()
+        }
+        payload.getPosition() == 1
+    }
+
+    def 'should not encode payload documents that are not sent in the split'() {
+        given:
+        def messageSettings = MessageSettings.builder().maxBatchCount(1).serverVersion(new ServerVersion(3, 6)).build()
+        def insertCommand = new BsonDocument('insert', new BsonString(namespace.collectionName))
+        def encoder = Mock(Encoder)
+        def payload = new SplittablePayload(INSERT, [new BsonDocumentWrapper('a', encoder), new BsonDocumentWrapper('b', encoder)])
+        def sessionContext = Stub(SessionContext) {
+            getReadConcern() >> ReadConcern.DEFAULT
+        }
+
+        when:
+        new CommandMessage(namespace, insertCommand, fieldNameValidator, ReadPreference.primary(), messageSettings, false,
+                payload, fieldNameValidator, ClusterConnectionMode.MULTIPLE).encode(new BasicOutputBuffer(), sessionContext)
+
+        then:
+        1 * encoder.encode(_, 'a', _) >> { BsonWriter writer, String id, EncoderContext context ->
+            writer.writeStartDocument()
+            writer.writeString('_id', id)
+            writer.writeEndDocument()
+        }
+        0 * encoder.encode(_, 'b', _)
+        payload.getPosition() == 1
+    }
+
+    def 'should release the encoded documents that have been sent when taking the next split'() {
+        given:
+        def encoder = Mock(Encoder)
+        def payload = new SplittablePayload(INSERT, [new BsonDocumentWrapper('a', encoder), new BsonDocumentWrapper('b', encoder)])
+        def writeId = { BsonWriter writer, String id, EncoderContext context ->
+            writer.writeStartDocument()
+            writer.writeString('_id', id)
+            writer.writeEndDocument()
+        }
+
+        when:
+        payload.getEncodedDocument(0, fieldNameValidator)
+        payload.getEncodedDocument(1, fieldNameValidator)
+        payload.setPosition(1)
+        payload.getNextSplit().getEncodedDocument(0, fieldNameValidator)
+        payload.getEncodedDocument(0, fieldNameValidator)
+
+        then:
+        2 * encoder.encode(_, 'a', _) >> writeId
+        1 * encoder.encode(_, 'b', _) >> writeId
+    }
+
     def 'should respect the max batch count'() {
         given:
         def messageSettings = MessageSettings.builder().maxBatchCount(2).serverVersion(new ServerVersion(3, 6)).build()
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection
+
+import com.mongodb.MongoConfigurationException
+import com.mongodb.ServerAddress
+import com.mongodb.connection.ClusterId
+import spock.lang.Specification
+
+class DnsSrvRecordMonitorSpecification extends Specification {
+    private final ServerAddress firstHost = new ServerAddress('mongos1.example.com:27017')
+    private final ServerAddress secondHost = new ServerAddress('mongos2.example.com:27017')
+    private final resolver = Mock(DnsSrvRecordMonitor.SrvRecordResolver)
+    private final listener = Mock(ChangeListener)
+
+    def 'should notify the listener when the SRV records change'() {
+        given:
+        def monitor = new DnsSrvRecordMonitor(new ClusterId(), 'test.example.com', [firstHost] as Set, 1000, resolver, listener)
+
+        when:
+        monitor.rescan()
+
+        then:
+        1 * resolver.resolve('test.example.com') >> ['mongos1.example.com:27017', 'mongos2.example.com:27017']
+        1 * listener.stateChanged({ it.previousValue == [firstHost] as Set && it.newValue == [firstHost, secondHost] as Set })
+
+        when:
+        monitor.rescan()
+
+        then:
+        1 * resolver.resolve('test.example.com') >> ['mongos2.example.com:27017', 'mongos1.example.com:27017']
+        0 * listener.stateChanged(_)
+
+        cleanup:
+        monitor.close()
+    }
+
+    def 'should keep the current hosts when the lookup fails or finds nothing'() {
+        given:
+        def monitor = new DnsSrvRecordMonitor(new ClusterId(), 'test.example.com', [firstHost] as Set, 1000, resolver, listener)
+
+        when:
+        monitor.rescan()
+        monitor.rescan()
+
+        then:
+        1 * resolver.resolve(_) >> { throw new MongoConfigurationException('Unable to look up SRV record') }
+        1 * resolver.resolve(_) >> []
+        0 * listener.stateChanged(_)
+
+        cleanup:
+        monitor.close()
+    }
+}
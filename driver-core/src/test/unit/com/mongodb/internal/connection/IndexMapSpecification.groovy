@@ -75,11 +75,11 @@ class IndexMapSpecification extends Specification {
         2 == indexMap.map(1)
     }
 
-    def 'should include ranges when converting from range based to hash based indexMap'() {
+    def 'should include ranges when converting from range based to array based indexMap'() {
         given:
         def indexMap = IndexMap.create(1000, 3)
 
-        when: 'converts from range based with a high startIndex to hash based'
+        when: 'converts from range based with a high startIndex to array based'
         indexMap = indexMap.add(5, 1005)
 
         then:
@@ -89,6 +89,23 @@ class IndexMapSpecification extends Specification {
         1005 == indexMap.map(5)
     }
 
+    def 'should map many non-contiguous indexes'() {
+        given:
+        def indexMap = IndexMap.create()
+
+        when:
+        (0..<10000).each { indexMap = indexMap.add(it, it * 2) }
+
+        then:
+        (0..<10000).every { indexMap.map(it) == it * 2 }
+
+        when:
+        indexMap.map(10000)
+
+        then:
+        thrown(MongoInternalException)
+    }
+
     def 'should not allow a negative startIndex or count'() {
         when:
         IndexMap.create(-1, 10)
@@ -40,6 +40,7 @@ import static com.mongodb.connection.ServerType.REPLICA_SET_PRIMARY
 import static com.mongodb.connection.ServerType.REPLICA_SET_SECONDARY
 import static com.mongodb.connection.ServerType.SHARD_ROUTER
 import static com.mongodb.connection.ServerType.STANDALONE
+import static java.util.concurrent.TimeUnit.MICROSECONDS
 import static java.util.concurrent.TimeUnit.MILLISECONDS
 
 @SuppressWarnings('deprecation')
@@ -516,6 +517,28 @@ class MultiServerClusterSpecification extends Specification {
         1 * clusterListener.clusterClosed { it.clusterId == CLUSTER_ID }
     }
 
+    def 'should not update the description of a sharded cluster for a heartbeat that changes nothing relevant to selection'() {
+        given:
+        def cluster = new MultiServerCluster(CLUSTER_ID, ClusterSettings.builder().mode(MULTIPLE).hosts([firstServer])
+                .localThreshold(15, MILLISECONDS).build(), factory)
+        def builder = ServerDescription.builder().ok(true).address(firstServer).state(CONNECTED).type(SHARD_ROUTER)
+        factory.sendNotification(firstServer, builder.roundTripTime(1000, MICROSECONDS).build())
+        def description = cluster.getCurrentDescription()
+
+        when:
+        factory.sendNotification(firstServer, builder.roundTripTime(1500, MICROSECONDS).build())
+
+        then:
+        cluster.getCurrentDescription().is(description)
+
+        when:
+        factory.sendNotification(firstServer, builder.roundTripTime(5000, MICROSECONDS).build())
+
+        then:
+        !cluster.getCurrentDescription().is(description)
+        cluster.getCurrentDescription().getServerDescriptions()[0].getRoundTripTimeNanos() == 5000000
+    }
+
     def 'should connect to all servers'() {
         given:
         def cluster = new MultiServerCluster(CLUSTER_ID, ClusterSettings.builder().hosts([firstServer, secondServer]).build(),
@@ -528,6 +551,40 @@ class MultiServerClusterSpecification extends Specification {
         [firstServer, secondServer].collect { factory.getServer(it).connectCount } == [1, 1]
     }
 
+    def 'should add and remove mongos routers when the SRV records change'() {
+        given:
+        def cluster = new MultiServerCluster(CLUSTER_ID, ClusterSettings.builder().mode(MULTIPLE).hosts([firstServer, secondServer])
+                .srvHost('test.example.com').build(), factory)
+        factory.sendNotification(firstServer, SHARD_ROUTER, [])
+        factory.sendNotification(secondServer, SHARD_ROUTER, [])
+
+        when:
+        cluster.onSrvHostsChanged([secondServer, thirdServer] as Set)
+
+        then:
+        cluster.getCurrentDescription().all*.address as Set == [secondServer, thirdServer] as Set
+        factory.getServer(firstServer).isClosed()
+
+        cleanup:
+        cluster?.close()
+    }
+
+    def 'should ignore SRV record changes for a replica set'() {
+        given:
+        def cluster = new MultiServerCluster(CLUSTER_ID, ClusterSettings.builder().mode(MULTIPLE).hosts([firstServer])
+                .srvHost('test.example.com').build(), factory)
+        factory.sendNotification(firstServer, REPLICA_SET_PRIMARY, [firstServer])
+
+        when:
+        cluster.onSrvHostsChanged([secondServer] as Set)
+
+        then:
+        cluster.getCurrentDescription().all == factory.getDescriptions(firstServer)
+
+        cleanup:
+        cluster?.close()
+    }
+
     def sendNotification(ServerAddress serverAddress, ServerType serverType) {
         factory.sendNotification(serverAddress, serverType, [firstServer, secondServer, thirdServer])
     }
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection
+
+import com.mongodb.ReadPreference
+import com.mongodb.ServerAddress
+import com.mongodb.connection.ClusterDescription
+import com.mongodb.connection.ServerDescription
+import com.mongodb.selector.CompositeServerSelector
+import com.mongodb.selector.LatencyMinimizingServerSelector
+import com.mongodb.selector.ReadPreferenceServerSelector
+import com.mongodb.selector.ServerSelector
+import com.mongodb.selector.WritableServerSelector
+import spock.lang.Specification
+
+import static com.mongodb.connection.ClusterConnectionMode.MULTIPLE
+import static com.mongodb.connection.ClusterType.REPLICA_SET
+import static com.mongodb.connection.ServerConnectionState.CONNECTED
+import static com.mongodb.connection.ServerType.REPLICA_SET_PRIMARY
+import static com.mongodb.connection.ServerType.REPLICA_SET_SECONDARY
+import static java.util.concurrent.TimeUnit.MILLISECONDS
+
+class ServerSelectionCacheSpecification extends Specification {
+    private static final ServerDescription PRIMARY = ServerDescription.builder().state(CONNECTED).ok(true)
+            .address(new ServerAddress('localhost:27017')).type(REPLICA_SET_PRIMARY).build()
+    private static final ServerDescription SECONDARY = ServerDescription.builder().state(CONNECTED).ok(true)
+            .address(new ServerAddress('localhost:27018')).type(REPLICA_SET_SECONDARY).build()
+    private static final ClusterDescription CLUSTER_DESCRIPTION = new ClusterDescription(MULTIPLE, REPLICA_SET, [PRIMARY, SECONDARY])
+
+    def 'should reuse the selection of an equal selector'() {
+        given:
+        def cache = new ServerSelectionCache(CLUSTER_DESCRIPTION)
+
+        when:
+        def first = cache.select(new ReadPreferenceServerSelector(ReadPreference.secondary()))
+        def second = cache.select(new ReadPreferenceServerSelector(ReadPreference.secondary()))
+
+        then:
+        first == [SECONDARY]
+        second.is(first)
+        cache.select(new ReadPreferenceServerSelector(ReadPreference.primary())) == [PRIMARY]
+    }
+
+    def 'should return an unmodifiable selection'() {
+        when:
+        new ServerSelectionCache(CLUSTER_DESCRIPTION).select(new WritableServerSelector()).clear()
+
+        then:
+        thrown(UnsupportedOperationException)
+    }
+
+    def 'should always evaluate an application-provided selector'() {
+        given:
+        def cache = new ServerSelectionCache(CLUSTER_DESCRIPTION)
+        def selector = Mock(ServerSelector)
+
+        when:
+        cache.select(selector)
+        cache.select(selector)
+
+        then:
+        2 * selector.select(CLUSTER_DESCRIPTION) >> [PRIMARY]
+    }
+
+    def 'should only cache the driver selectors'() {
+        expect:
+        ServerSelectionCache.isCacheable(selector) == cacheable
+
+        where:
+        selector                                                                             | cacheable
+        new WritableServerSelector()                                                         | true
+        new ReadPreferenceServerSelector(ReadPreference.nearest())                           | true
+        new LatencyMinimizingServerSelector(15, MILLISECONDS)                                | true
+        new CompositeServerSelector([new WritableServerSelector(),
+                                     new LatencyMinimizingServerSelector(15, MILLISECONDS)]) | true
+        new CompositeServerSelector([new WritableServerSelector(), Stub(ServerSelector)])    | false
+        Stub(ServerSelector)                                                                 | false
+    }
+}
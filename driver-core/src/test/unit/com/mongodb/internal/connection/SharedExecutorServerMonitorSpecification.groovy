@@ -0,0 +1,422 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection
+
+import com.mongodb.MongoSocketReadException
+import com.mongodb.MongoSocketReadTimeoutException
+import com.mongodb.ServerAddress
+import com.mongodb.async.SingleResultCallback
+import com.mongodb.connection.ClusterId
+import com.mongodb.connection.ConnectionDescription
+import com.mongodb.connection.ServerDescription
+import com.mongodb.connection.ServerId
+import com.mongodb.connection.ServerSettings
+import com.mongodb.connection.SocketSettings
+import com.mongodb.event.ServerHeartbeatFailedEvent
+import com.mongodb.event.ServerHeartbeatStartedEvent
+import com.mongodb.event.ServerHeartbeatSucceededEvent
+import com.mongodb.event.ServerMonitorListener
+import org.bson.BsonDocument
+import org.bson.ByteBufNIO
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+import static com.mongodb.connection.ServerType.STANDALONE
+import static com.mongodb.connection.ServerType.UNKNOWN
+
+class SharedExecutorServerMonitorSpecification extends Specification {
+
+    def executor = Executors.newSingleThreadScheduledExecutor()
+    SharedExecutorServerMonitor monitor
+
+    def cleanup() {
+        monitor?.close()
+        executor.shutdownNow()
+    }
+
+    def 'should send started and succeeded heartbeat events and notify of the new description'() {
+        given:
+        def latch = new CountDownLatch(2)
+        def startedEvent
+        def succeededEvent
+        def failedEvent
+        ServerDescription newDescription
+        def changeListener = new ChangeListener<ServerDescription>() {
+            @Override
+            void stateChanged(final ChangeEvent<ServerDescription> event) {
+                newDescription = event.newValue
+                latch.countDown()
+            }
+        }
+        def serverMonitorListener = new ServerMonitorListener() {
+            @Override
+            void serverHearbeatStarted(final ServerHeartbeatStartedEvent event) {
+                startedEvent = event
+            }
+
+            @Override
+            void serverHeartbeatSucceeded(final ServerHeartbeatSucceededEvent event) {
+                succeededEvent = event
+                latch.countDown()
+            }
+
+            @Override
+            void serverHeartbeatFailed(final ServerHeartbeatFailedEvent event) {
+                failedEvent = event
+                latch.countDown()
+            }
+        }
+        def connectionDescription = new ConnectionDescription(new ServerId(new ClusterId(''), new ServerAddress()))
+        def isMasterResponse = '{ismaster : true, maxBsonObjectSize : 16777216, maxMessageSizeBytes : 48000000, ' +
+                'maxWriteBatchSize : 1000, maxWireVersion : 4, minWireVersion : 0, ok : 1 }'
+        def internalConnectionFactory = Mock(InternalConnectionFactory) {
+            create(_) >> {
+                Mock(InternalConnection) {
+                    openAsync(_) >> { SingleResultCallback<Void> callback -> callback.onResult(null, null) }
+                    getBuffer(_) >> { int size -> new ByteBufNIO(ByteBuffer.allocate(size)) }
+                    getDescription() >> { connectionDescription }
+                    sendAndReceiveAsync(_, _, _, _) >> { message, decoder, sessionContext, SingleResultCallback callback ->
+                        callback.onResult(BsonDocument.parse(isMasterResponse), null)
+                    }
+                }
+            }
+        }
+        monitor = new SharedExecutorServerMonitor(new ServerId(new ClusterId(), new ServerAddress()),
+                ServerSettings.builder().heartbeatFrequency(1, TimeUnit.HOURS).addServerMonitorListener(serverMonitorListener).build(),
+                SocketSettings.builder().build(), new ClusterClock(), changeListener, internalConnectionFactory, new TestConnectionPool(),
+                executor)
+
+        when:
+        monitor.start()
+        latch.await(30, TimeUnit.SECONDS)
+
+        then:
+        failedEvent == null
+        startedEvent.connectionId == connectionDescription.connectionId
+        succeededEvent.connectionId == connectionDescription.connectionId
+        succeededEvent.reply == BsonDocument.parse(isMasterResponse)
+        newDescription.type == STANDALONE
+    }
+
+    def 'should send started and failed heartbeat events and report the server as unknown'() {
+        given:
+        def latch = new CountDownLatch(2)
+        def succeededEvent
+        def failedEvent
+        ServerDescription newDescription
+        def changeListener = new ChangeListener<ServerDescription>() {
+            @Override
+            void stateChanged(final ChangeEvent<ServerDescription> event) {
+                newDescription = event.newValue
+                latch.countDown()
+            }
+        }
+        def serverMonitorListener = new ServerMonitorListener() {
+            @Override
+            void serverHearbeatStarted(final ServerHeartbeatStartedEvent event) {
+            }
+
+            @Override
+            void serverHeartbeatSucceeded(final ServerHeartbeatSucceededEvent event) {
+                succeededEvent = event
+                latch.countDown()
+            }
+
+            @Override
+            void serverHeartbeatFailed(final ServerHeartbeatFailedEvent event) {
+                failedEvent = event
+                latch.countDown()
+            }
+        }
+        def connectionDescription = new ConnectionDescription(new ServerId(new ClusterId(''), new ServerAddress()))
+        def exception = new MongoSocketReadTimeoutException('read timeout', new ServerAddress(), new IOException())
+        def internalConnectionFactory = Mock(InternalConnectionFactory) {
+            create(_) >> {
+                Mock(InternalConnection) {
+                    openAsync(_) >> { SingleResultCallback<Void> callback -> callback.onResult(null, null) }
+                    getBuffer(_) >> { int size -> new ByteBufNIO(ByteBuffer.allocate(size)) }
+                    getDescription() >> { connectionDescription }
+                    sendAndReceiveAsync(_, _, _, _) >> { message, decoder, sessionContext, SingleResultCallback callback ->
+                        callback.onResult(null, exception)
+                    }
+                }
+            }
+        }
+        monitor = new SharedExecutorServerMonitor(new ServerId(new ClusterId(), new ServerAddress()),
+                ServerSettings.builder().heartbeatFrequency(1, TimeUnit.HOURS).addServerMonitorListener(serverMonitorListener).build(),
+                SocketSettings.builder().build(), new ClusterClock(), changeListener, internalConnectionFactory, new TestConnectionPool(),
+                executor)
+
+        when:
+        monitor.start()
+        latch.await(30, TimeUnit.SECONDS)
+
+        then:
+        succeededEvent == null
+        failedEvent.throwable == exception
+        newDescription.exception == exception
+        !newDescription.ok
+    }
+
+    def 'should report a heartbeat that outlives the heartbeat socket timeouts as failed and ignore its late reply'() {
+        given:
+        def latch = new CountDownLatch(2)
+        def succeededEvent
+        def failedEvent
+        def descriptions = []
+        def changeListener = new ChangeListener<ServerDescription>() {
+            @Override
+            void stateChanged(final ChangeEvent<ServerDescription> event) {
+                descriptions.add(event.newValue)
+                latch.countDown()
+            }
+        }
+        def serverMonitorListener = new ServerMonitorListener() {
+            @Override
+            void serverHearbeatStarted(final ServerHeartbeatStartedEvent event) {
+            }
+
+            @Override
+            void serverHeartbeatSucceeded(final ServerHeartbeatSucceededEvent event) {
+                succeededEvent = event
+            }
+
+            @Override
+            void serverHeartbeatFailed(final ServerHeartbeatFailedEvent event) {
+                failedEvent = event
+                latch.countDown()
+            }
+        }
+        def connectionDescription = new ConnectionDescription(new ServerId(new ClusterId(''), new ServerAddress()))
+        def isMasterResponse = '{ismaster : true, maxBsonObjectSize : 16777216, maxMessageSizeBytes : 48000000, ' +
+                'maxWriteBatchSize : 1000, maxWireVersion : 4, minWireVersion : 0, ok : 1 }'
+        SingleResultCallback lateCallback
+        def connectionClosed = false
+        def internalConnectionFactory = Mock(InternalConnectionFactory) {
+            create(_) >> {
+                Mock(InternalConnection) {
+                    openAsync(_) >> { SingleResultCallback<Void> callback -> callback.onResult(null, null) }
+                    getBuffer(_) >> { int size -> new ByteBufNIO(ByteBuffer.allocate(size)) }
+                    getDescription() >> { connectionDescription }
+                    sendAndReceiveAsync(_, _, _, _) >> { message, decoder, sessionContext, SingleResultCallback callback ->
+                        lateCallback = callback
+                    }
+                    close() >> { connectionClosed = true }
+                }
+            }
+        }
+        monitor = new SharedExecutorServerMonitor(new ServerId(new ClusterId(), new ServerAddress()),
+                ServerSettings.builder().heartbeatFrequency(1, TimeUnit.HOURS).addServerMonitorListener(serverMonitorListener).build(),
+                SocketSettings.builder().connectTimeout(50, TimeUnit.MILLISECONDS).readTimeout(50, TimeUnit.MILLISECONDS).build(),
+                new ClusterClock(), changeListener, internalConnectionFactory, new TestConnectionPool(), executor)
+
+        when:
+        monitor.start()
+        latch.await(30, TimeUnit.SECONDS)
+        lateCallback.onResult(BsonDocument.parse(isMasterResponse), null)
+        executor.submit({ } as Runnable).get()
+
+        then:
+        succeededEvent == null
+        failedEvent.throwable instanceof MongoSocketReadTimeoutException
+        connectionClosed
+        descriptions.size() == 1
+        descriptions[0].type == UNKNOWN
+        descriptions[0].exception == failedEvent.throwable
+    }
+
+    def 'should invalidate the pool and retry once on a fresh connection after a socket error on an existing connection'() {
+        given:
+        def latch = new CountDownLatch(1)
+        def retryLatch = new CountDownLatch(2)
+        def failedEvent
+        def descriptions = []
+        def changeListener = new ChangeListener<ServerDescription>() {
+            @Override
+            void stateChanged(final ChangeEvent<ServerDescription> event) {
+                descriptions.add(event.newValue)
+                latch.countDown()
+                retryLatch.countDown()
+            }
+        }
+        def serverMonitorListener = new ServerMonitorListener() {
+            @Override
+            void serverHearbeatStarted(final ServerHeartbeatStartedEvent event) {
+            }
+
+            @Override
+            void serverHeartbeatSucceeded(final ServerHeartbeatSucceededEvent event) {
+            }
+
+            @Override
+            void serverHeartbeatFailed(final ServerHeartbeatFailedEvent event) {
+                failedEvent = event
+            }
+        }
+        def connectionDescription = new ConnectionDescription(new ServerId(new ClusterId(''), new ServerAddress()))
+        def isMasterResponse = '{ismaster : true, maxBsonObjectSize : 16777216, maxMessageSizeBytes : 48000000, ' +
+                'maxWriteBatchSize : 1000, maxWireVersion : 4, minWireVersion : 0, ok : 1 }'
+        def exception = new MongoSocketReadException('Prematurely reached end of stream', new ServerAddress())
+        def firstConnectionSends = 0
+        def firstConnectionClosed = false
+        def firstConnection = Mock(InternalConnection) {
+            openAsync(_) >> { SingleResultCallback<Void> callback -> callback.onResult(null, null) }
+            getBuffer(_) >> { int size -> new ByteBufNIO(ByteBuffer.allocate(size)) }
+            getDescription() >> { connectionDescription }
+            sendAndReceiveAsync(_, _, _, _) >> { message, decoder, sessionContext, SingleResultCallback callback ->
+                if (firstConnectionSends++ == 0) {
+                    callback.onResult(BsonDocument.parse(isMasterResponse), null)
+                } else {
+                    callback.onResult(null, exception)
+                }
+            }
+            close() >> { firstConnectionClosed = true }
+        }
+        def secondConnection = Mock(InternalConnection) {
+            openAsync(_) >> { SingleResultCallback<Void> callback -> callback.onResult(null, null) }
+            getBuffer(_) >> { int size -> new ByteBufNIO(ByteBuffer.allocate(size)) }
+            getDescription() >> { connectionDescription }
+            sendAndReceiveAsync(_, _, _, _) >> { message, decoder, sessionContext, SingleResultCallback callback ->
+                callback.onResult(BsonDocument.parse(isMasterResponse), null)
+            }
+        }
+        def connectionsCreated = 0
+        def internalConnectionFactory = Mock(InternalConnectionFactory) {
+            create(_) >> { connectionsCreated++ == 0 ? firstConnection : secondConnection }
+        }
+        def invalidated = false
+        def connectionPool = Mock(ConnectionPool) {
+            invalidate() >> { invalidated = true }
+        }
+        monitor = new SharedExecutorServerMonitor(new ServerId(new ClusterId(), new ServerAddress()),
+                ServerSettings.builder().heartbeatFrequency(1, TimeUnit.HOURS).minHeartbeatFrequency(1, TimeUnit.MILLISECONDS)
+                        .addServerMonitorListener(serverMonitorListener).build(),
+                SocketSettings.builder().build(), new ClusterClock(), changeListener, internalConnectionFactory, connectionPool, executor)
+
+        when:
+        monitor.start()
+        latch.await(30, TimeUnit.SECONDS)
+        monitor.connect()
+        retryLatch.await(30, TimeUnit.SECONDS)
+
+        then:
+        failedEvent.throwable == exception
+        firstConnectionClosed
+        invalidated
+        connectionsCreated == 2
+        firstConnectionSends == 2
+        descriptions.size() == 2
+        descriptions.every { it.type == STANDALONE }
+    }
+
+    def 'should check again at the minimum heartbeat frequency when a check is requested while one is in progress'() {
+        given:
+        def sentLatch = new CountDownLatch(1)
+        def secondCheckLatch = new CountDownLatch(1)
+        def changeListener = new ChangeListener<ServerDescription>() {
+            @Override
+            void stateChanged(final ChangeEvent<ServerDescription> event) {
+            }
+        }
+        def connectionDescription = new ConnectionDescription(new ServerId(new ClusterId(''), new ServerAddress()))
+        def isMasterResponse = '{ismaster : true, maxBsonObjectSize : 16777216, maxMessageSizeBytes : 48000000, ' +
+                'maxWriteBatchSize : 1000, maxWireVersion : 4, minWireVersion : 0, ok : 1 }'
+        SingleResultCallback heldCallback
+        def sends = 0
+        def internalConnectionFactory = Mock(InternalConnectionFactory) {
+            create(_) >> {
+                Mock(InternalConnection) {
+                    openAsync(_) >> { SingleResultCallback<Void> callback -> callback.onResult(null, null) }
+                    getBuffer(_) >> { int size -> new ByteBufNIO(ByteBuffer.allocate(size)) }
+                    getDescription() >> { connectionDescription }
+                    sendAndReceiveAsync(_, _, _, _) >> { message, decoder, sessionContext, SingleResultCallback callback ->
+                        if (sends++ == 0) {
+                            heldCallback = callback
+                            sentLatch.countDown()
+                        } else {
+                            callback.onResult(BsonDocument.parse(isMasterResponse), null)
+                            secondCheckLatch.countDown()
+                        }
+                    }
+                }
+            }
+        }
+        monitor = new SharedExecutorServerMonitor(new ServerId(new ClusterId(), new ServerAddress()),
+                ServerSettings.builder().heartbeatFrequency(1, TimeUnit.HOURS).minHeartbeatFrequency(10, TimeUnit.MILLISECONDS).build(),
+                SocketSettings.builder().build(), new ClusterClock(), changeListener, internalConnectionFactory, new TestConnectionPool(),
+                executor)
+
+        when:
+        monitor.start()
+        sentLatch.await(30, TimeUnit.SECONDS)
+        monitor.connect()
+        heldCallback.onResult(BsonDocument.parse(isMasterResponse), null)
+
+        then:
+        secondCheckLatch.await(30, TimeUnit.SECONDS)
+        sends == 2
+    }
+
+    def 'should close the connection of a check that completes after the monitor is closed'() {
+        given:
+        def sentLatch = new CountDownLatch(1)
+        def notified = false
+        def changeListener = new ChangeListener<ServerDescription>() {
+            @Override
+            void stateChanged(final ChangeEvent<ServerDescription> event) {
+                notified = true
+            }
+        }
+        def connectionDescription = new ConnectionDescription(new ServerId(new ClusterId(''), new ServerAddress()))
+        def isMasterResponse = '{ismaster : true, maxBsonObjectSize : 16777216, maxMessageSizeBytes : 48000000, ' +
+                'maxWriteBatchSize : 1000, maxWireVersion : 4, minWireVersion : 0, ok : 1 }'
+        SingleResultCallback heldCallback
+        def connectionClosed = false
+        def internalConnectionFactory = Mock(InternalConnectionFactory) {
+            create(_) >> {
+                Mock(InternalConnection) {
+                    openAsync(_) >> { SingleResultCallback<Void> callback -> callback.onResult(null, null) }
+                    getBuffer(_) >> { int size -> new ByteBufNIO(ByteBuffer.allocate(size)) }
+                    getDescription() >> { connectionDescription }
+                    sendAndReceiveAsync(_, _, _, _) >> { message, decoder, sessionContext, SingleResultCallback callback ->
+                        heldCallback = callback
+                        sentLatch.countDown()
+                    }
+                    close() >> { connectionClosed = true }
+                }
+            }
+        }
+        monitor = new SharedExecutorServerMonitor(new ServerId(new ClusterId(), new ServerAddress()),
+                ServerSettings.builder().heartbeatFrequency(1, TimeUnit.HOURS).build(), SocketSettings.builder().build(),
+                new ClusterClock(), changeListener, internalConnectionFactory, new TestConnectionPool(), executor)
+
+        when:
+        monitor.start()
+        sentLatch.await(30, TimeUnit.SECONDS)
+        monitor.close()
+        heldCallback.onResult(BsonDocument.parse(isMasterResponse), null)
+        executor.submit({ } as Runnable).get()
+
+        then:
+        connectionClosed
+        !notified
+    }
+}
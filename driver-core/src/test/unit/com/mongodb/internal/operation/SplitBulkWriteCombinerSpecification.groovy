@@ -0,0 +1,82 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.operation
+
+import com.mongodb.MongoBulkWriteException
+import com.mongodb.ServerAddress
+import com.mongodb.WriteConcern
+import com.mongodb.bulk.BulkWriteError
+import com.mongodb.bulk.BulkWriteResult
+import com.mongodb.bulk.BulkWriteUpsert
+import org.bson.BsonDocument
+import org.bson.BsonInt32
+import spock.lang.Specification
+
+import static com.mongodb.bulk.WriteRequest.Type.INSERT
+import static com.mongodb.bulk.WriteRequest.Type.REPLACE
+
+class SplitBulkWriteCombinerSpecification extends Specification {
+
+    def 'should combine the results of the parts'() {
+        given:
+        def combiner = new SplitBulkWriteCombiner(true, WriteConcern.ACKNOWLEDGED)
+
+        when:
+        combiner.addResult(BulkWriteResult.acknowledged(INSERT, 3, []), 0, 3)
+        combiner.addResult(BulkWriteResult.acknowledged(INSERT, 2, []), 3, 2)
+
+        then:
+        !combiner.shouldStop()
+        combiner.getResult() == BulkWriteResult.acknowledged(INSERT, 5, [])
+    }
+
+    def 'should report upserts and write errors with the indexes of the whole bulk write'() {
+        given:
+        def serverAddress = new ServerAddress('host1')
+        def combiner = new SplitBulkWriteCombiner(ordered, WriteConcern.ACKNOWLEDGED)
+
+        when:
+        combiner.addResult(BulkWriteResult.acknowledged(REPLACE, 0, 0, [new BulkWriteUpsert(1, new BsonInt32(1))]), 0, 2)
+        combiner.addError(new MongoBulkWriteException(BulkWriteResult.acknowledged(REPLACE, 1, 1, []),
+                [new BulkWriteError(11000, 'duplicate key', new BsonDocument(), 1)], null, serverAddress), 2, 2)
+
+        then:
+        combiner.shouldStop() == ordered
+
+        when:
+        combiner.getResult()
+
+        then:
+        def e = thrown(MongoBulkWriteException)
+        e.serverAddress == serverAddress
+        e.writeErrors*.index == [3]
+        e.writeResult.upserts == [new BulkWriteUpsert(1, new BsonInt32(1))]
+        e.writeResult.matchedCount == 1
+
+        where:
+        ordered << [true, false]
+    }
+
+    def 'should return an unacknowledged result for unacknowledged writes'() {
+        given:
+        def combiner = new SplitBulkWriteCombiner(true, WriteConcern.UNACKNOWLEDGED)
+        combiner.addResult(BulkWriteResult.unacknowledged(), 0, 2)
+
+        expect:
+        !combiner.getResult().wasAcknowledged()
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.operation
+
+import org.bson.BsonBinaryReader
+import org.bson.BsonBinaryWriter
+import org.bson.BsonDocument
+import org.bson.BsonString
+import org.bson.codecs.BsonDocumentCodec
+import org.bson.codecs.DecoderContext
+import org.bson.codecs.EncoderContext
+import org.bson.io.BasicOutputBuffer
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+
+import static com.mongodb.operation.AdaptiveBatchSizer.INITIAL_BATCH_SIZE
+import static com.mongodb.operation.AdaptiveBatchSizer.MIN_BATCH_SIZE
+
+class AdaptiveBatchSizerSpecification extends Specification {
+    // 4 (size) + 1 (type) + 2 ("x\0") + 4 (string length) + 1000 + 1 (string terminator) + 1 (document terminator)
+    private static final int DOCUMENT_SIZE = 1013
+    private static final BsonDocument DOCUMENT = new BsonDocument('x', new BsonString('a' * 1000))
+
+    def 'should use the initial batch size until documents have been measured'() {
+        given:
+        def sizer = new AdaptiveBatchSizer(1024 * 1024)
+
+        expect:
+        sizer.getBatchSize(0) == INITIAL_BATCH_SIZE
+        sizer.getBatchSize(50) == 50
+        sizer.getBatchSize(-5) == -5
+    }
+
+    def 'should limit batches to half of the maximum buffered bytes'() {
+        given:
+        def sizer = new AdaptiveBatchSizer(DOCUMENT_SIZE * 20)
+
+        when:
+        sizer.getMoreStarted()
+        decode(sizer, 3)
+        sizer.getMoreCompleted()
+
+        then:
+        sizer.getBatchSize(0) == 10
+        sizer.getBatchSize(50) == 10
+        sizer.getBatchSize(5) == 5
+        sizer.getBatchSize(-5) == -5
+    }
+
+    def 'should never choose a batch size that closes the cursor'() {
+        given:
+        def sizer = new AdaptiveBatchSizer(DOCUMENT_SIZE)
+
+        when:
+        sizer.getMoreStarted()
+        decode(sizer, 1)
+        sizer.getMoreCompleted()
+
+        then:
+        sizer.getBatchSize(0) == MIN_BATCH_SIZE
+    }
+
+    def 'should limit batches to half of the bytes available in a shared budget'() {
+        given:
+        def budget = new CursorBufferBudget(DOCUMENT_SIZE * 40)
+        def sizer = new AdaptiveBatchSizer(null, budget)
+
+        when:
+        sizer.getMoreStarted()
+        decode(sizer, 3)
+        sizer.getMoreCompleted()
+
+        then:
+        sizer.getBatchSize(0) == 20
+
+        when:
+        budget.acquire(DOCUMENT_SIZE * 20)
+
+        then:
+        sizer.getBatchSize(0) == 10
+        new AdaptiveBatchSizer(DOCUMENT_SIZE * 10, budget).getBatchSize(0) == INITIAL_BATCH_SIZE
+
+        when:
+        budget.acquire(DOCUMENT_SIZE * 30)
+
+        then:
+        sizer.getBatchSize(0) == MIN_BATCH_SIZE
+        sizer.getBatchSize(50) == MIN_BATCH_SIZE
+    }
+
+    def 'should choose a smaller batch for a slow consumer'() {
+        given:
+        def sizer = new AdaptiveBatchSizer(DOCUMENT_SIZE * 2000)
+        sizer.getMoreStarted()
+        decode(sizer, 10)
+        sizer.getMoreCompleted()
+
+        when:
+        sizer.batchReturned(10)
+        Thread.sleep(200)
+        sizer.batchRequested()
+
+        then:
+        sizer.getBatchSize(0) >= MIN_BATCH_SIZE
+        sizer.getBatchSize(0) < 1000
+    }
+
+    def 'should record the size of decoded documents'() {
+        given:
+        def sizer = new AdaptiveBatchSizer(1024)
+
+        when:
+        def document = decode(sizer, 1)[0]
+
+        then:
+        document == DOCUMENT
+    }
+
+    private static List<BsonDocument> decode(final AdaptiveBatchSizer sizer, final int count) {
+        def decoder = sizer.measuring(new BsonDocumentCodec())
+        (1..count).collect {
+            def buffer = new BasicOutputBuffer()
+            new BsonDocumentCodec().encode(new BsonBinaryWriter(buffer), DOCUMENT, EncoderContext.builder().build())
+            decoder.decode(new BsonBinaryReader(ByteBuffer.wrap(buffer.toByteArray())), DecoderContext.builder().build())
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.operation
+
+import com.mongodb.MongoNamespace
+import com.mongodb.MongoSocketException
+import com.mongodb.ServerAddress
+import com.mongodb.binding.ConnectionSource
+import com.mongodb.connection.ClusterId
+import com.mongodb.connection.Connection
+import com.mongodb.connection.ConnectionDescription
+import com.mongodb.connection.ServerDescription
+import com.mongodb.connection.ServerId
+import com.mongodb.connection.ServerVersion
+import com.mongodb.internal.connection.NoOpSessionContext
+import com.mongodb.session.SessionContext
+import org.bson.BsonDocument
+import org.bson.BsonString
+import spock.lang.Specification
+
+import java.util.concurrent.ScheduledExecutorService
+
+import static com.mongodb.connection.ServerConnectionState.CONNECTED
+import static com.mongodb.operation.BackgroundCursorKiller.FLUSH_DELAY_MS
+import static com.mongodb.operation.BackgroundCursorKiller.MAX_CURSORS_PER_COMMAND
+import static java.util.concurrent.TimeUnit.MILLISECONDS
+
+class BackgroundCursorKillerSpecification extends Specification {
+    def namespace = new MongoNamespace('test', 'coll')
+    def serverId = new ServerId(new ClusterId(), new ServerAddress())
+
+    def 'should kill the queued cursors of a namespace with a single command on the next flush'() {
+        given:
+        def executor = Mock(ScheduledExecutorService)
+        def connection = Mock(Connection) {
+            _ * getDescription() >> getConnectionDescription([3, 2, 0])
+        }
+        def source = getConnectionSource(connection)
+        def killer = new BackgroundCursorKiller(executor)
+
+        when:
+        killer.kill(serverId, namespace, 1, source)
+        killer.kill(serverId, namespace, 2, source)
+
+        then:
+        1 * executor.schedule(_, FLUSH_DELAY_MS, MILLISECONDS)
+        0 * connection.command(*_)
+
+        when:
+        killer.flush()
+
+        then:
+        1 * connection.command('test', BsonDocument.parse('{killCursors: "coll", cursors: [{$numberLong: "1"}, {$numberLong: "2"}]}'),
+                _, _, _, _)
+        1 * connection.release()
+        2 * source.release()
+    }
+
+    def 'should send a command per namespace'() {
+        given:
+        def connection = Mock(Connection) {
+            _ * getDescription() >> getConnectionDescription([3, 2, 0])
+        }
+        def source = getConnectionSource(connection)
+        def killer = new BackgroundCursorKiller(Stub(ScheduledExecutorService))
+
+        when:
+        killer.kill(serverId, namespace, 1, source)
+        killer.kill(serverId, new MongoNamespace('test', 'other'), 2, source)
+        killer.flush()
+
+        then:
+        1 * connection.command('test', BsonDocument.parse('{killCursors: "coll", cursors: [{$numberLong: "1"}]}'), _, _, _, _)
+        1 * connection.command('test', BsonDocument.parse('{killCursors: "other", cursors: [{$numberLong: "2"}]}'), _, _, _, _)
+    }
+
+    def 'should send a command per client, with a connection of that client'() {
+        given:
+        def connection = Mock(Connection) {
+            _ * getDescription() >> getConnectionDescription([3, 2, 0])
+        }
+        def otherConnection = Mock(Connection) {
+            _ * getDescription() >> getConnectionDescription([3, 2, 0])
+        }
+        def otherServerId = new ServerId(new ClusterId(), serverId.getAddress())
+        def killer = new BackgroundCursorKiller(Stub(ScheduledExecutorService))
+
+        when:
+        killer.kill(serverId, namespace, 1, getConnectionSource(connection))
+        killer.kill(otherServerId, namespace, 2, getConnectionSource(otherConnection))
+        killer.kill(serverId, namespace, 3, getConnectionSource(connection))
+        killer.flush()
+
+        then:
+        1 * connection.command('test', BsonDocument.parse('{killCursors: "coll", cursors: [{$numberLong: "1"}, {$numberLong: "3"}]}'),
+                _, _, _, _)
+        1 * otherConnection.command('test', BsonDocument.parse('{killCursors: "coll", cursors: [{$numberLong: "2"}]}'), _, _, _, _)
+    }
+
+    def 'should send a command per session, with the session context of the cursors'() {
+        given:
+        def connection = Mock(Connection) {
+            _ * getDescription() >> getConnectionDescription([3, 6, 0])
+        }
+        def sessionContext = getSessionContext('a')
+        def otherSessionContext = getSessionContext('b')
+        def killer = new BackgroundCursorKiller(Stub(ScheduledExecutorService))
+
+        when:
+        killer.kill(serverId, namespace, 1, getConnectionSource(connection, sessionContext))
+        killer.kill(serverId, namespace, 2, getConnectionSource(connection, otherSessionContext))
+        killer.kill(serverId, namespace, 3, getConnectionSource(connection, getSessionContext('a')))
+        killer.flush()
+
+        then:
+        1 * connection.command('test', BsonDocument.parse('{killCursors: "coll", cursors: [{$numberLong: "1"}, {$numberLong: "3"}]}'),
+                _, _, _, sessionContext)
+        1 * connection.command('test', BsonDocument.parse('{killCursors: "coll", cursors: [{$numberLong: "2"}]}'), _, _, _,
+                otherSessionContext)
+    }
+
+    def 'should kill a full queue without waiting for the next flush'() {
+        given:
+        def executor = Mock(ScheduledExecutorService)
+        def connection = Mock(Connection) {
+            _ * getDescription() >> getConnectionDescription([3, 2, 0])
+        }
+        def source = getConnectionSource(connection)
+        def killer = new BackgroundCursorKiller(executor)
+        Runnable task = null
+
+        when:
+        (1..MAX_CURSORS_PER_COMMAND).each { killer.kill(serverId, namespace, it, source) }
+
+        then:
+        1 * executor.execute(_) >> { task = it[0] }
+
+        when:
+        task.run()
+        killer.flush()
+
+        then:
+        1 * connection.command('test', { it.getArray('cursors').size() == MAX_CURSORS_PER_COMMAND }, _, _, _, _)
+        MAX_CURSORS_PER_COMMAND * source.release()
+    }
+
+    def 'should use OP_KILL_CURSORS before 3.2'() {
+        given:
+        def connection = Mock(Connection) {
+            _ * getDescription() >> getConnectionDescription([3, 0, 0])
+        }
+        def source = getConnectionSource(connection)
+        def killer = new BackgroundCursorKiller(Stub(ScheduledExecutorService))
+
+        when:
+        killer.kill(serverId, namespace, 1, source)
+        killer.kill(serverId, namespace, 2, source)
+        killer.flush()
+
+        then:
+        1 * connection.killCursor(namespace, [1L, 2L])
+        0 * connection.command(*_)
+    }
+
+    def 'should release the connection sources when the cursors could not be killed'() {
+        given:
+        def source = Mock(ConnectionSource) {
+            _ * getServerDescription() >> getServerDescription()
+            _ * getSessionContext() >> NoOpSessionContext.INSTANCE
+        }
+        def killer = new BackgroundCursorKiller(Stub(ScheduledExecutorService))
+
+        when:
+        killer.kill(serverId, namespace, 1, source)
+        killer.kill(serverId, namespace, 2, source)
+        killer.flush()
+
+        then:
+        1 * source.getConnection() >> { throw new MongoSocketException('No connection', new ServerAddress()) }
+        2 * source.release()
+        notThrown(MongoSocketException)
+    }
+
+    private ConnectionSource getConnectionSource(final Connection connection,
+                                                 final SessionContext sessionContext = NoOpSessionContext.INSTANCE) {
+        Mock(ConnectionSource) {
+            _ * getConnection() >> connection
+            _ * getServerDescription() >> getServerDescription()
+            _ * getSessionContext() >> sessionContext
+        }
+    }
+
+    private SessionContext getSessionContext(final String id) {
+        Stub(SessionContext) {
+            hasSession() >> true
+            isImplicitSession() >> true
+            getSessionId() >> new BsonDocument('id', new BsonString(id))
+        }
+    }
+
+    private static ServerDescription getServerDescription() {
+        ServerDescription.builder().address(new ServerAddress()).state(CONNECTED).build()
+    }
+
+    private ConnectionDescription getConnectionDescription(final List<Integer> version) {
+        Stub(ConnectionDescription) {
+            getServerVersion() >> new ServerVersion(version)
+        }
+    }
+}
@@ -37,6 +37,7 @@ import com.mongodb.connection.ServerVersion
 import com.mongodb.internal.connection.ReadConcernAwareNoOpSessionContext
 import org.bson.BsonDocument
 import org.bson.BsonInt32
+import org.bson.FieldNameValidator
 import spock.lang.Specification
 
 import static com.mongodb.bulk.WriteRequest.Type.REPLACE
@@ -229,6 +230,39 @@ class BulkWriteBatchSpecification extends Specification {
         !bulkWriteBatch.hasAnotherBatch()
     }
 
+    def 'should encode the next split of the payload ahead'() {
+        given:
+        def writeRequests = [getWriteRequests()[0], getWriteRequests()[3], new InsertRequest(toBsonDocument('{"a.b": 1}')),
+                             getWriteRequests()[4]]
+        def bulkWriteBatch = BulkWriteBatch.createBulkWriteBatch(namespace, serverDescription, connectionDescription, false,
+                WriteConcern.ACKNOWLEDGED, null, false, writeRequests, sessionContext)
+        def payload = bulkWriteBatch.getPayload()
+        payload.setPosition(1)
+        def validator = Mock(FieldNameValidator)
+
+        when:
+        bulkWriteBatch.encodeNextSplit()
+        def encodedDocument = payload.getEncodedDocument(1, validator)
+
+        then:
+        0 * validator._
+        encodedDocument == getWriteRequestsAsDocuments()[3]
+
+        when:
+        payload.getEncodedDocument(2, validator)
+
+        then:
+        1 * validator.validate('a.b') >> true
+
+        when:
+        bulkWriteBatch = bulkWriteBatch.getNextBatch()
+
+        then:
+        bulkWriteBatch.getPayload().getEncodedDocument(0, validator).is(encodedDocument)
+        bulkWriteBatch.getPayload().getPayload() == [getWriteRequestsAsDocuments()[3], toBsonDocument('{"a.b": 1}'),
+                                                     getWriteRequestsAsDocuments()[4]]
+    }
+
     def 'should not retry when at least one write is not retryable'() {
         when:
         def bulkWriteBatch = BulkWriteBatch.createBulkWriteBatch(namespace, serverDescription, connectionDescription, false,
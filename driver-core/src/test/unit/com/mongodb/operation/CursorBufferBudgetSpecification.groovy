@@ -0,0 +1,72 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.operation
+
+import spock.lang.Specification
+
+class CursorBufferBudgetSpecification extends Specification {
+
+    def 'should count acquired bytes until they are released'() {
+        given:
+        def budget = new CursorBufferBudget(1000)
+
+        when:
+        budget.acquire(300)
+        budget.acquire(400)
+
+        then:
+        budget.getMaxBufferedBytes() == 1000
+        budget.getBufferedBytes() == 700
+        budget.getAvailableBytes() == 300
+
+        when:
+        budget.acquire(500)
+
+        then:
+        budget.getBufferedBytes() == 1200
+        budget.getAvailableBytes() == 0
+
+        when:
+        budget.release(400)
+        budget.release(300)
+        budget.release(500)
+
+        then:
+        budget.getBufferedBytes() == 0
+        budget.getAvailableBytes() == 1000
+    }
+
+    def 'should ignore empty batches'() {
+        given:
+        def budget = new CursorBufferBudget(1000)
+
+        when:
+        budget.acquire(0)
+        budget.release(0)
+
+        then:
+        budget.getBufferedBytes() == 0
+    }
+
+    def 'should require a positive maximum'() {
+        when:
+        new CursorBufferBudget(0)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.operation
+
+import com.mongodb.MongoNamespace
+import com.mongodb.ServerAddress
+import com.mongodb.async.FutureResultCallback
+import org.bson.BsonArray
+import org.bson.BsonBinaryWriter
+import org.bson.BsonDocument
+import org.bson.BsonInt32
+import org.bson.BsonInt64
+import org.bson.BsonReader
+import org.bson.BsonString
+import org.bson.RawBsonDocument
+import org.bson.codecs.BsonDocumentCodec
+import org.bson.codecs.Decoder
+import org.bson.codecs.DecoderContext
+import org.bson.codecs.EncoderContext
+import org.bson.io.BasicOutputBuffer
+import spock.lang.Specification
+
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.atomic.AtomicInteger
+
+import static com.mongodb.operation.OperationHelper.RAW_GET_MORE_RESULT_CODEC
+import static com.mongodb.operation.OperationHelper.getMoreCursorDocumentToLazyQueryResult
+import static java.util.concurrent.TimeUnit.SECONDS
+
+class LazyDecodingBatchSpecification extends Specification {
+    private final documents = [new BsonDocument('_id', new BsonInt32(1)), new BsonDocument('_id', new BsonInt32(2)),
+                               new BsonDocument('_id', new BsonInt32(3))]
+
+    def 'should decode each document only when it is first asked for'() {
+        given:
+        def decoder = new CountingDecoder()
+        def batch = new LazyDecodingBatch<BsonDocument>(documents.collect { RawBsonDocument.parse(it.toJson()) }, decoder)
+
+        expect:
+        batch.size() == 3
+        decoder.count == 0
+
+        when:
+        def first = batch.get(0)
+
+        then:
+        first == documents[0]
+        !(first instanceof RawBsonDocument)
+        decoder.count == 1
+
+        when:
+        batch.get(0)
+
+        then:
+        decoder.count == 1
+
+        when:
+        def all = batch.collect()
+
+        then:
+        all == documents
+        decoder.count == 3
+    }
+
+    def 'should return documents that are already decoded as they are'() {
+        given:
+        def decoder = new CountingDecoder()
+        def batch = new LazyDecodingBatch<BsonDocument>(documents, decoder)
+
+        expect:
+        batch == documents
+        batch.get(1).is(documents[1])
+        decoder.count == 0
+    }
+
+    def 'should throw IndexOutOfBoundsException for an invalid index'() {
+        given:
+        def batch = new LazyDecodingBatch<BsonDocument>(documents, new BsonDocumentCodec())
+
+        when:
+        batch.get(index)
+
+        then:
+        thrown(IndexOutOfBoundsException)
+
+        where:
+        index << [-1, 3]
+    }
+
+    def 'should decode large batches in parallel, keeping their order'() {
+        given:
+        def documents = (1..1000).collect { new BsonDocument('_id', new BsonInt32(it)) }
+        def decoder = new ConcurrentCountingDecoder()
+        def batch = new LazyDecodingBatch<BsonDocument>(documents.collect { RawBsonDocument.parse(it.toJson()) }, decoder)
+        def pool = new ForkJoinPool(4)
+
+        when:
+        batch.decodeInParallel(pool)
+
+        then:
+        decoder.count.get() == 1000
+
+        when:
+        def all = batch.collect()
+
+        then:
+        all == documents
+        decoder.count.get() == 1000
+
+        cleanup:
+        pool.shutdown()
+    }
+
+    def 'should decode large batches in parallel without waiting, completing the callback once decoded'() {
+        given:
+        def documents = (1..1000).collect { new BsonDocument('_id', new BsonInt32(it)) }
+        def decoder = new ConcurrentCountingDecoder()
+        def batch = new LazyDecodingBatch<BsonDocument>(documents.collect { RawBsonDocument.parse(it.toJson()) }, decoder)
+        def pool = new ForkJoinPool(4)
+        def callback = new FutureResultCallback<Void>()
+
+        when:
+        batch.decodeInParallel(pool, callback)
+        callback.get(10, SECONDS)
+
+        then:
+        decoder.count.get() == 1000
+        batch == documents
+        decoder.count.get() == 1000
+
+        cleanup:
+        pool.shutdown()
+    }
+
+    def 'should complete the callback straight away for small batches'() {
+        given:
+        def decoder = new CountingDecoder()
+        def batch = new LazyDecodingBatch<BsonDocument>(documents.collect { RawBsonDocument.parse(it.toJson()) }, decoder)
+        def callback = new FutureResultCallback<Void>()
+
+        when:
+        batch.decodeInParallel(ForkJoinPool.commonPool(), callback)
+
+        then:
+        callback.isDone()
+        decoder.count == 0
+    }
+
+    def 'should leave small batches to be decoded lazily'() {
+        given:
+        def decoder = new CountingDecoder()
+        def batch = new LazyDecodingBatch<BsonDocument>(documents.collect { RawBsonDocument.parse(it.toJson()) }, decoder)
+
+        when:
+        batch.decodeInParallel(ForkJoinPool.commonPool())
+
+        then:
+        decoder.count == 0
+        batch == documents
+    }
+
+    def 'should leave the documents of a getMore reply undecoded until they are asked for'() {
+        given:
+        def reply = new BsonDocument('ok', new BsonInt32(1))
+                .append('cursor', new BsonDocument('id', new BsonInt64(42))
+                .append('ns', new BsonString('db.coll'))
+                .append('nextBatch', new BsonArray(documents)))
+        def decoder = new CountingDecoder()
+
+        when:
+        def decodedReply = RAW_GET_MORE_RESULT_CODEC.decode(new RawBsonDocument(reply, new BsonDocumentCodec()).asBsonReader(),
+                DecoderContext.builder().build())
+        def queryResult = getMoreCursorDocumentToLazyQueryResult(decodedReply.getDocument('cursor'), new ServerAddress(), decoder)
+
+        then:
+        queryResult.getNamespace() == new MongoNamespace('db.coll')
+        queryResult.getCursor().getId() == 42
+        queryResult.getResults().size() == 3
+        decoder.count == 0
+
+        when:
+        def results = queryResult.getResults().collect()
+
+        then:
+        results == documents
+        decoder.count == 3
+    }
+
+    def 'should decode a raw document with the given decoder'() {
+        given:
+        def buffer = new BasicOutputBuffer()
+        new BsonDocumentCodec().encode(new BsonBinaryWriter(buffer), documents[0], EncoderContext.builder().build())
+        def rawDocument = new RawBsonDocument(buffer.toByteArray())
+        def decoder = Mock(Decoder)
+
+        when:
+        def document = new LazyDecodingBatch<String>([rawDocument], decoder).get(0)
+
+        then:
+        1 * decoder.decode(_, _) >> 'decoded'
+        document == 'decoded'
+    }
+
+    static class CountingDecoder implements Decoder<BsonDocument> {
+        int count
+
+        @Override
+        BsonDocument decode(final BsonReader reader, final DecoderContext decoderContext) {
+            count++
+            new BsonDocumentCodec().decode(reader, decoderContext)
+        }
+    }
+
+    static class ConcurrentCountingDecoder implements Decoder<BsonDocument> {
+        final AtomicInteger count = new AtomicInteger()
+
+        @Override
+        BsonDocument decode(final BsonReader reader, final DecoderContext decoderContext) {
+            count.incrementAndGet()
+            new BsonDocumentCodec().decode(reader, decoderContext)
+        }
+    }
+}
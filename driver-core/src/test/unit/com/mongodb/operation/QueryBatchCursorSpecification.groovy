@@ -24,7 +24,9 @@ import com.mongodb.binding.ConnectionSource
 import com.mongodb.connection.Connection
 import com.mongodb.connection.ConnectionDescription
 import com.mongodb.connection.QueryResult
+import com.mongodb.connection.ServerDescription
 import com.mongodb.connection.ServerVersion
+import com.mongodb.session.SessionContext
 import org.bson.BsonDocument
 import org.bson.BsonInt32
 import org.bson.BsonInt64
@@ -33,6 +35,8 @@ import org.bson.Document
 import org.bson.codecs.BsonDocumentCodec
 import spock.lang.Specification
 
+import static com.mongodb.connection.ServerConnectionState.CONNECTED
+
 class QueryBatchCursorSpecification extends Specification {
     def 'should generate expected command with batchSize and maxTimeMS'() {
         given:
@@ -142,4 +146,131 @@ class QueryBatchCursorSpecification extends Specification {
         then:
         notThrown(Exception)
     }
+
+    def 'should prefetch the next batch once the prefetch threshold is reached'() {
+        given:
+        def serverAddress = new ServerAddress()
+        def connection = Mock(Connection) {
+            _ * getDescription() >> Stub(ConnectionDescription) {
+                getServerVersion() >> new ServerVersion([3, 2, 0])
+            }
+        }
+        def connectionSource = Stub(ConnectionSource) {
+            getConnection() >> { connection }
+            getServerDescription() >> ServerDescription.builder().address(serverAddress).state(CONNECTED).build()
+        }
+        connectionSource.retain() >> connectionSource
+
+        def namespace = new MongoNamespace('test', 'QueryBatchCursorSpecification')
+        def documents = (1..5).collect { new BsonDocument('_id', new BsonInt32(it)) }
+        def firstBatch = new QueryResult(namespace, documents[0..3], 42, serverAddress)
+        def cursor = new QueryBatchCursor<BsonDocument>(firstBatch, 0, 0, 0, 0.5, null, null, null, false, new BsonDocumentCodec(),
+                connectionSource, connection)
+        def reply = new BsonDocument('ok', new BsonInt32(1))
+                .append('cursor', new BsonDocument('id', new BsonInt64(0))
+                        .append('ns', new BsonString(namespace.getFullName()))
+                        .append('nextBatch', new BsonArrayWrapper([documents[4]])))
+
+        when:
+        def batch = cursor.next()
+        batch.get(0)
+        batch.get(1)
+
+        then:
+        0 * connection.command(*_)
+
+        when:
+        batch.get(2)
+        batch.get(3)
+        def nextBatch = cursor.next()
+
+        then:
+        1 * connection.command('test', _, _, _, _, _) >> reply
+        1 * connection.release()
+        nextBatch == [documents[4]]
+        !cursor.hasNext()
+    }
+
+    def 'should prefetch the next batch once the range holding the prefetch threshold is taken from the batch'() {
+        given:
+        def serverAddress = new ServerAddress()
+        def connection = Mock(Connection) {
+            _ * getDescription() >> Stub(ConnectionDescription) {
+                getServerVersion() >> new ServerVersion([3, 2, 0])
+            }
+        }
+        def connectionSource = Stub(ConnectionSource) {
+            getConnection() >> { connection }
+            getServerDescription() >> ServerDescription.builder().address(serverAddress).state(CONNECTED).build()
+        }
+        connectionSource.retain() >> connectionSource
+
+        def namespace = new MongoNamespace('test', 'QueryBatchCursorSpecification')
+        def documents = (1..5).collect { new BsonDocument('_id', new BsonInt32(it)) }
+        def firstBatch = new QueryResult(namespace, documents[0..3], 42, serverAddress)
+        def cursor = new QueryBatchCursor<BsonDocument>(firstBatch, 0, 0, 0, 0.5, null, null, null, false, new BsonDocumentCodec(),
+                connectionSource, connection)
+        def reply = new BsonDocument('ok', new BsonInt32(1))
+                .append('cursor', new BsonDocument('id', new BsonInt64(0))
+                        .append('ns', new BsonString(namespace.getFullName()))
+                        .append('nextBatch', new BsonArrayWrapper([documents[4]])))
+
+        when:
+        def range = cursor.next().subList(1, 4)
+        def nextBatch = cursor.next()
+
+        then:
+        1 * connection.command('test', _, _, _, _, _) >> reply
+        range == documents[1..3]
+        nextBatch == [documents[4]]
+    }
+
+    def 'should not prefetch with an explicit session or in a transaction'() {
+        given:
+        def connection = Mock(Connection)
+        def sessionContext = Stub(SessionContext) {
+            hasSession() >> true
+            isImplicitSession() >> implicitSession
+            hasActiveTransaction() >> activeTransaction
+        }
+        def connectionSource = Stub(ConnectionSource) {
+            getConnection() >> { connection }
+            getSessionContext() >> sessionContext
+        }
+        connectionSource.retain() >> connectionSource
+        def namespace = new MongoNamespace('test', 'QueryBatchCursorSpecification')
+        def firstBatch = new QueryResult(namespace, [new BsonDocument('_id', new BsonInt32(1))], 42, new ServerAddress())
+        def cursor = new QueryBatchCursor<BsonDocument>(firstBatch, 0, 0, 0, 0.0, null, null, null, false, new BsonDocumentCodec(),
+                connectionSource, connection)
+
+        when:
+        cursor.next().get(0)
+
+        then:
+        0 * connection.command(*_)
+
+        where:
+        implicitSession | activeTransaction
+        false           | false
+        false           | true
+        true            | true
+    }
+
+    def 'should not prefetch without a prefetch threshold'() {
+        given:
+        def connection = Mock(Connection)
+        def connectionSource = Stub(ConnectionSource) {
+            getConnection() >> { connection }
+        }
+        connectionSource.retain() >> connectionSource
+        def namespace = new MongoNamespace('test', 'QueryBatchCursorSpecification')
+        def firstBatch = new QueryResult(namespace, [new BsonDocument('_id', new BsonInt32(1))], 42, new ServerAddress())
+        def cursor = new QueryBatchCursor<BsonDocument>(firstBatch, 0, 0, 0, new BsonDocumentCodec(), connectionSource, connection)
+
+        when:
+        cursor.next().get(0)
+
+        then:
+        0 * connection.command(*_)
+    }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.operation
+
+import org.bson.BsonDocument
+import org.bson.BsonDocumentReader
+import org.bson.Document
+import org.bson.RawBsonDocument
+import org.bson.codecs.DecoderContext
+import org.bson.codecs.DocumentCodec
+import spock.lang.Specification
+
+class ReusingDecoderSpecification extends Specification {
+
+    def 'should decode every document into the same instance'() {
+        given:
+        def decoder = new ReusingDecoder<Document>(new DocumentCodec())
+
+        when:
+        def first = decoder.decode(new BsonDocumentReader(BsonDocument.parse('{a: 1}')), DecoderContext.builder().build())
+        def firstValue = new Document(first)
+        def second = decoder.decode(new BsonDocumentReader(BsonDocument.parse('{b: 2}')), DecoderContext.builder().build())
+
+        then:
+        firstValue == new Document('a', 1)
+        second.is(first)
+        second == new Document('b', 2)
+    }
+
+    def 'should decode a lazy batch one document at a time into the same instance'() {
+        given:
+        def batch = new LazyDecodingBatch<Document>([RawBsonDocument.parse('{a: 1}'), RawBsonDocument.parse('{a: 2}')],
+                new ReusingDecoder<Document>(new DocumentCodec()))
+
+        expect:
+        batch.get(0) == new Document('a', 1)
+        batch.get(1) == new Document('a', 2)
+        batch.get(1).is(batch.get(0))
+    }
+}
@@ -29,6 +29,7 @@ import static com.mongodb.connection.ClusterConnectionMode.MULTIPLE;
 import static com.mongodb.connection.ClusterType.REPLICA_SET;
 import static com.mongodb.connection.ServerConnectionState.CONNECTED;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 public class ServerAddressSelectorTest {
@@ -55,4 +56,13 @@ public class ServerAddressSelectorTest {
         assertEquals(Arrays.asList(secondary), selector.select(new ClusterDescription(MULTIPLE, REPLICA_SET,
                                                                                       Arrays.asList(primary, secondary))));
     }
+
+    @Test
+    public void testEquality() {
+        ServerAddressSelector selector = new ServerAddressSelector(new ServerAddress("localhost:27018"));
+
+        assertEquals(selector, new ServerAddressSelector(new ServerAddress("localhost:27018")));
+        assertEquals(selector.hashCode(), new ServerAddressSelector(new ServerAddress("localhost:27018")).hashCode());
+        assertNotEquals(selector, new ServerAddressSelector(new ServerAddress("localhost:27019")));
+    }
 }
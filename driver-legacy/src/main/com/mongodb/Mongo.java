@@ -738,7 +738,8 @@ public class Mongo {
                 getCommandListener(options.getCommandListeners()),
                 options.getApplicationName(),
                 mongoDriverInformation,
-                options.getCompressorList());
+                options.getCompressorList(),
+                options.getHeartbeatSocketSettings());
     }
 
     private static ClusterSettings getClusterSettings(final List<ServerAddress> seedList, final MongoClientOptions options,
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoException;
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.MongoWriteConcernException;
+import com.mongodb.MongoWriteException;
+import com.mongodb.WriteError;
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
+import org.bson.conversions.Bson;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * Coalesces single-document writes to a collection from many threads into unordered bulk writes, trading a little latency for far
+ * fewer round trips.
+ *
+ * <p>The first write after a bulk write has been sent opens a window, and the writes made by any thread until the window holds
+ * {@code maxBatchSize} writes or {@code maxDelay} has passed are sent together, as a single unordered {@link
+ * MongoCollection#bulkWrite(List, BulkWriteOptions) bulk write}, on the thread that opened it.  Each method blocks until the bulk write
+ * containing its write has completed, and reports the outcome of that write alone: a write error throws a {@link MongoWriteException},
+ * a write concern error throws a {@link MongoWriteConcernException}, and any other failure of the bulk write is thrown to every write
+ * in it.</p>
+ *
+ * <p>As with separate calls to the collection, writes from different threads are applied in no particular order.  Writes can't be
+ * part of a session.</p>
+ *
+ * @param <TDocument> the type of the documents in the collection
+ * @since 3.9
+ */
+@ThreadSafe
+public final class AutoBatchingCollection<TDocument> {
+    private final MongoCollection<TDocument> collection;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition batchClosed = lock.newCondition();
+    private Batch<TDocument> openBatch;  // guarded by lock
+
+    /**
+     * Construct a new instance.
+     *
+     * @param collection   the collection to write to
+     * @param maxBatchSize the maximum number of writes to send in one bulk write, which must be greater than 0
+     * @param maxDelay     the maximum time that a write waits for others before it's sent, which must not be negative
+     * @param timeUnit     the time unit of {@code maxDelay}
+     */
+    public AutoBatchingCollection(final MongoCollection<TDocument> collection, final int maxBatchSize, final long maxDelay,
+                                  final TimeUnit timeUnit) {
+        isTrueArgument("maxBatchSize > 0", maxBatchSize > 0);
+        isTrueArgument("maxDelay >= 0", maxDelay >= 0);
+        this.collection = notNull("collection", collection);
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = notNull("timeUnit", timeUnit).toNanos(maxDelay);
+    }
+
+    /**
+     * Gets the collection that the writes are sent to.
+     *
+     * @return the collection
+     */
+    public MongoCollection<TDocument> getCollection() {
+        return collection;
+    }
+
+    /**
+     * Inserts the provided document, along with the writes of other threads.  If the document is missing an identifier, the driver
+     * should generate one.
+     *
+     * @param document the document to insert
+     * @throws MongoWriteException        if the insert failed due to some other failure specific to the insert command
+     * @throws MongoWriteConcernException if the write failed due being unable to fulfil the write concern
+     * @throws com.mongodb.MongoException if the bulk write containing the insert failed for some other reason
+     */
+    public void insertOne(final TDocument document) {
+        notNull("document", document);
+        write(new InsertOneModel<TDocument>(document));
+    }
+
+    /**
+     * Updates a single document in the collection according to the specified arguments, along with the writes of other threads.  The
+     * number of documents matched and modified isn't reported, as the server only reports it for a bulk write as a whole.
+     *
+     * @param filter a document describing the query filter, which may not be null.
+     * @param update a document describing the update, which may not be null. The update to apply must include only update operators.
+     * @throws MongoWriteException        if the update failed due to some other failure specific to the update command
+     * @throws MongoWriteConcernException if the write failed due being unable to fulfil the write concern
+     * @throws com.mongodb.MongoException if the bulk write containing the update failed for some other reason
+     */
+    public void updateOne(final Bson filter, final Bson update) {
+        updateOne(filter, update, new UpdateOptions());
+    }
+
+    /**
+     * Updates a single document in the collection according to the specified arguments, along with the writes of other threads.  The
+     * number of documents matched and modified isn't reported, as the server only reports it for a bulk write as a whole.
+     *
+     * @param filter        a document describing the query filter, which may not be null.
+     * @param update        a document describing the update, which may not be null. The update to apply must include only update
+     *                      operators.
+     * @param updateOptions the options to apply to the update operation
+     * @throws MongoWriteException        if the update failed due to some other failure specific to the update command
+     * @throws MongoWriteConcernException if the write failed due being unable to fulfil the write concern
+     * @throws com.mongodb.MongoException if the bulk write containing the update failed for some other reason
+     */
+    public void updateOne(final Bson filter, final Bson update, final UpdateOptions updateOptions) {
+        write(new UpdateOneModel<TDocument>(filter, update, updateOptions));
+    }
+
+    private void write(final WriteModel<TDocument> writeModel) {
+        Batch<TDocument> batch;
+        int index;
+        boolean opened = false;
+        lock.lock();
+        try {
+            if (openBatch == null) {
+                openBatch = new Batch<TDocument>();
+                opened = true;
+            }
+            batch = openBatch;
+            index = batch.add(writeModel);
+            if (batch.size() >= maxBatchSize) {
+                openBatch = null;
+                batchClosed.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (opened) {
+            awaitBatchClosed(batch);
+            batch.execute(collection);
+        }
+        batch.checkOutcome(index);
+    }
+
+    // the writes of other threads depend on this batch being sent, so an interrupt only ends the wait early
+    private void awaitBatchClosed(final Batch<TDocument> batch) {
+        boolean interrupted = false;
+        lock.lock();
+        try {
+            long remainingNanos = maxDelayNanos;
+            while (openBatch == batch && remainingNanos > 0) {
+                try {
+                    remainingNanos = batchClosed.awaitNanos(remainingNanos);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    break;
+                }
+            }
+            if (openBatch == batch) {
+                openBatch = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Batch<TDocument> {
+        private final List<WriteModel<TDocument>> writeModels = new ArrayList<WriteModel<TDocument>>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private MongoBulkWriteException bulkWriteException;  // published by completed
+        private Throwable failure;  // published by completed
+
+        int add(final WriteModel<TDocument> writeModel) {
+            writeModels.add(writeModel);
+            return writeModels.size() - 1;
+        }
+
+        int size() {
+            return writeModels.size();
+        }
+
+        void execute(final MongoCollection<TDocument> collection) {
+            try {
+                collection.bulkWrite(writeModels, new BulkWriteOptions().ordered(false));
+            } catch (MongoBulkWriteException e) {
+                bulkWriteException = e;
+            } catch (Throwable t) {
+                failure = t;
+            } finally {
+                completed.countDown();
+            }
+        }
+
+        void checkOutcome(final int index) {
+            try {
+                completed.await();
+            } catch (InterruptedException e) {
+                throw new MongoInterruptedException("Interrupted waiting for a coalesced write to complete", e);
+            }
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            } else if (failure != null) {
+                throw new MongoException("A coalesced write failed", failure);
+            }
+            if (bulkWriteException != null) {
+                for (BulkWriteError writeError : bulkWriteException.getWriteErrors()) {
+                    if (writeError.getIndex() == index) {
+                        throw new MongoWriteException(new WriteError(writeError), bulkWriteException.getServerAddress());
+                    }
+                }
+                if (bulkWriteException.getWriteConcernError() != null) {
+                    throw new MongoWriteConcernException(bulkWriteException.getWriteConcernError(),
+                            bulkWriteException.getServerAddress());
+                }
+            }
+        }
+    }
+}
@@ -19,8 +19,10 @@ package com.mongodb.client;
 import com.mongodb.CursorType;
 import com.mongodb.client.model.Collation;
 import com.mongodb.lang.Nullable;
+import com.mongodb.operation.CursorBufferBudget;
 import org.bson.conversions.Bson;
 
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -125,6 +127,76 @@ public interface FindIterable<TResult> extends MongoIterable<TResult> {
      */
     FindIterable<TResult> noCursorTimeout(boolean noCursorTimeout);
 
+    /**
+     * Sets the fraction of each batch after which the next batch is requested in the background, so that applications that do
+     * significant work per document don't wait a round trip for each batch.  A value of 0 requests the next batch as soon as the current
+     * one is returned.  Tailable cursors never prefetch.
+     *
+     * @param prefetchThreshold the prefetch threshold, between 0 and 1, or null to disable prefetching
+     * @return this
+     * @since 3.9
+     */
+    FindIterable<TResult> prefetchThreshold(@Nullable Double prefetchThreshold);
+
+    /**
+     * Sets the maximum number of bytes of documents that the cursor keeps buffered, which enables adaptive batch sizing.  The batch size
+     * of each getMore then adapts to the average size of the documents and the rate at which they're consumed, such that no batch
+     * exceeds half of this many bytes.  A batch size that has been set is still used, unless its batches would exceed that limit.
+     *
+     * @param maxBufferedBytes the maximum number of buffered bytes, or null to disable adaptive batch sizing
+     * @return this
+     * @since 3.9
+     */
+    FindIterable<TResult> maxBufferedBytes(@Nullable Integer maxBufferedBytes);
+
+    /**
+     * Sets the byte budget that the cursor shares with other cursors, which enables adaptive batch sizing.  The batches returned by
+     * getMores are counted against the budget while the cursor holds them, and the batch size of each getMore adapts so that no batch
+     * exceeds half of the bytes left in the budget.  This applies as well as any limit set with {@link #maxBufferedBytes(Integer)}.
+     *
+     * @param bufferBudget the buffer budget, or null if the cursor doesn't share one
+     * @return this
+     * @since 3.9
+     */
+    FindIterable<TResult> bufferBudget(@Nullable CursorBufferBudget bufferBudget);
+
+    /**
+     * Sets the pool on which the documents of each batch after the first are decoded in parallel, as soon as the batch arrives, while
+     * keeping their order.  This pays off for large batches of documents that are expensive to decode, such as complex POJOs.  Batches
+     * too small to be worth splitting are still decoded one document at a time.
+     *
+     * @param decodePool the decode pool, or null to decode documents one at a time
+     * @return this
+     * @since 3.9
+     */
+    FindIterable<TResult> decodePool(@Nullable ForkJoinPool decodePool);
+
+    /**
+     * Sets whether a cursor closed before it's exhausted is killed in the background, rather than before close returns.  Cursors killed
+     * in the background are queued for a short time, and then killed with a single command per server and namespace.  A cursor in a
+     * transaction is always killed before close returns.
+     *
+     * @param killCursorsInBackground true if cursors should be killed in the background
+     * @return this
+     * @since 3.9
+     */
+    FindIterable<TResult> killCursorsInBackground(boolean killCursorsInBackground);
+
+    /**
+     * Sets whether each cursor decodes all of its results into a single instance, rather than allocating a new one per document, so that
+     * long scans create next to no garbage.  Each result is then only valid until the next one is read from the cursor, so results must
+     * not be kept or collected, for example with {@code into} or a parallel stream.  Documents are decoded one at a time as the cursor
+     * reaches them, so any decode pool is ignored.
+     *
+     * <p>Results are only reused if their codec is a {@link org.bson.codecs.ReusableDecoder}, such as the codecs for {@code Document}
+     * and for POJOs, and if the server is at least version 3.2.  Otherwise, they're decoded as usual.</p>
+     *
+     * @param reuseResults true if results should be reused
+     * @return this
+     * @since 3.9
+     */
+    FindIterable<TResult> reuseResults(boolean reuseResults);
+
     /**
      * Users should not set this under normal circumstances.
      *
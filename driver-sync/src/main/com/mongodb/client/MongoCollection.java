@@ -35,6 +35,7 @@ import com.mongodb.client.model.IndexModel;
 import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.model.InsertManyOptions;
 import com.mongodb.client.model.InsertOneOptions;
+import com.mongodb.client.model.PartitionedFindOptions;
 import com.mongodb.client.model.RenameCollectionOptions;
 import com.mongodb.client.model.ReplaceOptions;
 import com.mongodb.client.model.UpdateOptions;
@@ -46,6 +47,7 @@ import org.bson.Document;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -567,6 +569,44 @@ public interface MongoCollection<TDocument> {
      */
     <TResult> FindIterable<TResult> find(ClientSession clientSession, Bson filter, Class<TResult> resultClass);
 
+    /**
+     * Finds the documents matching the filter, split into partitions by ranges of the values of a field, so that each partition can be
+     * iterated on its own thread and read with its own connection.  Together the partitions contain each matching document exactly once,
+     * as long as the partition field never holds an array.
+     *
+     * <p>The split points are chosen from a random sample of the matching documents, so that the partitions are roughly equal in size.
+     * There's no variant that takes a client session, since a session can't be used by more than one thread at a time.</p>
+     *
+     * @param filter  the query filter
+     * @param options the options describing how to partition the documents
+     * @return a find iterable for each partition, which may be fewer than the number of partitions requested
+     * @throws com.mongodb.MongoClientException if the partition field holds an array in any of the sampled documents
+     * @since 3.9
+     * @mongodb.server.release 3.2
+     * @mongodb.driver.manual reference/operator/aggregation/sample/ $sample
+     */
+    List<FindIterable<TDocument>> partitionedFind(Bson filter, PartitionedFindOptions options);
+
+    /**
+     * Finds the documents matching the filter, split into partitions by ranges of the values of a field, so that each partition can be
+     * iterated on its own thread and read with its own connection.  Together the partitions contain each matching document exactly once,
+     * as long as the partition field never holds an array.
+     *
+     * <p>The split points are chosen from a random sample of the matching documents, so that the partitions are roughly equal in size.
+     * There's no variant that takes a client session, since a session can't be used by more than one thread at a time.</p>
+     *
+     * @param filter      the query filter
+     * @param options     the options describing how to partition the documents
+     * @param resultClass the class to decode each document into
+     * @param <TResult>   the target document type of the iterables.
+     * @return a find iterable for each partition, which may be fewer than the number of partitions requested
+     * @throws com.mongodb.MongoClientException if the partition field holds an array in any of the sampled documents
+     * @since 3.9
+     * @mongodb.server.release 3.2
+     * @mongodb.driver.manual reference/operator/aggregation/sample/ $sample
+     */
+    <TResult> List<FindIterable<TResult>> partitionedFind(Bson filter, PartitionedFindOptions options, Class<TResult> resultClass);
+
     /**
      * Aggregates documents according to the specified aggregation pipeline.
      *
@@ -819,6 +859,23 @@ public interface MongoCollection<TDocument> {
     BulkWriteResult bulkWrite(ClientSession clientSession, List<? extends WriteModel<? extends TDocument>> requests,
                               BulkWriteOptions options);
 
+    /**
+     * Executes a mix of inserts, updates, replaces, and deletes read lazily from an iterator, which may return any number of them.
+     * They're read and executed in parts of at most {@link BulkWriteOptions#getMaxBufferedWrites()} writes, so only one part is held in
+     * memory at a time, and the results of all the parts are combined as if they'd been a single bulk write.  If the writes are ordered,
+     * no more parts are executed after one that has a write error.
+     *
+     * <p>Note: Supports retryable writes on MongoDB server versions 3.6 or higher when the retryWrites setting is enabled.  The
+     * eligibility for retryable write support is determined separately for each part.</p>
+     * @param requests the writes to execute
+     * @param options  the options to apply to the bulk write operation
+     * @return the result of the bulk write
+     * @throws com.mongodb.MongoBulkWriteException if there's an exception in the bulk write operation
+     * @throws com.mongodb.MongoException          if there's an exception running the operation
+     * @since 3.9
+     */
+    BulkWriteResult bulkWrite(Iterator<? extends WriteModel<? extends TDocument>> requests, BulkWriteOptions options);
+
     /**
      * Inserts the provided document. If the document is missing an identifier, the driver should generate one.
      *
@@ -926,6 +983,21 @@ public interface MongoCollection<TDocument> {
      */
     void insertMany(ClientSession clientSession, List<? extends TDocument> documents, InsertManyOptions options);
 
+    /**
+     * Inserts documents read lazily from an iterator, which may return any number of them.  They're read and inserted in parts of at
+     * most {@link InsertManyOptions#getMaxBufferedDocuments()} documents, so only one part is held in memory at a time.  If the
+     * documents are inserted in order, no more parts are inserted after one that has a write error.
+     *
+     * <p>Note: Supports retryable writes on MongoDB server versions 3.6 or higher when the retryWrites setting is enabled.</p>
+     * @param documents the documents to insert
+     * @param options   the options to apply to the operation
+     * @throws com.mongodb.MongoBulkWriteException if there's an exception in the bulk write operation, with the indexes of any write
+     *                                             errors counted from the first document returned by the iterator
+     * @throws com.mongodb.MongoException          if the write failed due some other failure
+     * @since 3.9
+     */
+    void insertMany(Iterator<? extends TDocument> documents, InsertManyOptions options);
+
     /**
      * Removes at most one document from the collection that matches the given filter.  If no documents match, the collection is not
      * modified.
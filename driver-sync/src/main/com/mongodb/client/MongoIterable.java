@@ -22,6 +22,7 @@ import com.mongodb.ReadPreference;
 import com.mongodb.lang.Nullable;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 /**
  *The MongoIterable is the results from an operation, such as a query.
@@ -78,6 +79,27 @@ public interface MongoIterable<TResult> extends Iterable<TResult> {
      */
     <A extends Collection<? super TResult>> A into(A target);
 
+    /**
+     * Returns a sequential stream of the results.  The operation is executed when the stream's terminal operation begins, and its cursor
+     * is closed once all the results have been read.  A stream that may not be read to the end, for instance because of a short-circuiting
+     * operation such as {@code findFirst}, should be closed, for example with a try-with-resources statement, so that its cursor is
+     * killed.
+     *
+     * @return a stream of the results
+     * @since 3.9
+     */
+    Stream<TResult> stream();
+
+    /**
+     * Returns a possibly parallel stream of the results.  The stream splits by batch: each worker thread is handed a whole batch of
+     * results, whose size is known, while the cursor itself is only used by one thread at a time.  As with {@link #stream()}, a stream
+     * that may not be read to the end should be closed, so that its cursor is killed.
+     *
+     * @return a possibly parallel stream of the results
+     * @since 3.9
+     */
+    Stream<TResult> parallelStream();
+
     /**
      * Sets the number of documents to return per batch.
      *
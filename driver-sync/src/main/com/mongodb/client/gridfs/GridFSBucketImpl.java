@@ -192,7 +192,7 @@ final class GridFSBucketImpl implements GridFSBucket {
         int chunkSize = chunkSizeBytes == null ? this.chunkSizeBytes : chunkSizeBytes;
         checkCreateIndex(clientSession);
         return new GridFSUploadStreamImpl(clientSession, filesCollection, chunksCollection, id, filename, chunkSize,
-                disableMD5, options.getMetadata());
+                disableMD5, options.getMetadata(), options.getChunksPerBatch(), options.getMaxBatchesInFlight());
     }
 
     @Override
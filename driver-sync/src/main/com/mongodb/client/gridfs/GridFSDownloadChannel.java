@@ -0,0 +1,110 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb.client.gridfs;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * A read-only channel over a download stream, sharing its position.
+ */
+final class GridFSDownloadChannel implements SeekableByteChannel {
+    private final GridFSDownloadStream downloadStream;
+    private final long size;
+    private boolean open = true;
+
+    GridFSDownloadChannel(final GridFSDownloadStream downloadStream) {
+        this.downloadStream = notNull("downloadStream", downloadStream);
+        this.size = downloadStream.getGridFSFile().getLength();
+    }
+
+    @Override
+    public int read(final ByteBuffer dst) throws IOException {
+        checkOpen();
+        if (!dst.hasRemaining()) {
+            return 0;
+        }
+        int bytesRead;
+        if (dst.hasArray()) {
+            bytesRead = downloadStream.read(dst.array(), dst.arrayOffset() + dst.position(), dst.remaining());
+            if (bytesRead > 0) {
+                dst.position(dst.position() + bytesRead);
+            }
+        } else {
+            byte[] bytes = new byte[dst.remaining()];
+            bytesRead = downloadStream.read(bytes, 0, bytes.length);
+            if (bytesRead > 0) {
+                dst.put(bytes, 0, bytesRead);
+            }
+        }
+        return bytesRead;
+    }
+
+    @Override
+    public int write(final ByteBuffer src) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public long position() throws IOException {
+        checkOpen();
+        return downloadStream.getPosition();
+    }
+
+    @Override
+    public SeekableByteChannel position(final long newPosition) throws IOException {
+        checkOpen();
+        downloadStream.seek(newPosition);
+        return this;
+    }
+
+    @Override
+    public long size() throws IOException {
+        checkOpen();
+        return size;
+    }
+
+    @Override
+    public SeekableByteChannel truncate(final long size) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public synchronized boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            open = false;
+        }
+        downloadStream.close();
+    }
+
+    private void checkOpen() throws ClosedChannelException {
+        if (!isOpen()) {
+            throw new ClosedChannelException();
+        }
+    }
+}
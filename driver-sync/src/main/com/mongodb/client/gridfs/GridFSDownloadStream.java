@@ -20,6 +20,7 @@ import com.mongodb.annotations.NotThreadSafe;
 import com.mongodb.client.gridfs.model.GridFSFile;
 
 import java.io.InputStream;
+import java.nio.channels.SeekableByteChannel;
 
 /**
  * A GridFS InputStream for downloading data from GridFS
@@ -53,6 +54,49 @@ public abstract class GridFSDownloadStream extends InputStream {
      */
     public abstract GridFSDownloadStream batchSize(int batchSize);
 
+    /**
+     * Sets the number of chunks to fetch ahead of the one being read.
+     *
+     * <p>By default chunks are read in order through a single cursor, and a batch is only fetched once the previous one has been read.
+     * If this is greater than 0, each chunk is instead fetched by its own query for just that chunk, and the queries for the chunks
+     * that follow the one being read are run concurrently, in the background, so that reading a file isn't bound by a round trip per
+     * batch.  A {@link #seek(long) seek} then fetches only the chunk that's read next, and the ones that follow it.  Chunks are never
+     * prefetched when the download is part of a session, as a session can't be used concurrently.</p>
+     *
+     * @param numberOfChunks the number of chunks to prefetch, which must not be negative
+     * @return this
+     * @since 3.9
+     */
+    public abstract GridFSDownloadStream prefetch(int numberOfChunks);
+
+    /**
+     * Gets the position in the file of the next byte to be read.
+     *
+     * @return the position
+     * @since 3.9
+     */
+    public abstract long getPosition();
+
+    /**
+     * Sets the position in the file of the next byte to be read.  Only the chunk containing the position, and any that follow it, are
+     * fetched, so a download can start or resume from any position in the file without reading what precedes it.
+     *
+     * <p>The position can be beyond the end of the file, where reads return -1, as they do at the end of the file.</p>
+     *
+     * @param position the position, which must not be negative
+     * @return this
+     * @since 3.9
+     */
+    public abstract GridFSDownloadStream seek(long position);
+
+    /**
+     * Gets a read-only channel for the file that shares the position of this stream.  Closing the channel closes this stream.
+     *
+     * @return the channel
+     * @since 3.9
+     */
+    public abstract SeekableByteChannel getChannel();
+
     @Override
     public abstract int read();
 
@@ -17,6 +17,7 @@
 package com.mongodb.client.gridfs;
 
 import com.mongodb.MongoGridFSException;
+import com.mongodb.MongoInterruptedException;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
@@ -27,11 +28,21 @@ import org.bson.BsonValue;
 import org.bson.Document;
 import org.bson.types.Binary;
 
+import java.nio.channels.SeekableByteChannel;
+import java.util.Iterator;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
 import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
+import static com.mongodb.client.gridfs.GridFSStreamHelper.asUnchecked;
+import static com.mongodb.client.gridfs.GridFSStreamHelper.getExecutorService;
 import static java.lang.String.format;
 
 class GridFSDownloadStreamImpl extends GridFSDownloadStream {
+
     private final ClientSession clientSession;
     private final GridFSFile fileInfo;
     private final MongoCollection<Document> chunksCollection;
@@ -41,6 +52,9 @@ class GridFSDownloadStreamImpl extends GridFSDownloadStream {
     private final int numberOfChunks;
     private MongoCursor<Document> cursor;
     private int batchSize;
+    private int prefetch;
+    // the chunks being fetched when prefetching, by chunk index
+    private final TreeMap<Integer, Future<Document>> prefetchedChunks = new TreeMap<Integer, Future<Document>>();
     private int chunkIndex;
     private int bufferOffset;
     private long currentPosition;
@@ -76,6 +90,51 @@ class GridFSDownloadStreamImpl extends GridFSDownloadStream {
         return this;
     }
 
+    @Override
+    public GridFSDownloadStream prefetch(final int numberOfChunks) {
+        isTrueArgument("numberOfChunks cannot be negative", numberOfChunks >= 0);
+        // a session can't be used concurrently, so the chunks of a download in a session are always read through the cursor
+        this.prefetch = clientSession == null ? numberOfChunks : 0;
+        discardCursor();
+        discardPrefetchedChunks();
+        return this;
+    }
+
+    @Override
+    public long getPosition() {
+        return currentPosition;
+    }
+
+    @Override
+    public GridFSDownloadStream seek(final long position) {
+        checkClosed();
+        isTrueArgument("position >= 0", position >= 0);
+        if (position == currentPosition) {
+            return this;
+        }
+
+        if (position >= length) {
+            chunkIndex = numberOfChunks - 1;
+            buffer = null;
+            discardCursor();
+        } else {
+            int newChunkIndex = (int) (position / chunkSizeInBytes);
+            if (newChunkIndex != chunkIndex) {
+                chunkIndex = newChunkIndex;
+                buffer = null;
+                discardCursor();
+            }
+        }
+        bufferOffset = (int) (position % chunkSizeInBytes);
+        currentPosition = position;
+        return this;
+    }
+
+    @Override
+    public SeekableByteChannel getChannel() {
+        return new GridFSDownloadChannel(this);
+    }
+
     @Override
     public int read() {
         byte[] b = new byte[1];
@@ -95,7 +154,7 @@ class GridFSDownloadStreamImpl extends GridFSDownloadStream {
     public int read(final byte[] b, final int off, final int len) {
         checkClosed();
 
-        if (currentPosition == length) {
+        if (currentPosition >= length) {
             return -1;
         } else if (buffer == null) {
             buffer = getBuffer(chunkIndex);
@@ -115,7 +174,7 @@ class GridFSDownloadStreamImpl extends GridFSDownloadStream {
     @Override
     public long skip(final long bytesToSkip) {
         checkClosed();
-        if (bytesToSkip <= 0) {
+        if (bytesToSkip <= 0 || currentPosition >= length) {
             return 0;
         }
 
@@ -189,6 +248,7 @@ class GridFSDownloadStreamImpl extends GridFSDownloadStream {
                 closed = true;
             }
             discardCursor();
+            discardPrefetchedChunks();
         }
     }
 
@@ -211,6 +271,9 @@ class GridFSDownloadStreamImpl extends GridFSDownloadStream {
 
     @Nullable
     private Document getChunk(final int startChunkIndex) {
+        if (prefetch > 0) {
+            return getPrefetchedChunk(startChunkIndex);
+        }
         if (cursor == null) {
             cursor = getCursor(startChunkIndex);
         }
@@ -229,6 +292,57 @@ class GridFSDownloadStreamImpl extends GridFSDownloadStream {
         return chunk;
     }
 
+    // Fetches the chunk, and starts fetching the chunks that follow it, cancelling the fetches of any chunks that are no longer ahead
+    // of the one being read because the position has been changed
+    @Nullable
+    private Document getPrefetchedChunk(final int chunkIndexToFetch) {
+        int lastChunkIndex = Math.min(chunkIndexToFetch + prefetch, numberOfChunks - 1);
+        Iterator<Integer> prefetchedIndexes = prefetchedChunks.keySet().iterator();
+        while (prefetchedIndexes.hasNext()) {
+            int prefetchedIndex = prefetchedIndexes.next();
+            if (prefetchedIndex < chunkIndexToFetch || prefetchedIndex > lastChunkIndex) {
+                prefetchedChunks.get(prefetchedIndex).cancel(false);
+                prefetchedIndexes.remove();
+            }
+        }
+        for (int i = chunkIndexToFetch; i <= lastChunkIndex; i++) {
+            if (!prefetchedChunks.containsKey(i)) {
+                prefetchedChunks.put(i, getExecutorService().submit(createChunkQuery(i)));
+            }
+        }
+
+        Future<Document> chunk = prefetchedChunks.remove(chunkIndexToFetch);
+        try {
+            return chunk != null ? chunk.get() : findChunk(chunkIndexToFetch);
+        } catch (ExecutionException e) {
+            throw asUnchecked(e.getCause());
+        } catch (InterruptedException e) {
+            throw new MongoInterruptedException(format("Interrupted fetching file chunk for file_id: %s at chunk index %s.", fileId,
+                    chunkIndexToFetch), e);
+        }
+    }
+
+    private Callable<Document> createChunkQuery(final int chunkIndexToFetch) {
+        return new Callable<Document>() {
+            @Override
+            public Document call() {
+                return findChunk(chunkIndexToFetch);
+            }
+        };
+    }
+
+    @Nullable
+    private Document findChunk(final int chunkIndexToFetch) {
+        return chunksCollection.find(new Document("files_id", fileId).append("n", chunkIndexToFetch)).first();
+    }
+
+    private void discardPrefetchedChunks() {
+        for (Future<Document> chunk : prefetchedChunks.values()) {
+            chunk.cancel(false);
+        }
+        prefetchedChunks.clear();
+    }
+
     private MongoCursor<Document> getCursor(final int startChunkIndex) {
         FindIterable<Document> findIterable;
         Document filter = new Document("files_id", fileId).append("n", new Document("$gte", startChunkIndex));
@@ -28,6 +28,7 @@ import org.bson.conversions.Bson;
 
 import java.util.Collection;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 class GridFSFindIterableImpl implements GridFSFindIterable {
     private final FindIterable<GridFSFile> underlying;
@@ -110,4 +111,14 @@ class GridFSFindIterableImpl implements GridFSFindIterable {
         return underlying.into(target);
     }
 
+    @Override
+    public Stream<GridFSFile> stream() {
+        return underlying.stream();
+    }
+
+    @Override
+    public Stream<GridFSFile> parallelStream() {
+        return underlying.parallelStream();
+    }
+
 }
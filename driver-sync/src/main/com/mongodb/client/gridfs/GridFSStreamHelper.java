@@ -0,0 +1,59 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client.gridfs;
+
+import com.mongodb.MongoException;
+import com.mongodb.internal.thread.DaemonThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Support shared by the upload and download streams for the chunk queries and inserts that they run in the background.
+ */
+final class GridFSStreamHelper {
+    private static ExecutorService executorService;
+
+    /**
+     * Gets the executor that background chunk queries and inserts run on, which is created when it's first needed.  Its threads are
+     * daemon threads, so that an abandoned stream never keeps the process alive.
+     *
+     * @return the executor
+     */
+    static synchronized ExecutorService getExecutorService() {
+        if (executorService == null) {
+            executorService = Executors.newCachedThreadPool(new DaemonThreadFactory("gridfs"));
+        }
+        return executorService;
+    }
+
+    /**
+     * Gets the exception to throw for the failure of a background task.  An error is rethrown as is.
+     *
+     * @param t the failure
+     * @return the failure, if it's unchecked, or otherwise a {@code MongoException} caused by it
+     */
+    static RuntimeException asUnchecked(final Throwable t) {
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        return t instanceof RuntimeException ? (RuntimeException) t : MongoException.fromThrowableNonNull(t);
+    }
+
+    private GridFSStreamHelper() {
+    }
+}
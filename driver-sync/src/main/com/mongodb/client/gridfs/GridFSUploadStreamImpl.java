@@ -17,6 +17,7 @@
 package com.mongodb.client.gridfs;
 
 import com.mongodb.MongoGridFSException;
+import com.mongodb.MongoInterruptedException;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.gridfs.model.GridFSFile;
 import com.mongodb.lang.Nullable;
@@ -28,12 +29,21 @@ import org.bson.types.ObjectId;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import static com.mongodb.assertions.Assertions.notNull;
+import static com.mongodb.client.gridfs.GridFSStreamHelper.asUnchecked;
+import static com.mongodb.client.gridfs.GridFSStreamHelper.getExecutorService;
 import static com.mongodb.internal.HexUtils.toHex;
 
 final class GridFSUploadStreamImpl extends GridFSUploadStream {
+
     private final ClientSession clientSession;
     private final MongoCollection<GridFSFile> filesCollection;
     private final MongoCollection<Document> chunksCollection;
@@ -42,6 +52,10 @@ final class GridFSUploadStreamImpl extends GridFSUploadStream {
     private final int chunkSizeBytes;
     private final Document metadata;
     private final MessageDigest md5;
+    private final int chunksPerBatch;
+    private final int maxBatchesInFlight;
+    private final Deque<Future<?>> batchesInFlight = new ArrayDeque<Future<?>>();
+    private List<Document> batch = new ArrayList<Document>();
     private byte[] buffer;
     private long lengthInBytes;
     private int bufferOffset;
@@ -53,6 +67,13 @@ final class GridFSUploadStreamImpl extends GridFSUploadStream {
     GridFSUploadStreamImpl(@Nullable final ClientSession clientSession, final MongoCollection<GridFSFile> filesCollection,
                            final MongoCollection<Document> chunksCollection, final BsonValue fileId, final String filename,
                            final int chunkSizeBytes, final boolean disableMD5, @Nullable final Document metadata) {
+        this(clientSession, filesCollection, chunksCollection, fileId, filename, chunkSizeBytes, disableMD5, metadata, 1, 0);
+    }
+
+    GridFSUploadStreamImpl(@Nullable final ClientSession clientSession, final MongoCollection<GridFSFile> filesCollection,
+                           final MongoCollection<Document> chunksCollection, final BsonValue fileId, final String filename,
+                           final int chunkSizeBytes, final boolean disableMD5, @Nullable final Document metadata,
+                           final int chunksPerBatch, final int maxBatchesInFlight) {
         this.clientSession = clientSession;
         this.filesCollection = notNull("files collection", filesCollection);
         this.chunksCollection = notNull("chunks collection", chunksCollection);
@@ -61,6 +82,9 @@ final class GridFSUploadStreamImpl extends GridFSUploadStream {
         this.chunkSizeBytes = chunkSizeBytes;
         this.md5 = createMD5Digest(disableMD5);
         this.metadata = metadata;
+        this.chunksPerBatch = chunksPerBatch;
+        // a session can't be used concurrently, so the chunks of an upload in a session are always inserted by the writing thread
+        this.maxBatchesInFlight = clientSession == null ? maxBatchesInFlight : 0;
         chunkIndex = 0;
         bufferOffset = 0;
         buffer = new byte[chunkSizeBytes];
@@ -91,6 +115,7 @@ final class GridFSUploadStreamImpl extends GridFSUploadStream {
             checkClosed();
             closed = true;
         }
+        awaitBatchesInFlight(0, false);
         if (clientSession != null) {
             chunksCollection.deleteMany(clientSession, new Document("files_id", fileId));
         } else {
@@ -153,6 +178,8 @@ final class GridFSUploadStreamImpl extends GridFSUploadStream {
             closed = true;
         }
         writeChunk();
+        writeBatch();
+        awaitBatchesInFlight(0, true);
         GridFSFile gridFSFile = new GridFSFile(fileId, filename, lengthInBytes, chunkSizeBytes, new Date(),
                 getMD5Digest(), metadata);
         if (clientSession != null) {
@@ -163,17 +190,72 @@ final class GridFSUploadStreamImpl extends GridFSUploadStream {
         buffer = null;
     }
 
+    // The digest is updated as each chunk is filled, on the writing thread, while earlier batches may still be being inserted
     private void writeChunk() {
         if (bufferOffset > 0) {
-            if (clientSession != null) {
-                chunksCollection.insertOne(clientSession, new Document("files_id", fileId).append("n", chunkIndex)
-                        .append("data", getData()));
-            } else {
-                chunksCollection.insertOne(new Document("files_id", fileId).append("n", chunkIndex).append("data", getData()));
-            }
+            batch.add(new Document("files_id", fileId).append("n", chunkIndex).append("data", getData()));
             updateMD5();
             chunkIndex++;
             bufferOffset = 0;
+            if (batch.size() == chunksPerBatch) {
+                writeBatch();
+            }
+            // a chunk's buffer can only be reused once the chunk has been inserted
+            if (chunksPerBatch > 1 || maxBatchesInFlight > 0) {
+                buffer = new byte[chunkSizeBytes];
+            }
+        }
+    }
+
+    private void writeBatch() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        final List<Document> chunks = batch;
+        batch = new ArrayList<Document>();
+        if (maxBatchesInFlight == 0) {
+            insertChunks(chunks);
+        } else {
+            awaitBatchesInFlight(maxBatchesInFlight - 1, true);
+            batchesInFlight.add(getExecutorService().submit(new Runnable() {
+                @Override
+                public void run() {
+                    insertChunks(chunks);
+                }
+            }));
+        }
+    }
+
+    private void insertChunks(final List<Document> chunks) {
+        if (chunks.size() == 1) {
+            if (clientSession != null) {
+                chunksCollection.insertOne(clientSession, chunks.get(0));
+            } else {
+                chunksCollection.insertOne(chunks.get(0));
+            }
+        } else if (clientSession != null) {
+            chunksCollection.insertMany(clientSession, chunks);
+        } else {
+            chunksCollection.insertMany(chunks);
+        }
+    }
+
+    // waits for all but the given number of the batches in flight, and throws the first failure of any of them if asked to
+    private void awaitBatchesInFlight(final int maxRemaining, final boolean throwFailure) {
+        RuntimeException failure = null;
+        while (batchesInFlight.size() > maxRemaining) {
+            try {
+                batchesInFlight.removeFirst().get();
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = asUnchecked(e.getCause());
+                }
+            } catch (InterruptedException e) {
+                throw new MongoInterruptedException("Interrupted waiting for chunks to be inserted", e);
+            }
+        }
+        if (failure != null && throwFailure) {
+            throw failure;
         }
     }
 
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client.internal;
+
+import com.mongodb.annotations.NotThreadSafe;
+import com.mongodb.operation.BatchCursor;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * A spliterator over the results of a batch cursor that splits by batch: each split hands over the rest of the current batch, or else
+ * the next batch, as a sized spliterator of its own, so that a parallel stream processes whole batches on its worker threads while the
+ * cursor itself is only ever used by one thread at a time.  The documents of a batch that's handed over are only decoded by the worker
+ * threads that consume them.
+ *
+ * <p>The cursor is opened on first use, and closed as soon as it's exhausted or when {@link #close()} is called.</p>
+ *
+ * @param <T> the result type
+ */
+@NotThreadSafe
+final class BatchCursorSpliterator<T> implements Spliterator<T> {
+    private static final int CHARACTERISTICS = ORDERED | NONNULL;
+
+    private final Supplier<BatchCursor<T>> cursorSupplier;
+    private BatchCursor<T> cursor;
+    private List<T> batch;
+    private int position;
+    private boolean closed;
+
+    BatchCursorSpliterator(final Supplier<BatchCursor<T>> cursorSupplier) {
+        this.cursorSupplier = notNull("cursorSupplier", cursorSupplier);
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        notNull("action", action);
+        if (!hasRemainingInBatch() && !nextBatch()) {
+            return false;
+        }
+        action.accept(batch.get(position++));
+        return true;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (!hasRemainingInBatch() && !nextBatch()) {
+            return null;
+        }
+        // the remaining documents precede any later batch, so they're the prefix that an ordered spliterator must split off.  They're
+        // handed over undecoded, as a view of the batch, so that each is decoded by the thread that takes it
+        List<T> documents = batch.subList(position, batch.size());
+        batch = null;
+        return new BatchSpliterator<T>(documents, 0, documents.size());
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    /**
+     * Closes the cursor, if it's been opened and isn't already closed.
+     */
+    void close() {
+        if (!closed) {
+            closed = true;
+            if (cursor != null) {
+                cursor.close();
+            }
+        }
+    }
+
+    /**
+     * A spliterator over a range of a batch that only asks the batch for each document on the thread that consumes it, and splits by
+     * halving the range, so that the documents of a lazily decoded batch are decoded in parallel.  Each document is asked for by only
+     * one thread, which is all that a lazily decoded batch needs to be used by several threads.
+     */
+    private static final class BatchSpliterator<T> implements Spliterator<T> {
+        private final List<T> batch;
+        private int index;
+        private final int fence;
+
+        BatchSpliterator(final List<T> batch, final int origin, final int fence) {
+            this.batch = batch;
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            notNull("action", action);
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(batch.get(index++));
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int middle = (index + fence) >>> 1;
+            if (middle <= index) {
+                return null;
+            }
+            Spliterator<T> prefix = new BatchSpliterator<T>(batch, index, middle);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return CHARACTERISTICS | SIZED | SUBSIZED;
+        }
+    }
+
+    private boolean hasRemainingInBatch() {
+        return batch != null && position < batch.size();
+    }
+
+    private boolean nextBatch() {
+        if (closed) {
+            return false;
+        }
+        if (cursor == null) {
+            cursor = cursorSupplier.get();
+        }
+        while (cursor.hasNext()) {
+            batch = cursor.next();
+            position = 0;
+            if (!batch.isEmpty()) {
+                return true;
+            }
+        }
+        batch = null;
+        close();
+        return false;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client.internal;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoException;
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.ReadConcern;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.WriteRequest;
+import com.mongodb.internal.operation.SplitBulkWriteCombiner;
+import com.mongodb.internal.thread.DaemonThreadFactory;
+import com.mongodb.operation.MixedBulkWriteOperation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Executes an unordered bulk write as several bulk writes over contiguous parts of its requests, at the same time, and combines their
+ * results as if they'd been a single bulk write.  Each part is executed as a separate operation, so it has its own connection from the
+ * pool and its own implicit session, and is split into batches independently of the others.
+ */
+final class ConcurrentBulkWriteHelper {
+    private static ExecutorService executorService;
+
+    /**
+     * Executes the bulk write in at most {@code parallelism} parts.  The first part is executed on the calling thread, and this method
+     * returns once all the parts have completed.  If any part fails other than with write errors, the first such failure is thrown.
+     */
+    static BulkWriteResult execute(final MixedBulkWriteOperation operation, final int parallelism, final OperationExecutor executor,
+                                   final ReadConcern readConcern) {
+        List<? extends WriteRequest> writeRequests = operation.getWriteRequests();
+        int parts = Math.min(parallelism, writeRequests.size());
+        if (operation.isOrdered() || parts < 2) {
+            return executor.execute(operation, readConcern);
+        }
+
+        int[] startIndexes = new int[parts + 1];
+        for (int i = 0; i <= parts; i++) {
+            startIndexes[i] = (int) ((long) i * writeRequests.size() / parts);
+        }
+        List<Future<BulkWriteResult>> futures = new ArrayList<Future<BulkWriteResult>>();
+        for (int i = 1; i < parts; i++) {
+            futures.add(getExecutorService().submit(createPart(operation, startIndexes[i], startIndexes[i + 1], executor, readConcern)));
+        }
+
+        List<Object> outcomes = new ArrayList<Object>(parts);
+        try {
+            outcomes.add(createPart(operation, startIndexes[0], startIndexes[1], executor, readConcern).call());
+        } catch (Throwable t) {
+            outcomes.add(t);
+        }
+        for (Future<BulkWriteResult> future : futures) {
+            outcomes.add(getOutcome(future));
+        }
+        return combine(operation, startIndexes, outcomes);
+    }
+
+    private static BulkWriteResult combine(final MixedBulkWriteOperation operation, final int[] startIndexes, final List<Object> outcomes) {
+        SplitBulkWriteCombiner combiner = new SplitBulkWriteCombiner(false, operation.getWriteConcern());
+        for (int i = 0; i < outcomes.size(); i++) {
+            Object outcome = outcomes.get(i);
+            int count = startIndexes[i + 1] - startIndexes[i];
+            if (outcome instanceof MongoBulkWriteException) {
+                combiner.addError((MongoBulkWriteException) outcome, startIndexes[i], count);
+            } else if (outcome instanceof Throwable) {
+                throw asUnchecked((Throwable) outcome);
+            } else {
+                combiner.addResult((BulkWriteResult) outcome, startIndexes[i], count);
+            }
+        }
+        return combiner.getResult();
+    }
+
+    private static Callable<BulkWriteResult> createPart(final MixedBulkWriteOperation operation, final int startIndex, final int endIndex,
+                                                        final OperationExecutor executor, final ReadConcern readConcern) {
+        final MixedBulkWriteOperation part = new MixedBulkWriteOperation(operation.getNamespace(),
+                operation.getWriteRequests().subList(startIndex, endIndex), false, operation.getWriteConcern(), operation.getRetryWrites())
+                .bypassDocumentValidation(operation.getBypassDocumentValidation());
+        return new Callable<BulkWriteResult>() {
+            @Override
+            public BulkWriteResult call() {
+                return executor.execute(part, readConcern);
+            }
+        };
+    }
+
+    private static Object getOutcome(final Future<BulkWriteResult> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            return e.getCause();
+        } catch (InterruptedException e) {
+            throw new MongoInterruptedException("Interrupted waiting for a concurrent part of a bulk write", e);
+        }
+    }
+
+    private static RuntimeException asUnchecked(final Throwable t) {
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        return t instanceof RuntimeException ? (RuntimeException) t : MongoException.fromThrowableNonNull(t);
+    }
+
+    private static synchronized ExecutorService getExecutorService() {
+        if (executorService == null) {
+            executorService = Executors.newCachedThreadPool(new DaemonThreadFactory("bulk-write"));
+        }
+        return executorService;
+    }
+
+    private ConcurrentBulkWriteHelper() {
+    }
+}
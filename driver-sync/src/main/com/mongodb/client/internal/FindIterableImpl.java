@@ -26,11 +26,13 @@ import com.mongodb.client.model.FindOptions;
 import com.mongodb.internal.operation.SyncOperations;
 import com.mongodb.lang.Nullable;
 import com.mongodb.operation.BatchCursor;
+import com.mongodb.operation.CursorBufferBudget;
 import com.mongodb.operation.ReadOperation;
 import com.mongodb.client.ClientSession;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 import static com.mongodb.assertions.Assertions.notNull;
@@ -124,6 +126,42 @@ final class FindIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResu
         return this;
     }
 
+    @Override
+    public FindIterable<TResult> maxBufferedBytes(@Nullable final Integer maxBufferedBytes) {
+        findOptions.maxBufferedBytes(maxBufferedBytes);
+        return this;
+    }
+
+    @Override
+    public FindIterable<TResult> bufferBudget(@Nullable final CursorBufferBudget bufferBudget) {
+        findOptions.bufferBudget(bufferBudget);
+        return this;
+    }
+
+    @Override
+    public FindIterable<TResult> decodePool(@Nullable final ForkJoinPool decodePool) {
+        findOptions.decodePool(decodePool);
+        return this;
+    }
+
+    @Override
+    public FindIterable<TResult> killCursorsInBackground(final boolean killCursorsInBackground) {
+        findOptions.killCursorsInBackground(killCursorsInBackground);
+        return this;
+    }
+
+    @Override
+    public FindIterable<TResult> reuseResults(final boolean reuseResults) {
+        findOptions.reuseResults(reuseResults);
+        return this;
+    }
+
+    @Override
+    public FindIterable<TResult> prefetchThreshold(@Nullable final Double prefetchThreshold) {
+        findOptions.prefetchThreshold(prefetchThreshold);
+        return this;
+    }
+
     @Override
     public FindIterable<TResult> oplogReplay(final boolean oplogReplay) {
         findOptions.oplogReplay(oplogReplay);
@@ -23,6 +23,7 @@ import com.mongodb.client.MongoIterable;
 import com.mongodb.lang.Nullable;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 class MappingIterable<U, V> implements MongoIterable<V> {
 
@@ -49,6 +50,25 @@ class MappingIterable<U, V> implements MongoIterable<V> {
         return mapper.apply(first);
     }
 
+    @Override
+    public Stream<V> stream() {
+        return iterable.stream().map(asStreamFunction());
+    }
+
+    @Override
+    public Stream<V> parallelStream() {
+        return iterable.parallelStream().map(asStreamFunction());
+    }
+
+    private java.util.function.Function<U, V> asStreamFunction() {
+        return new java.util.function.Function<U, V>() {
+            @Override
+            public V apply(final U document) {
+                return mapper.apply(document);
+            }
+        };
+    }
+
     @Override
     public void forEach(final Block<? super V> block) {
         iterable.forEach(new Block<U>() {
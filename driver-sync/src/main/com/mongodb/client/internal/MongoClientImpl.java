@@ -31,6 +31,7 @@ import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.MongoIterable;
 import com.mongodb.client.model.changestream.ChangeStreamLevel;
+import com.mongodb.connection.AsynchronousSocketChannelStreamFactory;
 import com.mongodb.connection.Cluster;
 import com.mongodb.connection.DefaultClusterFactory;
 import com.mongodb.connection.SocketSettings;
@@ -67,7 +68,7 @@ public final class MongoClientImpl implements MongoClient {
     @Override
     public MongoDatabase getDatabase(final String databaseName) {
         return new MongoDatabaseImpl(databaseName, settings.getCodecRegistry(), settings.getReadPreference(), settings.getWriteConcern(),
-                settings.getRetryWrites(), settings.getReadConcern(), delegate.getOperationExecutor());
+                settings.getRetryWrites(), settings.getReadConcern(), delegate.getOperationExecutor(), settings.getCursorBufferBudget());
     }
 
     @Override
@@ -190,13 +191,16 @@ public final class MongoClientImpl implements MongoClient {
         return new DefaultClusterFactory().createCluster(settings.getClusterSettings(), settings.getServerSettings(),
                 settings.getConnectionPoolSettings(), getStreamFactory(settings, false), getStreamFactory(settings, true), credentialList,
                 getCommandListener(settings.getCommandListeners()), settings.getApplicationName(), mongoDriverInformation,
-                settings.getCompressorList());
+                settings.getCompressorList(), settings.getHeartbeatSocketSettings());
     }
 
     private static StreamFactory getStreamFactory(final MongoClientSettings settings, final boolean isHeartbeat) {
         StreamFactoryFactory streamFactoryFactory = settings.getStreamFactoryFactory();
         SocketSettings socketSettings = isHeartbeat ? settings.getHeartbeatSocketSettings() : settings.getSocketSettings();
         if (streamFactoryFactory == null) {
+            if (isHeartbeat && settings.getServerSettings().isSharedHeartbeatExecutorEnabled() && !settings.getSslSettings().isEnabled()) {
+                return new AsynchronousSocketChannelStreamFactory(socketSettings, settings.getSslSettings());
+            }
             return new SocketStreamFactory(socketSettings, settings.getSslSettings());
         } else {
             return streamFactoryFactory.create(socketSettings, settings.getSslSettings());
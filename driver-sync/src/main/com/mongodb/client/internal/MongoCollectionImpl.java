@@ -50,6 +50,7 @@ import com.mongodb.client.model.IndexModel;
 import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.model.InsertManyOptions;
 import com.mongodb.client.model.InsertOneOptions;
+import com.mongodb.client.model.PartitionedFindOptions;
 import com.mongodb.client.model.RenameCollectionOptions;
 import com.mongodb.client.model.ReplaceOptions;
 import com.mongodb.client.model.UpdateOptions;
@@ -58,8 +59,11 @@ import com.mongodb.client.model.changestream.ChangeStreamLevel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
 import com.mongodb.internal.operation.IndexHelper;
+import com.mongodb.internal.operation.SplitBulkWriteCombiner;
 import com.mongodb.internal.operation.SyncOperations;
 import com.mongodb.lang.Nullable;
+import com.mongodb.operation.CursorBufferBudget;
+import com.mongodb.operation.MixedBulkWriteOperation;
 import com.mongodb.operation.RenameCollectionOperation;
 import com.mongodb.operation.WriteOperation;
 import org.bson.BsonDocument;
@@ -68,7 +72,9 @@ import org.bson.Document;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 import static com.mongodb.assertions.Assertions.notNull;
@@ -76,6 +82,9 @@ import static com.mongodb.bulk.WriteRequest.Type.DELETE;
 import static com.mongodb.bulk.WriteRequest.Type.INSERT;
 import static com.mongodb.bulk.WriteRequest.Type.REPLACE;
 import static com.mongodb.bulk.WriteRequest.Type.UPDATE;
+import static com.mongodb.client.internal.PartitionedFindHelper.createPartitionFilters;
+import static com.mongodb.client.internal.PartitionedFindHelper.createSamplePipeline;
+import static com.mongodb.client.internal.PartitionedFindHelper.getSplitPoints;
 import static com.mongodb.client.model.ReplaceOptions.createReplaceOptions;
 import static com.mongodb.internal.client.model.CountOptionsHelper.fromEstimatedDocumentCountOptions;
 import static java.util.Collections.singletonList;
@@ -90,10 +99,18 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
     private final ReadConcern readConcern;
     private final SyncOperations<TDocument> operations;
     private final OperationExecutor executor;
+    private final CursorBufferBudget cursorBufferBudget;
 
     MongoCollectionImpl(final MongoNamespace namespace, final Class<TDocument> documentClass, final CodecRegistry codecRegistry,
                         final ReadPreference readPreference, final WriteConcern writeConcern, final boolean retryWrites,
                         final ReadConcern readConcern, final OperationExecutor executor) {
+        this(namespace, documentClass, codecRegistry, readPreference, writeConcern, retryWrites, readConcern, executor, null);
+    }
+
+    MongoCollectionImpl(final MongoNamespace namespace, final Class<TDocument> documentClass, final CodecRegistry codecRegistry,
+                        final ReadPreference readPreference, final WriteConcern writeConcern, final boolean retryWrites,
+                        final ReadConcern readConcern, final OperationExecutor executor,
+                        @Nullable final CursorBufferBudget cursorBufferBudget) {
         this.namespace = notNull("namespace", namespace);
         this.documentClass = notNull("documentClass", documentClass);
         this.codecRegistry = notNull("codecRegistry", codecRegistry);
@@ -102,6 +119,7 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
         this.retryWrites = retryWrites;
         this.readConcern = notNull("readConcern", readConcern);
         this.executor = notNull("executor", executor);
+        this.cursorBufferBudget = cursorBufferBudget;
         this.operations = new SyncOperations<TDocument>(namespace, documentClass, readPreference, codecRegistry, writeConcern, retryWrites);
     }
 
@@ -138,31 +156,31 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
     @Override
     public <NewTDocument> MongoCollection<NewTDocument> withDocumentClass(final Class<NewTDocument> clazz) {
         return new MongoCollectionImpl<NewTDocument>(namespace, clazz, codecRegistry, readPreference, writeConcern, retryWrites,
-                readConcern, executor);
+                readConcern, executor, cursorBufferBudget);
     }
 
     @Override
     public MongoCollection<TDocument> withCodecRegistry(final CodecRegistry codecRegistry) {
         return new MongoCollectionImpl<TDocument>(namespace, documentClass, codecRegistry, readPreference, writeConcern, retryWrites,
-                readConcern, executor);
+                readConcern, executor, cursorBufferBudget);
     }
 
     @Override
     public MongoCollection<TDocument> withReadPreference(final ReadPreference readPreference) {
         return new MongoCollectionImpl<TDocument>(namespace, documentClass, codecRegistry, readPreference, writeConcern, retryWrites,
-                readConcern, executor);
+                readConcern, executor, cursorBufferBudget);
     }
 
     @Override
     public MongoCollection<TDocument> withWriteConcern(final WriteConcern writeConcern) {
         return new MongoCollectionImpl<TDocument>(namespace, documentClass, codecRegistry, readPreference, writeConcern, retryWrites,
-                readConcern, executor);
+                readConcern, executor, cursorBufferBudget);
     }
 
     @Override
     public MongoCollection<TDocument> withReadConcern(final ReadConcern readConcern) {
         return new MongoCollectionImpl<TDocument>(namespace, documentClass, codecRegistry, readPreference, writeConcern, retryWrites,
-                readConcern, executor);
+                readConcern, executor, cursorBufferBudget);
     }
 
     @Override
@@ -397,10 +415,28 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
         return createFindIterable(clientSession, filter, resultClass);
     }
 
+    @Override
+    public List<FindIterable<TDocument>> partitionedFind(final Bson filter, final PartitionedFindOptions options) {
+        return partitionedFind(filter, options, documentClass);
+    }
+
+    @Override
+    public <TResult> List<FindIterable<TResult>> partitionedFind(final Bson filter, final PartitionedFindOptions options,
+                                                                 final Class<TResult> resultClass) {
+        notNull("filter", filter);
+        notNull("options", options);
+        List<BsonValue> splitPoints = getSplitPoints(aggregate(createSamplePipeline(filter, options), BsonDocument.class), options);
+        List<FindIterable<TResult>> partitions = new ArrayList<FindIterable<TResult>>();
+        for (Bson partitionFilter : createPartitionFilters(filter, options.getPartitionField(), splitPoints)) {
+            partitions.add(createFindIterable(null, partitionFilter, resultClass));
+        }
+        return partitions;
+    }
+
     private <TResult> FindIterable<TResult> createFindIterable(@Nullable final ClientSession clientSession, final Bson filter,
                                                                final Class<TResult> resultClass) {
         return new FindIterableImpl<TDocument, TResult>(clientSession, namespace, this.documentClass, resultClass, codecRegistry,
-                readPreference, readConcern, executor, filter);
+                readPreference, readConcern, executor, filter).bufferBudget(cursorBufferBudget);
     }
 
     @Override
@@ -534,12 +570,34 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
         return executeBulkWrite(clientSession, requests, options);
     }
 
+    @Override
+    public BulkWriteResult bulkWrite(final Iterator<? extends WriteModel<? extends TDocument>> requests, final BulkWriteOptions options) {
+        notNull("requests", requests);
+        notNull("options", options);
+        SplitBulkWriteCombiner combiner = new SplitBulkWriteCombiner(options.isOrdered(), writeConcern);
+        int startIndex = 0;
+        while (requests.hasNext() && !combiner.shouldStop()) {
+            List<WriteModel<? extends TDocument>> part = nextPart(requests, options.getMaxBufferedWrites());
+            try {
+                combiner.addResult(executeBulkWrite(null, part, options), startIndex, part.size());
+            } catch (MongoBulkWriteException e) {
+                combiner.addError(e, startIndex, part.size());
+            }
+            startIndex += part.size();
+        }
+        return combiner.getResult();
+    }
+
     @SuppressWarnings("unchecked")
     private BulkWriteResult executeBulkWrite(@Nullable final ClientSession clientSession,
                                              final List<? extends WriteModel<? extends TDocument>> requests,
                                              final BulkWriteOptions options) {
         notNull("requests", requests);
-        return executor.execute(operations.bulkWrite(requests, options), readConcern, clientSession);
+        MixedBulkWriteOperation operation = operations.bulkWrite(requests, options);
+        if (clientSession == null && options.getParallelism() > 1) {
+            return ConcurrentBulkWriteHelper.execute(operation, options.getParallelism(), executor, readConcern);
+        }
+        return executor.execute(operation, readConcern, clientSession);
     }
 
     @Override
@@ -590,9 +648,40 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
         executeInsertMany(clientSession, documents, options);
     }
 
-    private void executeInsertMany(@Nullable final ClientSession clientSession, final List<? extends TDocument> documents,
-                                   final InsertManyOptions options) {
-        executor.execute(operations.insertMany(documents, options), readConcern, clientSession);
+    @Override
+    public void insertMany(final Iterator<? extends TDocument> documents, final InsertManyOptions options) {
+        notNull("documents", documents);
+        notNull("options", options);
+        SplitBulkWriteCombiner combiner = new SplitBulkWriteCombiner(options.isOrdered(), writeConcern);
+        int startIndex = 0;
+        while (documents.hasNext() && !combiner.shouldStop()) {
+            List<TDocument> part = nextPart(documents, options.getMaxBufferedDocuments());
+            try {
+                combiner.addResult(executeInsertMany(null, part, options), startIndex, part.size());
+            } catch (MongoBulkWriteException e) {
+                combiner.addError(e, startIndex, part.size());
+            }
+            startIndex += part.size();
+        }
+        combiner.getResult();
+    }
+
+    private BulkWriteResult executeInsertMany(@Nullable final ClientSession clientSession, final List<? extends TDocument> documents,
+                                              final InsertManyOptions options) {
+        MixedBulkWriteOperation operation = operations.insertMany(documents, options);
+        if (clientSession == null && options.getParallelism() > 1) {
+            return ConcurrentBulkWriteHelper.execute(operation, options.getParallelism(), executor, readConcern);
+        } else {
+            return executor.execute(operation, readConcern, clientSession);
+        }
+    }
+
+    private static <T> List<T> nextPart(final Iterator<? extends T> iterator, final int maxSize) {
+        List<T> part = new ArrayList<T>();
+        while (part.size() < maxSize && iterator.hasNext()) {
+            part.add(iterator.next());
+        }
+        return part;
     }
 
     @Override
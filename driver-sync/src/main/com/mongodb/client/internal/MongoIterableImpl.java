@@ -28,6 +28,9 @@ import com.mongodb.operation.BatchCursor;
 import com.mongodb.operation.ReadOperation;
 
 import java.util.Collection;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.mongodb.assertions.Assertions.notNull;
 
@@ -141,6 +144,31 @@ public abstract class MongoIterableImpl<TResult> implements MongoIterable<TResul
         return target;
     }
 
+    @Override
+    public Stream<TResult> stream() {
+        return createStream(false);
+    }
+
+    @Override
+    public Stream<TResult> parallelStream() {
+        return createStream(true);
+    }
+
+    private Stream<TResult> createStream(final boolean parallel) {
+        final BatchCursorSpliterator<TResult> spliterator = new BatchCursorSpliterator<TResult>(new Supplier<BatchCursor<TResult>>() {
+            @Override
+            public BatchCursor<TResult> get() {
+                return execute();
+            }
+        });
+        return StreamSupport.stream(spliterator, parallel).onClose(new Runnable() {
+            @Override
+            public void run() {
+                spliterator.close();
+            }
+        });
+    }
+
     private BatchCursor<TResult> execute() {
         return execute(null);
     }
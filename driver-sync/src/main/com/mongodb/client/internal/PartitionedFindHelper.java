@@ -0,0 +1,202 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client.internal;
+
+import com.mongodb.MongoClientException;
+import com.mongodb.client.model.PartitionedFindOptions;
+import com.mongodb.lang.Nullable;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.mongodb.client.model.Aggregates.match;
+import static com.mongodb.client.model.Aggregates.project;
+import static com.mongodb.client.model.Aggregates.sample;
+import static com.mongodb.client.model.Aggregates.sort;
+import static com.mongodb.client.model.Projections.excludeId;
+import static com.mongodb.client.model.Projections.fields;
+import static com.mongodb.client.model.Projections.include;
+import static com.mongodb.client.model.Sorts.ascending;
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+
+/**
+ * Splits the documents matching a filter into ranges of the values of a field, using split points chosen from a sorted random sample.
+ */
+final class PartitionedFindHelper {
+
+    /**
+     * Creates the pipeline that samples the matching documents, keeping only the partition field, in the order of that field.
+     */
+    static List<Bson> createSamplePipeline(final Bson filter, final PartitionedFindOptions options) {
+        String field = options.getPartitionField();
+        int sampleSize = (int) Math.min(Integer.MAX_VALUE, (long) options.getPartitions() * options.getSamplesPerPartition());
+        Bson projection = field.equals("_id") ? include(field) : fields(include(field), excludeId());
+        return asList(match(filter), sample(sampleSize), project(projection), sort(ascending(field)));
+    }
+
+    /**
+     * Chooses the split points from the sorted sample, evenly spaced through it.  Only values of the type of range that is most common in
+     * the sample are used, so that the split points can all be compared with each other, and documents whose field has any other type
+     * are left to the first partition.  Equal values are only used once, so there may be fewer split points than requested.
+     *
+     * @throws MongoClientException if the field holds an array, or is within an array, in any of the sampled documents
+     */
+    static List<BsonValue> getSplitPoints(final Iterable<BsonDocument> sortedSample, final PartitionedFindOptions options) {
+        Map<String, List<BsonValue>> valuesByType = new HashMap<String, List<BsonValue>>();
+        List<BsonValue> values = Collections.emptyList();
+        for (BsonDocument document : sortedSample) {
+            BsonValue value = getValue(document, options.getPartitionField());
+            String type = value != null ? getRangeType(value) : null;
+            if (type != null) {
+                List<BsonValue> valuesOfType = valuesByType.get(type);
+                if (valuesOfType == null) {
+                    valuesOfType = new ArrayList<BsonValue>();
+                    valuesByType.put(type, valuesOfType);
+                }
+                valuesOfType.add(value);
+                if (valuesOfType.size() > values.size()) {
+                    values = valuesOfType;
+                }
+            }
+        }
+
+        List<BsonValue> splitPoints = new ArrayList<BsonValue>();
+        int partitions = options.getPartitions();
+        for (int i = 1; i < partitions && !values.isEmpty(); i++) {
+            BsonValue splitPoint = values.get((int) ((long) i * values.size() / partitions));
+            if (splitPoints.isEmpty() || !splitPoints.get(splitPoints.size() - 1).equals(splitPoint)) {
+                splitPoints.add(splitPoint);
+            }
+        }
+        return splitPoints;
+    }
+
+    /**
+     * Creates one filter per partition.  Each range is guarded by the {@code $type} of the split points, since query comparisons only
+     * match values of the same type, and each partition but the first is bounded below by a split point, inclusively, and each but the
+     * last is bounded above by the next one, exclusively.  The first partition also has the documents whose field is missing, null or of
+     * any other type, so every document that doesn't hold an array in the field is in exactly one partition.
+     */
+    static List<Bson> createPartitionFilters(final Bson filter, final String field, final List<BsonValue> splitPoints) {
+        List<Bson> partitionFilters = new ArrayList<Bson>();
+        if (splitPoints.isEmpty()) {
+            partitionFilters.add(filter);
+            return partitionFilters;
+        }
+        BsonString type = new BsonString(getRangeType(splitPoints.get(0)));
+        partitionFilters.add(new PartitionFilter(filter, new BsonDocument("$or", new BsonArray(asList(
+                new BsonDocument(field, new BsonDocument("$not", new BsonDocument("$type", type))),
+                new BsonDocument(field, new BsonDocument("$type", type).append("$lt", splitPoints.get(0))))))));
+        for (int i = 0; i < splitPoints.size() - 1; i++) {
+            partitionFilters.add(new PartitionFilter(filter, new BsonDocument(field,
+                    new BsonDocument("$type", type).append("$gte", splitPoints.get(i)).append("$lt", splitPoints.get(i + 1)))));
+        }
+        partitionFilters.add(new PartitionFilter(filter, new BsonDocument(field,
+                new BsonDocument("$type", type).append("$gte", splitPoints.get(splitPoints.size() - 1)))));
+        return partitionFilters;
+    }
+
+    // the $type alias that matches the values a range of this value can hold, or null if ranges of this type aren't supported: null
+    // ranges also match missing fields, and regular expressions can't be compared with $lt
+    @Nullable
+    private static String getRangeType(final BsonValue value) {
+        switch (value.getBsonType()) {
+            case INT32:
+            case INT64:
+            case DOUBLE:
+            case DECIMAL128:
+                return "number";
+            case STRING:
+                return "string";
+            case OBJECT_ID:
+                return "objectId";
+            case DATE_TIME:
+                return "date";
+            case TIMESTAMP:
+                return "timestamp";
+            case BINARY:
+                return "binData";
+            case BOOLEAN:
+                return "bool";
+            default:
+                return null;
+        }
+    }
+
+    @Nullable
+    private static BsonValue getValue(final BsonDocument document, final String field) {
+        BsonValue value = document;
+        for (String name : field.split("\\.")) {
+            if (value.isArray()) {
+                throw new MongoClientException(format("The partition field '%s' must not be within an array, as in %s", field, document));
+            }
+            if (!value.isDocument()) {
+                return null;
+            }
+            value = value.asDocument().get(name);
+            if (value == null) {
+                return null;
+            }
+        }
+        // a document with an array would match the range of each of its elements
+        if (value.isArray()) {
+            throw new MongoClientException(format("The partition field '%s' must not hold an array, as in %s", field, document));
+        }
+        return value;
+    }
+
+    // the filter is combined with $and, rather than merged into, so that the application's filter is used exactly as given
+    static final class PartitionFilter implements Bson {
+        private final Bson filter;
+        private final BsonDocument range;
+
+        PartitionFilter(final Bson filter, final BsonDocument range) {
+            this.filter = filter;
+            this.range = range;
+        }
+
+        @Override
+        public <TDocument> BsonDocument toBsonDocument(final Class<TDocument> documentClass, final CodecRegistry codecRegistry) {
+            BsonDocument filterDocument = filter.toBsonDocument(documentClass, codecRegistry);
+            if (filterDocument.isEmpty()) {
+                return range.clone();
+            }
+            return new BsonDocument("$and", new BsonArray(asList(filterDocument, range.clone())));
+        }
+
+        @Override
+        public String toString() {
+            return "PartitionFilter{"
+                    + "filter=" + filter
+                    + ", range=" + range
+                    + '}';
+        }
+    }
+
+    private PartitionedFindHelper() {
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client
+
+import com.mongodb.MongoBulkWriteException
+import com.mongodb.MongoException
+import com.mongodb.MongoSocketReadException
+import com.mongodb.MongoWriteConcernException
+import com.mongodb.MongoWriteException
+import com.mongodb.ServerAddress
+import com.mongodb.bulk.BulkWriteError
+import com.mongodb.bulk.BulkWriteResult
+import com.mongodb.bulk.WriteConcernError
+import com.mongodb.bulk.WriteRequest
+import com.mongodb.client.model.BulkWriteOptions
+import com.mongodb.client.model.InsertOneModel
+import com.mongodb.client.model.UpdateOneModel
+import org.bson.BsonDocument
+import org.bson.Document
+import spock.lang.Specification
+
+import java.util.concurrent.Callable
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.Executors
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS
+import static java.util.concurrent.TimeUnit.NANOSECONDS
+import static java.util.concurrent.TimeUnit.SECONDS
+
+class AutoBatchingCollectionSpecification extends Specification {
+
+    def 'should send the writes of several threads as one unordered bulk write once the batch is full'() {
+        given:
+        def requests = new CopyOnWriteArrayList<List>()
+        def collection = Stub(MongoCollection) {
+            bulkWrite(_, _) >> { List writeModels, BulkWriteOptions options ->
+                assert !options.isOrdered()
+                requests.add(new ArrayList(writeModels))
+                BulkWriteResult.acknowledged(WriteRequest.Type.INSERT, writeModels.size(), [])
+            }
+        }
+        def autoBatchingCollection = new AutoBatchingCollection<Document>(collection, 4, 1, SECONDS)
+        def executor = Executors.newFixedThreadPool(4)
+
+        when:
+        def futures = (0..<4).collect { i ->
+            executor.submit({ autoBatchingCollection.insertOne(new Document('_id', i)) } as Callable)
+        }
+        futures*.get(5, SECONDS)
+
+        then:
+        requests.size() == 1
+        requests[0].collect { (it as InsertOneModel).document.get('_id') }.sort() == [0, 1, 2, 3]
+
+        cleanup:
+        executor?.shutdownNow()
+    }
+
+    def 'should send a write on its own once the delay has passed'() {
+        given:
+        def collection = Mock(MongoCollection)
+        def autoBatchingCollection = new AutoBatchingCollection<Document>(collection, 100, 50, MILLISECONDS)
+        def filter = new BsonDocument()
+        def update = BsonDocument.parse('{$set: {x: 1}}')
+
+        when:
+        def start = System.nanoTime()
+        autoBatchingCollection.updateOne(filter, update)
+
+        then:
+        1 * collection.bulkWrite({ it.size() == 1 && it[0] instanceof UpdateOneModel && it[0].filter.is(filter) }, _) >>
+                BulkWriteResult.acknowledged(WriteRequest.Type.UPDATE, 1, [])
+        NANOSECONDS.toMillis(System.nanoTime() - start) >= 50
+    }
+
+    def 'should report to each write only its own write error'() {
+        given:
+        def serverAddress = new ServerAddress()
+        def collection = Stub(MongoCollection) {
+            bulkWrite(_, _) >> {
+                throw new MongoBulkWriteException(BulkWriteResult.acknowledged(WriteRequest.Type.INSERT, 1, []),
+                        [new BulkWriteError(11000, 'duplicate key', new BsonDocument(), 1)], null, serverAddress)
+            }
+        }
+        def autoBatchingCollection = new AutoBatchingCollection<Document>(collection, 2, 1, SECONDS)
+        def executor = Executors.newFixedThreadPool(2)
+
+        when:
+        def outcomes = (0..<2).collect { i ->
+            executor.submit({
+                try {
+                    autoBatchingCollection.insertOne(new Document('_id', i))
+                    null
+                } catch (MongoWriteException e) {
+                    e
+                }
+            } as Callable)
+        }*.get(5, SECONDS)
+
+        then:
+        outcomes.findAll { it != null }.size() == 1
+        outcomes.find { it != null }.code == 11000
+        outcomes.find { it != null }.serverAddress == serverAddress
+
+        cleanup:
+        executor?.shutdownNow()
+    }
+
+    def 'should report write concern errors and other failures to every write'() {
+        given:
+        def collection = Stub(MongoCollection) {
+            bulkWrite(_, _) >> { throw failure }
+        }
+        def autoBatchingCollection = new AutoBatchingCollection<Document>(collection, 2, 1, SECONDS)
+        def executor = Executors.newFixedThreadPool(2)
+
+        when:
+        def outcomes = (0..<2).collect { i ->
+            executor.submit({
+                try {
+                    autoBatchingCollection.insertOne(new Document('_id', i))
+                    null
+                } catch (Throwable t) {
+                    t
+                }
+            } as Callable)
+        }*.get(5, SECONDS)
+
+        then:
+        outcomes.every { expectedException.isInstance(it) }
+
+        cleanup:
+        executor?.shutdownNow()
+
+        where:
+        failure                                                                                    | expectedException
+        new MongoSocketReadException('closed', new ServerAddress())                                | MongoSocketReadException
+        new MongoBulkWriteException(BulkWriteResult.acknowledged(WriteRequest.Type.INSERT, 1, []), [],
+                new WriteConcernError(64, 'waiting for replication timed out', new BsonDocument()),
+                new ServerAddress())                                                               | MongoWriteConcernException
+        new StackOverflowError()                                                                   | StackOverflowError
+        new IOException('checked')                                                                 | MongoException
+    }
+
+    def 'should validate its arguments'() {
+        when:
+        new AutoBatchingCollection<Document>(Stub(MongoCollection), maxBatchSize, maxDelay, MILLISECONDS)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        maxBatchSize | maxDelay
+        0            | 10
+        10           | -1
+    }
+}
@@ -28,6 +28,10 @@ import org.bson.types.Binary
 import org.bson.types.ObjectId
 import spock.lang.Specification
 
+import java.nio.ByteBuffer
+import java.nio.channels.ClosedChannelException
+import java.nio.channels.NonWritableChannelException
+
 class GridFSDownloadStreamSpecification extends Specification {
     def fileInfo = new GridFSFile(new BsonObjectId(new ObjectId()), 'filename', 3L, 2, new Date(), 'abc', new Document())
 
@@ -269,6 +273,153 @@ class GridFSDownloadStreamSpecification extends Specification {
         clientSession << [null, Stub(ClientSession)]
     }
 
+    def 'should seek to the correct point'() {
+        given:
+        def chunkDocuments =
+                [new Document('files_id', fileInfo.getId()).append('n', 0).append('data', new Binary([1, 2] as byte[])),
+                 new Document('files_id', fileInfo.getId()).append('n', 1).append('data', new Binary([3] as byte[]))]
+        def sort = new Document('n', 1)
+        def mongoCursor = Mock(MongoCursor)
+        def findIterable = Mock(FindIterable)
+        def chunksCollection = Mock(MongoCollection)
+        def downloadStream = new GridFSDownloadStreamImpl(null, fileInfo, chunksCollection)
+
+        when:
+        downloadStream.seek(2)
+
+        then:
+        downloadStream.getPosition() == 2L
+        0 * chunksCollection.find(*_)
+
+        when:
+        def result = downloadStream.read()
+
+        then:
+        result == 3
+        downloadStream.getPosition() == 3L
+        1 * chunksCollection.find(new Document('files_id', fileInfo.getId()).append('n', new Document('$gte', 1))) >> findIterable
+        1 * findIterable.sort(sort) >> findIterable
+        1 * findIterable.batchSize(0) >> findIterable
+        1 * findIterable.iterator() >> mongoCursor
+        1 * mongoCursor.hasNext() >> true
+        1 * mongoCursor.next() >> chunkDocuments[1]
+
+        when:
+        downloadStream.seek(1)
+        result = downloadStream.read()
+
+        then:
+        result == 2
+        1 * chunksCollection.find(new Document('files_id', fileInfo.getId()).append('n', new Document('$gte', 0))) >> findIterable
+        1 * findIterable.sort(sort) >> findIterable
+        1 * findIterable.batchSize(0) >> findIterable
+        1 * findIterable.iterator() >> mongoCursor
+        1 * mongoCursor.hasNext() >> true
+        1 * mongoCursor.next() >> chunkDocuments[0]
+
+        when:
+        downloadStream.seek(4)
+
+        then:
+        downloadStream.getPosition() == 4L
+        downloadStream.read() == -1
+        downloadStream.skip(1) == 0L
+        downloadStream.getPosition() == 4L
+        0 * chunksCollection.find(*_)
+
+        when:
+        downloadStream.seek(-1)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def 'should prefetch chunks with a query for each chunk'() {
+        given:
+        def chunkDocuments =
+                [new Document('files_id', fileInfo.getId()).append('n', 0).append('data', new Binary([1, 2] as byte[])),
+                 new Document('files_id', fileInfo.getId()).append('n', 1).append('data', new Binary([3] as byte[]))]
+        def chunkIterables = chunkDocuments.collect { chunkDocument -> Stub(FindIterable) { first() >> chunkDocument } }
+        def chunksCollection = Mock(MongoCollection)
+        def downloadStream = new GridFSDownloadStreamImpl(null, fileInfo, chunksCollection).prefetch(1)
+
+        when:
+        def bytes = new byte[3]
+        def bytesRead = downloadStream.read(bytes)
+        bytesRead += downloadStream.read(bytes, bytesRead, 3 - bytesRead)
+
+        then:
+        bytesRead == 3
+        bytes == [1, 2, 3] as byte[]
+        1 * chunksCollection.find(new Document('files_id', fileInfo.getId()).append('n', 0)) >> chunkIterables[0]
+        1 * chunksCollection.find(new Document('files_id', fileInfo.getId()).append('n', 1)) >> chunkIterables[1]
+        0 * chunksCollection.find(*_)
+        downloadStream.read() == -1
+    }
+
+    def 'should read through a seekable channel'() {
+        given:
+        def chunkDocuments =
+                [new Document('files_id', fileInfo.getId()).append('n', 0).append('data', new Binary([1, 2] as byte[])),
+                 new Document('files_id', fileInfo.getId()).append('n', 1).append('data', new Binary([3] as byte[]))]
+        def chunkIterables = chunkDocuments.collect { chunkDocument -> Stub(FindIterable) { first() >> chunkDocument } }
+        def chunksCollection = Stub(MongoCollection) {
+            find(_) >> { Document filter -> chunkIterables[filter.getInteger('n')] }
+        }
+        def downloadStream = new GridFSDownloadStreamImpl(null, fileInfo, chunksCollection).prefetch(2)
+        def channel = downloadStream.getChannel()
+        def buffer = ByteBuffer.allocate(3)
+
+        when:
+        channel.position(1)
+        def bytesRead = channel.read(buffer)
+
+        then:
+        channel.size() == 3L
+        bytesRead == 1
+        buffer.flip() == ByteBuffer.wrap([2] as byte[])
+        channel.position() == 2L
+
+        when:
+        buffer.clear()
+        bytesRead = channel.read(buffer)
+
+        then:
+        bytesRead == 1
+        channel.read(buffer) == -1
+        channel.position(10).position() == 10L
+        channel.read(buffer) == -1
+        channel.position(2).position() == 2L
+
+        when:
+        channel.position(100)
+        downloadStream.seek(0)
+        def bytes = new byte[3]
+        bytesRead = downloadStream.read(bytes)
+        bytesRead += downloadStream.read(bytes, bytesRead, 3 - bytesRead)
+
+        then:
+        bytesRead == 3
+        bytes == [1, 2, 3] as byte[]
+        downloadStream.read() == -1
+        channel.position() == 3L
+        downloadStream.getPosition() == 3L
+
+        when:
+        channel.write(ByteBuffer.allocate(1))
+
+        then:
+        thrown(NonWritableChannelException)
+
+        when:
+        channel.close()
+        channel.read(buffer)
+
+        then:
+        thrown(ClosedChannelException)
+        !channel.isOpen()
+    }
+
     def 'should mark and reset to the correct point'() {
         given:
         def fileInfo = new GridFSFile(new BsonObjectId(new ObjectId()), 'filename', 25L, 25, new Date(), 'abc', new Document())
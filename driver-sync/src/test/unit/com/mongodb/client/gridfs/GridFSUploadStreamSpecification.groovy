@@ -16,6 +16,7 @@
 
 package com.mongodb.client.gridfs
 
+import com.mongodb.MongoException
 import com.mongodb.MongoGridFSException
 import com.mongodb.client.MongoCollection
 import com.mongodb.client.gridfs.model.GridFSFile
@@ -162,6 +163,45 @@ class GridFSUploadStreamSpecification extends Specification {
         clientSession << [null, Stub(ClientSession)]
     }
 
+    def 'should insert chunks in batches'() {
+        given:
+        def filesCollection = Mock(MongoCollection)
+        def chunksCollection = Mock(MongoCollection)
+        def uploadStream = new GridFSUploadStreamImpl(null, filesCollection, chunksCollection, fileId, filename, 2,
+                disableMD5, metadata, 2, maxBatchesInFlight)
+
+        when:
+        uploadStream.write('abcde' as byte[])
+        uploadStream.close()
+
+        then:
+        1 * chunksCollection.insertMany { List<Document> chunks -> chunks*.get('n') == [0, 1] }
+        1 * chunksCollection.insertOne { Document chunk -> chunk.get('n') == 2 }
+        1 * filesCollection.insertOne { GridFSFile file -> file.length == 5 }
+
+        where:
+        maxBatchesInFlight << [0, 2]
+    }
+
+    def 'should throw the failure of a batch inserted in the background when closing'() {
+        given:
+        def filesCollection = Mock(MongoCollection)
+        def chunksCollection = Mock(MongoCollection)
+        def insertException = new MongoException('Insert failure')
+        def uploadStream = new GridFSUploadStreamImpl(null, filesCollection, chunksCollection, fileId, filename, 2,
+                disableMD5, metadata, 1, 1)
+
+        when:
+        uploadStream.write('ab' as byte[])
+        uploadStream.close()
+
+        then:
+        1 * chunksCollection.insertOne(_) >> { throw insertException }
+        0 * filesCollection.insertOne(_)
+        def exception = thrown(MongoException)
+        exception == insertException
+    }
+
     def 'should delete any chunks when calling abort'() {
         given:
         def chunksCollection = Mock(MongoCollection)
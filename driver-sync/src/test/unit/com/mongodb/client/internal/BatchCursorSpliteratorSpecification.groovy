@@ -0,0 +1,153 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client.internal
+
+import com.mongodb.operation.BatchCursor
+import spock.lang.Specification
+
+import java.util.function.Consumer
+import java.util.function.Supplier
+import java.util.stream.StreamSupport
+
+import static java.util.Spliterator.SIZED
+import static java.util.stream.Collectors.toList
+
+class BatchCursorSpliteratorSpecification extends Specification {
+
+    def 'should not open the cursor until it is used'() {
+        given:
+        def supplier = Mock(Supplier)
+
+        when:
+        def spliterator = new BatchCursorSpliterator(supplier)
+        spliterator.close()
+
+        then:
+        0 * supplier.get()
+    }
+
+    def 'should iterate over all batches in order and close the exhausted cursor'() {
+        given:
+        def cursor = Mock(BatchCursor)
+        def spliterator = new BatchCursorSpliterator({ cursor } as Supplier)
+        def results = []
+
+        when:
+        while (spliterator.tryAdvance({ results.add(it) } as Consumer)) {
+        }
+
+        then:
+        4 * cursor.hasNext() >>> [true, true, true, false]
+        3 * cursor.next() >>> [[1, 2], [], [3]]
+        1 * cursor.close()
+        results == [1, 2, 3]
+    }
+
+    def 'should split off the rest of the current batch, then whole batches'() {
+        given:
+        def cursor = Stub(BatchCursor) {
+            hasNext() >>> [true, true, false]
+            next() >>> [[1, 2, 3], [4, 5]]
+        }
+        def spliterator = new BatchCursorSpliterator({ cursor } as Supplier)
+        def first = null
+
+        when:
+        spliterator.tryAdvance({ first = it } as Consumer)
+        def rest = spliterator.trySplit()
+        def next = spliterator.trySplit()
+
+        then:
+        first == 1
+        rest.hasCharacteristics(SIZED)
+        rest.estimateSize() == 2
+        StreamSupport.stream(rest, false).collect(toList()) == [2, 3]
+        next.estimateSize() == 2
+        StreamSupport.stream(next, false).collect(toList()) == [4, 5]
+        spliterator.trySplit() == null
+    }
+
+    def 'should only ask the batch for each document when it is consumed, splitting it in halves'() {
+        given:
+        def gets = []
+        def batch = new AbstractList<Integer>() {
+            @Override
+            Integer get(final int index) {
+                gets.add(index)
+                index
+            }
+
+            @Override
+            int size() {
+                8
+            }
+        }
+        def cursor = Stub(BatchCursor) {
+            hasNext() >>> [true, false]
+            next() >> batch
+        }
+        def spliterator = new BatchCursorSpliterator({ cursor } as Supplier)
+
+        when:
+        def rest = spliterator.trySplit()
+        def prefix = rest.trySplit()
+
+        then:
+        gets.isEmpty()
+        prefix.estimateSize() == 4
+        rest.estimateSize() == 4
+
+        when:
+        def results = StreamSupport.stream(prefix, false).collect(toList())
+
+        then:
+        results == [0, 1, 2, 3]
+        gets == [0, 1, 2, 3]
+        StreamSupport.stream(rest, false).collect(toList()) == [4, 5, 6, 7]
+    }
+
+    def 'should close the cursor when the stream is closed'() {
+        given:
+        def cursor = Mock(BatchCursor)
+        def spliterator = new BatchCursorSpliterator({ cursor } as Supplier)
+        def stream = StreamSupport.stream(spliterator, false).onClose({ spliterator.close() } as Runnable)
+
+        when:
+        def first = stream.findFirst()
+        stream.close()
+
+        then:
+        _ * cursor.hasNext() >> true
+        _ * cursor.next() >> [1, 2]
+        first.get() == 1
+        1 * cursor.close()
+    }
+
+    def 'should produce every result once from a parallel stream'() {
+        given:
+        def batches = (0..<10).collect { batch -> (0..<100).collect { batch * 100 + it } }
+        def iterator = batches.iterator()
+        def cursor = Stub(BatchCursor) {
+            hasNext() >> { iterator.hasNext() }
+            next() >> { iterator.next() }
+        }
+        def spliterator = new BatchCursorSpliterator({ cursor } as Supplier)
+
+        expect:
+        StreamSupport.stream(spliterator, true).collect(toList()) == (0..<1000).collect()
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client.internal
+
+import com.mongodb.MongoBulkWriteException
+import com.mongodb.MongoNamespace
+import com.mongodb.MongoSocketReadException
+import com.mongodb.ReadConcern
+import com.mongodb.ServerAddress
+import com.mongodb.WriteConcern
+import com.mongodb.bulk.BulkWriteError
+import com.mongodb.bulk.BulkWriteResult
+import com.mongodb.bulk.BulkWriteUpsert
+import com.mongodb.bulk.InsertRequest
+import com.mongodb.bulk.UpdateRequest
+import com.mongodb.bulk.WriteRequest
+import com.mongodb.operation.MixedBulkWriteOperation
+import org.bson.BsonDocument
+import org.bson.BsonInt32
+import spock.lang.Specification
+
+import java.util.concurrent.CopyOnWriteArrayList
+
+class ConcurrentBulkWriteHelperSpecification extends Specification {
+    private final namespace = new MongoNamespace('db', 'coll')
+    private final requests = (0..<10).collect { new InsertRequest(new BsonDocument('_id', new BsonInt32(it))) }
+
+    def 'should execute contiguous parts of the requests as separate unordered operations'() {
+        given:
+        def operations = new CopyOnWriteArrayList<MixedBulkWriteOperation>()
+        def executor = Stub(OperationExecutor) {
+            execute(_, _) >> { MixedBulkWriteOperation operation, ReadConcern readConcern ->
+                operations.add(operation)
+                BulkWriteResult.acknowledged(WriteRequest.Type.INSERT, operation.writeRequests.size(), [])
+            }
+        }
+        def operation = new MixedBulkWriteOperation(namespace, requests, false, WriteConcern.ACKNOWLEDGED, true)
+                .bypassDocumentValidation(true)
+
+        when:
+        def result = ConcurrentBulkWriteHelper.execute(operation, 3, executor, ReadConcern.DEFAULT)
+
+        then:
+        result == BulkWriteResult.acknowledged(WriteRequest.Type.INSERT, 10, [])
+        operations.size() == 3
+        operations*.writeRequests.sort { it[0].document.getInt32('_id').value } == [requests[0..<3], requests[3..<6], requests[6..<10]]
+        operations.every { !it.ordered && it.retryWrites && it.bypassDocumentValidation && it.namespace == namespace }
+    }
+
+    def 'should report upserts and write errors with the indexes of the original requests'() {
+        given:
+        def updates = (0..<4).collect {
+            new UpdateRequest(new BsonDocument('_id', new BsonInt32(it)), new BsonDocument('x', new BsonInt32(1)),
+                    WriteRequest.Type.REPLACE).upsert(true)
+        }
+        def serverAddress = new ServerAddress('host1')
+        def executor = Stub(OperationExecutor) {
+            execute(_, _) >> { MixedBulkWriteOperation operation, ReadConcern readConcern ->
+                def first = operation.writeRequests[0].filter.getInt32('_id').value
+                def upserts = [new BulkWriteUpsert(0, new BsonInt32(first))]
+                if (first == 2) {
+                    throw new MongoBulkWriteException(BulkWriteResult.acknowledged(WriteRequest.Type.REPLACE, 0, 0, upserts),
+                            [new BulkWriteError(11000, 'duplicate key', new BsonDocument(), 1)], null, serverAddress)
+                }
+                BulkWriteResult.acknowledged(WriteRequest.Type.REPLACE, 1, 0, upserts)
+            }
+        }
+        def operation = new MixedBulkWriteOperation(namespace, updates, false, WriteConcern.ACKNOWLEDGED, false)
+
+        when:
+        ConcurrentBulkWriteHelper.execute(operation, 2, executor, ReadConcern.DEFAULT)
+
+        then:
+        def e = thrown(MongoBulkWriteException)
+        e.serverAddress == serverAddress
+        e.writeErrors*.index == [3]
+        e.writeResult.upserts == [new BulkWriteUpsert(0, new BsonInt32(0)), new BulkWriteUpsert(2, new BsonInt32(2))]
+        e.writeResult.matchedCount == 1
+    }
+
+    def 'should throw the first failure that is not a write error once all parts have completed'() {
+        given:
+        def completed = new CopyOnWriteArrayList<Integer>()
+        def failure = new MongoSocketReadException('closed', new ServerAddress())
+        def executor = Stub(OperationExecutor) {
+            execute(_, _) >> { MixedBulkWriteOperation operation, ReadConcern readConcern ->
+                def first = operation.writeRequests[0].document.getInt32('_id').value
+                if (first == 0) {
+                    throw failure
+                }
+                Thread.sleep(100)
+                completed.add(first)
+                BulkWriteResult.acknowledged(WriteRequest.Type.INSERT, operation.writeRequests.size(), [])
+            }
+        }
+        def operation = new MixedBulkWriteOperation(namespace, requests, false, WriteConcern.ACKNOWLEDGED, false)
+
+        when:
+        ConcurrentBulkWriteHelper.execute(operation, 2, executor, ReadConcern.DEFAULT)
+
+        then:
+        def e = thrown(MongoSocketReadException)
+        e.is(failure)
+        completed == [5]
+    }
+
+    def 'should execute ordered writes as a single operation'() {
+        given:
+        def executor = Mock(OperationExecutor)
+        def operation = new MixedBulkWriteOperation(namespace, requests, true, WriteConcern.ACKNOWLEDGED, false)
+
+        when:
+        ConcurrentBulkWriteHelper.execute(operation, 4, executor, ReadConcern.DEFAULT)
+
+        then:
+        1 * executor.execute(operation, ReadConcern.DEFAULT)
+    }
+
+    def 'should return an unacknowledged result for unacknowledged writes'() {
+        given:
+        def executor = Stub(OperationExecutor) {
+            execute(_, _) >> BulkWriteResult.unacknowledged()
+        }
+        def operation = new MixedBulkWriteOperation(namespace, requests, false, WriteConcern.UNACKNOWLEDGED, false)
+
+        expect:
+        !ConcurrentBulkWriteHelper.execute(operation, 4, executor, ReadConcern.DEFAULT).wasAcknowledged()
+    }
+}
@@ -27,6 +27,7 @@ import com.mongodb.ServerAddress
 import com.mongodb.WriteConcern
 import com.mongodb.WriteConcernResult
 import com.mongodb.WriteError
+import com.mongodb.bulk.BulkWriteError
 import com.mongodb.bulk.DeleteRequest
 import com.mongodb.bulk.IndexRequest
 import com.mongodb.bulk.InsertRequest
@@ -699,6 +700,44 @@ class MongoCollectionSpecification extends Specification {
         thrown(IllegalArgumentException)
     }
 
+    def 'insertMany should insert the documents of an iterator in parts of at most maxBufferedDocuments'() {
+        given:
+        def executor = new TestOperationExecutor([acknowledged(INSERT, 2, []), acknowledged(INSERT, 1, [])])
+        def collection = new MongoCollectionImpl(namespace, Document, codecRegistry, readPreference, ACKNOWLEDGED,
+                true, readConcern, executor)
+        def expectedOperation = { List<Integer> ids ->
+            new MixedBulkWriteOperation(namespace, ids.collect { new InsertRequest(new BsonDocument('_id', new BsonInt32(it))) },
+                    true, ACKNOWLEDGED, true)
+        }
+
+        when:
+        collection.insertMany((1..3).collect { new Document('_id', it) }.iterator(), new InsertManyOptions().maxBufferedDocuments(2))
+
+        then:
+        expect executor.getWriteOperation(), isTheSameAs(expectedOperation([1, 2]))
+        expect executor.getWriteOperation(), isTheSameAs(expectedOperation([3]))
+        executor.getWriteOperation() == null
+    }
+
+    def 'bulkWrite should stop reading an iterator of ordered writes after a part with a write error'() {
+        given:
+        def executor = new TestOperationExecutor([new MongoBulkWriteException(acknowledged(INSERT, 0, []),
+                [new BulkWriteError(11000, 'duplicate key', new BsonDocument(), 1)], null, new ServerAddress())])
+        def collection = new MongoCollectionImpl(namespace, Document, codecRegistry, readPreference, ACKNOWLEDGED,
+                true, readConcern, executor)
+        def requests = (1..4).collect { new InsertOneModel(new Document('_id', it)) }.iterator()
+
+        when:
+        collection.bulkWrite(requests, new BulkWriteOptions().maxBufferedWrites(2))
+
+        then:
+        def e = thrown(MongoBulkWriteException)
+        e.writeErrors*.index == [1]
+        executor.getWriteOperation() != null
+        executor.getWriteOperation() == null
+        requests.hasNext()
+    }
+
     def 'deleteOne should use MixedBulkWriteOperation correctly'() {
         given:
         def executor = new TestOperationExecutor((1..2).collect {
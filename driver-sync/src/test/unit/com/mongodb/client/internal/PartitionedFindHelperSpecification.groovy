@@ -0,0 +1,157 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client.internal
+
+import com.mongodb.MongoClientException
+import com.mongodb.client.model.PartitionedFindOptions
+import org.bson.BsonDocument
+import org.bson.BsonDouble
+import org.bson.BsonInt32
+import org.bson.BsonInt64
+import org.bson.BsonString
+import org.bson.Document
+import spock.lang.Specification
+
+import static com.mongodb.MongoClientSettings.getDefaultCodecRegistry
+import static com.mongodb.client.internal.PartitionedFindHelper.createPartitionFilters
+import static com.mongodb.client.internal.PartitionedFindHelper.createSamplePipeline
+import static com.mongodb.client.internal.PartitionedFindHelper.getSplitPoints
+import static com.mongodb.client.model.Filters.eq
+
+class PartitionedFindHelperSpecification extends Specification {
+
+    def 'should sample the matching documents, projected to the partition field and sorted by it'() {
+        when:
+        def pipeline = createSamplePipeline(eq('x', 1), new PartitionedFindOptions().partitions(4).samplesPerPartition(5)
+                .partitionField(field))
+
+        then:
+        pipeline.collect { it.toBsonDocument(Document, getDefaultCodecRegistry()) } == [
+                BsonDocument.parse('{$match: {x: 1}}'),
+                BsonDocument.parse('{$sample: {size: 20}}'),
+                BsonDocument.parse(projection),
+                BsonDocument.parse("{\$sort: {'${field}': 1}}")]
+
+        where:
+        field | projection
+        '_id' | '{$project: {_id: 1}}'
+        'a.b' | "{\$project: {'a.b': 1, _id: 0}}"
+    }
+
+    def 'should choose evenly spaced split points from the sample'() {
+        given:
+        def sample = (0..<20).collect { new BsonDocument('_id', new BsonInt32(it)) }
+
+        expect:
+        getSplitPoints(sample, new PartitionedFindOptions().partitions(4)) == [new BsonInt32(5), new BsonInt32(10), new BsonInt32(15)]
+        getSplitPoints(sample, new PartitionedFindOptions().partitions(1)) == []
+        getSplitPoints([], new PartitionedFindOptions().partitions(4)) == []
+    }
+
+    def 'should use equal split points only once and skip documents without the field'() {
+        given:
+        def sample = [BsonDocument.parse('{a: {}}'), BsonDocument.parse('{a: {b: 1}}'), BsonDocument.parse('{a: {b: 1}}'),
+                      BsonDocument.parse('{a: {b: 1}}'), BsonDocument.parse('{a: {b: 2}}')]
+
+        expect:
+        getSplitPoints(sample, new PartitionedFindOptions().partitionField('a.b').partitions(4)) == [new BsonInt32(1), new BsonInt32(2)]
+    }
+
+    def 'should use split points of the most common type in the sample only'() {
+        given:
+        def sample = [BsonDocument.parse('{_id: null}'), BsonDocument.parse('{_id: 1}'), BsonDocument.parse('{_id: 2.5}'),
+                      BsonDocument.parse('{_id: {$numberLong: "3"}}'), BsonDocument.parse('{_id: 4}'), BsonDocument.parse('{_id: "a"}'),
+                      BsonDocument.parse('{_id: "b"}'), BsonDocument.parse('{_id: /c/}'), BsonDocument.parse('{_id: /d/}'),
+                      BsonDocument.parse('{_id: /e/}')]
+
+        expect:
+        getSplitPoints(sample, new PartitionedFindOptions().partitions(2)) == [new BsonInt64(3)]
+    }
+
+    def 'should reject a partition field that holds an array or is within one'() {
+        when:
+        getSplitPoints([BsonDocument.parse('{a: {b: 1}}'), BsonDocument.parse(document)],
+                new PartitionedFindOptions().partitionField('a.b').partitions(2))
+
+        then:
+        thrown(MongoClientException)
+
+        where:
+        document << ['{a: {b: [1, 2]}}', '{a: [{b: 1}, {b: 2}]}']
+    }
+
+    def 'should create a filter for each range between split points, guarded by their type'() {
+        when:
+        def filters = createPartitionFilters(eq('x', 1), 'y', [new BsonInt32(10), new BsonDouble(20)])
+
+        then:
+        filters.collect { it.toBsonDocument(Document, getDefaultCodecRegistry()) } == [
+                BsonDocument.parse('{$and: [{x: 1}, {$or: [{y: {$not: {$type: "number"}}}, {y: {$type: "number", $lt: 10}}]}]}'),
+                BsonDocument.parse('{$and: [{x: 1}, {y: {$type: "number", $gte: 10, $lt: 20.0}}]}'),
+                BsonDocument.parse('{$and: [{x: 1}, {y: {$type: "number", $gte: 20.0}}]}')]
+    }
+
+    def 'should not combine an empty filter with the ranges'() {
+        expect:
+        createPartitionFilters(new BsonDocument(), '_id', [new BsonString('m')])
+                .collect { it.toBsonDocument(Document, getDefaultCodecRegistry()) } ==
+                [BsonDocument.parse('{$or: [{_id: {$not: {$type: "string"}}}, {_id: {$type: "string", $lt: "m"}}]}'),
+                 BsonDocument.parse('{_id: {$type: "string", $gte: "m"}}')]
+    }
+
+    def 'should put every document of mixed types in exactly one partition'() {
+        given:
+        def documents = ['{}', '{y: null}', '{y: 1}', '{y: 10}', '{y: 15.5}', '{y: {$numberLong: "20"}}', '{y: 25}', '{y: "10"}',
+                         '{y: true}', '{y: {$date: 10}}', '{y: /10/}', '{y: {z: 10}}', '{y: {$minKey: 1}}', '{y: {$maxKey: 1}}']
+                .collect { BsonDocument.parse(it) }
+        def filters = createPartitionFilters(new BsonDocument(), 'y', [new BsonInt32(10), new BsonInt64(20)])
+                .collect { it.toBsonDocument(Document, getDefaultCodecRegistry()) }
+
+        expect:
+        documents.every { document -> filters.count { matches(it, document) } == 1 }
+        documents.findAll { matches(filters[0], it) }.size() == 10
+        documents.findAll { matches(filters[1], it) } == [documents[3], documents[4]]
+        documents.findAll { matches(filters[2], it) } == [documents[5], documents[6]]
+    }
+
+    // evaluates the partition filters the way the server does, for scalar values of the partition field
+    private static boolean matches(final BsonDocument filter, final BsonDocument document) {
+        if (filter.containsKey('$or')) {
+            return filter.getArray('$or').any { matches(it.asDocument(), document) }
+        }
+        def field = filter.getFirstKey()
+        def value = document.get(field)
+        def operators = filter.getDocument(field)
+        if (operators.containsKey('$not')) {
+            return !matches(new BsonDocument(field, operators.getDocument('$not')), document)
+        }
+        if (value == null || !(value.isNumber() || value.isDecimal128())) {
+            return false
+        }
+        def number = value.isDecimal128() ? value.asDecimal128().doubleValue() : value.asNumber().doubleValue()
+        (!operators.containsKey('$gte') || number >= operators.get('$gte').asNumber().doubleValue()) &&
+                (!operators.containsKey('$lt') || number < operators.get('$lt').asNumber().doubleValue())
+    }
+
+    def 'should use the filter as it is when there are no split points'() {
+        given:
+        def filter = eq('x', 1)
+
+        expect:
+        createPartitionFilters(filter, '_id', []) == [filter]
+    }
+}